@@ -1,9 +1,13 @@
 package com.skillbridge.controller.api.engineer;
 
 import com.skillbridge.dto.engineer.request.SearchCriteria;
+import com.skillbridge.dto.engineer.response.EngineerSearchFacets;
 import com.skillbridge.dto.engineer.response.EngineerSearchResponse;
+import com.skillbridge.dto.engineer.response.EngineerSuggestion;
 import com.skillbridge.service.engineer.EngineerSearchService;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
 
@@ -15,12 +19,18 @@ import java.util.List;
 @CrossOrigin(origins = "*")
 public class EngineerSearchController {
 
+    private static final int MAX_SUGGESTIONS = 20;
+
     @Autowired
     private EngineerSearchService engineerSearchService;
 
     /**
      * Advanced engineer search with filters
      * GET /api/public/engineers/search
+     * 
+     * Pass the nextCursor of a previous response as cursor to continue after it (keyset pagination);
+     * cursor pages skip the total count, so totalResults and totalPages are omitted.
+     * Returns 503 for cursor requests while the search index is still building after a restart.
      */
     @GetMapping("/search")
     public ResponseEntity<EngineerSearchResponse> searchEngineers(
@@ -36,7 +46,8 @@ public class EngineerSearchController {
         @RequestParam(required = false) Boolean availability,
         @RequestParam(defaultValue = "0") Integer page,
         @RequestParam(defaultValue = "20") Integer size,
-        @RequestParam(defaultValue = "relevance") String sortBy
+        @RequestParam(defaultValue = "relevance") String sortBy,
+        @RequestParam(required = false) String cursor
     ) {
         SearchCriteria criteria = new SearchCriteria();
         criteria.setQuery(query);
@@ -52,9 +63,44 @@ public class EngineerSearchController {
         criteria.setPage(page);
         criteria.setSize(size);
         criteria.setSortBy(sortBy);
+        criteria.setCursor(cursor);
+
+        try {
+            EngineerSearchResponse response = engineerSearchService.searchEngineers(criteria);
+            return ResponseEntity.ok(response);
+        } catch (IllegalArgumentException e) {
+            // Malformed cursor or cursor from a different sort order
+            return ResponseEntity.badRequest().build();
+        } catch (IllegalStateException e) {
+            // Cursor pages need the search index, which is still building after a restart
+            return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "5")
+                .build();
+        }
+    }
+
+    /**
+     * Typeahead completions for the search box (engineer names, skills and locations)
+     * GET /api/public/engineers/suggest?q=jav&limit=10
+     */
+    @GetMapping("/suggest")
+    public ResponseEntity<List<EngineerSuggestion>> suggest(
+        @RequestParam(required = false) String q,
+        @RequestParam(defaultValue = "10") Integer limit
+    ) {
+        int cappedLimit = Math.max(1, Math.min(limit, MAX_SUGGESTIONS));
+        List<EngineerSuggestion> suggestions = engineerSearchService.suggest(q, cappedLimit);
+        return ResponseEntity.ok(suggestions);
+    }
 
-        EngineerSearchResponse response = engineerSearchService.searchEngineers(criteria);
-        return ResponseEntity.ok(response);
+    /**
+     * Get skill, location, seniority, salary and experience facets with engineer counts
+     * GET /api/public/engineers/filters/facets
+     */
+    @GetMapping("/filters/facets")
+    public ResponseEntity<EngineerSearchFacets> getFacets() {
+        EngineerSearchFacets facets = engineerSearchService.getFacets();
+        return ResponseEntity.ok(facets);
     }
 
     /**
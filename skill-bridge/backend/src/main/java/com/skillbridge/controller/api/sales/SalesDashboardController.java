@@ -6,18 +6,30 @@ import com.skillbridge.dto.sales.response.SalesDashboardApprovalsDTO;
 import com.skillbridge.dto.sales.response.SalesDashboardSummaryDTO;
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.repository.auth.UserRepository;
+import com.skillbridge.service.dashboard.DashboardResponseCache;
+import com.skillbridge.service.dashboard.DashboardStreamService;
+import com.skillbridge.service.sales.RevenueRollup;
+import com.skillbridge.service.sales.SalesDashboardCounters;
 import com.skillbridge.service.sales.SalesDashboardService;
 import com.skillbridge.util.JwtTokenProvider;
 import jakarta.servlet.http.HttpServletRequest;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
+import org.springframework.security.core.GrantedAuthority;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Sales Dashboard Controller
  * Handles dashboard endpoints for Sales Portal
  * Note: context-path is /api, so full path will be /api/sales/dashboard
+ * Dashboard reads carry an ETag; sending it back in If-None-Match returns 304 while nothing changed,
+ * answered from the authenticated principal without loading the user
+ * Open dashboards subscribe to /stream and refetch when a change event arrives instead of polling
  */
 @RestController
 @RequestMapping("/sales/dashboard")
@@ -29,12 +41,24 @@ public class SalesDashboardController {
     @Autowired
     private SalesDashboardService salesDashboardService;
 
+    @Autowired
+    private SalesDashboardCounters salesDashboardCounters;
+
+    @Autowired
+    private RevenueRollup revenueRollup;
+
     @Autowired
     private UserRepository userRepository;
 
     @Autowired
     private JwtTokenProvider jwtTokenProvider;
 
+    @Autowired
+    private DashboardResponseCache dashboardResponseCache;
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
     /**
      * Get dashboard summary statistics
      * GET /api/sales/dashboard/summary
@@ -46,23 +70,25 @@ public class SalesDashboardController {
     @GetMapping("/summary")
     public ResponseEntity<?> getSummary(
             Authentication authentication,
-            HttpServletRequest request
+            HttpServletRequest request,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
-        User currentUser = getCurrentUser(authentication, request);
-        
-        if (currentUser == null) {
+        Caller caller = getCaller(authentication, request);
+
+        if (caller == null) {
             return ResponseEntity.status(401).build();
         }
 
         // Check if user has sales role
-        String role = currentUser.getRole();
-        if (role == null || (!role.equals("SALES_MANAGER") && !role.equals("SALES_REP"))) {
+        if (!caller.isSales()) {
             return ResponseEntity.status(403).build();
         }
 
         try {
-            SalesDashboardSummaryDTO summary = salesDashboardService.getSummary(currentUser);
-            return ResponseEntity.ok(summary);
+            DashboardResponseCache.Cached<SalesDashboardSummaryDTO> summary = dashboardResponseCache.get(
+                cacheKey("summary", caller), scope(caller),
+                () -> salesDashboardService.getSummary(resolveUser(caller)));
+            return toResponse(summary, ifNoneMatch);
         } catch (Exception e) {
             return ResponseEntity.status(500)
                 .body(new ErrorResponse("Failed to get dashboard summary: " + e.getMessage()));
@@ -80,23 +106,25 @@ public class SalesDashboardController {
     @GetMapping("/approvals")
     public ResponseEntity<?> getApprovals(
             Authentication authentication,
-            HttpServletRequest request
+            HttpServletRequest request,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
-        User currentUser = getCurrentUser(authentication, request);
-        
-        if (currentUser == null) {
+        Caller caller = getCaller(authentication, request);
+
+        if (caller == null) {
             return ResponseEntity.status(401).build();
         }
 
         // Check if user has sales role
-        String role = currentUser.getRole();
-        if (role == null || (!role.equals("SALES_MANAGER") && !role.equals("SALES_REP"))) {
+        if (!caller.isSales()) {
             return ResponseEntity.status(403).build();
         }
 
         try {
-            SalesDashboardApprovalsDTO approvals = salesDashboardService.getApprovalsWaiting(currentUser);
-            return ResponseEntity.ok(approvals);
+            DashboardResponseCache.Cached<SalesDashboardApprovalsDTO> approvals = dashboardResponseCache.get(
+                cacheKey("approvals", caller), scope(caller),
+                () -> salesDashboardService.getApprovalsWaiting(resolveUser(caller)));
+            return toResponse(approvals, ifNoneMatch);
         } catch (Exception e) {
             return ResponseEntity.status(500)
                 .body(new ErrorResponse("Failed to get approvals: " + e.getMessage()));
@@ -110,33 +138,176 @@ public class SalesDashboardController {
      * Role-based filtering:
      * - Sales Manager: Returns all activities
      * - Sales Rep: Returns only activities for assigned items
+     *
+     * Query parameters:
+     * - limit: Maximum number of activities to return (default: 10, max: 50)
+     * - before: nextCursor of the previous page (omit for the first page)
      */
     @GetMapping("/activities")
     public ResponseEntity<?> getActivities(
             Authentication authentication,
-            HttpServletRequest request
+            HttpServletRequest request,
+            @RequestParam(value = "limit", defaultValue = "10") int limit,
+            @RequestParam(value = "before", required = false) Long before,
+            @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
-        User currentUser = getCurrentUser(authentication, request);
-        
-        if (currentUser == null) {
+        Caller caller = getCaller(authentication, request);
+
+        if (caller == null) {
             return ResponseEntity.status(401).build();
         }
 
         // Check if user has sales role
-        String role = currentUser.getRole();
-        if (role == null || (!role.equals("SALES_MANAGER") && !role.equals("SALES_REP"))) {
+        if (!caller.isSales()) {
             return ResponseEntity.status(403).build();
         }
 
         try {
-            SalesDashboardActivitiesDTO activities = salesDashboardService.getRecentActivities(currentUser);
-            return ResponseEntity.ok(activities);
+            int pageSize = Math.max(1, Math.min(limit, 50));
+            DashboardResponseCache.Cached<SalesDashboardActivitiesDTO> activities = dashboardResponseCache.get(
+                cacheKey("activities", caller) + ":" + pageSize + ":" + before, scope(caller),
+                () -> salesDashboardService.getRecentActivities(resolveUser(caller), before, pageSize));
+            return toResponse(activities, ifNoneMatch);
         } catch (Exception e) {
             return ResponseEntity.status(500)
                 .body(new ErrorResponse("Failed to get activities: " + e.getMessage()));
         }
     }
 
+    /**
+     * Subscribe to dashboard changes (server-sent events)
+     * GET /api/sales/dashboard/stream
+     *
+     * Sends a "dashboard-change" event (entity type, ID, status) whenever a contact, proposal, contract,
+     * change request or close request visible to the user changes:
+     * - Sales Manager: every change
+     * - Sales Rep: changes of items assigned to them
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<?> stream(
+            Authentication authentication,
+            HttpServletRequest request
+    ) {
+        // A stream stays open for minutes: the caller is identified from the authenticated token only, so the
+        // request never uses the open-in-view EntityManager and does not hold a pooled connection
+        Caller caller = authentication != null && authentication.isAuthenticated()
+            ? getCaller(authentication, request) : null;
+
+        if (caller == null || caller.userId == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        // Check if user has sales role
+        if (!caller.isSales()) {
+            return ResponseEntity.status(403).build();
+        }
+
+        SseEmitter emitter = dashboardStreamService.subscribe(caller.userId, caller.role);
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(emitter);
+    }
+
+    /**
+     * Rebuild the dashboard counters and the monthly revenue rollup from the source data
+     * POST /api/sales/dashboard/counters/rebuild
+     *
+     * Repairs counters or revenue that drifted (e.g. after direct database edits or a failed
+     * incremental update). Sales Manager only.
+     */
+    @PostMapping("/counters/rebuild")
+    public ResponseEntity<?> rebuildCounters(
+            Authentication authentication,
+            HttpServletRequest request
+    ) {
+        Caller caller = getCaller(authentication, request);
+
+        if (caller == null) {
+            return ResponseEntity.status(401).build();
+        }
+
+        if (!"SALES_MANAGER".equals(caller.role)) {
+            return ResponseEntity.status(403).build();
+        }
+
+        try {
+            salesDashboardCounters.rebuild();
+            revenueRollup.rebuild();
+            dashboardResponseCache.markChanged();
+            return ResponseEntity.noContent().build();
+        } catch (Exception e) {
+            return ResponseEntity.status(500)
+                .body(new ErrorResponse("Failed to rebuild dashboard counters: " + e.getMessage()));
+        }
+    }
+
+    /**
+     * Cache key of a dashboard response: the visible data depends on the user and the role
+     */
+    private String cacheKey(String endpoint, Caller caller) {
+        return "sales:" + endpoint + ":" + caller.email + ":" + caller.role;
+    }
+
+    /**
+     * Data scope of the caller's dashboard: every change for a Sales Manager, assigned items for a Sales Rep
+     */
+    private String scope(Caller caller) {
+        if ("SALES_MANAGER".equals(caller.role)) {
+            return DashboardResponseCache.SCOPE_ALL;
+        }
+        Integer userId = caller.userId != null ? caller.userId : resolveUser(caller).getId();
+        return DashboardResponseCache.assigneeScope(userId);
+    }
+
+    /**
+     * Load the caller's User; only needed when a dashboard response is (re)computed
+     */
+    private User resolveUser(Caller caller) {
+        if (caller.user == null) {
+            caller.user = userRepository.findByEmail(caller.email)
+                .orElseThrow(() -> new IllegalStateException("User not found: " + caller.email));
+        }
+        return caller.user;
+    }
+
+    /**
+     * Identify the caller without a database read: the email and role authenticated by the JWT filter
+     * (which has already checked the user is active) and the user ID claim of the same token.
+     * Only a token that did not go through the filter is checked against the stored user.
+     */
+    private Caller getCaller(Authentication authentication, HttpServletRequest request) {
+        if (authentication != null && authentication.isAuthenticated()) {
+            String role = authentication.getAuthorities().stream()
+                .map(GrantedAuthority::getAuthority)
+                .filter(authority -> authority.startsWith("ROLE_"))
+                .map(authority -> authority.substring("ROLE_".length()))
+                .findFirst()
+                .orElse(null);
+            String token = extractTokenFromRequest(request);
+            Integer userId = token != null ? jwtTokenProvider.getUserIdFromToken(token) : null;
+            return new Caller(authentication.getName(), role, userId);
+        }
+
+        User user = getCurrentUser(null, request);
+        if (user == null) {
+            return null;
+        }
+        Caller caller = new Caller(user.getEmail(), user.getRole(), user.getId());
+        caller.user = user;
+        return caller;
+    }
+
+    /**
+     * Answer 304 when the client already has this payload, otherwise the payload with its ETag
+     */
+    private ResponseEntity<?> toResponse(DashboardResponseCache.Cached<?> cached, String ifNoneMatch) {
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getETag()).build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(cached.getETag())
+            .body(cached.getBody());
+    }
+
     /**
      * Get current user from authentication or JWT token
      */
@@ -160,6 +331,27 @@ public class SalesDashboardController {
         return null;
     }
 
+    /**
+     * Authenticated caller of a dashboard request
+     */
+    private static class Caller {
+
+        private final String email;
+        private final String role;
+        private final Integer userId;
+        private User user;
+
+        private Caller(String email, String role, Integer userId) {
+            this.email = email;
+            this.role = role;
+            this.userId = userId;
+        }
+
+        private boolean isSales() {
+            return "SALES_MANAGER".equals(role) || "SALES_REP".equals(role);
+        }
+    }
+
     /**
      * Extract JWT token from request header or cookie
      */
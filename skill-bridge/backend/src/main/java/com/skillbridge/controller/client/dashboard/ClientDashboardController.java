@@ -1,17 +1,23 @@
 package com.skillbridge.controller.client.dashboard;
 
 import com.skillbridge.dto.dashboard.response.*;
+import com.skillbridge.service.dashboard.DashboardResponseCache;
 import com.skillbridge.service.dashboard.DashboardService;
+import com.skillbridge.service.dashboard.DashboardStreamService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.CacheControl;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * Client Dashboard Controller
  * Handles dashboard endpoints for client portal
+ * Responses carry an ETag; sending it back in If-None-Match returns 304 while nothing of the client changed
  */
 @RestController
 @RequestMapping("/client/dashboard")
@@ -23,6 +29,12 @@ public class ClientDashboardController {
     @Autowired
     private DashboardService dashboardService;
 
+    @Autowired
+    private DashboardResponseCache dashboardResponseCache;
+
+    @Autowired
+    private DashboardStreamService dashboardStreamService;
+
     /**
      * Get dashboard summary statistics
      * GET /api/client/dashboard/summary
@@ -33,7 +45,8 @@ public class ClientDashboardController {
      */
     @GetMapping("/summary")
     public ResponseEntity<DashboardSummaryDTO> getSummary(
-        @RequestHeader(value = "X-User-Id", required = false) Integer userId
+        @RequestHeader(value = "X-User-Id", required = false) Integer userId,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         try {
             if (userId == null) {
@@ -41,8 +54,10 @@ public class ClientDashboardController {
                 return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
             }
 
-            DashboardSummaryDTO summary = dashboardService.getSummary(userId);
-            return ResponseEntity.ok(summary);
+            DashboardResponseCache.Cached<DashboardSummaryDTO> summary = dashboardResponseCache.get(
+                "client:summary:" + userId, DashboardResponseCache.clientScope(userId),
+                () -> dashboardService.getSummary(userId));
+            return toResponse(summary, ifNoneMatch);
         } catch (Exception e) {
             logger.error("Error getting dashboard summary for user {}", userId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -55,6 +70,7 @@ public class ClientDashboardController {
      * 
      * Query parameters:
      * - limit: Maximum number of activities to return (default: 10)
+     * - before: nextCursor of the previous page (omit for the first page)
      * 
      * Headers:
      * - Authorization: Bearer {token}
@@ -63,7 +79,9 @@ public class ClientDashboardController {
     @GetMapping("/activities")
     public ResponseEntity<ActivitiesResponseDTO> getActivities(
         @RequestHeader(value = "X-User-Id", required = false) Integer userId,
-        @RequestParam(value = "limit", defaultValue = "10") int limit
+        @RequestParam(value = "limit", defaultValue = "10") int limit,
+        @RequestParam(value = "before", required = false) Long before,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         try {
             if (userId == null) {
@@ -75,8 +93,11 @@ public class ClientDashboardController {
             if (limit < 1) limit = 1;
             if (limit > 50) limit = 50;
 
-            ActivitiesResponseDTO activities = dashboardService.getRecentActivities(userId, limit);
-            return ResponseEntity.ok(activities);
+            int pageSize = limit;
+            DashboardResponseCache.Cached<ActivitiesResponseDTO> activities = dashboardResponseCache.get(
+                "client:activities:" + userId + ":" + pageSize + ":" + before, DashboardResponseCache.clientScope(userId),
+                () -> dashboardService.getRecentActivities(userId, before, pageSize));
+            return toResponse(activities, ifNoneMatch);
         } catch (Exception e) {
             logger.error("Error getting dashboard activities for user {}", userId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
@@ -97,7 +118,8 @@ public class ClientDashboardController {
     @GetMapping("/alerts")
     public ResponseEntity<AlertsResponseDTO> getAlerts(
         @RequestHeader(value = "X-User-Id", required = false) Integer userId,
-        @RequestParam(value = "limit", defaultValue = "10") int limit
+        @RequestParam(value = "limit", defaultValue = "10") int limit,
+        @RequestHeader(value = "If-None-Match", required = false) String ifNoneMatch
     ) {
         try {
             if (userId == null) {
@@ -109,12 +131,47 @@ public class ClientDashboardController {
             if (limit < 1) limit = 1;
             if (limit > 50) limit = 50;
 
-            AlertsResponseDTO alerts = dashboardService.getAlerts(userId, limit);
-            return ResponseEntity.ok(alerts);
+            int alertLimit = limit;
+            DashboardResponseCache.Cached<AlertsResponseDTO> alerts = dashboardResponseCache.get(
+                "client:alerts:" + userId + ":" + alertLimit, DashboardResponseCache.clientScope(userId),
+                () -> dashboardService.getAlerts(userId, alertLimit));
+            return toResponse(alerts, ifNoneMatch);
         } catch (Exception e) {
             logger.error("Error getting dashboard alerts for user {}", userId, e);
             return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).build();
         }
     }
-}
 
+    /**
+     * Subscribe to changes of the client's contacts, proposals, contracts and requests (server-sent events)
+     * GET /api/client/dashboard/stream
+     * Must not use the database: the open-in-view EntityManager would hold a connection while the stream is open
+     *
+     * Headers:
+     * - X-User-Id: {userId} (for now, should be replaced with JWT extraction)
+     */
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public ResponseEntity<SseEmitter> stream(
+        @RequestHeader(value = "X-User-Id", required = false) Integer userId
+    ) {
+        if (userId == null) {
+            logger.warn("X-User-Id header is missing");
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        SseEmitter emitter = dashboardStreamService.subscribe(userId, "CLIENT");
+        return ResponseEntity.ok().cacheControl(CacheControl.noStore()).body(emitter);
+    }
+
+    /**
+     * Answer 304 when the client already has this payload, otherwise the payload with its ETag
+     */
+    private <T> ResponseEntity<T> toResponse(DashboardResponseCache.Cached<T> cached, String ifNoneMatch) {
+        if (cached.matches(ifNoneMatch)) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(cached.getETag()).build();
+        }
+        return ResponseEntity.ok()
+            .cacheControl(CacheControl.noCache())
+            .eTag(cached.getETag())
+            .body(cached.getBody());
+    }
+}
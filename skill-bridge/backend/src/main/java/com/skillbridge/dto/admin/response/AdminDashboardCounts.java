@@ -0,0 +1,20 @@
+package com.skillbridge.dto.admin.response;
+
+/**
+ * Admin Dashboard Counts
+ * Projection of the single-row admin dashboard aggregate
+ */
+public interface AdminDashboardCounts {
+
+    Long getActiveEngineers();
+
+    Long getTotalEngineers();
+
+    Long getActiveUsers();
+
+    Long getInactiveUsers();
+
+    Long getTotalSkills();
+
+    Long getTotalProjectTypes();
+}
@@ -15,6 +15,9 @@ public class ActivitiesResponseDTO {
     @JsonProperty("total")
     private Integer total;
 
+    @JsonProperty("nextCursor")
+    private Long nextCursor; // Pass as "before" to get the next page; null on the last page
+
     // Constructors
     public ActivitiesResponseDTO() {
     }
@@ -40,5 +43,12 @@ public class ActivitiesResponseDTO {
     public void setTotal(Integer total) {
         this.total = total;
     }
-}
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+}
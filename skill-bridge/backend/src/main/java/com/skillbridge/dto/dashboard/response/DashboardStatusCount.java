@@ -0,0 +1,20 @@
+package com.skillbridge.dto.dashboard.response;
+
+/**
+ * Dashboard Status Count
+ * Projection of one row of the client dashboard aggregate: the number of records
+ * of a category (contact, proposal, contract, changeRequest) having a given status
+ */
+public interface DashboardStatusCount {
+
+    String CATEGORY_CONTACT = "contact";
+    String CATEGORY_PROPOSAL = "proposal";
+    String CATEGORY_CONTRACT = "contract";
+    String CATEGORY_CHANGE_REQUEST = "changeRequest";
+
+    String getCategory();
+
+    String getStatus();
+
+    Long getTotal();
+}
@@ -17,6 +17,7 @@ public class SearchCriteria {
     private Integer page;
     private Integer size;
     private String sortBy;
+    private String cursor;
 
     public SearchCriteria() {
         this.page = 0;
@@ -129,5 +130,12 @@ public class SearchCriteria {
     public void setSortBy(String sortBy) {
         this.sortBy = sortBy;
     }
-}
 
+    public String getCursor() {
+        return cursor;
+    }
+
+    public void setCursor(String cursor) {
+        this.cursor = cursor;
+    }
+}
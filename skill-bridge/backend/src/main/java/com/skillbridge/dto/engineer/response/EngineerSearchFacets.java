@@ -0,0 +1,70 @@
+package com.skillbridge.dto.engineer.response;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Engineer Search Facets
+ * Value-plus-count facets of a set of engineers, used by the search filter sidebar
+ */
+public class EngineerSearchFacets {
+    private List<FacetValue> skills = new ArrayList<>();
+    private List<FacetValue> locations = new ArrayList<>();
+    private List<FacetValue> seniorities = new ArrayList<>();
+    private List<FacetValue> languages = new ArrayList<>();
+    private List<FacetValue> salaryRanges = new ArrayList<>();
+    private List<FacetValue> experienceRanges = new ArrayList<>();
+
+    // Constructors
+    public EngineerSearchFacets() {
+    }
+
+    // Getters and Setters
+    public List<FacetValue> getSkills() {
+        return skills;
+    }
+
+    public void setSkills(List<FacetValue> skills) {
+        this.skills = skills;
+    }
+
+    public List<FacetValue> getLocations() {
+        return locations;
+    }
+
+    public void setLocations(List<FacetValue> locations) {
+        this.locations = locations;
+    }
+
+    public List<FacetValue> getSeniorities() {
+        return seniorities;
+    }
+
+    public void setSeniorities(List<FacetValue> seniorities) {
+        this.seniorities = seniorities;
+    }
+
+    public List<FacetValue> getLanguages() {
+        return languages;
+    }
+
+    public void setLanguages(List<FacetValue> languages) {
+        this.languages = languages;
+    }
+
+    public List<FacetValue> getSalaryRanges() {
+        return salaryRanges;
+    }
+
+    public void setSalaryRanges(List<FacetValue> salaryRanges) {
+        this.salaryRanges = salaryRanges;
+    }
+
+    public List<FacetValue> getExperienceRanges() {
+        return experienceRanges;
+    }
+
+    public void setExperienceRanges(List<FacetValue> experienceRanges) {
+        this.experienceRanges = experienceRanges;
+    }
+}
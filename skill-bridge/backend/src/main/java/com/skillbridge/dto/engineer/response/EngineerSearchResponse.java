@@ -8,6 +8,8 @@ public class EngineerSearchResponse {
     private Integer currentPage;
     private Integer totalPages;
     private Integer pageSize;
+    private String nextCursor;
+    private EngineerSearchFacets facets;
 
     public EngineerSearchResponse() {
     }
@@ -60,5 +62,20 @@ public class EngineerSearchResponse {
     public void setPageSize(Integer pageSize) {
         this.pageSize = pageSize;
     }
-}
 
+    public String getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(String nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
+    public EngineerSearchFacets getFacets() {
+        return facets;
+    }
+
+    public void setFacets(EngineerSearchFacets facets) {
+        this.facets = facets;
+    }
+}
@@ -0,0 +1,62 @@
+package com.skillbridge.dto.engineer.response;
+
+/**
+ * Engineer Suggestion
+ * One typeahead completion for the engineer search box: an engineer name, a skill or a location
+ */
+public class EngineerSuggestion {
+    private String type;
+    private String value;
+    private Integer id;
+    private Integer count;
+
+    // Constructors
+    public EngineerSuggestion() {
+    }
+
+    public EngineerSuggestion(String type, String value, Integer id, Integer count) {
+        this.type = type;
+        this.value = value;
+        this.id = id;
+        this.count = count;
+    }
+
+    // Getters and Setters
+    public String getType() {
+        return type;
+    }
+
+    public void setType(String type) {
+        this.type = type;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    /**
+     * Engineer ID or skill ID (null for locations)
+     */
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    /**
+     * Number of engineers with the skill or location (null for engineers)
+     */
+    public Integer getCount() {
+        return count;
+    }
+
+    public void setCount(Integer count) {
+        this.count = count;
+    }
+}
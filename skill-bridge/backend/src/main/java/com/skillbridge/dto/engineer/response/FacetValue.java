@@ -0,0 +1,64 @@
+package com.skillbridge.dto.engineer.response;
+
+import java.math.BigDecimal;
+
+/**
+ * Facet Value
+ * One value of a search facet with the number of engineers having it.
+ * Range buckets also carry their bounds (from inclusive, to exclusive; to is null for the open-ended bucket)
+ */
+public class FacetValue {
+    private String value;
+    private Long count;
+    private BigDecimal from;
+    private BigDecimal to;
+
+    // Constructors
+    public FacetValue() {
+    }
+
+    public FacetValue(String value, Long count) {
+        this.value = value;
+        this.count = count;
+    }
+
+    public FacetValue(String value, Long count, BigDecimal from, BigDecimal to) {
+        this.value = value;
+        this.count = count;
+        this.from = from;
+        this.to = to;
+    }
+
+    // Getters and Setters
+    public String getValue() {
+        return value;
+    }
+
+    public void setValue(String value) {
+        this.value = value;
+    }
+
+    public Long getCount() {
+        return count;
+    }
+
+    public void setCount(Long count) {
+        this.count = count;
+    }
+
+    public BigDecimal getFrom() {
+        return from;
+    }
+
+    public void setFrom(BigDecimal from) {
+        this.from = from;
+    }
+
+    public BigDecimal getTo() {
+        return to;
+    }
+
+    public void setTo(BigDecimal to) {
+        this.to = to;
+    }
+}
@@ -14,6 +14,9 @@ public class SalesDashboardActivitiesDTO {
     @JsonProperty("total")
     private Integer total;
 
+    @JsonProperty("nextCursor")
+    private Long nextCursor; // Pass as "before" to get the next page; null on the last page
+
     public SalesDashboardActivitiesDTO() {
     }
 
@@ -34,6 +37,14 @@ public class SalesDashboardActivitiesDTO {
         this.total = total;
     }
 
+    public Long getNextCursor() {
+        return nextCursor;
+    }
+
+    public void setNextCursor(Long nextCursor) {
+        this.nextCursor = nextCursor;
+    }
+
     public static class ActivityItem {
         @JsonProperty("id")
         private Integer id;
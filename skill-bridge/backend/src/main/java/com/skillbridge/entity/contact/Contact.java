@@ -1,6 +1,7 @@
 package com.skillbridge.entity.contact;
 
 import com.skillbridge.entity.auth.User;
+import com.skillbridge.service.dashboard.DashboardEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "contacts")
+@EntityListeners(DashboardEntityListener.class)
 public class Contact {
 
     @Id
@@ -0,0 +1,150 @@
+package com.skillbridge.entity.dashboard;
+
+import jakarta.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * ActivityEvent Entity
+ * One entry of the append-only activity stream shown on the client and sales dashboards:
+ * a contact, proposal, contract or change request was created or changed status.
+ * Rows are never updated; feeds are read newest first with keyset pagination on (occurredAt, id).
+ */
+@Entity
+@Table(name = "activity_events")
+public class ActivityEvent {
+
+    public static final String TYPE_CONTACT = "CONTACT";
+    public static final String TYPE_PROPOSAL = "PROPOSAL";
+    public static final String TYPE_CONTRACT = "CONTRACT";
+    public static final String TYPE_CHANGE_REQUEST = "CHANGE_REQUEST";
+
+    public static final String ACTION_CREATED = "CREATED";
+    public static final String ACTION_STATUS_CHANGED = "STATUS_CHANGED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "activity_type", nullable = false, length = 32)
+    private String activityType; // CONTACT, PROPOSAL, CONTRACT, CHANGE_REQUEST
+
+    @Column(name = "action", nullable = false, length = 32)
+    private String action; // CREATED, STATUS_CHANGED
+
+    @Column(name = "entity_type", nullable = false, length = 32)
+    private String entityType; // contact, proposal, contract, changeRequest
+
+    @Column(name = "entity_id", nullable = false)
+    private Integer entityId;
+
+    @Column(name = "reference", length = 255)
+    private String reference; // Display reference (CR code, contract name, title)
+
+    @Column(name = "status", length = 50)
+    private String status; // Status of the entity after the event
+
+    @Column(name = "description", nullable = false, length = 500)
+    private String description;
+
+    @Column(name = "client_user_id")
+    private Integer clientUserId;
+
+    @Column(name = "assignee_user_id")
+    private Integer assigneeUserId;
+
+    @Column(name = "occurred_at", nullable = false)
+    private LocalDateTime occurredAt;
+
+    // Constructors
+    public ActivityEvent() {
+    }
+
+    // Getters and Setters
+    public Long getId() {
+        return id;
+    }
+
+    public void setId(Long id) {
+        this.id = id;
+    }
+
+    public String getActivityType() {
+        return activityType;
+    }
+
+    public void setActivityType(String activityType) {
+        this.activityType = activityType;
+    }
+
+    public String getAction() {
+        return action;
+    }
+
+    public void setAction(String action) {
+        this.action = action;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public void setEntityType(String entityType) {
+        this.entityType = entityType;
+    }
+
+    public Integer getEntityId() {
+        return entityId;
+    }
+
+    public void setEntityId(Integer entityId) {
+        this.entityId = entityId;
+    }
+
+    public String getReference() {
+        return reference;
+    }
+
+    public void setReference(String reference) {
+        this.reference = reference;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public void setStatus(String status) {
+        this.status = status;
+    }
+
+    public String getDescription() {
+        return description;
+    }
+
+    public void setDescription(String description) {
+        this.description = description;
+    }
+
+    public Integer getClientUserId() {
+        return clientUserId;
+    }
+
+    public void setClientUserId(Integer clientUserId) {
+        this.clientUserId = clientUserId;
+    }
+
+    public Integer getAssigneeUserId() {
+        return assigneeUserId;
+    }
+
+    public void setAssigneeUserId(Integer assigneeUserId) {
+        this.assigneeUserId = assigneeUserId;
+    }
+
+    public LocalDateTime getOccurredAt() {
+        return occurredAt;
+    }
+
+    public void setOccurredAt(LocalDateTime occurredAt) {
+        this.occurredAt = occurredAt;
+    }
+}
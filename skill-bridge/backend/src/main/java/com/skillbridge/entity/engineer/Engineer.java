@@ -45,6 +45,12 @@ public class Engineer {
     @Column(name = "primary_skill")
     private String primarySkill;
 
+    /**
+     * Homepage category (web, game, ai-ml) classified from the primary skill on every write
+     */
+    @Column(length = 16)
+    private String category;
+
     @Column(length = 255, unique = true)
     private String email;
 
@@ -69,15 +75,56 @@ public class Engineer {
     @Column(name = "updated_at")
     private LocalDateTime updatedAt;
 
+    public static final String CATEGORY_WEB = "web";
+    public static final String CATEGORY_GAME = "game";
+    public static final String CATEGORY_AI_ML = "ai-ml";
+
     @PrePersist
     protected void onCreate() {
         createdAt = LocalDateTime.now();
         updatedAt = LocalDateTime.now();
+        category = classifyCategory(primarySkill);
     }
 
     @PreUpdate
     protected void onUpdate() {
         updatedAt = LocalDateTime.now();
+        category = classifyCategory(primarySkill);
+    }
+
+    /**
+     * Classify a primary skill into a homepage category
+     * The first matching category wins (web, then game, then ai-ml), so an engineer is shown in one section.
+     * AI/ML keywords are matched as whole words: short ones like "ai" and "ml" also occur inside
+     * unrelated words (HTML, Email, Maintenance).
+     * Keep in sync with the backfill in V48__add_category_to_engineers.sql
+     * @param primarySkill Primary skill
+     * @return web, game, ai-ml, or null when no category keyword matches
+     */
+    public static String classifyCategory(String primarySkill) {
+        if (primarySkill == null) return null;
+
+        String skill = primarySkill.toLowerCase();
+        // Words separated by single spaces and padded, so " ml " only matches the whole word
+        String words = " " + skill.replaceAll("[^a-z0-9]+", " ").trim() + " ";
+
+        if (skill.contains("web") || skill.contains("frontend") || skill.contains("backend") ||
+            skill.contains("react") || skill.contains("angular") || skill.contains("vue")) {
+            return CATEGORY_WEB;
+        }
+
+        if (skill.contains("game") || skill.contains("unity") || skill.contains("unreal") ||
+            skill.contains("godot")) {
+            return CATEGORY_GAME;
+        }
+
+        if (words.contains(" ai ") || words.contains(" ml ") || words.contains(" machine learning ") ||
+            words.contains(" artificial intelligence ") || words.contains(" deep learning ") ||
+            words.contains(" data science ")) {
+            return CATEGORY_AI_ML;
+        }
+
+        return null;
     }
 
     // Getters and Setters
@@ -177,6 +224,14 @@ public class Engineer {
         this.primarySkill = primarySkill;
     }
 
+    public String getCategory() {
+        return category;
+    }
+
+    public void setCategory(String category) {
+        this.category = category;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -0,0 +1,75 @@
+package com.skillbridge.entity.engineer;
+
+import jakarta.persistence.*;
+
+/**
+ * EngineerLanguage Entity
+ * Structured language proficiency of an engineer, parsed from engineers.language_summary
+ * so that search can filter by language and minimum level
+ */
+@Entity
+@Table(name = "engineer_languages")
+public class EngineerLanguage {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Integer id;
+
+    @Column(name = "engineer_id", nullable = false)
+    private Integer engineerId;
+
+    /**
+     * Lower-cased English language name (e.g. "japanese")
+     */
+    @Column(nullable = false, length = 32)
+    private String language;
+
+    /**
+     * Level rank: 0 unknown, 1 basic, 2 intermediate, 3 business, 4 fluent, 5 native
+     */
+    @Column(name = "level_rank", nullable = false)
+    private Integer levelRank;
+
+    // Constructors
+    public EngineerLanguage() {
+    }
+
+    public EngineerLanguage(Integer engineerId, String language, Integer levelRank) {
+        this.engineerId = engineerId;
+        this.language = language;
+        this.levelRank = levelRank;
+    }
+
+    // Getters and Setters
+    public Integer getId() {
+        return id;
+    }
+
+    public void setId(Integer id) {
+        this.id = id;
+    }
+
+    public Integer getEngineerId() {
+        return engineerId;
+    }
+
+    public void setEngineerId(Integer engineerId) {
+        this.engineerId = engineerId;
+    }
+
+    public String getLanguage() {
+        return language;
+    }
+
+    public void setLanguage(String language) {
+        this.language = language;
+    }
+
+    public Integer getLevelRank() {
+        return levelRank;
+    }
+
+    public void setLevelRank(Integer levelRank) {
+        this.levelRank = levelRank;
+    }
+}
@@ -1,5 +1,6 @@
 package com.skillbridge.entity.opportunity;
 
+import com.skillbridge.service.dashboard.DashboardEntityListener;
 import jakarta.persistence.*;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
@@ -10,6 +11,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "opportunities")
+@EntityListeners(DashboardEntityListener.class)
 public class Opportunity {
 
     @Id
@@ -2,6 +2,7 @@ package com.skillbridge.entity.proposal;
 
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contact.Contact;
+import com.skillbridge.service.dashboard.DashboardEntityListener;
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
 
@@ -11,6 +12,7 @@ import java.time.LocalDateTime;
  */
 @Entity
 @Table(name = "proposals")
+@EntityListeners(DashboardEntityListener.class)
 public class Proposal {
 
     @Id
@@ -59,6 +61,9 @@ public class Proposal {
     @Column(name = "created_by", nullable = false)
     private Integer createdBy;
 
+    @Column(name = "display_id", length = 20)
+    private String displayId; // P-YYYY-NN, allocated on create
+
     @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
@@ -157,6 +162,14 @@ public class Proposal {
         this.createdBy = createdBy;
     }
 
+    public String getDisplayId() {
+        return displayId;
+    }
+
+    public void setDisplayId(String displayId) {
+        this.displayId = displayId;
+    }
+
     public LocalDateTime getCreatedAt() {
         return createdAt;
     }
@@ -82,4 +82,3 @@ public interface ContactRepository extends JpaRepository<Contact, Integer>, JpaS
     @Query("SELECT c FROM Contact c WHERE c.id = :id AND c.clientUserId = :clientUserId")
     Optional<Contact> findByIdAndClientUserId(@Param("id") Integer id, @Param("clientUserId") Integer clientUserId);
 }
-
@@ -1,8 +1,6 @@
 package com.skillbridge.repository.contract;
 
 import com.skillbridge.entity.contract.SOWContract;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
 import org.springframework.data.jpa.repository.Query;
@@ -27,21 +25,10 @@ public interface SOWContractRepository extends JpaRepository<SOWContract, Intege
     @Query("SELECT s FROM SOWContract s WHERE s.parentVersionId = :parentVersionId OR (s.parentVersionId IS NULL AND s.id = :parentVersionId) ORDER BY s.version ASC")
     List<SOWContract> findAllVersionsByParentVersionId(@Param("parentVersionId") Integer parentVersionId);
     
-    @Query("SELECT s FROM SOWContract s WHERE s.clientId = :clientId " +
-           "AND (:search IS NULL OR s.contractName LIKE CONCAT('%', :search, '%') OR " +
-           "CONCAT(s.id, '') LIKE CONCAT('%', :search, '%') OR s.assigneeId LIKE CONCAT('%', :search, '%')) " +
-           "AND (:status IS NULL OR s.status = :status) " +
-           "AND (:engagementType IS NULL OR s.engagementType = :engagementType) " +
-           "ORDER BY s.createdAt DESC")
-    Page<SOWContract> findByClientIdWithFilters(
-        @Param("clientId") Integer clientId,
-        @Param("search") String search,
-        @Param("status") SOWContract.SOWContractStatus status,
-        @Param("engagementType") String engagementType,
-        Pageable pageable
-    );
-    
     @Query("SELECT s FROM SOWContract s WHERE s.id = :id AND s.clientId = :clientId")
     Optional<SOWContract> findByIdAndClientId(@Param("id") Integer id, @Param("clientId") Integer clientId);
-}
 
+    List<SOWContract> findByStatus(SOWContract.SOWContractStatus status);
+
+    List<SOWContract> findByStatusAndAssigneeUserId(SOWContract.SOWContractStatus status, Integer assigneeUserId);
+}
@@ -0,0 +1,99 @@
+package com.skillbridge.repository.dashboard;
+
+import com.skillbridge.entity.dashboard.ActivityEvent;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+/**
+ * Activity Event Repository
+ * Keyset-paginated reads of the activity stream, newest first.
+ * The first page of a feed uses the find...Feed query; following pages pass the (occurredAt, id)
+ * of the last event already returned to the matching ...Before query, so every page is
+ * a range scan of the feed index regardless of how deep the reader has scrolled.
+ * The page size is taken from the Pageable (always page 0).
+ */
+@Repository
+public interface ActivityEventRepository extends JpaRepository<ActivityEvent, Long> {
+
+    /**
+     * Find the newest events of a client (index: client_user_id, occurred_at, id)
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.clientUserId = :clientUserId " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findClientFeed(@Param("clientUserId") Integer clientUserId, Pageable pageable);
+
+    /**
+     * Find the events of a client older than the given keyset position
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.clientUserId = :clientUserId " +
+           "AND (a.occurredAt < :beforeAt OR (a.occurredAt = :beforeAt AND a.id < :beforeId)) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findClientFeedBefore(
+        @Param("clientUserId") Integer clientUserId,
+        @Param("beforeAt") LocalDateTime beforeAt,
+        @Param("beforeId") Long beforeId,
+        Pageable pageable
+    );
+
+    /**
+     * Find the newest events of one type and action for an assignee
+     * (index: assignee_user_id, activity_type, action, occurred_at, id)
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.assigneeUserId = :assigneeUserId " +
+           "AND a.activityType = :activityType AND a.action = :action " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findAssigneeFeed(
+        @Param("assigneeUserId") Integer assigneeUserId,
+        @Param("activityType") String activityType,
+        @Param("action") String action,
+        Pageable pageable
+    );
+
+    /**
+     * Find the events of one type and action for an assignee older than the given keyset position
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.assigneeUserId = :assigneeUserId " +
+           "AND a.activityType = :activityType AND a.action = :action " +
+           "AND (a.occurredAt < :beforeAt OR (a.occurredAt = :beforeAt AND a.id < :beforeId)) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findAssigneeFeedBefore(
+        @Param("assigneeUserId") Integer assigneeUserId,
+        @Param("activityType") String activityType,
+        @Param("action") String action,
+        @Param("beforeAt") LocalDateTime beforeAt,
+        @Param("beforeId") Long beforeId,
+        Pageable pageable
+    );
+
+    /**
+     * Find the newest events of one type and action across all assignees
+     * (index: activity_type, action, occurred_at, id)
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.activityType = :activityType AND a.action = :action " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findFeed(
+        @Param("activityType") String activityType,
+        @Param("action") String action,
+        Pageable pageable
+    );
+
+    /**
+     * Find the events of one type and action across all assignees older than the given keyset position
+     */
+    @Query("SELECT a FROM ActivityEvent a WHERE a.activityType = :activityType AND a.action = :action " +
+           "AND (a.occurredAt < :beforeAt OR (a.occurredAt = :beforeAt AND a.id < :beforeId)) " +
+           "ORDER BY a.occurredAt DESC, a.id DESC")
+    List<ActivityEvent> findFeedBefore(
+        @Param("activityType") String activityType,
+        @Param("action") String action,
+        @Param("beforeAt") LocalDateTime beforeAt,
+        @Param("beforeId") Long beforeId,
+        Pageable pageable
+    );
+}
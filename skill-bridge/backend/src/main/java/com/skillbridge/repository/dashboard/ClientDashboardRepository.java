@@ -0,0 +1,48 @@
+package com.skillbridge.repository.dashboard;
+
+import com.skillbridge.dto.dashboard.response.DashboardStatusCount;
+import com.skillbridge.entity.contact.Contact;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * Client Dashboard Repository
+ * Aggregate reads of the client dashboard that span contacts, proposals, contracts and change requests.
+ * Read-only: it exposes no CRUD methods (Contact is only the domain type Spring Data requires).
+ */
+@Repository
+public interface ClientDashboardRepository extends org.springframework.data.repository.Repository<Contact, Integer> {
+
+    /**
+     * Count a client's contacts, proposals, contracts (MSA and SOW) and change requests per status
+     * Each category is one GROUP BY status over the client's own rows (using the client_user_id,
+     * client_id, contact_id and contract foreign key indexes), so the cost does not grow with other clients' data.
+     * A category may return several rows for the same status (MSA and SOW contracts are counted separately).
+     * @param clientUserId Client user ID (also the client ID of contracts)
+     * @return Rows of category, status and count
+     */
+    @Query(value = "SELECT 'contact' AS category, c.status AS status, COUNT(*) AS total " +
+           "FROM contacts c WHERE c.client_user_id = :clientUserId GROUP BY c.status " +
+           "UNION ALL " +
+           "SELECT 'proposal', p.status, COUNT(*) FROM proposals p " +
+           "JOIN contacts c ON c.id = p.contact_id " +
+           "WHERE c.client_user_id = :clientUserId GROUP BY p.status " +
+           "UNION ALL " +
+           "SELECT 'contract', m.status, COUNT(*) FROM contracts m " +
+           "WHERE m.client_id = :clientUserId GROUP BY m.status " +
+           "UNION ALL " +
+           "SELECT 'contract', s.status, COUNT(*) FROM sow_contracts s " +
+           "WHERE s.client_id = :clientUserId GROUP BY s.status " +
+           "UNION ALL " +
+           "SELECT 'changeRequest', cr.status, COUNT(*) FROM change_requests cr " +
+           "JOIN contracts m ON m.id = cr.contract_id " +
+           "WHERE m.client_id = :clientUserId GROUP BY cr.status " +
+           "UNION ALL " +
+           "SELECT 'changeRequest', cr.status, COUNT(*) FROM change_requests cr " +
+           "JOIN sow_contracts s ON s.id = cr.sow_contract_id " +
+           "WHERE s.client_id = :clientUserId GROUP BY cr.status", nativeQuery = true)
+    List<DashboardStatusCount> countDashboardStatusesForClient(@Param("clientUserId") Integer clientUserId);
+}
@@ -0,0 +1,35 @@
+package com.skillbridge.repository.engineer;
+
+import com.skillbridge.entity.engineer.EngineerLanguage;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+/**
+ * EngineerLanguage Repository
+ * Handles database operations for structured engineer language proficiencies
+ */
+@Repository
+public interface EngineerLanguageRepository extends JpaRepository<EngineerLanguage, Integer> {
+
+    /**
+     * Find all languages for a specific engineer
+     * @param engineerId The engineer ID
+     * @return List of engineer languages
+     */
+    List<EngineerLanguage> findByEngineerId(Integer engineerId);
+
+    /**
+     * Find engineers speaking a language at or above a level
+     * Served by idx_engineer_languages_language_level
+     * @param language Lower-cased language name
+     * @param minLevel Minimum level rank
+     * @return Engineer IDs
+     */
+    @Query("SELECT el.engineerId FROM EngineerLanguage el " +
+           "WHERE el.language = :language AND el.levelRank >= :minLevel")
+    List<Integer> findEngineerIdsByLanguage(@Param("language") String language, @Param("minLevel") Integer minLevel);
+}
@@ -1,5 +1,6 @@
 package com.skillbridge.repository.engineer;
 
+import com.skillbridge.dto.admin.response.AdminDashboardCounts;
 import com.skillbridge.entity.engineer.Engineer;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
@@ -20,10 +21,14 @@ public interface EngineerRepository extends JpaRepository<Engineer, Integer> {
     Long countByStatus(String status);
 
     /**
-     * Find featured engineers for homepage (available engineers)
+     * Find featured engineers for homepage (newest available engineers)
      */
-    @Query("SELECT e FROM Engineer e WHERE e.status = 'AVAILABLE' ORDER BY e.createdAt DESC")
-    List<Engineer> findFeaturedEngineers();
+    List<Engineer> findTop9ByStatusOrderByCreatedAtDesc(String status);
+
+    /**
+     * Find the newest engineers of a precomputed homepage category (web, game, ai-ml)
+     */
+    List<Engineer> findTop3ByStatusAndCategoryOrderByCreatedAtDesc(String status, String category);
 
     /**
      * Find engineers by category based on primary skill
@@ -33,45 +38,9 @@ public interface EngineerRepository extends JpaRepository<Engineer, Integer> {
            "OR LOWER(e.summary) LIKE LOWER(CONCAT('%', :category, '%')))")
     List<Engineer> findByCategory(@Param("category") String category);
 
-    /**
-     * Find web development engineers
-     */
-    @Query("SELECT e FROM Engineer e WHERE e.status = 'AVAILABLE' " +
-           "AND (LOWER(e.primarySkill) LIKE '%web%' " +
-           "OR LOWER(e.primarySkill) LIKE '%frontend%' " +
-           "OR LOWER(e.primarySkill) LIKE '%backend%' " +
-           "OR LOWER(e.primarySkill) LIKE '%react%' " +
-           "OR LOWER(e.primarySkill) LIKE '%angular%' " +
-           "OR LOWER(e.primarySkill) LIKE '%vue%') " +
-           "ORDER BY e.createdAt DESC")
-    List<Engineer> findWebDevelopers();
-
-    /**
-     * Find game development engineers
-     */
-    @Query("SELECT e FROM Engineer e WHERE e.status = 'AVAILABLE' " +
-           "AND (LOWER(e.primarySkill) LIKE '%game%' " +
-           "OR LOWER(e.primarySkill) LIKE '%unity%' " +
-           "OR LOWER(e.primarySkill) LIKE '%unreal%' " +
-           "OR LOWER(e.primarySkill) LIKE '%godot%') " +
-           "ORDER BY e.createdAt DESC")
-    List<Engineer> findGameDevelopers();
-
-    /**
-     * Find AI/ML development engineers
-     */
-    @Query("SELECT e FROM Engineer e WHERE e.status = 'AVAILABLE' " +
-           "AND (LOWER(e.primarySkill) LIKE '%ai%' " +
-           "OR LOWER(e.primarySkill) LIKE '%ml%' " +
-           "OR LOWER(e.primarySkill) LIKE '%machine learning%' " +
-           "OR LOWER(e.primarySkill) LIKE '%artificial intelligence%' " +
-           "OR LOWER(e.primarySkill) LIKE '%deep learning%' " +
-           "OR LOWER(e.primarySkill) LIKE '%data science%') " +
-           "ORDER BY e.createdAt DESC")
-    List<Engineer> findAiMlDevelopers();
-
     /**
      * Advanced search with dynamic filters
+     * engineerIds restricts the search to engineers pre-selected by other predicates (e.g. languages)
      */
     @Query("SELECT DISTINCT e FROM Engineer e " +
            "WHERE (:query IS NULL OR LOWER(e.fullName) LIKE LOWER(CONCAT('%', :query, '%')) " +
@@ -84,7 +53,8 @@ public interface EngineerRepository extends JpaRepository<Engineer, Integer> {
            "AND (:location IS NULL OR e.location IN :location) " +
            "AND (:salaryMin IS NULL OR e.salaryExpectation >= :salaryMin) " +
            "AND (:salaryMax IS NULL OR e.salaryExpectation <= :salaryMax) " +
-           "AND (:availability IS NULL OR :availability = false OR e.status = 'AVAILABLE')")
+           "AND (:availability IS NULL OR :availability = false OR e.status = 'AVAILABLE') " +
+           "AND (:engineerIds IS NULL OR e.id IN :engineerIds)")
     Page<Engineer> searchEngineers(
         @Param("query") String query,
         @Param("primarySkill") String primarySkill,
@@ -95,6 +65,7 @@ public interface EngineerRepository extends JpaRepository<Engineer, Integer> {
         @Param("salaryMin") BigDecimal salaryMin,
         @Param("salaryMax") BigDecimal salaryMax,
         @Param("availability") Boolean availability,
+        @Param("engineerIds") List<Integer> engineerIds,
         Pageable pageable
     );
 
@@ -126,5 +97,17 @@ public interface EngineerRepository extends JpaRepository<Engineer, Integer> {
      * Find engineer by email (for uniqueness check)
      */
     java.util.Optional<Engineer> findByEmail(String email);
-}
 
+    /**
+     * Count engineers, users, skills and project types for the admin dashboard in one round trip
+     */
+    @Query(value = "SELECT " +
+           "(SELECT COUNT(*) FROM engineers WHERE status = 'AVAILABLE') AS activeEngineers, " +
+           "(SELECT COUNT(*) FROM engineers) AS totalEngineers, " +
+           "(SELECT COUNT(*) FROM users WHERE is_active = TRUE) AS activeUsers, " +
+           "(SELECT COUNT(*) FROM users WHERE is_active = FALSE) AS inactiveUsers, " +
+           "(SELECT COUNT(*) FROM skills) AS totalSkills, " +
+           "(SELECT COUNT(*) FROM project_types) AS totalProjectTypes",
+           nativeQuery = true)
+    AdminDashboardCounts summarizeAdminDashboard();
+}
@@ -8,6 +8,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -87,5 +88,9 @@ public interface ProposalRepository extends JpaRepository<Proposal, Integer> {
      */
     @Query("SELECT COALESCE(MAX(p.version), 0) FROM Proposal p WHERE p.opportunityId = :opportunityId")
     Integer findMaxVersionByOpportunityId(@Param("opportunityId") Integer opportunityId);
-}
 
+    /**
+     * Find proposals in any of the given statuses
+     */
+    List<Proposal> findByStatusIn(Collection<String> statuses);
+}
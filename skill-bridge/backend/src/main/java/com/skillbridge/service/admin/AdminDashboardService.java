@@ -1,79 +1,129 @@
 package com.skillbridge.service.admin;
 
+import com.skillbridge.dto.admin.response.AdminDashboardCounts;
 import com.skillbridge.dto.admin.response.AdminDashboardSummaryDTO;
-import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.engineer.EngineerRepository;
-import com.skillbridge.repository.engineer.ProjectTypeRepository;
-import com.skillbridge.repository.engineer.SkillRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
+import com.skillbridge.service.engineer.SkillChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * Admin Dashboard Service
  * Handles business logic for admin dashboard summary statistics
+ * The summary is computed with one aggregate query and kept as an in-memory snapshot,
+ * refreshed when admin data changes or after a short TTL (users also sign up outside the admin portal)
  */
 @Service
-@Transactional
+@Transactional(readOnly = true)
 public class AdminDashboardService {
 
     @Autowired
     private EngineerRepository engineerRepository;
 
-    @Autowired
-    private UserRepository userRepository;
+    @Value("${admin-dashboard.cache.ttl-seconds:60}")
+    private long cacheTtlSeconds;
 
-    @Autowired
-    private SkillRepository skillRepository;
+    private volatile Snapshot snapshot;
 
-    @Autowired
-    private ProjectTypeRepository projectTypeRepository;
+    // Bumped on every invalidation so that summaries computed before it are not kept
+    private final AtomicLong snapshotGeneration = new AtomicLong();
 
     /**
      * Get dashboard summary statistics
      * @return AdminDashboardSummaryDTO with counts for engineers, users, skills, and project types
      */
     public AdminDashboardSummaryDTO getDashboardSummary() {
+        Snapshot current = snapshot;
+        if (current != null && current.generation == snapshotGeneration.get()
+                && System.currentTimeMillis() - current.loadedAt < cacheTtlSeconds * 1000) {
+            return current.summary;
+        }
+
+        long generation = snapshotGeneration.get();
+        AdminDashboardSummaryDTO summary = loadSummary();
+        snapshot = new Snapshot(summary, generation, System.currentTimeMillis());
+        return summary;
+    }
+
+    /**
+     * Drop the snapshot once an engineer change has been committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngineerChanged(EngineerChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Drop the snapshot once a skill change has been committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkillChanged(SkillChangedEvent event) {
+        invalidate();
+    }
+
+    /**
+     * Drop the snapshot once a user or project type change has been committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onAdminDataChanged(AdminDataChangedEvent event) {
+        invalidate();
+    }
+
+    private void invalidate() {
+        snapshotGeneration.incrementAndGet();
+        snapshot = null;
+    }
+
+    private AdminDashboardSummaryDTO loadSummary() {
+        AdminDashboardCounts counts = engineerRepository.summarizeAdminDashboard();
         AdminDashboardSummaryDTO summary = new AdminDashboardSummaryDTO();
 
         // Calculate engineer counts
-        Long activeEngineers = engineerRepository.countByStatus("AVAILABLE");
-        Long totalEngineers = engineerRepository.count();
-        Long inactiveEngineers = totalEngineers - activeEngineers;
-
-        AdminDashboardSummaryDTO.EngineerSummary engineerSummary = 
-            new AdminDashboardSummaryDTO.EngineerSummary(
-                activeEngineers.intValue(),
-                inactiveEngineers.intValue()
-            );
-        summary.setEngineers(engineerSummary);
+        long activeEngineers = valueOf(counts.getActiveEngineers());
+        long inactiveEngineers = valueOf(counts.getTotalEngineers()) - activeEngineers;
+        summary.setEngineers(new AdminDashboardSummaryDTO.EngineerSummary(
+            (int) activeEngineers,
+            (int) inactiveEngineers
+        ));
 
         // Calculate user counts
-        Long activeUsers = userRepository.countByIsActive(true);
-        Long inactiveUsers = userRepository.countByIsActive(false);
+        summary.setSystemUsers(new AdminDashboardSummaryDTO.SystemUserSummary(
+            (int) valueOf(counts.getActiveUsers()),
+            (int) valueOf(counts.getInactiveUsers())
+        ));
 
-        AdminDashboardSummaryDTO.SystemUserSummary systemUserSummary = 
-            new AdminDashboardSummaryDTO.SystemUserSummary(
-                activeUsers.intValue(),
-                inactiveUsers.intValue()
-            );
-        summary.setSystemUsers(systemUserSummary);
+        // Skills and project types totals
+        summary.setSkills(new AdminDashboardSummaryDTO.SkillSummary((int) valueOf(counts.getTotalSkills())));
+        summary.setProjectTypes(new AdminDashboardSummaryDTO.ProjectTypeSummary(
+            (int) valueOf(counts.getTotalProjectTypes())));
 
-        // Calculate skills total count
-        Long totalSkills = skillRepository.count();
+        return summary;
+    }
 
-        AdminDashboardSummaryDTO.SkillSummary skillSummary = 
-            new AdminDashboardSummaryDTO.SkillSummary(totalSkills.intValue());
-        summary.setSkills(skillSummary);
+    private static long valueOf(Long count) {
+        return count != null ? count : 0L;
+    }
 
-        // Calculate project types total count
-        Long totalProjectTypes = projectTypeRepository.count();
+    /**
+     * A computed summary with the invalidation generation and time it was computed at
+     */
+    private static class Snapshot {
 
-        AdminDashboardSummaryDTO.ProjectTypeSummary projectTypeSummary = 
-            new AdminDashboardSummaryDTO.ProjectTypeSummary(totalProjectTypes.intValue());
-        summary.setProjectTypes(projectTypeSummary);
+        private final AdminDashboardSummaryDTO summary;
+        private final long generation;
+        private final long loadedAt;
 
-        return summary;
+        private Snapshot(AdminDashboardSummaryDTO summary, long generation, long loadedAt) {
+            this.summary = summary;
+            this.generation = generation;
+            this.loadedAt = loadedAt;
+        }
     }
 }
-
@@ -0,0 +1,38 @@
+package com.skillbridge.service.admin;
+
+/**
+ * Admin Data Changed Event
+ * Published by the admin user and project type write paths whenever a record is created or
+ * deactivated/deleted, so that cached admin statistics can be refreshed
+ */
+public class AdminDataChangedEvent {
+
+    public enum DataType {
+        USER,
+        PROJECT_TYPE
+    }
+
+    private final DataType dataType;
+    private final Integer id;
+
+    public AdminDataChangedEvent(DataType dataType, Integer id) {
+        this.dataType = dataType;
+        this.id = id;
+    }
+
+    public DataType getDataType() {
+        return dataType;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    @Override
+    public String toString() {
+        return "AdminDataChangedEvent{" +
+                "dataType=" + dataType +
+                ", id=" + id +
+                '}';
+    }
+}
@@ -7,21 +7,28 @@ import com.skillbridge.dto.admin.response.EngineerListResponse;
 import com.skillbridge.dto.admin.response.EngineerResponseDTO;
 import com.skillbridge.entity.engineer.Certificate;
 import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.entity.engineer.EngineerLanguage;
 import com.skillbridge.entity.engineer.EngineerSkill;
 import com.skillbridge.repository.contract.ChangeRequestEngagedEngineerRepository;
 import com.skillbridge.repository.contract.SOWEngagedEngineerBaseRepository;
 import com.skillbridge.repository.contract.SOWEngagedEngineerRepository;
 import com.skillbridge.repository.engineer.CertificateRepository;
+import com.skillbridge.repository.engineer.EngineerLanguageRepository;
 import com.skillbridge.repository.engineer.EngineerRepository;
 import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
+import com.skillbridge.service.engineer.LanguageProficiency;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -50,6 +57,12 @@ public class AdminEngineerService {
     @Autowired
     private EngineerSkillRepository engineerSkillRepository;
 
+    @Autowired
+    private EngineerLanguageRepository engineerLanguageRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Get all engineers with pagination and search
      */
@@ -212,6 +225,10 @@ public class AdminEngineerService {
             }
         }
 
+        saveLanguages(engineer, List.of());
+
+        eventPublisher.publishEvent(new EngineerChangedEvent(engineer.getId(), EngineerChangedEvent.ChangeType.CREATED));
+
         return convertToDTO(engineer);
     }
 
@@ -287,6 +304,11 @@ public class AdminEngineerService {
             }
         }
 
+        // Sync engineer_languages parsed from the language summary
+        saveLanguages(engineer, engineerLanguageRepository.findByEngineerId(engineerId));
+
+        eventPublisher.publishEvent(new EngineerChangedEvent(engineer.getId(), EngineerChangedEvent.ChangeType.UPDATED));
+
         return convertToDTO(engineer);
     }
 
@@ -305,6 +327,36 @@ public class AdminEngineerService {
 
         // Delete engineer
         engineerRepository.deleteById(engineerId);
+
+        eventPublisher.publishEvent(new EngineerChangedEvent(engineerId, EngineerChangedEvent.ChangeType.DELETED));
+    }
+
+    /**
+     * Save the structured languages parsed from the engineer's language summary (used by the languages search filter)
+     * Existing rows are updated in place rather than deleted and re-inserted, since Hibernate flushes
+     * inserts before deletes and would violate the (engineer_id, language) unique key
+     */
+    private void saveLanguages(Engineer engineer, List<EngineerLanguage> existing) {
+        Map<String, Integer> parsed = LanguageProficiency.parse(engineer.getLanguageSummary());
+        Map<String, EngineerLanguage> existingByLanguage = existing.stream()
+                .collect(Collectors.toMap(EngineerLanguage::getLanguage, language -> language, (a, b) -> a));
+
+        List<EngineerLanguage> languages = new ArrayList<>();
+        parsed.forEach((language, levelRank) -> {
+            EngineerLanguage engineerLanguage = existingByLanguage.remove(language);
+            if (engineerLanguage == null) {
+                engineerLanguage = new EngineerLanguage(engineer.getId(), language, levelRank);
+            }
+            engineerLanguage.setLevelRank(levelRank);
+            languages.add(engineerLanguage);
+        });
+
+        if (!existingByLanguage.isEmpty()) {
+            engineerLanguageRepository.deleteAll(existingByLanguage.values());
+        }
+        if (!languages.isEmpty()) {
+            engineerLanguageRepository.saveAll(languages);
+        }
     }
 
     /**
@@ -7,6 +7,7 @@ import com.skillbridge.dto.admin.response.ProjectTypeResponseDTO;
 import com.skillbridge.entity.engineer.ProjectType;
 import com.skillbridge.repository.engineer.ProjectTypeRepository;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -27,6 +28,9 @@ public class AdminProjectTypeService {
     @Autowired
     private ProjectTypeRepository projectTypeRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Get all project types with pagination and search
      */
@@ -74,6 +78,8 @@ public class AdminProjectTypeService {
         projectType.setDescription(request.getDescription());
 
         projectType = projectTypeRepository.save(projectType);
+        eventPublisher.publishEvent(new AdminDataChangedEvent(
+                AdminDataChangedEvent.DataType.PROJECT_TYPE, projectType.getId()));
 
         return convertToDTO(projectType);
     }
@@ -117,6 +123,7 @@ public class AdminProjectTypeService {
 
         // Delete project type
         projectTypeRepository.deleteById(projectTypeId);
+        eventPublisher.publishEvent(new AdminDataChangedEvent(AdminDataChangedEvent.DataType.PROJECT_TYPE, projectTypeId));
     }
 
     /**
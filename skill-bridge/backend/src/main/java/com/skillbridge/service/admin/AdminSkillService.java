@@ -6,7 +6,9 @@ import com.skillbridge.dto.admin.response.SkillResponseDTO;
 import com.skillbridge.entity.engineer.Skill;
 import com.skillbridge.repository.engineer.EngineerSkillRepository;
 import com.skillbridge.repository.engineer.SkillRepository;
+import com.skillbridge.service.engineer.SkillChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -31,6 +33,9 @@ public class AdminSkillService {
     @Autowired
     private EngineerSkillRepository engineerSkillRepository;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Get all parent skills with pagination and search
      */
@@ -96,6 +101,7 @@ public class AdminSkillService {
         parentSkill.setParentSkillId(null);
 
         parentSkill = skillRepository.save(parentSkill);
+        publishSkillChanged(parentSkill.getId(), SkillChangedEvent.ChangeType.CREATED);
 
         // Create sub-skills if provided
         if (request.getSubSkills() != null && !request.getSubSkills().isEmpty()) {
@@ -109,7 +115,8 @@ public class AdminSkillService {
                 Skill subSkill = new Skill();
                 subSkill.setName(subSkillReq.getName());
                 subSkill.setParentSkillId(parentSkill.getId());
-                skillRepository.save(subSkill);
+                subSkill = skillRepository.save(subSkill);
+                publishSkillChanged(subSkill.getId(), SkillChangedEvent.ChangeType.CREATED);
             }
         }
 
@@ -140,6 +147,7 @@ public class AdminSkillService {
         subSkill.setParentSkillId(parentSkillId);
 
         subSkill = skillRepository.save(subSkill);
+        publishSkillChanged(subSkill.getId(), SkillChangedEvent.ChangeType.CREATED);
 
         return convertToDTO(subSkill);
     }
@@ -169,6 +177,7 @@ public class AdminSkillService {
         skill.setDescription(request.getDescription());
 
         skill = skillRepository.save(skill);
+        publishSkillChanged(skill.getId(), SkillChangedEvent.ChangeType.UPDATED);
 
         // Update sub-skills if provided
         if (request.getSubSkills() != null) {
@@ -201,6 +210,7 @@ public class AdminSkillService {
 
                     existingSubSkill.setName(subSkillReq.getName());
                     skillRepository.save(existingSubSkill);
+                    publishSkillChanged(subSkillReq.getId(), SkillChangedEvent.ChangeType.UPDATED);
                     updatedSubSkillIds.add(subSkillReq.getId());
                 } else {
                     // Create new sub-skill
@@ -214,6 +224,7 @@ public class AdminSkillService {
                     newSubSkill.setName(subSkillReq.getName());
                     newSubSkill.setParentSkillId(skillId);
                     Skill savedSubSkill = skillRepository.save(newSubSkill);
+                    publishSkillChanged(savedSubSkill.getId(), SkillChangedEvent.ChangeType.CREATED);
                     updatedSubSkillIds.add(savedSubSkill.getId());
                 }
             }
@@ -229,6 +240,7 @@ public class AdminSkillService {
                     throw new RuntimeException("Cannot delete sub-skill. It is currently in use by engineers.");
                 }
                 skillRepository.deleteById(subSkillId);
+                publishSkillChanged(subSkillId, SkillChangedEvent.ChangeType.DELETED);
             }
         }
 
@@ -259,6 +271,7 @@ public class AdminSkillService {
         subSkill.setName(request.getName());
 
         subSkill = skillRepository.save(subSkill);
+        publishSkillChanged(subSkill.getId(), SkillChangedEvent.ChangeType.UPDATED);
 
         return convertToDTO(subSkill);
     }
@@ -293,10 +306,12 @@ public class AdminSkillService {
         // Delete all sub-skills first (cascade delete)
         for (Skill subSkill : subSkills) {
             skillRepository.deleteById(subSkill.getId());
+            publishSkillChanged(subSkill.getId(), SkillChangedEvent.ChangeType.DELETED);
         }
 
         // Delete parent skill
         skillRepository.deleteById(skillId);
+        publishSkillChanged(skillId, SkillChangedEvent.ChangeType.DELETED);
     }
 
     /**
@@ -318,6 +333,7 @@ public class AdminSkillService {
 
         // Delete sub-skill
         skillRepository.deleteById(subSkillId);
+        publishSkillChanged(subSkillId, SkillChangedEvent.ChangeType.DELETED);
     }
 
     /**
@@ -336,6 +352,13 @@ public class AdminSkillService {
         return !engineerSkills.isEmpty();
     }
 
+    /**
+     * Notify in-memory search structures (typeahead suggestions) of a skill change after commit
+     */
+    private void publishSkillChanged(Integer skillId, SkillChangedEvent.ChangeType changeType) {
+        eventPublisher.publishEvent(new SkillChangedEvent(skillId, changeType));
+    }
+
     /**
      * Convert Skill entity to SkillResponseDTO
      */
@@ -11,6 +11,7 @@ import com.skillbridge.service.common.EmailService;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -39,6 +40,9 @@ public class AdminUserService {
     @Autowired
     private EmailService emailService;
 
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
     /**
      * Get all users with pagination, search, and filter
      */
@@ -183,6 +187,7 @@ public class AdminUserService {
         // Save user to database
         user = userRepository.save(user);
         logger.info("User created successfully. User ID: {}", user.getId());
+        eventPublisher.publishEvent(new AdminDataChangedEvent(AdminDataChangedEvent.DataType.USER, user.getId()));
 
         // Send welcome email asynchronously (non-blocking)
         try {
@@ -207,6 +212,7 @@ public class AdminUserService {
         // Soft delete - set is_active to false
         user.setIsActive(false);
         userRepository.save(user);
+        eventPublisher.publishEvent(new AdminDataChangedEvent(AdminDataChangedEvent.DataType.USER, userId));
     }
 
     /**
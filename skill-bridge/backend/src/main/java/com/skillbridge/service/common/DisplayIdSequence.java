@@ -0,0 +1,114 @@
+package com.skillbridge.service.common;
+
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Display ID Sequence
+ * Allocates the sequential part of display IDs such as CR-YYYY-NN, per prefix and per year, from the
+ * display_id_sequences table. Numbers are reserved in blocks (display-id.block-size) in a short
+ * transaction of their own and handed out from memory, so an ID costs no query most of the time and
+ * two creates (on this or another instance) never get the same number.
+ * Numbers of a block that are not used before a restart are skipped, and with several instances
+ * IDs are unique but not strictly in creation order.
+ */
+@Component
+public class DisplayIdSequence {
+
+    private static final Logger logger = LoggerFactory.getLogger(DisplayIdSequence.class);
+
+    public static final String CHANGE_REQUEST = "CR";
+    public static final String OPPORTUNITY = "OP";
+    public static final String PROPOSAL = "P";
+
+    private static final String ENSURE_ROW = "INSERT INTO display_id_sequences (prefix, seq_year, next_value) " +
+            "VALUES (?, ?, 1) ON DUPLICATE KEY UPDATE next_value = next_value";
+    private static final String LOCK_ROW = "SELECT next_value FROM display_id_sequences " +
+            "WHERE prefix = ? AND seq_year = ? FOR UPDATE";
+    private static final String ADVANCE_ROW = "UPDATE display_id_sequences SET next_value = next_value + ? " +
+            "WHERE prefix = ? AND seq_year = ?";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Value("${display-id.block-size:10}")
+    private int blockSize;
+
+    // prefix-year -> numbers reserved by this instance
+    private final Map<String, Block> blocks = new ConcurrentHashMap<>();
+
+    private TransactionTemplate reserveTransaction;
+
+    @PostConstruct
+    public void init() {
+        reserveTransaction = new TransactionTemplate(transactionManager);
+        // Independent of the caller's transaction: the row lock is held only while reserving,
+        // and a reserved block stays reserved even if the caller rolls back
+        reserveTransaction.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+    }
+
+    /**
+     * Get the next display ID in format PREFIX-YYYY-NN (NN zero-padded to 2 digits)
+     * @param prefix ID prefix, e.g. CHANGE_REQUEST
+     * @param year Year the numbering restarts in
+     */
+    public String next(String prefix, int year) {
+        return String.format("%s-%d-%02d", prefix, year, nextValue(prefix, year));
+    }
+
+    /**
+     * Get the next number of a prefix and year (starting from 1)
+     */
+    public long nextValue(String prefix, int year) {
+        Block block = blocks.computeIfAbsent(prefix + "-" + year, key -> new Block());
+        synchronized (block) {
+            if (block.next >= block.limit) {
+                int size = Math.max(1, blockSize);
+                long start = reserve(prefix, year, size);
+                block.next = start;
+                block.limit = start + size;
+            }
+            return block.next++;
+        }
+    }
+
+    /**
+     * Reserve the next count numbers of a prefix and year
+     * @return First reserved number
+     */
+    private long reserve(String prefix, int year, int count) {
+        Long start = reserveTransaction.execute(status -> {
+            jdbcTemplate.update(ENSURE_ROW, prefix, year);
+            Long next = jdbcTemplate.queryForObject(LOCK_ROW, Long.class, prefix, year);
+            jdbcTemplate.update(ADVANCE_ROW, count, prefix, year);
+            return next;
+        });
+        if (start == null) {
+            throw new IllegalStateException("Display ID sequence not found: " + prefix + "-" + year);
+        }
+        logger.debug("Reserved display IDs {}-{} {}..{}", prefix, year, start, start + count - 1);
+        return start;
+    }
+
+    /**
+     * Numbers [next, limit) reserved and not yet handed out
+     */
+    private static class Block {
+        private long next;
+        private long limit;
+    }
+}
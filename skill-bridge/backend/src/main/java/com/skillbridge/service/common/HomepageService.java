@@ -4,12 +4,25 @@ import com.skillbridge.dto.common.HomepageStatistics;
 import com.skillbridge.dto.engineer.response.EngineerProfile;
 import com.skillbridge.entity.engineer.Engineer;
 import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
 import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
+/**
+ * Homepage Service
+ * Serves the public homepage sections from a TTL cache that is cleared whenever an engineer changes;
+ * concurrent misses of a section share one load
+ */
 @Service
 public class HomepageService {
 
@@ -19,54 +32,75 @@ public class HomepageService {
     @Autowired(required = false)
     private S3Service s3Service;
 
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Value("${homepage.cache.ttl-seconds:300}")
+    private long cacheTtlSeconds;
+
+    // Section key -> cached payload
+    private final Map<String, CachedSection> sectionCache = new ConcurrentHashMap<>();
+
+    // Bumped on every invalidation so that loads started before it are not cached
+    private final AtomicLong cacheGeneration = new AtomicLong();
+
     /**
      * Get homepage statistics (total engineers and customers)
      */
     public HomepageStatistics getHomepageStatistics() {
-        Long totalEngineers = engineerRepository.countByStatus("AVAILABLE");
-        // TODO: Implement customer count when contacts table is created
-        Long totalCustomers = 30L; // Default value for now
-        
-        return new HomepageStatistics(totalEngineers, totalCustomers);
+        return cached("statistics", () -> {
+            Long totalEngineers = engineerRepository.countByStatus("AVAILABLE");
+            // TODO: Implement customer count when contacts table is created
+            Long totalCustomers = 30L; // Default value for now
+
+            return new HomepageStatistics(totalEngineers, totalCustomers);
+        });
     }
 
     /**
      * Get featured engineers for homepage
      */
     public List<EngineerProfile> getFeaturedEngineers() {
-        List<Engineer> engineers = engineerRepository.findFeaturedEngineers();
-        return engineers.stream()
-                .limit(9) // Get 9 engineers total (3 per category)
+        return cached("featured", () -> engineerRepository.findTop9ByStatusOrderByCreatedAtDesc("AVAILABLE").stream()
                 .map(this::convertToProfile)
-                .collect(Collectors.toList());
+                .collect(Collectors.toList()));
     }
 
     /**
      * Get engineers by category
      */
     public List<EngineerProfile> getEngineersByCategory(String category) {
-        List<Engineer> engineers;
-        
-        switch (category.toLowerCase()) {
-            case "web":
-                engineers = engineerRepository.findWebDevelopers();
-                break;
-            case "game":
-                engineers = engineerRepository.findGameDevelopers();
-                break;
-            case "ai-ml":
-            case "aiml":
-                engineers = engineerRepository.findAiMlDevelopers();
-                break;
+        String normalizedCategory = category.toLowerCase();
+        if ("aiml".equals(normalizedCategory)) {
+            normalizedCategory = Engineer.CATEGORY_AI_ML;
+        }
+
+        switch (normalizedCategory) {
+            case Engineer.CATEGORY_WEB:
+            case Engineer.CATEGORY_GAME:
+            case Engineer.CATEGORY_AI_ML:
+                // Category is classified at write time and indexed
+                String categoryKey = normalizedCategory;
+                return cached("category:" + categoryKey, () -> engineerRepository
+                        .findTop3ByStatusAndCategoryOrderByCreatedAtDesc("AVAILABLE", categoryKey).stream()
+                        .map(this::convertToProfile)
+                        .collect(Collectors.toList()));
             default:
-                engineers = engineerRepository.findByCategory(category);
-                break;
+                // Free-form categories are not cached so the cache stays bounded
+                return engineerRepository.findByCategory(category).stream()
+                        .limit(3) // Get 3 engineers per category
+                        .map(this::convertToProfile)
+                        .collect(Collectors.toList());
         }
-        
-        return engineers.stream()
-                .limit(3) // Get 3 engineers per category
-                .map(this::convertToProfile)
-                .collect(Collectors.toList());
+    }
+
+    /**
+     * Clear cached sections once a change to an engineer has been committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngineerChanged(EngineerChangedEvent event) {
+        cacheGeneration.incrementAndGet();
+        sectionCache.clear();
     }
 
     /**
@@ -97,7 +131,7 @@ public class HomepageService {
         EngineerProfile profile = new EngineerProfile();
         profile.setId(engineer.getId());
         profile.setFullName(engineer.getFullName());
-        profile.setCategory(mapCategory(engineer.getPrimarySkill()));
+        profile.setCategory(engineer.getCategory() != null ? engineer.getCategory() : Engineer.CATEGORY_WEB);
         profile.setSeniority(engineer.getSeniority());
         profile.setSalaryExpectation(engineer.getSalaryExpectation());
         profile.setYearsExperience(engineer.getYearsExperience());
@@ -129,30 +163,36 @@ public class HomepageService {
     }
 
     /**
-     * Map primary skill to category
+     * Return the cached value of a section, loading it when missing or older than the TTL
      */
-    private String mapCategory(String primarySkill) {
-        if (primarySkill == null) return "web";
-        
-        String skill = primarySkill.toLowerCase();
-        
-        if (skill.contains("web") || skill.contains("frontend") || skill.contains("backend") ||
-            skill.contains("react") || skill.contains("angular") || skill.contains("vue")) {
-            return "web";
+    @SuppressWarnings("unchecked")
+    private <T> T cached(String key, Supplier<T> loader) {
+        long now = System.currentTimeMillis();
+        CachedSection section = sectionCache.get(key);
+        if (section != null && section.expiresAtMillis > now) {
+            return (T) section.value;
         }
-        
-        if (skill.contains("game") || skill.contains("unity") || skill.contains("unreal") ||
-            skill.contains("godot")) {
-            return "game";
+
+        long generation = cacheGeneration.get();
+        // The generation is part of the key: callers arriving after an invalidation start a fresh load
+        T value = singleFlight.execute("homepage", key + ":" + generation, loader);
+        if (generation == cacheGeneration.get()) {
+            sectionCache.put(key, new CachedSection(value, now + cacheTtlSeconds * 1000));
         }
-        
-        if (skill.contains("ai") || skill.contains("ml") || skill.contains("machine learning") ||
-            skill.contains("artificial intelligence") || skill.contains("deep learning") ||
-            skill.contains("data science")) {
-            return "ai-ml";
+        return value;
+    }
+
+    /**
+     * Cached homepage payload with its expiration time
+     */
+    private static class CachedSection {
+
+        private final Object value;
+        private final long expiresAtMillis;
+
+        private CachedSection(Object value, long expiresAtMillis) {
+            this.value = value;
+            this.expiresAtMillis = expiresAtMillis;
         }
-        
-        return "web"; // Default to web
     }
 }
-
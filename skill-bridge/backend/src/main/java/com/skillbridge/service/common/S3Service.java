@@ -5,6 +5,10 @@ import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
 import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
@@ -13,25 +17,76 @@ import org.springframework.web.multipart.MultipartFile;
 import java.io.IOException;
 import java.io.InputStream;
 import java.net.URL;
+import java.util.Collections;
 import java.util.Date;
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
 
 /**
  * S3 Service
  * Handles file uploads to AWS S3
+ * Presigned download URLs are cached per S3 key and expiration so that repeated requests
+ * reuse the same URL (no re-signing, and browsers can cache the image)
  */
 @Service
 public class S3Service {
 
+    /**
+     * A cached URL is reused until this fraction of its lifetime is left,
+     * so callers always receive a URL valid for most of the requested time
+     */
+    private static final int SAFETY_MARGIN_DIVISOR = 4;
+
     @Autowired(required = false)
     private AmazonS3 amazonS3;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
     @Value("${aws.s3.bucket-name:skillbridge-proposals}")
     private String bucketName;
 
     @Value("${aws.s3.enabled:false}")
     private boolean s3Enabled;
 
+    @Value("${aws.s3.presigned-url-cache.max-size:10000}")
+    private int presignedUrlCacheMaxSize;
+
+    // S3 key + expiration bucket -> cached URL, least recently used entries are evicted first
+    private final Map<String, CachedPresignedUrl> presignedUrlCache = Collections.synchronizedMap(
+            new LinkedHashMap<String, CachedPresignedUrl>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<String, CachedPresignedUrl> eldest) {
+                    return size() > presignedUrlCacheMaxSize;
+                }
+            });
+
+    private final AtomicLong presignedUrlCacheHits = new AtomicLong();
+    private final AtomicLong presignedUrlCacheMisses = new AtomicLong();
+
+    /**
+     * Register presigned URL cache metrics (exposed through /actuator/metrics)
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        FunctionCounter.builder("s3.presigned.url.cache", presignedUrlCacheHits, AtomicLong::get)
+                .tag("result", "hit")
+                .description("Presigned URL requests served from the cache")
+                .register(meterRegistry);
+        FunctionCounter.builder("s3.presigned.url.cache", presignedUrlCacheMisses, AtomicLong::get)
+                .tag("result", "miss")
+                .description("Presigned URL requests that required signing")
+                .register(meterRegistry);
+        Gauge.builder("s3.presigned.url.cache.size", presignedUrlCache, Map::size)
+                .description("Number of cached presigned URLs")
+                .register(meterRegistry);
+    }
+
     /**
      * Upload file to S3
      * @param file MultipartFile to upload
@@ -78,6 +133,7 @@ public class S3Service {
 
     /**
      * Generate presigned URL for downloading file from S3
+     * Returns the cached URL for the same key and expiration while enough of its lifetime is left
      * @param s3Key S3 key of the file
      * @param expirationMinutes Expiration time in minutes (default 10)
      * @return Presigned URL
@@ -87,6 +143,17 @@ public class S3Service {
             throw new RuntimeException("S3 is not configured or enabled");
         }
 
+        String cacheKey = s3Key + "|" + expirationMinutes;
+        long now = System.currentTimeMillis();
+        long safetyMarginMillis = 1000L * 60 * expirationMinutes / SAFETY_MARGIN_DIVISOR;
+
+        CachedPresignedUrl cached = presignedUrlCache.get(cacheKey);
+        if (cached != null && cached.expiresAtMillis - safetyMarginMillis > now) {
+            presignedUrlCacheHits.incrementAndGet();
+            return cached.url;
+        }
+        presignedUrlCacheMisses.incrementAndGet();
+
         Date expiration = new Date();
         long expTimeMillis = expiration.getTime();
         expTimeMillis += 1000L * 60 * expirationMinutes; // Add expiration minutes
@@ -97,7 +164,9 @@ public class S3Service {
                 .withExpiration(expiration);
 
         URL url = amazonS3.generatePresignedUrl(generatePresignedUrlRequest);
-        return url.toString();
+        String presignedUrl = url.toString();
+        presignedUrlCache.put(cacheKey, new CachedPresignedUrl(presignedUrl, expTimeMillis));
+        return presignedUrl;
     }
 
     /**
@@ -116,6 +185,8 @@ public class S3Service {
             return;
         }
 
+        evictPresignedUrls(s3Key);
+
         try {
             amazonS3.deleteObject(bucketName, s3Key);
         } catch (Exception e) {
@@ -181,6 +252,7 @@ public class S3Service {
         try {
             // Extract key from URL
             String key = s3Url.substring(s3Url.indexOf(bucketName) + bucketName.length() + 1);
+            evictPresignedUrls(key);
             amazonS3.deleteObject(bucketName, key);
         } catch (Exception e) {
             // Log error but don't throw
@@ -188,5 +260,42 @@ public class S3Service {
             e.printStackTrace();
         }
     }
-}
 
+    /**
+     * Number of presigned URL requests served from the cache
+     */
+    public long getPresignedUrlCacheHits() {
+        return presignedUrlCacheHits.get();
+    }
+
+    /**
+     * Number of presigned URL requests that required signing
+     */
+    public long getPresignedUrlCacheMisses() {
+        return presignedUrlCacheMisses.get();
+    }
+
+    /**
+     * Drop cached presigned URLs of an S3 key (all expirations)
+     */
+    private void evictPresignedUrls(String s3Key) {
+        String prefix = s3Key + "|";
+        synchronized (presignedUrlCache) {
+            presignedUrlCache.keySet().removeIf(key -> key.startsWith(prefix));
+        }
+    }
+
+    /**
+     * Presigned URL with its absolute expiration time
+     */
+    private static class CachedPresignedUrl {
+
+        private final String url;
+        private final long expiresAtMillis;
+
+        private CachedPresignedUrl(String url, long expiresAtMillis) {
+            this.url = url;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package com.skillbridge.service.common;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.core.env.Environment;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+
+/**
+ * Single Flight
+ * Coalesces concurrent identical reads: the first caller of a key computes the value on its own thread
+ * (in its own transaction) and callers arriving meanwhile wait for that result instead of running the
+ * same queries again. Nothing is kept once the computation ends; caching stays with the callers.
+ * Waiting is bounded per operation name by single-flight.timeout-seconds.&lt;name&gt; (falling back to
+ * single-flight.timeout-seconds.default); a caller that times out computes the value itself.
+ * Calls are exported as the "single.flight.calls" counter (tags: name, outcome = leader, coalesced, timeout).
+ * Shared results must be treated as read-only.
+ */
+@Component
+public class SingleFlight {
+
+    private static final Logger logger = LoggerFactory.getLogger(SingleFlight.class);
+
+    private static final long DEFAULT_TIMEOUT_SECONDS = 10;
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    // Operation name + key -> result of the computation in progress
+    private final Map<String, CompletableFuture<Object>> inFlight = new ConcurrentHashMap<>();
+
+    // Operation name -> resolved wait timeout
+    private final Map<String, Duration> timeouts = new ConcurrentHashMap<>();
+
+    /**
+     * Register metrics (exposed through /actuator/metrics)
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("single.flight.in_flight", inFlight, Map::size)
+            .description("Coalesced computations currently running")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Compute a value, sharing the computation with concurrent callers of the same name and key
+     * @param name Operation name (metric tag and timeout setting), e.g. "sales-summary"
+     * @param key Identifies the result within the operation; must cover everything the result depends on
+     * @param loader Computes the value
+     */
+    @SuppressWarnings("unchecked")
+    public <T> T execute(String name, String key, Supplier<T> loader) {
+        String flightKey = name + ":" + key;
+        CompletableFuture<Object> flight = new CompletableFuture<>();
+        CompletableFuture<Object> leader = inFlight.putIfAbsent(flightKey, flight);
+
+        if (leader == null) {
+            count(name, "leader");
+            try {
+                T value = loader.get();
+                flight.complete(value);
+                return value;
+            } catch (RuntimeException | Error e) {
+                flight.completeExceptionally(e);
+                throw e;
+            } finally {
+                inFlight.remove(flightKey, flight);
+            }
+        }
+
+        Duration timeout = timeoutOf(name);
+        try {
+            T value = (T) leader.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+            count(name, "coalesced");
+            return value;
+        } catch (TimeoutException e) {
+            count(name, "timeout");
+            logger.warn("{} {} still computing after {} ms, computing it again", name, key, timeout.toMillis());
+            return loader.get();
+        } catch (ExecutionException e) {
+            count(name, "coalesced");
+            if (e.getCause() instanceof RuntimeException cause) {
+                throw cause;
+            }
+            if (e.getCause() instanceof Error cause) {
+                throw cause;
+            }
+            throw new RuntimeException(name + " failed", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new RuntimeException("Interrupted while waiting for " + name, e);
+        }
+    }
+
+    /**
+     * Number of computations currently running
+     */
+    public int getInFlightCount() {
+        return inFlight.size();
+    }
+
+    private Duration timeoutOf(String name) {
+        return timeouts.computeIfAbsent(name, operation -> {
+            Long defaultSeconds = environment.getProperty(
+                "single-flight.timeout-seconds.default", Long.class, DEFAULT_TIMEOUT_SECONDS);
+            return Duration.ofSeconds(environment.getProperty(
+                "single-flight.timeout-seconds." + operation, Long.class, defaultSeconds));
+        });
+    }
+
+    private void count(String name, String outcome) {
+        if (meterRegistry != null) {
+            Counter.builder("single.flight.calls")
+                .tag("name", name)
+                .tag("outcome", outcome)
+                .description("Reads through the single-flight layer by outcome")
+                .register(meterRegistry)
+                .increment();
+        }
+    }
+}
@@ -0,0 +1,60 @@
+package com.skillbridge.service.common;
+
+import com.skillbridge.entity.auth.User;
+import com.skillbridge.repository.auth.UserRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * User Batch Loader
+ * Hydrates user names/emails for a page of list rows: the user IDs referenced by the rows are collected
+ * and loaded with one query, and DTOs are then filled from the returned map instead of looking up
+ * each user (client, assignee, creator, ...) row by row.
+ */
+@Component
+public class UserBatchLoader {
+
+    @Autowired
+    private UserRepository userRepository;
+
+    /**
+     * Load the users referenced by the given rows
+     * @param rows Rows of the current page
+     * @param userIdGetters Extract the user IDs a row refers to (null IDs are skipped)
+     * @return User ID -> user; IDs without a user are absent
+     */
+    @SafeVarargs
+    public final <T> Map<Integer, User> loadUsers(Collection<T> rows, Function<T, Integer>... userIdGetters) {
+        Set<Integer> userIds = new LinkedHashSet<>();
+        for (T row : rows) {
+            for (Function<T, Integer> getter : userIdGetters) {
+                Integer userId = getter.apply(row);
+                if (userId != null) {
+                    userIds.add(userId);
+                }
+            }
+        }
+        return loadUsersById(userIds);
+    }
+
+    /**
+     * Load users by ID with a single query
+     * @return User ID -> user; IDs without a user are absent
+     */
+    public Map<Integer, User> loadUsersById(Collection<Integer> userIds) {
+        Set<Integer> ids = userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet());
+        if (ids.isEmpty()) {
+            return Map.of();
+        }
+        return userRepository.findAllById(ids).stream()
+            .collect(Collectors.toMap(User::getId, Function.identity(), (first, second) -> first));
+    }
+}
@@ -8,6 +8,7 @@ import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contract.*;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.*;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -36,6 +37,9 @@ public class ChangeRequestDetailService {
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
     
+    @Autowired
+    private DashboardChangePublisher dashboardChangePublisher;
+    
     @Autowired
     private ChangeRequestAttachmentRepository changeRequestAttachmentRepository;
     
@@ -268,6 +272,7 @@ public class ChangeRequestDetailService {
         // Change status to "Under Review"
         changeRequest.setStatus("Under Review");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Log history
         logHistory(changeRequestId, "Submitted", clientUserId);
@@ -326,6 +331,7 @@ public class ChangeRequestDetailService {
         // Change status to "Active" (after version creation for Retainer SOW)
         changeRequest.setStatus("Active");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Log history
         logHistory(changeRequestId, "Approved", clientUserId);
@@ -476,6 +482,7 @@ public class ChangeRequestDetailService {
         // Change status to "Request for Change"
         changeRequest.setStatus("Request for Change");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Log history with message if provided
         String action = message != null && !message.trim().isEmpty()
@@ -498,6 +505,7 @@ public class ChangeRequestDetailService {
         // Change status to "Terminated"
         changeRequest.setStatus("Terminated");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Log history
         logHistory(changeRequestId, "Terminated", clientUserId);
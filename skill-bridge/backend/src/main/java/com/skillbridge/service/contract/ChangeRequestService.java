@@ -10,6 +10,8 @@ import com.skillbridge.repository.contract.ChangeRequestAttachmentRepository;
 import com.skillbridge.repository.contract.ChangeRequestRepository;
 import com.skillbridge.repository.contract.ContractRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.persistence.EntityNotFoundException;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
@@ -44,6 +46,9 @@ public class ChangeRequestService {
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
     
+    @Autowired
+    private DashboardChangePublisher dashboardChangePublisher;
+    
     @Autowired
     private ChangeRequestAttachmentRepository changeRequestAttachmentRepository;
     
@@ -53,6 +58,9 @@ public class ChangeRequestService {
     @Autowired
     private SOWContractRepository sowContractRepository;
     
+    @Autowired
+    private DisplayIdSequence displayIdSequence;
+    
     @Value("${app.upload.dir:uploads/change-requests}")
     private String uploadDir;
     
@@ -131,6 +139,7 @@ public class ChangeRequestService {
         
         // Save change request
         changeRequest = changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Save attachments
         if (attachments != null && !attachments.isEmpty()) {
@@ -204,6 +213,7 @@ public class ChangeRequestService {
         
         // Save change request
         changeRequest = changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Save attachments
         if (attachments != null && !attachments.isEmpty()) {
@@ -248,15 +258,8 @@ public class ChangeRequestService {
      * Generate change request display ID in format CR-YYYY-NN
      */
     private String generateChangeRequestId() {
-        int year = LocalDateTime.now().getYear();
-        
-        // Count change requests in the same year
-        long countInYear = changeRequestRepository.findAll().stream()
-            .filter(cr -> cr.getCreatedAt() != null && cr.getCreatedAt().getYear() == year)
-            .count();
-        
-        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded)
-        return String.format("CR-%d-%02d", year, countInYear + 1);
+        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded), allocated atomically per year
+        return displayIdSequence.next(DisplayIdSequence.CHANGE_REQUEST, LocalDateTime.now().getYear());
     }
     
     /**
@@ -72,9 +72,6 @@ public class ContractDetailService {
     @Autowired(required = false)
     private com.skillbridge.service.sales.CREventService crEventService;
     
-    @Autowired(required = false)
-    private com.skillbridge.repository.contract.CRBillingEventRepository crBillingEventRepository;
-    
     private final Gson gson = new Gson();
     
     /**
@@ -389,63 +386,19 @@ public class ContractDetailService {
             List<RetainerBillingDetailDTO> billingDetailDTOs = new ArrayList<>();
             
             // Try event-based approach first (if baseline exists)
-            if (sowBaselineService != null && crEventService != null && crBillingEventRepository != null) {
+            if (sowBaselineService != null && crEventService != null) {
                 try {
                     List<com.skillbridge.entity.contract.SOWEngagedEngineerBase> baselineEngineers = 
                         sowBaselineService.getBaselineResources(sow.getId());
                     
                     if (!baselineEngineers.isEmpty()) {
-                        // Event-based: Calculate current billing from baseline + events
-                        List<com.skillbridge.entity.contract.RetainerBillingBase> baselineBillingList = 
-                            sowBaselineService.getBaselineBilling(sow.getId());
-                        
-                        // Get all unique billing months
-                        java.util.Set<LocalDate> billingMonths = new java.util.HashSet<>();
-                        for (com.skillbridge.entity.contract.RetainerBillingBase base : baselineBillingList) {
-                            if (base.getBillingMonth() != null) {
-                                billingMonths.add(base.getBillingMonth());
-                            }
-                        }
-                        
-                        // Get all billing events to find additional months
-                        List<com.skillbridge.entity.contract.CRBillingEvent> allBillingEvents = 
-                            crBillingEventRepository.findApprovedEventsBySowContractId(sow.getId());
-                        for (com.skillbridge.entity.contract.CRBillingEvent event : allBillingEvents) {
-                            if (event.getBillingMonth() != null) {
-                                billingMonths.add(event.getBillingMonth());
-                            }
-                        }
-                        
-                        // Calculate billing for each month (baseline + events)
-                        for (LocalDate month : billingMonths.stream().sorted().collect(Collectors.toList())) {
-                            BigDecimal totalAmount = crEventService.calculateCurrentBilling(sow.getId(), month);
-                            
+                        // Event-based: Calculate current billing from baseline + events (all months in one pass)
+                        for (com.skillbridge.service.sales.CREventService.BillingMonth billing : crEventService.calculateBillingTimeline(sow.getId())) {
                             RetainerBillingDetailDTO billingDTO = new RetainerBillingDetailDTO();
                             billingDTO.setId(null); // No specific ID for calculated billing
-                            billingDTO.setPaymentDate(month != null ? formatDate(month) : null);
-                            billingDTO.setAmount(formatCurrency(totalAmount != null ? totalAmount : BigDecimal.ZERO));
-                            
-                            // Get description from baseline or events
-                            String description = "";
-                            var baselineOpt = baselineBillingList.stream()
-                                .filter(b -> b.getBillingMonth() != null && b.getBillingMonth().equals(month))
-                                .findFirst();
-                            if (baselineOpt.isPresent() && baselineOpt.get().getDescription() != null) {
-                                description = baselineOpt.get().getDescription();
-                            }
-                            
-                            // Add event descriptions
-                            List<com.skillbridge.entity.contract.CRBillingEvent> monthEvents = allBillingEvents.stream()
-                                .filter(e -> e.getBillingMonth() != null && e.getBillingMonth().equals(month))
-                                .collect(Collectors.toList());
-                            if (!monthEvents.isEmpty()) {
-                                if (!description.isEmpty()) description += "; ";
-                                description += monthEvents.stream()
-                                    .map(e -> e.getDescription() != null ? e.getDescription() : "")
-                                    .collect(Collectors.joining("; "));
-                            }
-                            
-                            billingDTO.setDeliveryNote(description);
+                            billingDTO.setPaymentDate(formatDate(billing.getMonth()));
+                            billingDTO.setAmount(formatCurrency(billing.getAmount() != null ? billing.getAmount() : BigDecimal.ZERO));
+                            billingDTO.setDeliveryNote(billing.getDescription()); // Baseline and event descriptions
                             billingDetailDTOs.add(billingDTO);
                         }
                     }
@@ -0,0 +1,106 @@
+package com.skillbridge.service.contract;
+
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.repository.contract.ContractRepository;
+import com.skillbridge.repository.contract.SOWContractRepository;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+
+/**
+ * Contract List Page
+ * One page of MSA and SOW contracts together, newest first, for the sales and client contract lists.
+ * Each table is queried on its own with ORDER BY created_at DESC, id DESC LIMIT offset + size, so that the
+ * (client_id | assignee_user_id, created_at) indexes return the rows in order and the scan stops after them;
+ * both results are merged and the page is cut from the merge. The total is the sum of both tables' counts
+ * (Spring Data skips the COUNT when the first rows already are all of them).
+ * A deep page costs offset + size rows per table.
+ */
+public class ContractListPage {
+
+    static final Sort NEWEST_FIRST = Sort.by(Sort.Order.desc("createdAt"), Sort.Order.desc("id"));
+
+    // Newest first; on equal creation times SOW contracts come before MSAs, then the higher ID first
+    private static final Comparator<Object> MERGE_ORDER = Comparator
+        .comparing(ContractListPage::createdAt, Comparator.nullsLast(Comparator.<LocalDateTime>reverseOrder()))
+        .thenComparing(contract -> contract instanceof SOWContract ? 0 : 1)
+        .thenComparing(ContractListPage::id, Comparator.reverseOrder());
+
+    private final List<Object> contracts;
+    private final long totalElements;
+    private final int size;
+
+    private ContractListPage(List<Object> contracts, long totalElements, int size) {
+        this.contracts = contracts;
+        this.totalElements = totalElements;
+        this.size = size;
+    }
+
+    /**
+     * Read a page of MSA and SOW contracts
+     * @param msaSpec Filter of the MSA contracts, or null to leave MSAs out
+     * @param sowSpec Filter of the SOW contracts, or null to leave SOWs out
+     * @param page Page number (0-based)
+     * @param size Page size
+     */
+    public static ContractListPage fetch(
+        ContractRepository contractRepository,
+        Specification<Contract> msaSpec,
+        SOWContractRepository sowContractRepository,
+        Specification<SOWContract> sowSpec,
+        int page,
+        int size
+    ) {
+        int offset = Math.multiplyExact(page, size);
+        PageRequest firstRows = PageRequest.of(0, Math.addExact(offset, size), NEWEST_FIRST);
+
+        List<Object> merged = new ArrayList<>();
+        long totalElements = 0;
+        if (msaSpec != null) {
+            Page<Contract> msaContracts = contractRepository.findAll(msaSpec, firstRows);
+            merged.addAll(msaContracts.getContent());
+            totalElements += msaContracts.getTotalElements();
+        }
+        if (sowSpec != null) {
+            Page<SOWContract> sowContracts = sowContractRepository.findAll(sowSpec, firstRows);
+            merged.addAll(sowContracts.getContent());
+            totalElements += sowContracts.getTotalElements();
+        }
+
+        merged.sort(MERGE_ORDER);
+        List<Object> pageContracts = offset < merged.size()
+            ? new ArrayList<>(merged.subList(offset, Math.min(merged.size(), offset + size)))
+            : new ArrayList<>();
+        return new ContractListPage(pageContracts, totalElements, size);
+    }
+
+    /**
+     * Contracts of the page in list order: {@link Contract} (MSA) or {@link SOWContract} instances
+     */
+    public List<Object> getContracts() {
+        return contracts;
+    }
+
+    public long getTotalElements() {
+        return totalElements;
+    }
+
+    public int getTotalPages() {
+        return (int) ((totalElements + size - 1) / size);
+    }
+
+    private static LocalDateTime createdAt(Object contract) {
+        return contract instanceof Contract msa ? msa.getCreatedAt() : ((SOWContract) contract).getCreatedAt();
+    }
+
+    private static Integer id(Object contract) {
+        return contract instanceof Contract msa ? msa.getId() : ((SOWContract) contract).getId();
+    }
+}
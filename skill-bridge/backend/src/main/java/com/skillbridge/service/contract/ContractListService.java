@@ -10,20 +10,16 @@ import com.skillbridge.repository.contract.ContractRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
 import com.skillbridge.repository.contract.ProjectCloseRequestRepository;
 import com.skillbridge.repository.contract.ChangeRequestRepository;
+import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
+import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import java.math.BigDecimal;
 import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
-import java.util.stream.Collectors;
 
 /**
  * Contract List Service
@@ -43,7 +39,22 @@ public class ContractListService {
 
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
+
+    // Statuses shown on the client contract list (drafts and internal states are hidden)
+    private static final List<String> CLIENT_VISIBLE_STATUSES = List.of(
+        Contract.ContractStatus.Active.name(),
+        Contract.ContractStatus.Pending.name(),
+        Contract.ContractStatus.Under_Review.name(),
+        Contract.ContractStatus.Request_for_Change.name(),
+        Contract.ContractStatus.Completed.name(),
+        Contract.ContractStatus.Terminated.name()
+    );
     
+    /**
+     * Get the contracts of a client
+     * MSA and SOW contracts are filtered, ordered (newest first) and limited per table in the database,
+     * then merged into the requested page (see ContractListPage).
+     */
     public ContractListResponse getContracts(
         Integer clientUserId,
         String search,
@@ -55,106 +66,93 @@ public class ContractListService {
         // Normalize search query
         String searchQuery = (search != null && !search.trim().isEmpty()) ? search.trim() : null;
         
-        // Normalize type filter
-        boolean filterMSA = (type == null || type.trim().isEmpty() || type.equals("All") || type.equals("MSA"));
-        boolean filterSOW = (type == null || type.trim().isEmpty() || type.equals("All") || type.equals("SOW"));
+        // Normalize type filter ("Fixed Price" or "Retainer" select SOW contracts of that engagement type)
+        boolean allTypes = (type == null || type.trim().isEmpty() || type.equals("All"));
+        boolean filterMSA = allTypes || type.equals("MSA");
+        boolean filterSOW = !filterMSA || allTypes || type.equals("SOW");
+        String engagementTypeFilter = (!allTypes && !type.equals("MSA") && !type.equals("SOW")) ? type : null;
         
-        // Convert status string to enum
-        Contract.ContractStatus msaStatusEnum = null;
-        SOWContract.SOWContractStatus sowStatusEnum = null;
+        // Convert status string to enum name (MSA and SOW contracts share the same status names)
+        String statusName = null;
         if (status != null && !status.trim().isEmpty() && !status.equals("All")) {
             try {
-                String statusStr = status.replace(" ", "_");
-                msaStatusEnum = Contract.ContractStatus.valueOf(statusStr);
-                sowStatusEnum = SOWContract.SOWContractStatus.valueOf(statusStr);
+                statusName = Contract.ContractStatus.valueOf(status.replace(" ", "_")).name();
             } catch (IllegalArgumentException e) {
                 // Invalid status, ignore
             }
         }
         
-        // Define allowed statuses for client contract list
-        List<Contract.ContractStatus> allowedMSAStatuses = List.of(
-            Contract.ContractStatus.Active,
-            Contract.ContractStatus.Pending,
-            Contract.ContractStatus.Under_Review,
-            Contract.ContractStatus.Request_for_Change,
-            Contract.ContractStatus.Completed,
-            Contract.ContractStatus.Terminated
-        );
-        
-        List<SOWContract.SOWContractStatus> allowedSOWStatuses = List.of(
-            SOWContract.SOWContractStatus.Active,
-            SOWContract.SOWContractStatus.Pending,
-            SOWContract.SOWContractStatus.Under_Review,
-            SOWContract.SOWContractStatus.Request_for_Change,
-            SOWContract.SOWContractStatus.Completed,
-            SOWContract.SOWContractStatus.Terminated
-        );
-        
-        // Query MSA contracts
-        List<ContractListItemDTO> msaDTOs = new ArrayList<>();
-        if (filterMSA) {
-            Pageable pageable = PageRequest.of(0, 1000, Sort.by(Sort.Direction.DESC, "createdAt"));
-            Page<Contract> msaPage = contractRepository.findByClientIdWithFilters(
-                clientUserId, searchQuery, msaStatusEnum, pageable
-            );
-            msaDTOs = msaPage.getContent().stream()
-                .filter(contract -> allowedMSAStatuses.contains(contract.getStatus()))
-                .map(contract -> convertMSAToListItemDTO(contract, 0))
-                .collect(Collectors.toList());
-        }
-        
-        // Query SOW contracts
-        List<ContractListItemDTO> sowDTOs = new ArrayList<>();
+        Specification<Contract> msaSpec = filterMSA
+            ? buildListSpecification(clientUserId, searchQuery,
+                CLIENT_VISIBLE_STATUSES.stream().map(Contract.ContractStatus::valueOf).toList(),
+                statusName != null ? Contract.ContractStatus.valueOf(statusName) : null)
+            : null;
+        Specification<SOWContract> sowSpec = null;
         if (filterSOW) {
-            String engagementTypeFilter = null;
-            if (type != null && !type.equals("All") && !type.equals("MSA") && !type.equals("SOW")) {
-                // If type is "Fixed Price" or "Retainer", filter by engagement type
-                engagementTypeFilter = type;
+            sowSpec = buildListSpecification(clientUserId, searchQuery,
+                CLIENT_VISIBLE_STATUSES.stream().map(SOWContract.SOWContractStatus::valueOf).toList(),
+                statusName != null ? SOWContract.SOWContractStatus.valueOf(statusName) : null);
+            if (engagementTypeFilter != null) {
+                sowSpec = sowSpec.and((root, query, cb) -> cb.equal(root.get("engagementType"), engagementTypeFilter));
             }
-            
-            Pageable pageable = PageRequest.of(0, 1000, Sort.by(Sort.Direction.DESC, "createdAt"));
-            Page<SOWContract> sowPage = sowContractRepository.findByClientIdWithFilters(
-                clientUserId, searchQuery, sowStatusEnum, engagementTypeFilter, pageable
-            );
-            sowDTOs = sowPage.getContent().stream()
-                .filter(sow -> allowedSOWStatuses.contains(sow.getStatus()))
-                .map(sow -> convertSOWToListItemDTO(sow, 0))
-                .collect(Collectors.toList());
         }
-        
-        // Merge and sort by created date
-        List<ContractListItemDTO> allDTOs = new ArrayList<>();
-        allDTOs.addAll(msaDTOs);
-        allDTOs.addAll(sowDTOs);
-        allDTOs.sort(Comparator.comparing((ContractListItemDTO dto) -> {
-            // Parse createdAt string to compare
-            if (dto.getCreatedAt() == null) return "";
-            return dto.getCreatedAt();
-        }).reversed());
-        
-        // Apply pagination manually
-        int totalElements = allDTOs.size();
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        int startIndex = page * size;
-        int endIndex = Math.min(startIndex + size, totalElements);
-        
+        ContractListPage listPage = ContractListPage.fetch(
+            contractRepository, msaSpec, sowContractRepository, sowSpec, page, size);
+
         List<ContractListItemDTO> paginatedDTOs = new ArrayList<>();
-        for (int i = startIndex; i < endIndex; i++) {
-            ContractListItemDTO dto = allDTOs.get(i);
-            dto.setNo(i + 1);
-            paginatedDTOs.add(dto);
+        int no = page * size + 1;
+        for (Object contract : listPage.getContracts()) {
+            paginatedDTOs.add(contract instanceof Contract msa
+                ? convertMSAToListItemDTO(msa, no++)
+                : convertSOWToListItemDTO((SOWContract) contract, no++));
         }
         
         // Build response
         ContractListResponse response = new ContractListResponse();
         response.setContracts(paginatedDTOs);
         response.setCurrentPage(page);
-        response.setTotalPages(totalPages);
-        response.setTotalElements(totalElements);
+        response.setTotalPages(listPage.getTotalPages());
+        response.setTotalElements(listPage.getTotalElements());
         
         return response;
     }
+
+    /**
+     * Build JPA Specification over the MSA (contracts) or SOW (sow_contracts) contracts of a client;
+     * both entities have the filtered attributes
+     * @param visibleStatuses status enum values shown on the client contract list
+     * @param status status enum value of the entity, or null for all visible statuses
+     */
+    private <T> Specification<T> buildListSpecification(
+        Integer clientUserId,
+        String search,
+        List<? extends Enum<?>> visibleStatuses,
+        Enum<?> status
+    ) {
+        return (root, query, cb) -> {
+            List<Predicate> predicates = new ArrayList<>();
+            predicates.add(cb.equal(root.get("clientId"), clientUserId));
+
+            // Only statuses visible on the client contract list
+            predicates.add(root.get("status").in(visibleStatuses));
+
+            // Search in contract name, contract ID and assignee
+            if (search != null) {
+                String searchPattern = "%" + search + "%";
+                predicates.add(cb.or(
+                    cb.like(root.get("contractName"), searchPattern),
+                    cb.like(root.get("id").as(String.class), searchPattern),
+                    cb.like(root.get("assigneeId"), searchPattern)
+                ));
+            }
+
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
+            }
+
+            return cb.and(predicates.toArray(new Predicate[0]));
+        };
+    }
     
     private ContractListItemDTO convertMSAToListItemDTO(Contract contract, int no) {
         ContractListItemDTO dto = new ContractListItemDTO();
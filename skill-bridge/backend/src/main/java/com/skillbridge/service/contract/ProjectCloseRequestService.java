@@ -7,6 +7,7 @@ import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contract.*;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.*;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
@@ -35,6 +36,9 @@ public class ProjectCloseRequestService {
     @Autowired
     private ContractHistoryRepository contractHistoryRepository;
     
+    @Autowired
+    private DashboardChangePublisher dashboardChangePublisher;
+    
     /**
      * Validate if a Close Request can be created for a SOW
      */
@@ -97,6 +101,7 @@ public class ProjectCloseRequestService {
         
         // Save
         closeRequest = projectCloseRequestRepository.save(closeRequest);
+        dashboardChangePublisher.closeRequestChanged(closeRequest);
         
         // Create audit log
         createHistoryEntry(sowId, "CloseRequestCreated", 
@@ -181,6 +186,7 @@ public class ProjectCloseRequestService {
         // Update SOW status to Completed
         sow.setStatus(SOWContract.SOWContractStatus.Completed);
         sow = sowContractRepository.save(sow);
+        dashboardChangePublisher.closeRequestChanged(closeRequest, sow);
         
         // Create audit log
         createHistoryEntry(sow.getId(), "CloseRequestApprovedByClient", 
@@ -238,6 +244,7 @@ public class ProjectCloseRequestService {
         closeRequest.setStatus(ProjectCloseRequest.ProjectCloseRequestStatus.Rejected);
         closeRequest.setClientRejectReason(request.getReason());
         closeRequest = projectCloseRequestRepository.save(closeRequest);
+        dashboardChangePublisher.closeRequestChanged(closeRequest, sow);
         
         // SOW status remains Active (no change)
         
@@ -300,6 +307,7 @@ public class ProjectCloseRequestService {
         closeRequest.setStatus(ProjectCloseRequest.ProjectCloseRequestStatus.Pending);
         // Keep client_reject_reason for history (optional)
         closeRequest = projectCloseRequestRepository.save(closeRequest);
+        dashboardChangePublisher.closeRequestChanged(closeRequest);
         
         // Create audit log
         createHistoryEntry(closeRequest.getSowId(), "CloseRequestResubmitted", 
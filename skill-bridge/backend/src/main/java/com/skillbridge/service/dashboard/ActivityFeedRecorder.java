@@ -0,0 +1,226 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.contact.Contact;
+import com.skillbridge.entity.contract.ChangeRequest;
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.entity.dashboard.ActivityEvent;
+import com.skillbridge.entity.proposal.Proposal;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Activity Feed Recorder
+ * Appends to the activity stream (activity_events) whenever a contact, proposal, MSA/SOW contract or
+ * change request is created or changes status, as reported by {@link DashboardEntityListener}.
+ * Events are written with JDBC on the transaction's own connection, because the entity manager must not
+ * be used while it is flushing; they commit or roll back with the change.
+ * Contact, proposal and contract events are also published as {@link DashboardChangedEvent}s for the
+ * dashboard streams; change requests publish their own through {@link DashboardChangePublisher}.
+ * Events keep the client and assignee of the moment they were recorded and are not re-keyed when an item
+ * is reassigned: the stream is append-only history, so a Sales Rep's feed shows what happened to items
+ * while they were assigned to them, and the new assignee sees the events from the reassignment on.
+ */
+@Component
+public class ActivityFeedRecorder {
+
+    private static final String INSERT_EVENT = "INSERT INTO activity_events " +
+            "(activity_type, action, entity_type, entity_id, reference, status, description, " +
+            "client_user_id, assignee_user_id, occurred_at) VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Record the creation of an entity (the generated ID is available after the insert)
+     */
+    public void recordCreated(Object entity) {
+        if (entity instanceof Contact contact) {
+            append(ActivityEvent.TYPE_CONTACT, ActivityEvent.ACTION_CREATED, "contact", contact.getId(),
+                    contact.getTitle(), contact.getStatus(),
+                    String.format("Contact %s created", contact.getTitle() != null ? contact.getTitle() : "request"),
+                    contact.getClientUserId(), contact.getAssigneeUserId(), contact.getCreatedAt());
+        } else if (entity instanceof Proposal proposal) {
+            ProposalOwner owner = findProposalOwner(proposal);
+            append(ActivityEvent.TYPE_PROPOSAL, ActivityEvent.ACTION_CREATED, "proposal", proposal.getId(),
+                    proposal.getTitle(), proposal.getStatus(),
+                    String.format("Proposal %s sent for %s.",
+                            proposal.getTitle() != null ? proposal.getTitle() : "v" + proposal.getId(),
+                            owner.contactTitle != null ? owner.contactTitle : "project"),
+                    owner.clientUserId, owner.assigneeUserId, proposal.getCreatedAt());
+        } else if (entity instanceof Contract contract) {
+            append(ActivityEvent.TYPE_CONTRACT, ActivityEvent.ACTION_CREATED, "contract", contract.getId(),
+                    contract.getContractName(), contract.getStatus() != null ? contract.getStatus().name() : null,
+                    String.format("Contract %s signed by client.", contractName(contract)),
+                    contract.getClientId(), contract.getAssigneeUserId(), contract.getCreatedAt());
+        } else if (entity instanceof SOWContract contract) {
+            append(ActivityEvent.TYPE_CONTRACT, ActivityEvent.ACTION_CREATED, "contract", contract.getId(),
+                    contract.getContractName(), contract.getStatus() != null ? contract.getStatus().name() : null,
+                    String.format("Contract %s signed by client.", contractName(contract)),
+                    contract.getClientId(), contract.getAssigneeUserId(), contract.getCreatedAt());
+        } else if (entity instanceof ChangeRequest cr) {
+            Integer[] owner = findChangeRequestOwner(cr);
+            String statusText = cr.getStatus() != null ? " - " + cr.getStatus() : "";
+            append(ActivityEvent.TYPE_CHANGE_REQUEST, ActivityEvent.ACTION_CREATED, "changeRequest", cr.getId(),
+                    changeRequestReference(cr), cr.getStatus(),
+                    String.format("CR-%s created (%s)%s.", changeRequestReference(cr),
+                            cr.getTitle() != null ? cr.getTitle() : "Change Request", statusText),
+                    owner[0], owner[1], cr.getCreatedAt());
+        }
+    }
+
+    /**
+     * Record a status change of an entity against its stored row (the update is not executed yet)
+     */
+    public void recordStatusChange(Object entity, StoredEntityRow stored) {
+        if (entity instanceof Contact contact) {
+            if (statusChanged(stored, contact.getStatus())) {
+                append(ActivityEvent.TYPE_CONTACT, ActivityEvent.ACTION_STATUS_CHANGED, "contact", contact.getId(),
+                        contact.getTitle(), contact.getStatus(),
+                        String.format("Contact %s moved to %s.",
+                                contact.getTitle() != null ? contact.getTitle() : "request", contact.getStatus()),
+                        contact.getClientUserId(), contact.getAssigneeUserId(), null);
+            }
+        } else if (entity instanceof Proposal proposal) {
+            if (statusChanged(stored, proposal.getStatus())) {
+                ProposalOwner owner = findProposalOwner(proposal);
+                append(ActivityEvent.TYPE_PROPOSAL, ActivityEvent.ACTION_STATUS_CHANGED, "proposal", proposal.getId(),
+                        proposal.getTitle(), proposal.getStatus(),
+                        String.format("Proposal %s moved to %s.",
+                                proposal.getTitle() != null ? proposal.getTitle() : "v" + proposal.getId(),
+                                proposal.getStatus()),
+                        owner.clientUserId, owner.assigneeUserId, null);
+            }
+        } else if (entity instanceof Contract contract) {
+            String status = contract.getStatus() != null ? contract.getStatus().name() : null;
+            if (statusChanged(stored, status)) {
+                append(ActivityEvent.TYPE_CONTRACT, ActivityEvent.ACTION_STATUS_CHANGED, "contract", contract.getId(),
+                        contract.getContractName(), status,
+                        String.format("Contract %s moved to %s.", contractName(contract), status),
+                        contract.getClientId(), contract.getAssigneeUserId(), null);
+            }
+        } else if (entity instanceof SOWContract contract) {
+            String status = contract.getStatus() != null ? contract.getStatus().name() : null;
+            if (statusChanged(stored, status)) {
+                append(ActivityEvent.TYPE_CONTRACT, ActivityEvent.ACTION_STATUS_CHANGED, "contract", contract.getId(),
+                        contract.getContractName(), status,
+                        String.format("Contract %s moved to %s.", contractName(contract), status),
+                        contract.getClientId(), contract.getAssigneeUserId(), null);
+            }
+        } else if (entity instanceof ChangeRequest cr) {
+            if (statusChanged(stored, cr.getStatus())) {
+                Integer[] owner = findChangeRequestOwner(cr);
+                append(ActivityEvent.TYPE_CHANGE_REQUEST, ActivityEvent.ACTION_STATUS_CHANGED, "changeRequest",
+                        cr.getId(), changeRequestReference(cr), cr.getStatus(),
+                        String.format("CR-%s moved to %s.", changeRequestReference(cr), cr.getStatus()),
+                        owner[0], owner[1], null);
+            }
+        }
+    }
+
+    private void append(String activityType, String action, String entityType, Integer entityId,
+                        String reference, String status, String description,
+                        Integer clientUserId, Integer assigneeUserId, LocalDateTime occurredAt) {
+        if (entityId == null) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_EVENT, activityType, action, entityType, entityId,
+                truncate(reference, 255), status, truncate(description, 500), clientUserId, assigneeUserId,
+                Timestamp.valueOf(occurredAt != null ? occurredAt : LocalDateTime.now()));
+        if (!DashboardChangedEvent.TYPE_CHANGE_REQUEST.equals(entityType)) {
+            eventPublisher.publishEvent(
+                    new DashboardChangedEvent(entityType, entityId, status, clientUserId, assigneeUserId));
+        }
+    }
+
+    private static boolean statusChanged(StoredEntityRow stored, String newStatus) {
+        // Status columns use a case-insensitive collation, so a case-only change is not a transition
+        return newStatus != null && stored.getStatus() != null && !stored.getStatus().equalsIgnoreCase(newStatus);
+    }
+
+    /**
+     * Client and assignee of a change request are those of its SOW (or MSA) contract
+     */
+    private Integer[] findChangeRequestOwner(ChangeRequest cr) {
+        String sql;
+        Integer contractId;
+        if (cr.getSowContractId() != null) {
+            sql = "SELECT client_id, assignee_user_id FROM sow_contracts WHERE id = ?";
+            contractId = cr.getSowContractId();
+        } else if (cr.getContractId() != null) {
+            sql = "SELECT client_id, assignee_user_id FROM contracts WHERE id = ?";
+            contractId = cr.getContractId();
+        } else {
+            return new Integer[2];
+        }
+        List<Map<String, Object>> rows = jdbcTemplate.queryForList(sql, contractId);
+        if (rows.isEmpty()) {
+            return new Integer[2];
+        }
+        return new Integer[] {toInteger(rows.get(0).get("client_id")), toInteger(rows.get(0).get("assignee_user_id"))};
+    }
+
+    /**
+     * Client of a proposal comes from its contact (directly or through the opportunity),
+     * the assignee from its opportunity
+     */
+    private ProposalOwner findProposalOwner(Proposal proposal) {
+        ProposalOwner owner = new ProposalOwner();
+        Integer contactId = proposal.getContactId();
+        if (proposal.getOpportunityId() != null) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT contact_id, assignee_user_id FROM opportunities WHERE id = ?", proposal.getOpportunityId());
+            if (!rows.isEmpty()) {
+                owner.assigneeUserId = toInteger(rows.get(0).get("assignee_user_id"));
+                if (contactId == null) {
+                    contactId = toInteger(rows.get(0).get("contact_id"));
+                }
+            }
+        }
+        if (contactId != null) {
+            List<Map<String, Object>> rows = jdbcTemplate.queryForList(
+                    "SELECT client_user_id, title FROM contacts WHERE id = ?", contactId);
+            if (!rows.isEmpty()) {
+                owner.clientUserId = toInteger(rows.get(0).get("client_user_id"));
+                owner.contactTitle = (String) rows.get(0).get("title");
+            }
+        }
+        return owner;
+    }
+
+    private static String contractName(Contract contract) {
+        return contract.getContractName() != null ? contract.getContractName() : "MSA-" + contract.getId();
+    }
+
+    private static String contractName(SOWContract contract) {
+        return contract.getContractName() != null ? contract.getContractName() : "SOW-" + contract.getId();
+    }
+
+    private static String changeRequestReference(ChangeRequest cr) {
+        return cr.getChangeRequestId() != null ? cr.getChangeRequestId() : String.valueOf(cr.getId());
+    }
+
+    private static Integer toInteger(Object value) {
+        return value instanceof Number number ? number.intValue() : null;
+    }
+
+    private static String truncate(String value, int maxLength) {
+        return value != null && value.length() > maxLength ? value.substring(0, maxLength) : value;
+    }
+
+    private static class ProposalOwner {
+        private Integer clientUserId;
+        private Integer assigneeUserId;
+        private String contactTitle;
+    }
+}
@@ -0,0 +1,85 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.dashboard.ActivityEvent;
+import com.skillbridge.repository.dashboard.ActivityEventRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Activity Feed Service
+ * Reads the activity stream (written by {@link ActivityFeedRecorder}) for the dashboards.
+ * Pages are requested with the ID of the last event of the previous page as cursor;
+ * the cursor's (occurredAt, id) position is then used for a keyset query.
+ */
+@Service
+@Transactional(readOnly = true)
+public class ActivityFeedService {
+
+    @Autowired
+    private ActivityEventRepository activityEventRepository;
+
+    /**
+     * Get a page of a client's activity, newest first
+     * @param clientUserId Client user ID
+     * @param before ID of the last event of the previous page (null for the first page)
+     * @param limit Page size
+     * @return Events (empty when the cursor does not exist)
+     */
+    public List<ActivityEvent> getClientFeed(Integer clientUserId, Long before, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        if (before == null) {
+            return activityEventRepository.findClientFeed(clientUserId, page);
+        }
+        return findCursor(before)
+                .map(cursor -> activityEventRepository.findClientFeedBefore(
+                        clientUserId, cursor.getOccurredAt(), cursor.getId(), page))
+                .orElse(List.of());
+    }
+
+    /**
+     * Get a page of one kind of activity, newest first
+     * @param assigneeUserId Assignee whose activity is read (null for all assignees)
+     * @param activityType Activity type (see ActivityEvent.TYPE_*)
+     * @param action Action (see ActivityEvent.ACTION_*)
+     * @param before ID of the last event of the previous page (null for the first page)
+     * @param limit Page size
+     * @return Events (empty when the cursor does not exist)
+     */
+    public List<ActivityEvent> getFeed(Integer assigneeUserId, String activityType, String action,
+                                       Long before, int limit) {
+        Pageable page = PageRequest.of(0, limit);
+        if (before == null) {
+            return assigneeUserId != null
+                    ? activityEventRepository.findAssigneeFeed(assigneeUserId, activityType, action, page)
+                    : activityEventRepository.findFeed(activityType, action, page);
+        }
+        return findCursor(before)
+                .map(cursor -> assigneeUserId != null
+                        ? activityEventRepository.findAssigneeFeedBefore(assigneeUserId, activityType, action,
+                                cursor.getOccurredAt(), cursor.getId(), page)
+                        : activityEventRepository.findFeedBefore(activityType, action,
+                                cursor.getOccurredAt(), cursor.getId(), page))
+                .orElse(List.of());
+    }
+
+    /**
+     * Get the cursor for the page following the given one
+     * @return ID of the last event, or null when the page is the last one
+     */
+    public static Long nextCursor(List<ActivityEvent> events, int limit) {
+        if (events.isEmpty() || events.size() < limit) {
+            return null;
+        }
+        return events.get(events.size() - 1).getId();
+    }
+
+    private Optional<ActivityEvent> findCursor(Long before) {
+        return activityEventRepository.findById(before);
+    }
+}
@@ -0,0 +1,80 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.contract.ChangeRequest;
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.ProjectCloseRequest;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.repository.contract.ContractRepository;
+import com.skillbridge.repository.contract.SOWContractRepository;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * Dashboard Change Publisher
+ * Used by the change request and project close request write paths to publish a
+ * {@link DashboardChangedEvent}, resolving the client and assignee from the owning contract.
+ * Listeners receive the event after the transaction commits.
+ */
+@Component
+public class DashboardChangePublisher {
+
+    @Autowired
+    private ContractRepository contractRepository;
+
+    @Autowired
+    private SOWContractRepository sowContractRepository;
+
+    @Autowired
+    private ApplicationEventPublisher eventPublisher;
+
+    /**
+     * Publish the current state of a change request (client and assignee are those of its SOW or MSA)
+     */
+    public void changeRequestChanged(ChangeRequest changeRequest) {
+        Integer clientUserId = null;
+        Integer assigneeUserId = null;
+        if (changeRequest.getSowContractId() != null) {
+            SOWContract sow = sowContractRepository.findById(changeRequest.getSowContractId()).orElse(null);
+            if (sow != null) {
+                clientUserId = sow.getClientId();
+                assigneeUserId = sow.getAssigneeUserId();
+            }
+        } else if (changeRequest.getContractId() != null) {
+            Contract msa = contractRepository.findById(changeRequest.getContractId()).orElse(null);
+            if (msa != null) {
+                clientUserId = msa.getClientId();
+                assigneeUserId = msa.getAssigneeUserId();
+            }
+        }
+        publish(DashboardChangedEvent.TYPE_CHANGE_REQUEST, changeRequest.getId(), changeRequest.getStatus(),
+                clientUserId, assigneeUserId);
+    }
+
+    /**
+     * Publish the current state of a project close request, loading its SOW
+     */
+    public void closeRequestChanged(ProjectCloseRequest closeRequest) {
+        SOWContract sow = closeRequest.getSowId() != null
+                ? sowContractRepository.findById(closeRequest.getSowId()).orElse(null)
+                : null;
+        closeRequestChanged(closeRequest, sow);
+    }
+
+    /**
+     * Publish the current state of a project close request (client and assignee are those of its SOW)
+     */
+    public void closeRequestChanged(ProjectCloseRequest closeRequest, SOWContract sow) {
+        publish(DashboardChangedEvent.TYPE_CLOSE_REQUEST, closeRequest.getId(),
+                closeRequest.getStatus() != null ? closeRequest.getStatus().name() : null,
+                sow != null ? sow.getClientId() : null,
+                sow != null ? sow.getAssigneeUserId() : null);
+    }
+
+    public void publish(String entityType, Integer entityId, String status, Integer clientUserId, Integer assigneeUserId) {
+        if (entityId == null) {
+            return;
+        }
+        eventPublisher.publishEvent(new DashboardChangedEvent(entityType, entityId, status, clientUserId, assigneeUserId));
+    }
+}
@@ -0,0 +1,60 @@
+package com.skillbridge.service.dashboard;
+
+/**
+ * Dashboard Changed Event
+ * Published whenever a contact, proposal, contract, change request or project close request
+ * is created or changes state, carrying the client and assignee it belongs to so that
+ * {@link DashboardStreamService} can push it to the dashboards showing it
+ */
+public class DashboardChangedEvent {
+
+    public static final String TYPE_CONTACT = "contact";
+    public static final String TYPE_PROPOSAL = "proposal";
+    public static final String TYPE_CONTRACT = "contract";
+    public static final String TYPE_CHANGE_REQUEST = "changeRequest";
+    public static final String TYPE_CLOSE_REQUEST = "closeRequest";
+
+    private final String entityType;
+    private final Integer entityId;
+    private final String status;
+    private final Integer clientUserId;
+    private final Integer assigneeUserId;
+
+    public DashboardChangedEvent(String entityType, Integer entityId, String status,
+                                 Integer clientUserId, Integer assigneeUserId) {
+        this.entityType = entityType;
+        this.entityId = entityId;
+        this.status = status;
+        this.clientUserId = clientUserId;
+        this.assigneeUserId = assigneeUserId;
+    }
+
+    public String getEntityType() {
+        return entityType;
+    }
+
+    public Integer getEntityId() {
+        return entityId;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getClientUserId() {
+        return clientUserId;
+    }
+
+    public Integer getAssigneeUserId() {
+        return assigneeUserId;
+    }
+
+    @Override
+    public String toString() {
+        return "DashboardChangedEvent{" +
+                "entityType='" + entityType + '\'' +
+                ", entityId=" + entityId +
+                ", status='" + status + '\'' +
+                '}';
+    }
+}
@@ -0,0 +1,210 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.contact.Contact;
+import com.skillbridge.entity.contract.ChangeRequest;
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.entity.opportunity.Opportunity;
+import com.skillbridge.entity.proposal.Proposal;
+import com.skillbridge.service.sales.RevenueRollupUpdater;
+import com.skillbridge.service.sales.SalesDashboardCounterUpdater;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.PostPersist;
+import jakarta.persistence.PreRemove;
+import jakarta.persistence.PreUpdate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Dashboard Entity Listener
+ * The one JPA entity listener of the entities shown on the client and sales dashboards (contacts,
+ * opportunities, proposals, MSA/SOW contracts and change requests), whichever service performs the write.
+ * Before an update or delete executes it reads the stored row once (a JPA listener gets no previous state,
+ * and the primary-key read is of the row the transaction is about to lock and write anyway) and hands it to
+ * the activity feed, the sales dashboard counters and the revenue rollup, and marks the cached responses of
+ * the dashboards showing the entity stale once the transaction commits. Reads and writes use JDBC on the transaction's own connection, because the
+ * entity manager must not be used while it is flushing. These read models are secondary: a failure is
+ * logged and never fails the business write, counters and rollup are repaired by their rebuild. Failures
+ * are counted in the "dashboard.listener.failures" metric (tagged by target) so that drift is visible.
+ * Instantiated by Hibernate through Spring's bean container, which injects the dependencies.
+ */
+public class DashboardEntityListener {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardEntityListener.class);
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private ActivityFeedRecorder activityFeedRecorder;
+
+    @Autowired
+    private SalesDashboardCounterUpdater salesDashboardCounterUpdater;
+
+    @Autowired
+    private RevenueRollupUpdater revenueRollupUpdater;
+
+    @Autowired
+    private DashboardResponseCache dashboardResponseCache;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Record and count a new entity (the generated ID is available after the insert)
+     */
+    @PostPersist
+    public void onCreated(Object entity) {
+        dispatch("activity", entity, () -> activityFeedRecorder.recordCreated(entity));
+        dispatch("counters", entity, () -> salesDashboardCounterUpdater.onCreated(entity));
+        dispatch("revenue", entity, () -> revenueRollupUpdater.onCreated(entity));
+        markChanged(entity, null);
+    }
+
+    /**
+     * Compare the entity with the row still stored (the update is not executed yet)
+     */
+    @PreUpdate
+    public void onUpdating(Object entity) {
+        StoredEntityRow stored = readStoredRow(entity);
+        if (stored == null) {
+            // Previous client and assignee unknown: every dashboard is stale
+            dashboardResponseCache.markChanged();
+            return;
+        }
+        dispatch("activity", entity, () -> activityFeedRecorder.recordStatusChange(entity, stored));
+        dispatch("counters", entity, () -> salesDashboardCounterUpdater.onUpdating(entity, stored));
+        dispatch("revenue", entity, () -> revenueRollupUpdater.onUpdating(entity, stored));
+        markChanged(entity, stored);
+    }
+
+    /**
+     * Retract the entity as still stored (the delete is not executed yet)
+     */
+    @PreRemove
+    public void onRemoving(Object entity) {
+        StoredEntityRow stored = readStoredRow(entity);
+        if (stored == null) {
+            dashboardResponseCache.markChanged();
+            return;
+        }
+        dispatch("counters", entity, () -> salesDashboardCounterUpdater.onRemoving(entity, stored));
+        dispatch("revenue", entity, () -> revenueRollupUpdater.onRemoving(entity, stored));
+        markChanged(entity, stored);
+    }
+
+    /**
+     * Mark the dashboards of the entity's client and of its assignees (before and after the change) stale
+     * once the transaction commits. Proposals and change requests are assigned through their opportunity or
+     * contract, known from the stored row only; a new one marks every Sales Rep dashboard stale.
+     */
+    private void markChanged(Object entity, StoredEntityRow stored) {
+        Integer clientUserId = null;
+        Integer assigneeUserId = null;
+        if (entity instanceof Contact contact) {
+            clientUserId = contact.getClientUserId();
+            assigneeUserId = contact.getAssigneeUserId();
+        } else if (entity instanceof Opportunity opportunity) {
+            assigneeUserId = opportunity.getAssigneeUserId();
+        } else if (entity instanceof Contract contract) {
+            clientUserId = contract.getClientId();
+            assigneeUserId = contract.getAssigneeUserId();
+        } else if (entity instanceof SOWContract contract) {
+            clientUserId = contract.getClientId();
+            assigneeUserId = contract.getAssigneeUserId();
+        } else if (stored == null) {
+            dashboardResponseCache.markChanged(null, null);
+            return;
+        }
+        dashboardResponseCache.markChanged(clientUserId,
+                Arrays.asList(assigneeUserId, stored != null ? stored.getAssigneeUserId() : null));
+    }
+
+    private void dispatch(String target, Object entity, Runnable update) {
+        try {
+            update.run();
+        } catch (DataAccessException e) {
+            logger.warn("Failed to update {} for {}", target, entity.getClass().getSimpleName(), e);
+            countFailure(target);
+        }
+    }
+
+    private void countFailure(String target) {
+        if (meterRegistry == null) {
+            return;
+        }
+        Counter.builder("dashboard.listener.failures")
+                .tag("target", target)
+                .description("Dashboard read model updates skipped because of a database error")
+                .register(meterRegistry)
+                .increment();
+    }
+
+    /**
+     * Read the stored row of the entity with a single primary-key query
+     * @return Stored row, or null for a new or unknown entity or when the read failed
+     */
+    private StoredEntityRow readStoredRow(Object entity) {
+        String sql;
+        Integer id;
+        if (entity instanceof Contact contact) {
+            sql = "SELECT status, assignee_user_id FROM contacts WHERE id = ?";
+            id = contact.getId();
+        } else if (entity instanceof Opportunity opportunity) {
+            sql = "SELECT status, assignee_user_id FROM opportunities WHERE id = ?";
+            id = opportunity.getId();
+        } else if (entity instanceof Proposal proposal) {
+            sql = "SELECT p.status, o.assignee_user_id FROM proposals p " +
+                  "LEFT JOIN opportunities o ON o.id = p.opportunity_id WHERE p.id = ?";
+            id = proposal.getId();
+        } else if (entity instanceof Contract contract) {
+            sql = "SELECT status, assignee_user_id, value, period_start, period_end, 'MSA' " +
+                  "FROM contracts WHERE id = ?";
+            id = contract.getId();
+        } else if (entity instanceof SOWContract contract) {
+            sql = "SELECT status, assignee_user_id, value, period_start, period_end, engagement_type " +
+                  "FROM sow_contracts WHERE id = ?";
+            id = contract.getId();
+        } else if (entity instanceof ChangeRequest cr) {
+            sql = "SELECT cr.status, CASE WHEN cr.sow_contract_id IS NOT NULL " +
+                  "THEN s.assignee_user_id ELSE m.assignee_user_id END FROM change_requests cr " +
+                  "LEFT JOIN sow_contracts s ON s.id = cr.sow_contract_id " +
+                  "LEFT JOIN contracts m ON m.id = cr.contract_id WHERE cr.id = ?";
+            id = cr.getId();
+        } else {
+            return null;
+        }
+        if (id == null) {
+            return null;
+        }
+
+        try {
+            List<StoredEntityRow> rows = jdbcTemplate.query(sql, (rs, rowNum) -> {
+                if (rs.getMetaData().getColumnCount() == 2) {
+                    return new StoredEntityRow(rs.getString(1), rs.getObject(2, Integer.class),
+                            null, null, null, null);
+                }
+                return new StoredEntityRow(rs.getString(1), rs.getObject(2, Integer.class), rs.getBigDecimal(3),
+                        toLocalDate(rs.getDate(4)), toLocalDate(rs.getDate(5)), rs.getString(6));
+            }, id);
+            return rows.isEmpty() ? null : rows.get(0);
+        } catch (DataAccessException e) {
+            logger.warn("Failed to read stored {} {}", entity.getClass().getSimpleName(), id, e);
+            countFailure("storedRow");
+            return null;
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+}
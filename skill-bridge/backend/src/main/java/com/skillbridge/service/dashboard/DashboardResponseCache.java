@@ -0,0 +1,198 @@
+package com.skillbridge.service.dashboard;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard Response Cache
+ * Per-user cache of dashboard payloads stamped with the data version of the dashboard's scope:
+ * {@link #SCOPE_ALL} for Sales Managers, {@link #assigneeScope} for a Sales Rep and {@link #clientScope}
+ * for a client. When a contact, opportunity, proposal, contract or change request is written, the
+ * versions of the scopes it belongs to are bumped after commit (see {@link DashboardEntityListener}),
+ * so a write only invalidates the dashboards that show it. When the client or assignee of a write is
+ * not known without an extra query, every client or every assignee scope is bumped instead.
+ * A cached payload is reused while its scope version is unchanged and it is younger than the TTL
+ * (payloads also hold time-relative values such as "5 min ago"); its ETag lets polling clients get
+ * 304 Not Modified without a recomputation.
+ */
+@Component
+public class DashboardResponseCache {
+
+    @Value("${dashboard.response-cache.max-size:2000}")
+    private int maxSize;
+
+    @Value("${dashboard.response-cache.ttl-seconds:60}")
+    private long ttlSeconds;
+
+    /**
+     * Scope of the Sales Manager dashboards, which show every change
+     */
+    public static final String SCOPE_ALL = "all";
+
+    private static final String CLIENT_SCOPES = "client:*";
+    private static final String ASSIGNEE_SCOPES = "assignee:*";
+
+    // Bumped for changes of every scope (e.g. a counters rebuild)
+    private final AtomicLong version = new AtomicLong();
+
+    // Scope (SCOPE_ALL, client:{id}, assignee:{id}, or client:* / assignee:* for all of them) -> version
+    private final Map<String, AtomicLong> scopeVersions = new ConcurrentHashMap<>();
+
+    // Response key (endpoint, user, parameters) -> stamped payload, least recently used entries are evicted first
+    private final Map<String, Cached<?>> entries = Collections.synchronizedMap(
+        new LinkedHashMap<String, Cached<?>>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Cached<?>> eldest) {
+                return size() > maxSize;
+            }
+        });
+
+    public static String clientScope(Integer clientUserId) {
+        return "client:" + clientUserId;
+    }
+
+    public static String assigneeScope(Integer assigneeUserId) {
+        return "assignee:" + assigneeUserId;
+    }
+
+    /**
+     * Get the cached payload of a response, computing it when missing or stale
+     * @param key Response key; must identify the endpoint, the user (and role) and every parameter
+     * @param scope Data scope of the response, whose version stamps the payload
+     * @param loader Computes the payload
+     */
+    @SuppressWarnings("unchecked")
+    public <T> Cached<T> get(String key, String scope, Supplier<T> loader) {
+        long currentVersion = getVersion(scope);
+        Cached<?> cached = entries.get(key);
+        if (cached != null && cached.version == currentVersion
+                && System.currentTimeMillis() - cached.computedAt < ttlSeconds * 1000) {
+            return (Cached<T>) cached;
+        }
+
+        // Stamped with the version read before loading, so a change committed meanwhile makes it stale
+        Cached<T> loaded = new Cached<>(loader.get(), currentVersion, System.currentTimeMillis());
+        entries.put(key, loaded);
+        return loaded;
+    }
+
+    /**
+     * Current data version of a scope; changes whenever committed data of the scope changes
+     */
+    public long getVersion(String scope) {
+        // Each part only grows, so the sum changes whenever any of them does
+        long scopeVersion = version.get() + scopeVersion(scope);
+        if (scope.startsWith("client:")) {
+            scopeVersion += scopeVersion(CLIENT_SCOPES);
+        } else if (scope.startsWith("assignee:")) {
+            scopeVersion += scopeVersion(ASSIGNEE_SCOPES);
+        }
+        return scopeVersion;
+    }
+
+    /**
+     * Bump the version of every scope once the current transaction commits (immediately without one)
+     */
+    public void markChanged() {
+        afterCommit(version::incrementAndGet);
+    }
+
+    /**
+     * Bump the versions of the scopes showing a changed entity once the current transaction commits
+     * @param clientUserId Client of the entity, or null when unknown (every client scope is bumped)
+     * @param assigneeUserIds Assignees before and after the change (null elements are ignored),
+     *                        or null when unknown (every assignee scope is bumped)
+     */
+    public void markChanged(Integer clientUserId, Collection<Integer> assigneeUserIds) {
+        afterCommit(() -> {
+            bump(SCOPE_ALL);
+            bump(clientUserId != null ? clientScope(clientUserId) : CLIENT_SCOPES);
+            if (assigneeUserIds == null) {
+                bump(ASSIGNEE_SCOPES);
+            } else {
+                assigneeUserIds.stream()
+                    .filter(Objects::nonNull)
+                    .distinct()
+                    .forEach(assigneeUserId -> bump(assigneeScope(assigneeUserId)));
+            }
+        });
+    }
+
+    private long scopeVersion(String scope) {
+        AtomicLong scopeVersion = scopeVersions.get(scope);
+        return scopeVersion != null ? scopeVersion.get() : 0;
+    }
+
+    private void bump(String scope) {
+        scopeVersions.computeIfAbsent(scope, key -> new AtomicLong()).incrementAndGet();
+    }
+
+    private static void afterCommit(Runnable bump) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    bump.run();
+                }
+            });
+        } else {
+            bump.run();
+        }
+    }
+
+    /**
+     * A dashboard payload with its version stamp and ETag
+     */
+    public static class Cached<T> {
+
+        private final T body;
+        private final long version;
+        private final long computedAt;
+        private final String eTag;
+
+        private Cached(T body, long version, long computedAt) {
+            this.body = body;
+            this.version = version;
+            this.computedAt = computedAt;
+            this.eTag = "\"d" + version + "-" + Long.toString(computedAt, 36) + "\"";
+        }
+
+        public T getBody() {
+            return body;
+        }
+
+        public String getETag() {
+            return eTag;
+        }
+
+        /**
+         * Whether an If-None-Match header value names this payload (weak comparison, lists and * allowed)
+         */
+        public boolean matches(String ifNoneMatch) {
+            if (ifNoneMatch == null || ifNoneMatch.isBlank()) {
+                return false;
+            }
+            for (String candidate : ifNoneMatch.split(",")) {
+                String tag = candidate.trim();
+                if (tag.startsWith("W/")) {
+                    tag = tag.substring(2);
+                }
+                if (tag.equals("*") || tag.equals(eTag)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -0,0 +1,53 @@
+package com.skillbridge.service.dashboard;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * Dashboard Section Timer
+ * Records how long each section of a dashboard takes. Sections run on the request thread, in the
+ * caller's transaction: each dashboard is answered from one or two aggregate queries (sales counters
+ * and revenue rollup, client status counts), so running them on other threads would cost a pooled
+ * connection per section for little gain.
+ * Section durations are exported as the "dashboard.section" timer (tags: dashboard, section).
+ */
+@Component
+public class DashboardSectionTimer {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardSectionTimer.class);
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    /**
+     * Run a section on the calling thread (in the caller's transaction), recording its duration
+     * @param dashboard Dashboard name (timer tag)
+     * @param section Section name (timer tag)
+     * @param query Section query
+     */
+    public <T> T timed(String dashboard, String section, Supplier<T> query) {
+        long start = System.nanoTime();
+        try {
+            return query.get();
+        } finally {
+            long elapsed = System.nanoTime() - start;
+            if (meterRegistry != null) {
+                Timer.builder("dashboard.section")
+                    .tag("dashboard", dashboard)
+                    .tag("section", section)
+                    .description("Time spent computing a dashboard section")
+                    .register(meterRegistry)
+                    .record(elapsed, TimeUnit.NANOSECONDS);
+            }
+            logger.debug("Dashboard {} section {} took {} ms", dashboard, section,
+                TimeUnit.NANOSECONDS.toMillis(elapsed));
+        }
+    }
+}
@@ -0,0 +1,221 @@
+package com.skillbridge.service.dashboard;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Dashboard Stream Service
+ * Server-sent event streams pushing {@link DashboardChangedEvent}s to open dashboards, so that
+ * they refresh on change instead of polling. Sales Managers receive every change, Sales Reps the
+ * changes of items assigned to them, clients the changes of their own items.
+ * Events are sent after commit from background threads, never from the write path itself. Every
+ * stream has its own queue and is drained by one sender at a time, so a slow or stalled client only
+ * delays its own events; a stream whose queue fills up (dashboard.stream.queue-capacity) is closed
+ * and the browser reconnects and refetches.
+ */
+@Service
+public class DashboardStreamService {
+
+    private static final Logger logger = LoggerFactory.getLogger(DashboardStreamService.class);
+
+    public static final String EVENT_NAME = "dashboard-change";
+
+    @Value("${dashboard.stream.timeout-minutes:30}")
+    private long timeoutMinutes;
+
+    @Value("${dashboard.stream.queue-capacity:100}")
+    private int queueCapacity;
+
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    private final Set<Subscriber> subscribers = ConcurrentHashMap.newKeySet();
+
+    private final AtomicInteger senderNumber = new AtomicInteger();
+
+    // A thread per stream being drained; idle threads are released after a minute
+    private final ExecutorService sender = Executors.newCachedThreadPool(runnable -> {
+        Thread thread = new Thread(runnable, "dashboard-stream-" + senderNumber.incrementAndGet());
+        thread.setDaemon(true);
+        return thread;
+    });
+
+    /**
+     * Register stream metrics (exposed through /actuator/metrics)
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        Gauge.builder("dashboard.stream.subscribers", subscribers, Set::size)
+            .description("Open dashboard event streams")
+            .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void stop() {
+        sender.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+    }
+
+    /**
+     * Open an event stream for a user; the browser reconnects by itself when it times out
+     * @param userId User ID
+     * @param role User role (SALES_MANAGER, SALES_REP or a client role)
+     */
+    public SseEmitter subscribe(Integer userId, String role) {
+        return subscribe(userId, role, new SseEmitter(TimeUnit.MINUTES.toMillis(timeoutMinutes)));
+    }
+
+    SseEmitter subscribe(Integer userId, String role, SseEmitter emitter) {
+        Subscriber subscriber = new Subscriber(userId, role, emitter, Math.max(1, queueCapacity));
+        subscribers.add(subscriber);
+        emitter.onCompletion(() -> subscribers.remove(subscriber));
+        emitter.onTimeout(() -> subscribers.remove(subscriber));
+        emitter.onError(error -> subscribers.remove(subscriber));
+
+        try {
+            // Sent right away so that proxies and the browser see an open stream
+            emitter.send(SseEmitter.event().name("connected").data(Map.of("userId", userId)));
+        } catch (IOException e) {
+            subscribers.remove(subscriber);
+            emitter.completeWithError(e);
+        }
+        return emitter;
+    }
+
+    /**
+     * Push a change to the streams it is relevant to once the transaction that made it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onDashboardChanged(DashboardChangedEvent event) {
+        if (subscribers.isEmpty()) {
+            return;
+        }
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.isInterestedIn(event)) {
+                continue;
+            }
+            if (!subscriber.pending.offer(event)) {
+                // Stalled client: close the stream rather than buffer without bound
+                logger.debug("Dropping dashboard stream of user {}: {} changes pending",
+                    subscriber.userId, subscriber.pending.size());
+                drop(subscriber, null);
+                continue;
+            }
+            scheduleDrain(subscriber);
+        }
+    }
+
+    /**
+     * Start sending a stream's queued changes unless a sender is already doing so
+     */
+    private void scheduleDrain(Subscriber subscriber) {
+        if (subscriber.draining.compareAndSet(false, true)) {
+            try {
+                sender.execute(() -> drain(subscriber));
+            } catch (RejectedExecutionException e) {
+                // Shutting down
+                subscriber.draining.set(false);
+            }
+        }
+    }
+
+    /**
+     * Send the queued changes of one stream, in order
+     */
+    private void drain(Subscriber subscriber) {
+        try {
+            DashboardChangedEvent event;
+            while ((event = subscriber.pending.poll()) != null) {
+                subscriber.emitter.send(SseEmitter.event().name(EVENT_NAME).data(event));
+            }
+        } catch (IOException | IllegalStateException e) {
+            // Disconnected client: drop it, the browser opens a new stream when it comes back
+            logger.debug("Dropping dashboard stream of user {}: {}", subscriber.userId, e.getMessage());
+            drop(subscriber, e);
+        } finally {
+            subscriber.draining.set(false);
+        }
+        // A change queued after the last poll but before the flag was cleared
+        if (!subscriber.pending.isEmpty() && subscribers.contains(subscriber)) {
+            scheduleDrain(subscriber);
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception error) {
+        if (!subscribers.remove(subscriber)) {
+            return;
+        }
+        subscriber.pending.clear();
+        if (error != null) {
+            subscriber.emitter.completeWithError(error);
+        } else {
+            subscriber.emitter.complete();
+        }
+    }
+
+    /**
+     * Number of open streams
+     */
+    public int getSubscriberCount() {
+        return subscribers.size();
+    }
+
+    /**
+     * Whether a change concerns a user's dashboard
+     */
+    static boolean isVisibleTo(DashboardChangedEvent event, Integer userId, String role) {
+        if ("SALES_MANAGER".equals(role)) {
+            return true;
+        }
+        if ("SALES_REP".equals(role)) {
+            return userId.equals(event.getAssigneeUserId());
+        }
+        return userId.equals(event.getClientUserId());
+    }
+
+    private static class Subscriber {
+
+        private final Integer userId;
+        private final String role;
+        private final SseEmitter emitter;
+        private final BlockingQueue<DashboardChangedEvent> pending;
+        private final AtomicBoolean draining = new AtomicBoolean();
+
+        private Subscriber(Integer userId, String role, SseEmitter emitter, int queueCapacity) {
+            this.userId = userId;
+            this.role = role;
+            this.emitter = emitter;
+            this.pending = new LinkedBlockingQueue<>(queueCapacity);
+        }
+
+        private boolean isInterestedIn(DashboardChangedEvent event) {
+            return isVisibleTo(event, userId, role);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.skillbridge.service.dashboard;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * Stored Entity Row
+ * Dashboard-relevant columns of a contact, opportunity, proposal, contract or change request as
+ * still stored in the database, read once by {@link DashboardEntityListener} before an update or
+ * delete executes. The assignee of a proposal is its opportunity's and that of a change request
+ * its contract's; value, period and engagement type are only read for MSA and SOW contracts.
+ */
+public class StoredEntityRow {
+
+    private final String status;
+    private final Integer assigneeUserId;
+    private final BigDecimal value;
+    private final LocalDate periodStart;
+    private final LocalDate periodEnd;
+    private final String engagementType;
+
+    public StoredEntityRow(String status, Integer assigneeUserId, BigDecimal value,
+                           LocalDate periodStart, LocalDate periodEnd, String engagementType) {
+        this.status = status;
+        this.assigneeUserId = assigneeUserId;
+        this.value = value;
+        this.periodStart = periodStart;
+        this.periodEnd = periodEnd;
+        this.engagementType = engagementType;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getAssigneeUserId() {
+        return assigneeUserId;
+    }
+
+    public BigDecimal getValue() {
+        return value;
+    }
+
+    public LocalDate getPeriodStart() {
+        return periodStart;
+    }
+
+    public LocalDate getPeriodEnd() {
+        return periodEnd;
+    }
+
+    public String getEngagementType() {
+        return engagementType;
+    }
+}
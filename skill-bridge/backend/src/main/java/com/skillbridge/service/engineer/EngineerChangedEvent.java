@@ -0,0 +1,39 @@
+package com.skillbridge.service.engineer;
+
+/**
+ * Engineer Changed Event
+ * Published by admin write paths whenever an engineer profile is created, updated or deleted
+ * so that in-memory search structures can refresh the affected engineer
+ */
+public class EngineerChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Integer engineerId;
+    private final ChangeType changeType;
+
+    public EngineerChangedEvent(Integer engineerId, ChangeType changeType) {
+        this.engineerId = engineerId;
+        this.changeType = changeType;
+    }
+
+    public Integer getEngineerId() {
+        return engineerId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @Override
+    public String toString() {
+        return "EngineerChangedEvent{" +
+                "engineerId=" + engineerId +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
@@ -0,0 +1,141 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.response.EngineerSearchFacets;
+import com.skillbridge.dto.engineer.response.FacetValue;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Engineer Facet Counter
+ * Accumulates value-plus-count facets (primary skill, location, seniority, language, salary and
+ * experience buckets) while a search walks its result set, so that all facets are
+ * computed in the same single pass as matching and ranking.
+ */
+public class EngineerFacetCounter {
+
+    /**
+     * Lower bounds of the salary buckets (JPY per month); each bucket ends where the next begins
+     */
+    static final BigDecimal[] SALARY_BOUNDS = {
+            BigDecimal.ZERO,
+            new BigDecimal("200000"),
+            new BigDecimal("300000"),
+            new BigDecimal("400000"),
+            new BigDecimal("500000")
+    };
+
+    /**
+     * Lower bounds of the experience buckets (years); each bucket ends where the next begins
+     */
+    static final int[] EXPERIENCE_BOUNDS = {0, 3, 6, 10};
+
+    private final Map<String, Long> skills = new HashMap<>();
+    private final Map<String, Long> locations = new HashMap<>();
+    private final Map<String, Long> seniorities = new HashMap<>();
+    private final Map<String, Long> languages = new HashMap<>();
+    private final long[] salaryCounts = new long[SALARY_BOUNDS.length];
+    private final long[] experienceCounts = new long[EXPERIENCE_BOUNDS.length];
+
+    /**
+     * Count an engineer of the result set
+     */
+    public void add(IndexedEngineer engineer) {
+        increment(skills, engineer.getPrimarySkill());
+        increment(locations, engineer.getLocation());
+        increment(seniorities, engineer.getSeniority());
+        for (String language : engineer.getLanguages().keySet()) {
+            increment(languages, displayLanguage(language));
+        }
+
+        BigDecimal salary = engineer.getSalaryExpectation();
+        if (salary != null && salary.signum() >= 0) {
+            int bucket = SALARY_BOUNDS.length - 1;
+            while (salary.compareTo(SALARY_BOUNDS[bucket]) < 0) {
+                bucket--;
+            }
+            salaryCounts[bucket]++;
+        }
+
+        Integer years = engineer.getYearsExperience();
+        if (years != null && years >= 0) {
+            int bucket = EXPERIENCE_BOUNDS.length - 1;
+            while (years < EXPERIENCE_BOUNDS[bucket]) {
+                bucket--;
+            }
+            experienceCounts[bucket]++;
+        }
+    }
+
+    /**
+     * Build the facets counted so far
+     * Value facets are ordered by count (most common first); range facets list every bucket in order
+     */
+    public EngineerSearchFacets toFacets() {
+        EngineerSearchFacets facets = new EngineerSearchFacets();
+        facets.setSkills(toValues(skills));
+        facets.setLocations(toValues(locations));
+        facets.setSeniorities(toValues(seniorities));
+        facets.setLanguages(toValues(languages));
+
+        List<FacetValue> salaryRanges = new ArrayList<>();
+        for (int i = 0; i < SALARY_BOUNDS.length; i++) {
+            BigDecimal from = SALARY_BOUNDS[i];
+            BigDecimal to = i + 1 < SALARY_BOUNDS.length ? SALARY_BOUNDS[i + 1] : null;
+            salaryRanges.add(new FacetValue(rangeLabel(from.toPlainString(), to != null ? to.toPlainString() : null),
+                    salaryCounts[i], from, to));
+        }
+        facets.setSalaryRanges(salaryRanges);
+
+        List<FacetValue> experienceRanges = new ArrayList<>();
+        for (int i = 0; i < EXPERIENCE_BOUNDS.length; i++) {
+            int from = EXPERIENCE_BOUNDS[i];
+            Integer to = i + 1 < EXPERIENCE_BOUNDS.length ? EXPERIENCE_BOUNDS[i + 1] : null;
+            experienceRanges.add(new FacetValue(
+                    // Years are whole numbers, so the label shows the inclusive upper bound
+                    rangeLabel(String.valueOf(from), to != null ? String.valueOf(to - 1) : null),
+                    experienceCounts[i],
+                    BigDecimal.valueOf(from),
+                    to != null ? BigDecimal.valueOf(to) : null));
+        }
+        facets.setExperienceRanges(experienceRanges);
+
+        return facets;
+    }
+
+    private static void increment(Map<String, Long> counts, String value) {
+        if (value != null && !value.isBlank()) {
+            counts.merge(value, 1L, Long::sum);
+        }
+    }
+
+    private static List<FacetValue> toValues(Map<String, Long> counts) {
+        List<FacetValue> values = new ArrayList<>(counts.size());
+        counts.forEach((value, count) -> values.add(new FacetValue(value, count)));
+        values.sort((a, b) -> {
+            int byCount = Long.compare(b.getCount(), a.getCount());
+            return byCount != 0 ? byCount : a.getValue().compareTo(b.getValue());
+        });
+        return values;
+    }
+
+    /**
+     * Capitalize the lower-cased language key ("japanese" -> "Japanese"); also a valid languages filter value
+     */
+    private static String displayLanguage(String language) {
+        StringBuilder display = new StringBuilder(language.length());
+        boolean wordStart = true;
+        for (char c : language.toCharArray()) {
+            display.append(wordStart ? Character.toUpperCase(c) : c);
+            wordStart = c == ' ';
+        }
+        return display.toString();
+    }
+
+    private static String rangeLabel(String from, String to) {
+        return to != null ? from + "-" + to : from + "+";
+    }
+}
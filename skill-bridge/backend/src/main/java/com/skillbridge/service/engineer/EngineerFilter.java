@@ -0,0 +1,96 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.request.SearchCriteria;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Engineer Filter
+ * Attribute filters of an engineer search (seniority IN, location IN, availability and
+ * experience/salary ranges) as answered by the bitmap index of {@link EngineerSearchIndex}
+ */
+public class EngineerFilter {
+
+    public static final String STATUS_AVAILABLE = "AVAILABLE";
+
+    private final List<String> seniorities;
+    private final List<String> locations;
+    private final String status;
+    private final Integer experienceMin;
+    private final Integer experienceMax;
+    private final BigDecimal salaryMin;
+    private final BigDecimal salaryMax;
+
+    public EngineerFilter(List<String> seniorities, List<String> locations, String status,
+                          Integer experienceMin, Integer experienceMax,
+                          BigDecimal salaryMin, BigDecimal salaryMax) {
+        this.seniorities = seniorities;
+        this.locations = locations;
+        this.status = status;
+        this.experienceMin = experienceMin;
+        this.experienceMax = experienceMax;
+        this.salaryMin = salaryMin;
+        this.salaryMax = salaryMax;
+    }
+
+    /**
+     * Build the filter of a search request
+     */
+    public static EngineerFilter from(SearchCriteria criteria) {
+        return new EngineerFilter(
+                criteria.getSeniority(),
+                criteria.getLocation(),
+                Boolean.TRUE.equals(criteria.getAvailability()) ? STATUS_AVAILABLE : null,
+                criteria.getExperienceMin(),
+                criteria.getExperienceMax(),
+                criteria.getSalaryMin(),
+                criteria.getSalaryMax());
+    }
+
+    /**
+     * Whether no attribute filter is set
+     */
+    public boolean isEmpty() {
+        return seniorities == null && locations == null && status == null
+                && experienceMin == null && experienceMax == null
+                && salaryMin == null && salaryMax == null;
+    }
+
+    /**
+     * Seniority values (null for no filter)
+     */
+    public List<String> getSeniorities() {
+        return seniorities;
+    }
+
+    /**
+     * Location values (null for no filter)
+     */
+    public List<String> getLocations() {
+        return locations;
+    }
+
+    /**
+     * Required status (null for no filter)
+     */
+    public String getStatus() {
+        return status;
+    }
+
+    public Integer getExperienceMin() {
+        return experienceMin;
+    }
+
+    public Integer getExperienceMax() {
+        return experienceMax;
+    }
+
+    public BigDecimal getSalaryMin() {
+        return salaryMin;
+    }
+
+    public BigDecimal getSalaryMax() {
+        return salaryMax;
+    }
+}
@@ -0,0 +1,200 @@
+package com.skillbridge.service.engineer;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Engineer Filter Bitmaps
+ * Bitmap index over engineer attributes, with bit N set when engineer ID N has the value:
+ * one bitmap per seniority, location and status (case-insensitive, like the database collation),
+ * per year of experience and per salary bucket.
+ * An {@link EngineerFilter} is answered with bitmap OR (values of one attribute) and AND
+ * (across attributes); only the engineers of the two edge buckets of a range are checked
+ * individually, so the result is exact.
+ * Not thread-safe; {@link EngineerSearchIndex} guards access with its lock.
+ */
+public class EngineerFilterBitmaps {
+
+    /**
+     * Experience values tracked one bitmap per year; longer careers share the last bitmap
+     */
+    static final int MAX_TRACKED_YEARS = 40;
+
+    /**
+     * Width of a salary bucket (JPY per month); salaries above the last bucket share it
+     */
+    static final BigDecimal SALARY_BUCKET_WIDTH = new BigDecimal("50000");
+    static final int MAX_SALARY_BUCKET = 100;
+
+    private final BitSet all = new BitSet();
+    private final Map<String, BitSet> bySeniority = new HashMap<>();
+    private final Map<String, BitSet> byLocation = new HashMap<>();
+    private final Map<String, BitSet> byStatus = new HashMap<>();
+    private final BitSet[] byYears = new BitSet[MAX_TRACKED_YEARS + 1];
+    private final BitSet[] bySalaryBucket = new BitSet[MAX_SALARY_BUCKET + 1];
+
+    // Engineer ID -> snapshot, used to refine the edge buckets of range filters
+    private final Map<Integer, IndexedEngineer> members = new HashMap<>();
+
+    /**
+     * Add an engineer to every bitmap matching its attributes
+     */
+    public void add(IndexedEngineer engineer) {
+        int id = engineer.getId();
+        all.set(id);
+        members.put(id, engineer);
+        set(bySeniority, engineer.getSeniority(), id, true);
+        set(byLocation, engineer.getLocation(), id, true);
+        set(byStatus, engineer.getStatus(), id, true);
+        if (engineer.getYearsExperience() != null) {
+            bucket(byYears, yearsBucket(engineer.getYearsExperience())).set(id);
+        }
+        if (engineer.getSalaryExpectation() != null) {
+            bucket(bySalaryBucket, salaryBucket(engineer.getSalaryExpectation())).set(id);
+        }
+    }
+
+    /**
+     * Remove an engineer previously added with the same attributes
+     */
+    public void remove(IndexedEngineer engineer) {
+        int id = engineer.getId();
+        all.clear(id);
+        members.remove(id);
+        set(bySeniority, engineer.getSeniority(), id, false);
+        set(byLocation, engineer.getLocation(), id, false);
+        set(byStatus, engineer.getStatus(), id, false);
+        if (engineer.getYearsExperience() != null) {
+            bucket(byYears, yearsBucket(engineer.getYearsExperience())).clear(id);
+        }
+        if (engineer.getSalaryExpectation() != null) {
+            bucket(bySalaryBucket, salaryBucket(engineer.getSalaryExpectation())).clear(id);
+        }
+    }
+
+    /**
+     * Get the IDs of the engineers matching every attribute filter
+     * @param filter Attribute filters (null fields are not filtered)
+     * @return New bitmap of matching engineer IDs
+     */
+    public BitSet filter(EngineerFilter filter) {
+        BitSet result = (BitSet) all.clone();
+        if (filter == null) {
+            return result;
+        }
+
+        if (filter.getSeniorities() != null) {
+            result.and(union(bySeniority, filter.getSeniorities()));
+        }
+        if (filter.getLocations() != null) {
+            result.and(union(byLocation, filter.getLocations()));
+        }
+        if (filter.getStatus() != null) {
+            result.and(byStatus.getOrDefault(normalize(filter.getStatus()), new BitSet()));
+        }
+
+        if (filter.getExperienceMin() != null || filter.getExperienceMax() != null) {
+            Integer min = filter.getExperienceMin();
+            Integer max = filter.getExperienceMax();
+            int from = min != null ? yearsBucket(min) : 0;
+            int to = max != null ? yearsBucket(max) : MAX_TRACKED_YEARS;
+            result.and(unionRange(byYears, from, to,
+                    engineer -> (min == null || engineer.getYearsExperience() >= min)
+                            && (max == null || engineer.getYearsExperience() <= max)));
+        }
+
+        if (filter.getSalaryMin() != null || filter.getSalaryMax() != null) {
+            BigDecimal min = filter.getSalaryMin();
+            BigDecimal max = filter.getSalaryMax();
+            int from = min != null ? salaryBucket(min) : 0;
+            int to = max != null ? salaryBucket(max) : MAX_SALARY_BUCKET;
+            result.and(unionRange(bySalaryBucket, from, to,
+                    engineer -> (min == null || engineer.getSalaryExpectation().compareTo(min) >= 0)
+                            && (max == null || engineer.getSalaryExpectation().compareTo(max) <= 0)));
+        }
+
+        return result;
+    }
+
+    private static void set(Map<String, BitSet> bitmaps, String value, int id, boolean present) {
+        if (value == null) {
+            return;
+        }
+        String key = normalize(value);
+        if (present) {
+            bitmaps.computeIfAbsent(key, k -> new BitSet()).set(id);
+            return;
+        }
+        BitSet bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.clear(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static String normalize(String value) {
+        return value.trim().toLowerCase(Locale.ROOT);
+    }
+
+    private static BitSet bucket(BitSet[] buckets, int index) {
+        if (buckets[index] == null) {
+            buckets[index] = new BitSet();
+        }
+        return buckets[index];
+    }
+
+    private static BitSet union(Map<String, BitSet> bitmaps, Collection<String> values) {
+        BitSet union = new BitSet();
+        for (String value : values) {
+            BitSet bitmap = value != null ? bitmaps.get(normalize(value)) : null;
+            if (bitmap != null) {
+                union.or(bitmap);
+            }
+        }
+        return union;
+    }
+
+    /**
+     * OR the buckets from..to, checking the engineers of the two edge buckets against the exact range
+     * (edge buckets may hold values outside it: partial salary buckets, negative or 40+ years)
+     */
+    private BitSet unionRange(BitSet[] buckets, int from, int to, Predicate<IndexedEngineer> inRange) {
+        BitSet union = new BitSet();
+        for (int i = from; i <= to; i++) {
+            if (buckets[i] == null) {
+                continue;
+            }
+            if (i == from || i == to) {
+                BitSet edge = buckets[i];
+                for (int id = edge.nextSetBit(0); id >= 0; id = edge.nextSetBit(id + 1)) {
+                    if (inRange.test(members.get(id))) {
+                        union.set(id);
+                    }
+                }
+            } else {
+                union.or(buckets[i]);
+            }
+        }
+        return union;
+    }
+
+    private static int yearsBucket(int years) {
+        return Math.max(0, Math.min(years, MAX_TRACKED_YEARS));
+    }
+
+    private static int salaryBucket(BigDecimal salary) {
+        if (salary.signum() <= 0) {
+            return 0;
+        }
+        BigDecimal bucket = salary.divide(SALARY_BUCKET_WIDTH, 0, RoundingMode.FLOOR);
+        return bucket.compareTo(BigDecimal.valueOf(MAX_SALARY_BUCKET)) >= 0 ? MAX_SALARY_BUCKET : bucket.intValue();
+    }
+}
@@ -0,0 +1,131 @@
+package com.skillbridge.service.engineer;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Engineer Relevance Scorer
+ * Scores indexed engineers against the requested skills and free text query of one search.
+ * Every requested skill must be matched, either through engineer_skills (directly or via the
+ * skill hierarchy, weighted by level and years) or through the engineer's primary skill.
+ */
+public class EngineerRelevanceScorer {
+
+    /**
+     * Score given to a requested skill that is only found in the primary skill text
+     * (engineers without a matching engineer_skills row)
+     */
+    private static final double PRIMARY_SKILL_SCORE = 0.7;
+
+    /**
+     * Skill matches dominate free text matches in the final score
+     */
+    private static final double SKILL_WEIGHT = 2.0;
+    private static final double EXACT_TERM_SCORE = 1.0;
+    private static final double PREFIX_TERM_SCORE = 0.5;
+
+    private final List<RequestedSkill> requestedSkills = new ArrayList<>();
+    private final Set<String> queryTokens;
+
+    /**
+     * @param index Search index used to expand skill names through the skill hierarchy
+     * @param skills Requested skill names (may be null)
+     * @param query Free text query (may be null)
+     */
+    public EngineerRelevanceScorer(EngineerSearchIndex index, List<String> skills, String query) {
+        if (skills != null) {
+            for (String skill : skills) {
+                if (skill != null && !skill.isBlank()) {
+                    requestedSkills.add(new RequestedSkill(skill.trim().toLowerCase(Locale.ROOT), index.expandSkill(skill)));
+                }
+            }
+        }
+        this.queryTokens = EngineerSearchIndex.tokenize(query);
+    }
+
+    /**
+     * Whether the search ranks by score at all (a skill or text query was given)
+     */
+    public boolean hasCriteria() {
+        return !requestedSkills.isEmpty() || !queryTokens.isEmpty();
+    }
+
+    /**
+     * Score an engineer
+     * @param engineer Indexed engineer (already matched against the query by the index)
+     * @return Relevance score, or -1 when a requested skill is not matched
+     */
+    public double score(IndexedEngineer engineer) {
+        double score = 0;
+
+        for (RequestedSkill requestedSkill : requestedSkills) {
+            double skillScore = scoreSkill(engineer, requestedSkill);
+            if (skillScore <= 0) {
+                return -1;
+            }
+            score += SKILL_WEIGHT * skillScore;
+        }
+
+        // Query tokens already matched some term by prefix; whole-word matches rank higher
+        for (String token : queryTokens) {
+            score += engineer.getTerms().contains(token) ? EXACT_TERM_SCORE : PREFIX_TERM_SCORE;
+        }
+
+        return score;
+    }
+
+    private double scoreSkill(IndexedEngineer engineer, RequestedSkill requestedSkill) {
+        double best = 0;
+
+        for (IndexedEngineer.SkillEntry entry : engineer.getSkills()) {
+            Double weight = requestedSkill.weights.get(entry.getSkillId());
+            if (weight != null) {
+                best = Math.max(best, weight * levelFactor(entry.getLevel()) * yearsFactor(entry.getYears()));
+            }
+        }
+
+        if (best == 0 && engineer.getPrimarySkill() != null
+                && engineer.getPrimarySkill().toLowerCase(Locale.ROOT).contains(requestedSkill.name)) {
+            best = PRIMARY_SKILL_SCORE;
+        }
+
+        return best;
+    }
+
+    private static double levelFactor(String level) {
+        if (level == null) {
+            return 0.8;
+        }
+        switch (level.toLowerCase(Locale.ROOT)) {
+            case "expert":
+                return 1.2;
+            case "advanced":
+                return 1.0;
+            case "beginner":
+                return 0.6;
+            case "intermediate":
+            default:
+                return 0.8;
+        }
+    }
+
+    private static double yearsFactor(Integer years) {
+        // Up to +50% for 10 or more years with the skill
+        int capped = years == null ? 0 : Math.max(0, Math.min(years, 10));
+        return 1.0 + capped / 20.0;
+    }
+
+    private static class RequestedSkill {
+
+        private final String name;
+        private final Map<Integer, Double> weights;
+
+        private RequestedSkill(String name, Map<Integer, Double> weights) {
+            this.name = name;
+            this.weights = weights;
+        }
+    }
+}
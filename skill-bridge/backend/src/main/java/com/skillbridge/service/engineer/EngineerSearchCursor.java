@@ -0,0 +1,159 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Engineer Search Cursor
+ * Opaque keyset pagination cursor for engineer search.
+ * Encodes the sort keys (relevance score, yearsExperience, salaryExpectation, seniority)
+ * and ID of the last engineer of a page, so the next page continues strictly after it
+ * without re-scanning earlier pages or counting the total.
+ */
+public class EngineerSearchCursor {
+
+    private static final String VERSION = "v1";
+    private static final String SEPARATOR = "\n";
+    private static final String NULL_VALUE = "-";
+    private static final String VALUE_PREFIX = "=";
+    private static final int FIELD_COUNT = 8;
+
+    private final String sortBy;
+    private final Integer id;
+    private final double score;
+    private final Integer yearsExperience;
+    private final BigDecimal salaryExpectation;
+    private final String seniority;
+    private final long offset;
+
+    public EngineerSearchCursor(String sortBy, Integer id, double score, Integer yearsExperience,
+                                BigDecimal salaryExpectation, String seniority, long offset) {
+        this.sortBy = sortBy;
+        this.id = id;
+        this.score = score;
+        this.yearsExperience = yearsExperience;
+        this.salaryExpectation = salaryExpectation;
+        this.seniority = seniority;
+        this.offset = offset;
+    }
+
+    /**
+     * Create the cursor pointing after the given engineer
+     * @param sortBy Sort option of the search
+     * @param engineer Last engineer of the page
+     * @param score Relevance score of that engineer
+     * @param offset Number of results up to and including that engineer
+     */
+    public static EngineerSearchCursor after(String sortBy, IndexedEngineer engineer, double score, long offset) {
+        return new EngineerSearchCursor(sortBy, engineer.getId(), score, engineer.getYearsExperience(),
+                engineer.getSalaryExpectation(), engineer.getSeniority(), offset);
+    }
+
+    /**
+     * Encode the cursor as an opaque URL-safe string
+     */
+    public String encode() {
+        String raw = String.join(SEPARATOR,
+                VERSION,
+                sortBy,
+                String.valueOf(id),
+                String.valueOf(score),
+                String.valueOf(offset),
+                encodeNullable(yearsExperience),
+                encodeNullable(salaryExpectation != null ? salaryExpectation.toPlainString() : null),
+                encodeNullable(seniority));
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    /**
+     * Decode a cursor produced by {@link #encode()}
+     * @param cursor Encoded cursor
+     * @return Decoded cursor
+     * @throws IllegalArgumentException if the cursor is malformed
+     */
+    public static EngineerSearchCursor decode(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] fields = raw.split(SEPARATOR, FIELD_COUNT);
+            if (fields.length != FIELD_COUNT || !VERSION.equals(fields[0])) {
+                throw new IllegalArgumentException("Invalid search cursor");
+            }
+
+            String years = decodeNullable(fields[5]);
+            String salary = decodeNullable(fields[6]);
+            return new EngineerSearchCursor(
+                    fields[1],
+                    Integer.valueOf(fields[2]),
+                    Double.parseDouble(fields[3]),
+                    years != null ? Integer.valueOf(years) : null,
+                    salary != null ? new BigDecimal(salary) : null,
+                    decodeNullable(fields[7]),
+                    Long.parseLong(fields[4]));
+        } catch (IllegalArgumentException e) {
+            // Also covers NumberFormatException and invalid Base64
+            throw new IllegalArgumentException("Invalid search cursor", e);
+        }
+    }
+
+    /**
+     * Snapshot carrying the sort keys of the cursor, used as the keyset boundary
+     */
+    public IndexedEngineer toIndexedEngineer() {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setYearsExperience(yearsExperience);
+        engineer.setSalaryExpectation(salaryExpectation);
+        engineer.setSeniority(seniority);
+        return new IndexedEngineer(engineer, Set.of(), List.of());
+    }
+
+    public String getSortBy() {
+        return sortBy;
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public double getScore() {
+        return score;
+    }
+
+    public Integer getYearsExperience() {
+        return yearsExperience;
+    }
+
+    public BigDecimal getSalaryExpectation() {
+        return salaryExpectation;
+    }
+
+    public String getSeniority() {
+        return seniority;
+    }
+
+    /**
+     * Number of results before the next page, used when the search index is not available
+     */
+    public long getOffset() {
+        return offset;
+    }
+
+    private static String encodeNullable(Object value) {
+        return value == null ? NULL_VALUE : VALUE_PREFIX + value;
+    }
+
+    private static String decodeNullable(String value) {
+        if (NULL_VALUE.equals(value)) {
+            return null;
+        }
+        if (!value.startsWith(VALUE_PREFIX)) {
+            throw new IllegalArgumentException("Invalid search cursor");
+        }
+        return value.substring(VALUE_PREFIX.length());
+    }
+}
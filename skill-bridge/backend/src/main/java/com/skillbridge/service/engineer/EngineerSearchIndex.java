@@ -0,0 +1,538 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.entity.engineer.EngineerSkill;
+import com.skillbridge.entity.engineer.Skill;
+import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.repository.engineer.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+/**
+ * Engineer Search Index
+ * In-memory tokenized inverted index over engineer profiles.
+ * Each term found in an engineer's full name, summary, primary skill or skill names
+ * has a posting list of engineer IDs. The index also keeps the skill hierarchy
+ * (skills.parent_skill_id) used for relevance ranking, and {@link EngineerFilterBitmaps}
+ * answering attribute filters with bitmap operations. It is built on startup and kept
+ * up to date through {@link EngineerChangedEvent}s and {@link SkillChangedEvent}s published
+ * by the admin write paths.
+ */
+@Component
+public class EngineerSearchIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EngineerSearchIndex.class);
+
+    /**
+     * Split on anything that is not a letter or digit, keeping '+' and '#' so that
+     * skills such as "C++" and "C#" stay searchable
+     */
+    private static final Pattern TOKEN_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}+#]+");
+
+    /**
+     * Weight kept per level when a requested skill is matched through the skill hierarchy:
+     * an engineer with a sub-skill of the requested skill is a stronger match than
+     * an engineer who only has one of its parent skills
+     */
+    private static final double DESCENDANT_WEIGHT = 0.8;
+    private static final double ANCESTOR_WEIGHT = 0.5;
+
+    @Autowired
+    private EngineerRepository engineerRepository;
+
+    @Autowired
+    private EngineerSkillRepository engineerSkillRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    // Term -> sorted engineer IDs; a sorted map so that prefix lookups are a range scan
+    private TreeMap<String, TreeSet<Integer>> postings = new TreeMap<>();
+
+    private Map<Integer, IndexedEngineer> documents = new HashMap<>();
+
+    // Seniority, location, status, experience and salary bitmaps over the same documents
+    private EngineerFilterBitmaps bitmaps = new EngineerFilterBitmaps();
+
+    // Skill catalog: ID -> skill, used to resolve names and walk the parent/child hierarchy
+    private Map<Integer, Skill> skillCatalog = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    // Incremented on every change of the indexed engineers, so derived data can be cached per version
+    private final AtomicLong version = new AtomicLong();
+
+    // Engineers and skills changed while rebuild() reads the database (null when no rebuild runs).
+    // The rebuilt maps replace the live ones wholesale, so these changes are re-applied after the swap.
+    private Set<Integer> engineersChangedDuringRebuild;
+    private Set<Integer> skillsChangedDuringRebuild;
+
+    /**
+     * Build the whole index from the database once the application has started.
+     * The database is read outside the lock; engineer and skill changes applied meanwhile are
+     * recorded and re-applied on top of the rebuilt index, so none of them is lost by the swap.
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public synchronized void rebuild() {
+        long start = System.currentTimeMillis();
+
+        lock.writeLock().lock();
+        try {
+            engineersChangedDuringRebuild = new HashSet<>();
+            skillsChangedDuringRebuild = new HashSet<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        try {
+            rebuildFromDatabase(start);
+        } finally {
+            Set<Integer> changedEngineers;
+            Set<Integer> changedSkills;
+            lock.writeLock().lock();
+            try {
+                changedEngineers = engineersChangedDuringRebuild;
+                changedSkills = skillsChangedDuringRebuild;
+                engineersChangedDuringRebuild = null;
+                skillsChangedDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+            if (ready) {
+                reapply(changedEngineers, changedSkills);
+            }
+        }
+    }
+
+    private void rebuildFromDatabase(long start) {
+        Map<Integer, Skill> newSkillCatalog = new HashMap<>();
+        for (Skill skill : skillRepository.findAll()) {
+            newSkillCatalog.put(skill.getId(), skill);
+        }
+        Map<Integer, List<EngineerSkill>> skillsByEngineer = engineerSkillRepository.findAll().stream()
+                .collect(Collectors.groupingBy(EngineerSkill::getEngineerId));
+
+        TreeMap<String, TreeSet<Integer>> newPostings = new TreeMap<>();
+        Map<Integer, IndexedEngineer> newDocuments = new HashMap<>();
+        EngineerFilterBitmaps newBitmaps = new EngineerFilterBitmaps();
+        for (Engineer engineer : engineerRepository.findAll()) {
+            IndexedEngineer document = createDocument(engineer,
+                    skillsByEngineer.getOrDefault(engineer.getId(), List.of()), newSkillCatalog);
+            newDocuments.put(document.getId(), document);
+            addPostings(newPostings, document);
+            newBitmaps.add(document);
+        }
+
+        lock.writeLock().lock();
+        try {
+            postings = newPostings;
+            documents = newDocuments;
+            bitmaps = newBitmaps;
+            skillCatalog = newSkillCatalog;
+            ready = true;
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Engineer search index built: {} engineers, {} terms in {} ms",
+                newDocuments.size(), newPostings.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Re-read skills and engineers that changed while a rebuild was reading the database
+     */
+    private void reapply(Set<Integer> changedEngineers, Set<Integer> changedSkills) {
+        if (changedEngineers.isEmpty() && changedSkills.isEmpty()) {
+            return;
+        }
+        for (Integer skillId : changedSkills) {
+            refreshSkill(skillId, skillRepository.findById(skillId).orElse(null));
+        }
+        for (Integer engineerId : changedEngineers) {
+            refreshEngineer(engineerId);
+        }
+        logger.info("Engineer search index re-applied {} engineer and {} skill changes made during the rebuild",
+                changedEngineers.size(), changedSkills.size());
+    }
+
+    /**
+     * Refresh a single engineer after the transaction that changed it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngineerChanged(EngineerChangedEvent event) {
+        Integer engineerId = event.getEngineerId();
+        if (engineerId == null) {
+            return;
+        }
+
+        if (event.getChangeType() == EngineerChangedEvent.ChangeType.DELETED) {
+            remove(engineerId);
+            return;
+        }
+
+        refreshEngineer(engineerId);
+    }
+
+    private void refreshEngineer(Integer engineerId) {
+        engineerRepository.findById(engineerId).ifPresentOrElse(
+                engineer -> index(engineer, engineerSkillRepository.findByEngineerId(engineerId)),
+                () -> remove(engineerId));
+    }
+
+    /**
+     * Refresh the skill catalog and the engineers holding a skill after the transaction that
+     * renamed, moved, created or deleted it has committed, so that skill-name postings and the
+     * hierarchy used for ranking follow the change and version-keyed caches are invalidated
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkillChanged(SkillChangedEvent event) {
+        Integer skillId = event.getSkillId();
+        if (skillId == null) {
+            return;
+        }
+
+        Skill skill = event.getChangeType() == SkillChangedEvent.ChangeType.DELETED
+                ? null
+                : skillRepository.findById(skillId).orElse(null);
+        refreshSkill(skillId, skill);
+    }
+
+    /**
+     * @param skill Current skill, or null when it was deleted
+     */
+    private void refreshSkill(Integer skillId, Skill skill) {
+        // Engineers indexed with the skill (they may just have lost it) and those holding it now
+        Set<Integer> engineerIds = new HashSet<>();
+        lock.writeLock().lock();
+        try {
+            if (skill != null) {
+                skillCatalog.put(skillId, skill);
+            } else {
+                skillCatalog.remove(skillId);
+            }
+            if (skillsChangedDuringRebuild != null) {
+                skillsChangedDuringRebuild.add(skillId);
+            }
+            for (IndexedEngineer document : documents.values()) {
+                if (document.getSkills().stream().anyMatch(entry -> skillId.equals(entry.getSkillId()))) {
+                    engineerIds.add(document.getId());
+                }
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+        for (EngineerSkill engineerSkill : engineerSkillRepository.findBySkillId(skillId)) {
+            engineerIds.add(engineerSkill.getEngineerId());
+        }
+
+        for (Engineer engineer : engineerRepository.findAllById(engineerIds)) {
+            index(engineer, engineerSkillRepository.findByEngineerId(engineer.getId()));
+        }
+        logger.debug("Engineer search index refreshed for skill {}: {} engineers", skillId, engineerIds.size());
+    }
+
+    /**
+     * Add or replace an engineer in the index
+     * @param engineer Engineer entity
+     * @param engineerSkills Skills of the engineer (engineer_skills rows)
+     */
+    public void index(Engineer engineer, List<EngineerSkill> engineerSkills) {
+        List<Integer> skillIds = engineerSkills.stream()
+                .map(EngineerSkill::getSkillId)
+                .collect(Collectors.toList());
+        Map<Integer, Skill> engineerSkillCatalog = new HashMap<>();
+        for (Skill skill : skillRepository.findAllById(skillIds)) {
+            engineerSkillCatalog.put(skill.getId(), skill);
+        }
+        IndexedEngineer document = createDocument(engineer, engineerSkills, engineerSkillCatalog);
+
+        lock.writeLock().lock();
+        try {
+            skillCatalog.putAll(engineerSkillCatalog);
+            removeDocument(document.getId());
+            documents.put(document.getId(), document);
+            addPostings(postings, document);
+            bitmaps.add(document);
+            if (engineersChangedDuringRebuild != null) {
+                engineersChangedDuringRebuild.add(document.getId());
+            }
+            version.incrementAndGet();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Remove an engineer from the index
+     * @param engineerId Engineer ID
+     */
+    public void remove(Integer engineerId) {
+        lock.writeLock().lock();
+        try {
+            if (engineersChangedDuringRebuild != null) {
+                engineersChangedDuringRebuild.add(engineerId);
+            }
+            if (removeDocument(engineerId)) {
+                version.incrementAndGet();
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Find engineers matching every token of the query.
+     * A token matches when it is a prefix of any indexed term of the engineer.
+     * @param query Free text query (null or blank matches every engineer)
+     * @return Matching engineer snapshots in no particular order
+     */
+    public List<IndexedEngineer> match(String query) {
+        return match(query, null);
+    }
+
+    /**
+     * Find engineers matching every token of the query and every attribute filter.
+     * Filters are answered by the bitmap index; filter-only searches never touch the postings.
+     * @param query Free text query (null or blank matches every engineer)
+     * @param filter Attribute filters (null for none)
+     * @return Matching engineer snapshots, in ID order when the query is blank
+     */
+    public List<IndexedEngineer> match(String query, EngineerFilter filter) {
+        List<String> tokens = new ArrayList<>(tokenize(query));
+
+        lock.readLock().lock();
+        try {
+            BitSet allowed = filter != null && !filter.isEmpty() ? bitmaps.filter(filter) : null;
+
+            if (tokens.isEmpty()) {
+                if (allowed == null) {
+                    return new ArrayList<>(documents.values());
+                }
+                List<IndexedEngineer> matches = new ArrayList<>(allowed.cardinality());
+                for (int id = allowed.nextSetBit(0); id >= 0; id = allowed.nextSetBit(id + 1)) {
+                    matches.add(documents.get(id));
+                }
+                return matches;
+            }
+
+            Set<Integer> result = null;
+            for (String token : tokens) {
+                Set<Integer> tokenMatches = new HashSet<>();
+                for (TreeSet<Integer> posting : prefixRange(token).values()) {
+                    for (Integer id : posting) {
+                        if (allowed == null || allowed.get(id)) {
+                            tokenMatches.add(id);
+                        }
+                    }
+                }
+                if (result == null) {
+                    result = tokenMatches;
+                } else {
+                    result.retainAll(tokenMatches);
+                }
+                if (result.isEmpty()) {
+                    return new ArrayList<>();
+                }
+            }
+
+            List<IndexedEngineer> matches = new ArrayList<>(result.size());
+            for (Integer id : result) {
+                IndexedEngineer document = documents.get(id);
+                if (document != null) {
+                    matches.add(document);
+                }
+            }
+            return matches;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Expand a requested skill name through the skill hierarchy.
+     * The named skill itself has weight 1.0, each of its sub-skills is discounted by
+     * {@link #DESCENDANT_WEIGHT} per level and each parent skill by {@link #ANCESTOR_WEIGHT} per level.
+     * @param skillName Requested skill name (case-insensitive)
+     * @return Skill ID -> match weight (empty when no skill has this name)
+     */
+    public Map<Integer, Double> expandSkill(String skillName) {
+        Map<Integer, Double> weights = new HashMap<>();
+        if (skillName == null || skillName.isBlank()) {
+            return weights;
+        }
+        String normalized = skillName.trim().toLowerCase(Locale.ROOT);
+
+        lock.readLock().lock();
+        try {
+            Map<Integer, List<Integer>> childrenByParent = new HashMap<>();
+            List<Integer> roots = new ArrayList<>();
+            for (Skill skill : skillCatalog.values()) {
+                if (skill.getParentSkillId() != null) {
+                    childrenByParent.computeIfAbsent(skill.getParentSkillId(), key -> new ArrayList<>()).add(skill.getId());
+                }
+                if (skill.getName() != null && skill.getName().trim().toLowerCase(Locale.ROOT).equals(normalized)) {
+                    roots.add(skill.getId());
+                }
+            }
+
+            for (Integer rootId : roots) {
+                addDescendants(weights, childrenByParent, rootId, 1.0);
+
+                double weight = ANCESTOR_WEIGHT;
+                Set<Integer> visited = new HashSet<>();
+                Skill current = skillCatalog.get(rootId);
+                while (current != null && current.getParentSkillId() != null && visited.add(current.getId())) {
+                    weights.merge(current.getParentSkillId(), weight, Math::max);
+                    weight *= ANCESTOR_WEIGHT;
+                    current = skillCatalog.get(current.getParentSkillId());
+                }
+            }
+            return weights;
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Whether the index has been built and can answer searches
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    /**
+     * Version of the indexed data; changes whenever an engineer is added, updated or removed
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Number of engineers currently indexed
+     */
+    public int size() {
+        lock.readLock().lock();
+        try {
+            return documents.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    /**
+     * Split text into lower-cased, de-duplicated search terms
+     * @param text Text to tokenize
+     * @return Ordered set of terms (empty for null or blank text)
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> terms = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return terms;
+        }
+        for (String token : TOKEN_SEPARATOR.split(text.toLowerCase(Locale.ROOT))) {
+            if (!token.isEmpty()) {
+                terms.add(token);
+            }
+        }
+        return terms;
+    }
+
+    private NavigableMap<String, TreeSet<Integer>> prefixRange(String prefix) {
+        return postings.subMap(prefix, true, prefix + Character.MAX_VALUE, false);
+    }
+
+    private void addDescendants(Map<Integer, Double> weights, Map<Integer, List<Integer>> childrenByParent,
+                                Integer skillId, double weight) {
+        Double existing = weights.get(skillId);
+        if (existing != null && existing >= weight) {
+            return;
+        }
+        weights.put(skillId, weight);
+        for (Integer childId : childrenByParent.getOrDefault(skillId, List.of())) {
+            addDescendants(weights, childrenByParent, childId, weight * DESCENDANT_WEIGHT);
+        }
+    }
+
+    private IndexedEngineer createDocument(Engineer engineer, Collection<EngineerSkill> engineerSkills,
+                                           Map<Integer, Skill> skills) {
+        Set<String> terms = new HashSet<>();
+        terms.addAll(tokenize(engineer.getFullName()));
+        terms.addAll(tokenize(engineer.getSummary()));
+        terms.addAll(tokenize(engineer.getPrimarySkill()));
+
+        List<IndexedEngineer.SkillEntry> skillEntries = new ArrayList<>();
+        for (EngineerSkill engineerSkill : engineerSkills) {
+            Skill skill = skills.get(engineerSkill.getSkillId());
+            if (skill != null) {
+                terms.addAll(tokenize(skill.getName()));
+            }
+            skillEntries.add(new IndexedEngineer.SkillEntry(
+                    engineerSkill.getSkillId(), engineerSkill.getLevel(), engineerSkill.getYears()));
+        }
+        return new IndexedEngineer(engineer, terms, skillEntries);
+    }
+
+    private static void addPostings(TreeMap<String, TreeSet<Integer>> target, IndexedEngineer document) {
+        for (String term : document.getTerms()) {
+            target.computeIfAbsent(term, key -> new TreeSet<>()).add(document.getId());
+        }
+    }
+
+    /**
+     * Remove a document from the postings and bitmaps
+     * @return Whether the document was indexed
+     */
+    private boolean removeDocument(Integer engineerId) {
+        IndexedEngineer document = documents.remove(engineerId);
+        if (document == null) {
+            return false;
+        }
+        removePostings(document);
+        bitmaps.remove(document);
+        return true;
+    }
+
+    private void removePostings(IndexedEngineer document) {
+        if (document == null) {
+            return;
+        }
+        for (String term : document.getTerms()) {
+            TreeSet<Integer> posting = postings.get(term);
+            if (posting != null) {
+                posting.remove(document.getId());
+                if (posting.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+        }
+    }
+}
@@ -2,18 +2,42 @@ package com.skillbridge.service.engineer;
 
 import com.skillbridge.dto.engineer.request.SearchCriteria;
 import com.skillbridge.dto.engineer.response.EngineerProfile;
+import com.skillbridge.dto.engineer.response.EngineerSearchFacets;
 import com.skillbridge.dto.engineer.response.EngineerSearchResponse;
+import com.skillbridge.dto.engineer.response.EngineerSuggestion;
 import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.repository.engineer.EngineerLanguageRepository;
 import com.skillbridge.repository.engineer.EngineerRepository;
 import com.skillbridge.service.common.S3Service;
+import com.skillbridge.service.common.SingleFlight;
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
 
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.atomic.AtomicLong;
 import java.util.stream.Collectors;
 
 @Service
@@ -22,13 +46,223 @@ public class EngineerSearchService {
     @Autowired
     private EngineerRepository engineerRepository;
 
+    @Autowired
+    private EngineerLanguageRepository engineerLanguageRepository;
+
+    @Autowired
+    private EngineerSearchIndex engineerSearchIndex;
+
+    @Autowired
+    private EngineerSuggestionIndex engineerSuggestionIndex;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
     @Autowired(required = false)
     private S3Service s3Service;
 
+    @Autowired(required = false)
+    private MeterRegistry meterRegistry;
+
+    @Value("${engineer-search.cache.max-size:1000}")
+    private int resultCacheMaxSize;
+
+    @Value("${engineer-search.cache.ttl-seconds:60}")
+    private long resultCacheTtlSeconds;
+
+    // Canonical criteria key -> search response, least recently used entries are evicted first
+    private final Map<String, CachedResponse> resultCache = Collections.synchronizedMap(
+        new LinkedHashMap<String, CachedResponse>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, CachedResponse> eldest) {
+                return size() > resultCacheMaxSize;
+            }
+        });
+
+    private final AtomicLong resultCacheHits = new AtomicLong();
+    private final AtomicLong resultCacheMisses = new AtomicLong();
+
+    // Facets of all engineers, valid while the search index stays at the same version
+    private volatile CachedFacets unfilteredFacets;
+
+    /**
+     * Register search result cache metrics (exposed through /actuator/metrics)
+     */
+    @PostConstruct
+    public void registerMetrics() {
+        if (meterRegistry == null) {
+            return;
+        }
+        FunctionCounter.builder("engineer.search.cache", resultCacheHits, AtomicLong::get)
+            .tag("result", "hit")
+            .description("Engineer searches served from the result cache")
+            .register(meterRegistry);
+        FunctionCounter.builder("engineer.search.cache", resultCacheMisses, AtomicLong::get)
+            .tag("result", "miss")
+            .description("Engineer searches computed from the search index")
+            .register(meterRegistry);
+        Gauge.builder("engineer.search.cache.size", resultCache, Map::size)
+            .description("Number of cached engineer search responses")
+            .register(meterRegistry);
+    }
+
+    /**
+     * Drop cached search results once a change to an engineer has committed
+     * Entries are also checked against the index version, so a response computed concurrently is never reused
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngineerChanged(EngineerChangedEvent event) {
+        resultCache.clear();
+    }
+
     /**
      * Search engineers based on criteria with pagination
+     * Matching, filtering and ranking run against the in-memory search index;
+     * the database is only used to load the engineers of the requested page.
+     * When criteria carries a cursor, the page continues after the cursor (keyset mode)
+     * and the total count is not computed.
+     * Keyset mode needs the index: while it is still building on startup a cursor is rejected
+     * with IllegalStateException rather than answered with an offset page and a count.
+     * Facet counts of the whole result set are collected in the same pass.
      */
     public EngineerSearchResponse searchEngineers(SearchCriteria criteria) {
+        EngineerSearchCursor cursor = decodeCursor(criteria);
+        if (!engineerSearchIndex.isReady()) {
+            if (cursor != null) {
+                throw new IllegalStateException("Search index is not ready; cursor pagination is unavailable");
+            }
+            return searchWithRepository(criteria);
+        }
+
+        // Identical criteria (e.g. the default anonymous search) are answered from the result cache
+        // while the index stays at the version the response was computed at
+        String cacheKey = SearchCriteriaKey.of(criteria, resolveSortBy(criteria));
+        long version = engineerSearchIndex.getVersion();
+        long now = System.currentTimeMillis();
+        CachedResponse cached = resultCache.get(cacheKey);
+        if (cached != null && cached.version == version && cached.expiresAtMillis > now) {
+            resultCacheHits.incrementAndGet();
+            return cached.response;
+        }
+        resultCacheMisses.incrementAndGet();
+
+        EngineerSearchResponse response = searchIndex(criteria, cursor);
+        resultCache.put(cacheKey, new CachedResponse(response, version, now + resultCacheTtlSeconds * 1000));
+        return response;
+    }
+
+    /**
+     * Search engineers with the in-memory search index
+     */
+    private EngineerSearchResponse searchIndex(SearchCriteria criteria, EngineerSearchCursor cursor) {
+        Pageable pageable = createPageable(criteria);
+        EngineerRelevanceScorer scorer = new EngineerRelevanceScorer(
+            engineerSearchIndex, criteria.getSkills(), criteria.getQuery());
+        Comparator<ScoredEngineer> comparator = createComparator(criteria, scorer);
+        List<LanguageProficiency.Requirement> languageRequirements = parseLanguageRequirements(criteria);
+        ScoredEngineer boundary = cursor != null
+            ? new ScoredEngineer(cursor.toIndexedEngineer(), cursor.getScore())
+            : null;
+
+        // Keep only the best offset + size candidates (plus one to detect a next page)
+        // instead of sorting every match; keyset pages start right after the cursor
+        long offset = cursor != null ? 0 : pageable.getOffset();
+        int limit = (int) Math.min(Integer.MAX_VALUE - 1, offset + pageable.getPageSize()) + 1;
+        PriorityQueue<ScoredEngineer> topCandidates = new PriorityQueue<>(comparator.reversed());
+        EngineerFacetCounter facetCounter = new EngineerFacetCounter();
+        long total = 0;
+
+        // Attribute filters are answered by the bitmap index; the remaining checks (languages) run per engineer
+        for (IndexedEngineer engineer : engineerSearchIndex.match(criteria.getQuery(), EngineerFilter.from(criteria))) {
+            if (!matchesLanguages(engineer, languageRequirements)) {
+                continue;
+            }
+            double score = scorer.score(engineer);
+            if (score < 0) {
+                continue;
+            }
+
+            // Facets describe the full result set, including pages before the cursor
+            facetCounter.add(engineer);
+
+            ScoredEngineer candidate = new ScoredEngineer(engineer, score);
+            if (boundary != null && comparator.compare(candidate, boundary) <= 0) {
+                continue;
+            }
+
+            total++;
+            if (topCandidates.size() < limit) {
+                topCandidates.offer(candidate);
+            } else if (comparator.compare(candidate, topCandidates.peek()) < 0) {
+                topCandidates.poll();
+                topCandidates.offer(candidate);
+            }
+        }
+
+        List<ScoredEngineer> ranked = new ArrayList<>(topCandidates);
+        ranked.sort(comparator);
+
+        int from = (int) Math.min(offset, ranked.size());
+        int to = (int) Math.min(offset + pageable.getPageSize(), ranked.size());
+        List<ScoredEngineer> pageCandidates = ranked.subList(from, to);
+        List<Integer> pageIds = pageCandidates.stream()
+            .map(candidate -> candidate.getEngineer().getId())
+            .collect(Collectors.toList());
+
+        String nextCursor = null;
+        if (ranked.size() > to && !pageCandidates.isEmpty()) {
+            ScoredEngineer last = pageCandidates.get(pageCandidates.size() - 1);
+            long position = (cursor != null ? cursor.getOffset() : pageable.getOffset()) + pageCandidates.size();
+            nextCursor = EngineerSearchCursor.after(
+                resolveSortBy(criteria), last.getEngineer(), last.getScore(), position).encode();
+        }
+
+        Page<Engineer> engineerPage = new PageImpl<>(loadEngineers(pageIds), pageable, total);
+        EngineerSearchResponse response = toResponse(engineerPage, cursor != null, nextCursor);
+        response.setFacets(facetCounter.toFacets());
+        return response;
+    }
+
+    /**
+     * Get value-plus-count facets of all engineers for the filter sidebar
+     * Computed in one pass over the search index and cached until engineer data changes
+     * (tracked through the index version); before the index is built they are counted from the database.
+     * Concurrent misses share one count.
+     */
+    public EngineerSearchFacets getFacets() {
+        if (!engineerSearchIndex.isReady()) {
+            return singleFlight.execute("engineer-facets", "database", () -> {
+                EngineerFacetCounter facetCounter = new EngineerFacetCounter();
+                for (Engineer engineer : engineerRepository.findAll()) {
+                    facetCounter.add(new IndexedEngineer(engineer, Set.of(), List.of()));
+                }
+                return facetCounter.toFacets();
+            });
+        }
+
+        // Read the version before the data: a concurrent change then only makes this entry stale
+        long version = engineerSearchIndex.getVersion();
+        CachedFacets cached = unfilteredFacets;
+        if (cached != null && cached.version == version) {
+            return cached.facets;
+        }
+
+        return singleFlight.execute("engineer-facets", "index:" + version, () -> {
+            EngineerFacetCounter facetCounter = new EngineerFacetCounter();
+            for (IndexedEngineer engineer : engineerSearchIndex.match(null)) {
+                facetCounter.add(engineer);
+            }
+            EngineerSearchFacets facets = facetCounter.toFacets();
+            unfilteredFacets = new CachedFacets(version, facets);
+            return facets;
+        });
+    }
+
+    /**
+     * Search engineers with the database query
+     * Used for offset pages until the search index has finished building on startup
+     */
+    private EngineerSearchResponse searchWithRepository(SearchCriteria criteria) {
         // Create pageable with sorting
         Pageable pageable = createPageable(criteria);
 
@@ -37,6 +271,12 @@ public class EngineerSearchService {
             ? criteria.getSkills().get(0) 
             : null;
 
+        // Engineers speaking every requested language, resolved through idx_engineer_languages_language_level
+        List<Integer> languageEngineerIds = findEngineerIdsByLanguages(parseLanguageRequirements(criteria));
+        if (languageEngineerIds != null && languageEngineerIds.isEmpty()) {
+            return toResponse(Page.empty(pageable), false, null);
+        }
+
         // Execute search
         Page<Engineer> engineerPage = engineerRepository.searchEngineers(
             criteria.getQuery(),
@@ -48,22 +288,177 @@ public class EngineerSearchService {
             criteria.getSalaryMin(),
             criteria.getSalaryMax(),
             criteria.getAvailability(),
+            languageEngineerIds,
             pageable
         );
 
+        String nextCursor = null;
+        if (engineerPage.hasNext() && engineerPage.hasContent()) {
+            List<Engineer> content = engineerPage.getContent();
+            IndexedEngineer last = new IndexedEngineer(content.get(content.size() - 1), Set.of(), List.of());
+            nextCursor = EngineerSearchCursor.after(resolveSortBy(criteria), last, 0,
+                pageable.getOffset() + content.size()).encode();
+        }
+
+        return toResponse(engineerPage, false, nextCursor);
+    }
+
+    /**
+     * Parse the languages filter of the criteria ("Japanese", "Japanese:Business", "JLPT N2", ...)
+     * Every requirement must be satisfied
+     */
+    private List<LanguageProficiency.Requirement> parseLanguageRequirements(SearchCriteria criteria) {
+        List<LanguageProficiency.Requirement> requirements = new ArrayList<>();
+        if (criteria.getLanguages() != null) {
+            for (String language : criteria.getLanguages()) {
+                LanguageProficiency.Requirement requirement = LanguageProficiency.parseRequirement(language);
+                if (requirement != null) {
+                    requirements.add(requirement);
+                }
+            }
+        }
+        return requirements;
+    }
+
+    /**
+     * Find the IDs of engineers satisfying every language requirement
+     * @return Engineer IDs, or null when there is no language requirement
+     */
+    private List<Integer> findEngineerIdsByLanguages(List<LanguageProficiency.Requirement> requirements) {
+        if (requirements.isEmpty()) {
+            return null;
+        }
+
+        Set<Integer> engineerIds = null;
+        for (LanguageProficiency.Requirement requirement : requirements) {
+            Set<Integer> matches = new HashSet<>(engineerLanguageRepository.findEngineerIdsByLanguage(
+                requirement.getLanguage(), requirement.getMinLevel()));
+            if (engineerIds == null) {
+                engineerIds = matches;
+            } else {
+                engineerIds.retainAll(matches);
+            }
+            if (engineerIds.isEmpty()) {
+                break;
+            }
+        }
+        return new ArrayList<>(engineerIds);
+    }
+
+    /**
+     * Decode the cursor of the criteria, checking that it belongs to the requested sort order
+     */
+    private EngineerSearchCursor decodeCursor(SearchCriteria criteria) {
+        if (criteria.getCursor() == null || criteria.getCursor().isBlank()) {
+            return null;
+        }
+
+        EngineerSearchCursor cursor = EngineerSearchCursor.decode(criteria.getCursor());
+        if (!cursor.getSortBy().equals(resolveSortBy(criteria))) {
+            throw new IllegalArgumentException("Search cursor does not match the requested sort order");
+        }
+        return cursor;
+    }
+
+    private String resolveSortBy(SearchCriteria criteria) {
+        return criteria.getSortBy() != null ? criteria.getSortBy() : "relevance";
+    }
+
+    /**
+     * Convert a page of engineers to the search response
+     * Keyset pages carry no total count or page number
+     */
+    private EngineerSearchResponse toResponse(Page<Engineer> engineerPage, boolean keyset, String nextCursor) {
         // Convert to DTOs
         List<EngineerProfile> profiles = engineerPage.getContent().stream()
             .map(this::convertToProfile)
             .collect(Collectors.toList());
 
         // Build response
-        return new EngineerSearchResponse(
+        EngineerSearchResponse response = new EngineerSearchResponse(
             profiles,
-            engineerPage.getTotalElements(),
-            engineerPage.getNumber(),
-            engineerPage.getTotalPages(),
+            keyset ? null : engineerPage.getTotalElements(),
+            keyset ? null : engineerPage.getNumber(),
+            keyset ? null : engineerPage.getTotalPages(),
             engineerPage.getSize()
         );
+        response.setNextCursor(nextCursor);
+        return response;
+    }
+
+    /**
+     * Load engineers by ID, keeping the order of the given IDs
+     */
+    private List<Engineer> loadEngineers(List<Integer> ids) {
+        if (ids.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Integer, Engineer> engineersById = new HashMap<>();
+        for (Engineer engineer : engineerRepository.findAllById(ids)) {
+            engineersById.put(engineer.getId(), engineer);
+        }
+
+        // Engineers deleted since the index was read are skipped
+        return ids.stream()
+            .map(engineersById::get)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toList());
+    }
+
+    /**
+     * Check the language requirements of the criteria against an indexed engineer
+     * Other attribute filters are applied by the bitmap index, skills by the relevance scorer
+     */
+    private boolean matchesLanguages(IndexedEngineer engineer, List<LanguageProficiency.Requirement> languageRequirements) {
+        for (LanguageProficiency.Requirement requirement : languageRequirements) {
+            if (!requirement.isSatisfiedBy(engineer.getLanguages())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Create comparator for scored engineers matching the sort options of createPageable
+     * Relevance ranks by score when skills or a query were given; ties are broken by experience and ID
+     */
+    private Comparator<ScoredEngineer> createComparator(SearchCriteria criteria, EngineerRelevanceScorer scorer) {
+        Comparator<ScoredEngineer> byExperience = Comparator.comparing(
+            candidate -> candidate.getEngineer().getYearsExperience(),
+            Comparator.nullsLast(Comparator.<Integer>reverseOrder()));
+        Comparator<ScoredEngineer> comparator;
+
+        switch (criteria.getSortBy() != null ? criteria.getSortBy() : "relevance") {
+            case "experience":
+                comparator = byExperience;
+                break;
+            case "seniority":
+                comparator = Comparator.comparing(candidate -> candidate.getEngineer().getSeniority(),
+                    Comparator.nullsLast(Comparator.<String>naturalOrder()));
+                break;
+            case "salary":
+                comparator = Comparator.comparing(candidate -> candidate.getEngineer().getSalaryExpectation(),
+                    Comparator.nullsLast(Comparator.<BigDecimal>reverseOrder()));
+                break;
+            default:
+                comparator = scorer.hasCriteria()
+                    ? Comparator.comparingDouble(ScoredEngineer::getScore).reversed().thenComparing(byExperience)
+                    : byExperience;
+                break;
+        }
+
+        return comparator.thenComparing(candidate -> candidate.getEngineer().getId());
+    }
+
+    /**
+     * Get typeahead completions (engineer names, skills and locations) for the search box
+     * Served from the in-memory suggestion trie, never from the database
+     * @param prefix Typed text
+     * @param limit Maximum number of suggestions
+     */
+    public List<EngineerSuggestion> suggest(String prefix, int limit) {
+        return engineerSuggestionIndex.suggest(prefix, limit);
     }
 
     /**
@@ -163,5 +558,56 @@ public class EngineerSearchService {
             sort
         );
     }
-}
 
+    /**
+     * Indexed engineer with its relevance score for the current search
+     */
+    private static class ScoredEngineer {
+
+        private final IndexedEngineer engineer;
+        private final double score;
+
+        private ScoredEngineer(IndexedEngineer engineer, double score) {
+            this.engineer = engineer;
+            this.score = score;
+        }
+
+        public IndexedEngineer getEngineer() {
+            return engineer;
+        }
+
+        public double getScore() {
+            return score;
+        }
+    }
+
+    /**
+     * Unfiltered facets with the search index version they were computed at
+     */
+    private static class CachedFacets {
+
+        private final long version;
+        private final EngineerSearchFacets facets;
+
+        private CachedFacets(long version, EngineerSearchFacets facets) {
+            this.version = version;
+            this.facets = facets;
+        }
+    }
+
+    /**
+     * Search response with the index version it was computed at and its expiry
+     */
+    private static class CachedResponse {
+
+        private final EngineerSearchResponse response;
+        private final long version;
+        private final long expiresAtMillis;
+
+        private CachedResponse(EngineerSearchResponse response, long version, long expiresAtMillis) {
+            this.response = response;
+            this.version = version;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+    }
+}
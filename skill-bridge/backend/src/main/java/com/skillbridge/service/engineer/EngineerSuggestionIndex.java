@@ -0,0 +1,339 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.response.EngineerSuggestion;
+import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.entity.engineer.EngineerSkill;
+import com.skillbridge.entity.engineer.Skill;
+import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.repository.engineer.SkillRepository;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.stream.Collectors;
+
+/**
+ * Engineer Suggestion Index
+ * In-memory typeahead over engineer names, skills (including sub-skills) and locations,
+ * backed by a {@link SuggestionTrie}. Skills and locations carry the number of engineers
+ * having them, which is used for ranking. Built on startup and maintained incrementally
+ * through {@link EngineerChangedEvent}s and {@link SkillChangedEvent}s.
+ */
+@Component
+public class EngineerSuggestionIndex {
+
+    private static final Logger logger = LoggerFactory.getLogger(EngineerSuggestionIndex.class);
+
+    public static final String TYPE_ENGINEER = "engineer";
+    public static final String TYPE_SKILL = "skill";
+    public static final String TYPE_LOCATION = "location";
+
+    /**
+     * Upper bound of trie matches ranked per lookup, keeping short prefixes cheap
+     */
+    private static final int MAX_CANDIDATES = 200;
+
+    @Autowired
+    private EngineerRepository engineerRepository;
+
+    @Autowired
+    private EngineerSkillRepository engineerSkillRepository;
+
+    @Autowired
+    private SkillRepository skillRepository;
+
+    private final ReentrantReadWriteLock lock = new ReentrantReadWriteLock();
+
+    private SuggestionTrie trie = new SuggestionTrie();
+
+    // Suggestion key -> suggestion (with its current engineer count)
+    private Map<String, Entry> entries = new HashMap<>();
+
+    // Engineer ID -> what the engineer contributed, so updates can retract the previous state
+    private Map<Integer, Contribution> contributions = new HashMap<>();
+
+    private volatile boolean ready = false;
+
+    /**
+     * Build the whole index from the database once the application has started
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+
+        SuggestionTrie newTrie = new SuggestionTrie();
+        Map<String, Entry> newEntries = new HashMap<>();
+        Map<Integer, Contribution> newContributions = new HashMap<>();
+
+        for (Skill skill : skillRepository.findAll()) {
+            addSkill(newTrie, newEntries, skill, 0);
+        }
+        Map<Integer, List<EngineerSkill>> skillsByEngineer = engineerSkillRepository.findAll().stream()
+                .collect(Collectors.groupingBy(EngineerSkill::getEngineerId));
+        for (Engineer engineer : engineerRepository.findAll()) {
+            Contribution contribution = new Contribution(engineer,
+                    skillsByEngineer.getOrDefault(engineer.getId(), List.of()));
+            addContribution(newTrie, newEntries, contribution);
+            newContributions.put(engineer.getId(), contribution);
+        }
+
+        lock.writeLock().lock();
+        try {
+            trie = newTrie;
+            entries = newEntries;
+            contributions = newContributions;
+            ready = true;
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        logger.info("Engineer suggestion index built: {} suggestions in {} ms",
+                newEntries.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Refresh the suggestions of a single engineer after the transaction that changed it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onEngineerChanged(EngineerChangedEvent event) {
+        Integer engineerId = event.getEngineerId();
+        if (engineerId == null) {
+            return;
+        }
+
+        Contribution contribution = null;
+        if (event.getChangeType() != EngineerChangedEvent.ChangeType.DELETED) {
+            contribution = engineerRepository.findById(engineerId)
+                    .map(engineer -> new Contribution(engineer, engineerSkillRepository.findByEngineerId(engineerId)))
+                    .orElse(null);
+        }
+
+        lock.writeLock().lock();
+        try {
+            Contribution previous = contributions.remove(engineerId);
+            if (previous != null) {
+                removeContribution(previous);
+            }
+            if (contribution != null) {
+                addContribution(trie, entries, contribution);
+                contributions.put(engineerId, contribution);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Refresh a single skill after the transaction that changed it has committed
+     */
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT, fallbackExecution = true)
+    public void onSkillChanged(SkillChangedEvent event) {
+        Integer skillId = event.getSkillId();
+        if (skillId == null) {
+            return;
+        }
+
+        Skill skill = event.getChangeType() == SkillChangedEvent.ChangeType.DELETED
+                ? null
+                : skillRepository.findById(skillId).orElse(null);
+        String key = skillKey(skillId);
+
+        lock.writeLock().lock();
+        try {
+            Entry previous = entries.remove(key);
+            if (previous != null) {
+                trie.remove(previous.value, key);
+            }
+            if (skill != null && skill.getName() != null && !skill.getName().isBlank()) {
+                int count = (int) contributions.values().stream()
+                        .filter(contribution -> contribution.skillIds.contains(skillId))
+                        .count();
+                addSkill(trie, entries, skill, count);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    /**
+     * Get ranked completions for a typed prefix
+     * Completions starting with the prefix rank above matches of an inner word;
+     * then skills and locations shared by more engineers rank higher
+     * @param prefix Typed prefix
+     * @param limit Maximum number of suggestions
+     * @return Suggestions (empty until the index has been built)
+     */
+    public List<EngineerSuggestion> suggest(String prefix, int limit) {
+        List<EngineerSuggestion> suggestions = new ArrayList<>();
+        if (!ready || limit <= 0 || prefix == null || prefix.isBlank()) {
+            return suggestions;
+        }
+
+        List<Candidate> candidates = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            trie.find(prefix, MAX_CANDIDATES).forEach((key, leading) -> {
+                Entry entry = entries.get(key);
+                if (entry != null) {
+                    candidates.add(new Candidate(entry, leading));
+                }
+            });
+
+            candidates.sort(Comparator
+                    .comparing((Candidate candidate) -> !candidate.leading)
+                    .thenComparing(candidate -> candidate.entry.count, Comparator.reverseOrder())
+                    .thenComparing(candidate -> candidate.entry.value.length())
+                    .thenComparing(candidate -> candidate.entry.value));
+
+            for (Candidate candidate : candidates.subList(0, Math.min(limit, candidates.size()))) {
+                Entry entry = candidate.entry;
+                suggestions.add(new EngineerSuggestion(entry.type, entry.value, entry.id,
+                        TYPE_ENGINEER.equals(entry.type) ? null : entry.count));
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+        return suggestions;
+    }
+
+    /**
+     * Whether the index has been built and can answer lookups
+     */
+    public boolean isReady() {
+        return ready;
+    }
+
+    private void addSkill(SuggestionTrie target, Map<String, Entry> targetEntries, Skill skill, int count) {
+        if (skill.getName() == null || skill.getName().isBlank()) {
+            return;
+        }
+        String key = skillKey(skill.getId());
+        Entry entry = new Entry(TYPE_SKILL, skill.getName().trim(), skill.getId());
+        entry.count = count;
+        targetEntries.put(key, entry);
+        target.insert(entry.value, key);
+    }
+
+    private void addContribution(SuggestionTrie target, Map<String, Entry> targetEntries, Contribution contribution) {
+        if (contribution.fullName != null) {
+            String key = TYPE_ENGINEER + ":" + contribution.engineerId;
+            targetEntries.put(key, new Entry(TYPE_ENGINEER, contribution.fullName, contribution.engineerId));
+            target.insert(contribution.fullName, key);
+        }
+
+        if (contribution.location != null) {
+            String key = locationKey(contribution.location);
+            Entry entry = targetEntries.computeIfAbsent(key, k -> {
+                target.insert(contribution.location, k);
+                return new Entry(TYPE_LOCATION, contribution.location, null);
+            });
+            entry.count++;
+        }
+
+        for (Integer skillId : contribution.skillIds) {
+            Entry entry = targetEntries.get(skillKey(skillId));
+            if (entry != null) {
+                entry.count++;
+            }
+        }
+    }
+
+    private void removeContribution(Contribution contribution) {
+        if (contribution.fullName != null) {
+            String key = TYPE_ENGINEER + ":" + contribution.engineerId;
+            entries.remove(key);
+            trie.remove(contribution.fullName, key);
+        }
+
+        if (contribution.location != null) {
+            String key = locationKey(contribution.location);
+            Entry entry = entries.get(key);
+            if (entry != null && --entry.count <= 0) {
+                // Locations only exist through engineers
+                entries.remove(key);
+                trie.remove(entry.value, key);
+            }
+        }
+
+        for (Integer skillId : contribution.skillIds) {
+            Entry entry = entries.get(skillKey(skillId));
+            if (entry != null && entry.count > 0) {
+                entry.count--;
+            }
+        }
+    }
+
+    private static String skillKey(Integer skillId) {
+        return TYPE_SKILL + ":" + skillId;
+    }
+
+    private static String locationKey(String location) {
+        return TYPE_LOCATION + ":" + SuggestionTrie.normalize(location);
+    }
+
+    private static String trimToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    /**
+     * A suggestion with its mutable engineer count
+     */
+    private static class Entry {
+
+        private final String type;
+        private final String value;
+        private final Integer id;
+        private int count;
+
+        private Entry(String type, String value, Integer id) {
+            this.type = type;
+            this.value = value;
+            this.id = id;
+        }
+    }
+
+    private static class Candidate {
+
+        private final Entry entry;
+        private final boolean leading;
+
+        private Candidate(Entry entry, boolean leading) {
+            this.entry = entry;
+            this.leading = leading;
+        }
+    }
+
+    /**
+     * Name, location and skills an engineer contributes to the index
+     */
+    private static class Contribution {
+
+        private final Integer engineerId;
+        private final String fullName;
+        private final String location;
+        private final Set<Integer> skillIds = new TreeSet<>();
+
+        private Contribution(Engineer engineer, List<EngineerSkill> engineerSkills) {
+            this.engineerId = engineer.getId();
+            this.fullName = trimToNull(engineer.getFullName());
+            this.location = trimToNull(engineer.getLocation());
+            for (EngineerSkill engineerSkill : engineerSkills) {
+                skillIds.add(engineerSkill.getSkillId());
+            }
+        }
+    }
+}
@@ -0,0 +1,131 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Indexed Engineer
+ * Immutable snapshot of the searchable attributes of an engineer held by {@link EngineerSearchIndex}.
+ * Filtering and sorting run against these snapshots; full entities are only loaded for the returned page.
+ */
+public class IndexedEngineer {
+
+    private final Integer id;
+    private final String fullName;
+    private final Integer yearsExperience;
+    private final String seniority;
+    private final String location;
+    private final String status;
+    private final BigDecimal salaryExpectation;
+    private final String primarySkill;
+    private final LocalDateTime createdAt;
+    private final Map<String, Integer> languages;
+    private final Set<String> terms;
+    private final List<SkillEntry> skills;
+
+    public IndexedEngineer(Engineer engineer, Set<String> terms, List<SkillEntry> skills) {
+        this.id = engineer.getId();
+        this.fullName = engineer.getFullName();
+        this.yearsExperience = engineer.getYearsExperience();
+        this.seniority = engineer.getSeniority();
+        this.location = engineer.getLocation();
+        this.status = engineer.getStatus();
+        this.salaryExpectation = engineer.getSalaryExpectation();
+        this.primarySkill = engineer.getPrimarySkill();
+        this.createdAt = engineer.getCreatedAt();
+        this.languages = Collections.unmodifiableMap(LanguageProficiency.parse(engineer.getLanguageSummary()));
+        this.terms = Collections.unmodifiableSet(terms);
+        this.skills = Collections.unmodifiableList(skills);
+    }
+
+    public Integer getId() {
+        return id;
+    }
+
+    public String getFullName() {
+        return fullName;
+    }
+
+    public Integer getYearsExperience() {
+        return yearsExperience;
+    }
+
+    public String getSeniority() {
+        return seniority;
+    }
+
+    public String getLocation() {
+        return location;
+    }
+
+    public String getStatus() {
+        return status;
+    }
+
+    public BigDecimal getSalaryExpectation() {
+        return salaryExpectation;
+    }
+
+    public String getPrimarySkill() {
+        return primarySkill;
+    }
+
+    public LocalDateTime getCreatedAt() {
+        return createdAt;
+    }
+
+    /**
+     * Spoken languages (lower-cased name) with their level rank, parsed from the language summary
+     */
+    public Map<String, Integer> getLanguages() {
+        return languages;
+    }
+
+    /**
+     * Terms this engineer is posted under in the inverted index
+     */
+    public Set<String> getTerms() {
+        return terms;
+    }
+
+    /**
+     * Skills of this engineer from the engineer_skills table
+     */
+    public List<SkillEntry> getSkills() {
+        return skills;
+    }
+
+    /**
+     * Skill entry of an indexed engineer (skill ID with level and years of experience)
+     */
+    public static class SkillEntry {
+
+        private final Integer skillId;
+        private final String level;
+        private final Integer years;
+
+        public SkillEntry(Integer skillId, String level, Integer years) {
+            this.skillId = skillId;
+            this.level = level;
+            this.years = years;
+        }
+
+        public Integer getSkillId() {
+            return skillId;
+        }
+
+        public String getLevel() {
+            return level;
+        }
+
+        public Integer getYears() {
+            return years;
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package com.skillbridge.service.engineer;
+
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Language Proficiency
+ * Parses the free text engineers.language_summary (e.g. "English (Fluent), Japanese (JLPT N2)")
+ * into structured language -> level pairs, and parses the languages search filter.
+ * Languages are keyed by their lower-cased English name; levels are ranked so that
+ * a filter such as "Japanese:Business" matches every engineer at Business level or above.
+ */
+public final class LanguageProficiency {
+
+    /**
+     * Level rank used when the level is missing or not recognized; only matches "any level" filters
+     */
+    public static final int UNKNOWN_LEVEL = 0;
+
+    private static final Pattern ENTRY_SEPARATOR = Pattern.compile("[,;/\\n]+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern PARENTHESIZED = Pattern.compile("^(.*?)[(（](.*?)[)）]?\\s*$");
+
+    private static final Map<String, Integer> LEVELS = new LinkedHashMap<>();
+    private static final Map<String, String> LANGUAGE_ALIASES = new LinkedHashMap<>();
+
+    static {
+        LEVELS.put("basic", 1);
+        LEVELS.put("beginner", 1);
+        LEVELS.put("elementary", 1);
+        LEVELS.put("n5", 1);
+        LEVELS.put("n4", 1);
+        LEVELS.put("intermediate", 2);
+        LEVELS.put("conversational", 2);
+        LEVELS.put("n3", 2);
+        LEVELS.put("business", 3);
+        LEVELS.put("advanced", 3);
+        LEVELS.put("n2", 3);
+        LEVELS.put("fluent", 4);
+        LEVELS.put("n1", 4);
+        LEVELS.put("native", 5);
+
+        LANGUAGE_ALIASES.put("jlpt", "japanese");
+        LANGUAGE_ALIASES.put("ja", "japanese");
+        LANGUAGE_ALIASES.put("jp", "japanese");
+        LANGUAGE_ALIASES.put("日本語", "japanese");
+        LANGUAGE_ALIASES.put("en", "english");
+        LANGUAGE_ALIASES.put("英語", "english");
+        LANGUAGE_ALIASES.put("vi", "vietnamese");
+        LANGUAGE_ALIASES.put("ベトナム語", "vietnamese");
+    }
+
+    private LanguageProficiency() {
+    }
+
+    /**
+     * Parse a language summary into language -> level rank
+     * @param summary Free text language summary (may be null)
+     * @return Languages in order of appearance; the highest level wins when a language is repeated
+     */
+    public static Map<String, Integer> parse(String summary) {
+        Map<String, Integer> languages = new LinkedHashMap<>();
+        if (summary == null || summary.isBlank()) {
+            return languages;
+        }
+        for (String entry : ENTRY_SEPARATOR.split(summary)) {
+            Requirement parsed = parseEntry(entry);
+            if (parsed != null) {
+                languages.merge(parsed.getLanguage(), parsed.getMinLevel(), Math::max);
+            }
+        }
+        return languages;
+    }
+
+    /**
+     * Parse one languages filter value
+     * Accepts "Japanese", "Japanese:Business", "Japanese (N2)" or "JLPT N2"
+     * @param filter Filter value
+     * @return Requirement, or null when no language is given
+     */
+    public static Requirement parseRequirement(String filter) {
+        if (filter == null) {
+            return null;
+        }
+        return parseEntry(filter.replace(':', ' '));
+    }
+
+    /**
+     * Get the rank of a level name (Basic, Business, Fluent, JLPT N2, ...)
+     * @return Level rank, or {@link #UNKNOWN_LEVEL} when not recognized
+     */
+    public static int levelRank(String level) {
+        if (level == null) {
+            return UNKNOWN_LEVEL;
+        }
+        int rank = UNKNOWN_LEVEL;
+        for (String word : WORD_SEPARATOR.split(level.toLowerCase(Locale.ROOT))) {
+            rank = Math.max(rank, LEVELS.getOrDefault(word, UNKNOWN_LEVEL));
+        }
+        return rank;
+    }
+
+    private static Requirement parseEntry(String entry) {
+        String text = entry.trim();
+        if (text.isEmpty()) {
+            return null;
+        }
+
+        String name = text;
+        String level = null;
+        Matcher matcher = PARENTHESIZED.matcher(text);
+        if (matcher.matches()) {
+            name = matcher.group(1);
+            level = matcher.group(2);
+        }
+
+        // Without parentheses, trailing (or, for "JLPT N2", all) level words are split off the name
+        StringBuilder languageName = new StringBuilder();
+        StringBuilder levelWords = new StringBuilder(level != null ? level : "");
+        for (String word : WORD_SEPARATOR.split(name.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (LEVELS.containsKey(word)) {
+                levelWords.append(' ').append(word);
+            } else if (languageName.length() == 0) {
+                languageName.append(word);
+            } else if (!LANGUAGE_ALIASES.containsKey(word)
+                    && !LANGUAGE_ALIASES.containsKey(languageName.toString())) {
+                // Multi-word names such as "Brazilian Portuguese"; "Japanese JLPT N2" stays "japanese"
+                languageName.append(' ').append(word);
+            }
+        }
+        if (languageName.length() == 0) {
+            return null;
+        }
+
+        String language = languageName.toString();
+        return new Requirement(LANGUAGE_ALIASES.getOrDefault(language, language), levelRank(levelWords.toString()));
+    }
+
+    /**
+     * A language with a minimum level rank
+     */
+    public static class Requirement {
+
+        private final String language;
+        private final int minLevel;
+
+        public Requirement(String language, int minLevel) {
+            this.language = language;
+            this.minLevel = minLevel;
+        }
+
+        /**
+         * Whether the given parsed languages satisfy this requirement
+         */
+        public boolean isSatisfiedBy(Map<String, Integer> languages) {
+            Integer level = languages.get(language);
+            return level != null && level >= minLevel;
+        }
+
+        public String getLanguage() {
+            return language;
+        }
+
+        public int getMinLevel() {
+            return minLevel;
+        }
+    }
+}
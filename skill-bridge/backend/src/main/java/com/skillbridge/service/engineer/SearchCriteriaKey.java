@@ -0,0 +1,82 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.request.SearchCriteria;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+
+/**
+ * Search Criteria Key
+ * Canonical form of a {@link SearchCriteria}, used as the search result cache key.
+ * Criteria that always produce the same results map to the same key: text is trimmed and
+ * case-folded, list filters are de-duplicated and sorted, numbers drop trailing zeros.
+ */
+public final class SearchCriteriaKey {
+
+    private static final String SEPARATOR = "|";
+
+    private SearchCriteriaKey() {
+    }
+
+    /**
+     * Build the canonical key of the criteria
+     * @param criteria Search criteria
+     * @param sortBy Resolved sort option (defaults applied)
+     */
+    public static String of(SearchCriteria criteria, String sortBy) {
+        return String.join(SEPARATOR,
+                "q=" + normalizeText(criteria.getQuery()),
+                "skills=" + normalizeList(criteria.getSkills()),
+                "languages=" + normalizeLanguages(criteria.getLanguages()),
+                "seniority=" + normalizeList(criteria.getSeniority()),
+                "location=" + normalizeList(criteria.getLocation()),
+                "exp=" + criteria.getExperienceMin() + "-" + criteria.getExperienceMax(),
+                "salary=" + normalizeNumber(criteria.getSalaryMin()) + "-" + normalizeNumber(criteria.getSalaryMax()),
+                "available=" + Boolean.TRUE.equals(criteria.getAvailability()),
+                "sort=" + sortBy,
+                "page=" + criteria.getPage() + "x" + criteria.getSize(),
+                "cursor=" + Objects.toString(criteria.getCursor(), ""));
+    }
+
+    private static String normalizeText(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Null (no filter) and empty (matches nothing) lists stay distinct
+     */
+    private static String normalizeList(List<String> values) {
+        if (values == null) {
+            return "*";
+        }
+        return values.stream()
+                .map(SearchCriteriaKey::normalizeText)
+                .collect(Collectors.toCollection(TreeSet::new))
+                .toString();
+    }
+
+    private static String normalizeLanguages(List<String> languages) {
+        if (languages == null) {
+            return "*";
+        }
+        TreeSet<String> requirements = new TreeSet<>();
+        for (String language : languages) {
+            LanguageProficiency.Requirement requirement = LanguageProficiency.parseRequirement(language);
+            if (requirement != null) {
+                requirements.add(requirement.getLanguage() + ":" + requirement.getMinLevel());
+            }
+        }
+        return requirements.toString();
+    }
+
+    private static String normalizeNumber(BigDecimal value) {
+        return value == null ? "" : value.stripTrailingZeros().toPlainString();
+    }
+}
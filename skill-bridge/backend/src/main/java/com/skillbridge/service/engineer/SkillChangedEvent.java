@@ -0,0 +1,39 @@
+package com.skillbridge.service.engineer;
+
+/**
+ * Skill Changed Event
+ * Published by the admin skill master data write paths whenever a skill or sub-skill is
+ * created, renamed or deleted so that in-memory search structures can refresh the affected skill
+ */
+public class SkillChangedEvent {
+
+    public enum ChangeType {
+        CREATED,
+        UPDATED,
+        DELETED
+    }
+
+    private final Integer skillId;
+    private final ChangeType changeType;
+
+    public SkillChangedEvent(Integer skillId, ChangeType changeType) {
+        this.skillId = skillId;
+        this.changeType = changeType;
+    }
+
+    public Integer getSkillId() {
+        return skillId;
+    }
+
+    public ChangeType getChangeType() {
+        return changeType;
+    }
+
+    @Override
+    public String toString() {
+        return "SkillChangedEvent{" +
+                "skillId=" + skillId +
+                ", changeType=" + changeType +
+                '}';
+    }
+}
@@ -0,0 +1,143 @@
+package com.skillbridge.service.engineer;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * Suggestion Trie
+ * Character prefix trie mapping normalized text to suggestion keys.
+ * Every word start of a text is inserted, so "Spring Boot" is found by both "spr" and "boo".
+ * Not thread-safe; callers guard access.
+ */
+public class SuggestionTrie {
+
+    private final Node root = new Node();
+
+    /**
+     * Insert a text for a suggestion key
+     * @param text Display text (normalized internally)
+     * @param key Suggestion key
+     */
+    public void insert(String text, String key) {
+        String normalized = normalize(text);
+        for (int start : wordStarts(normalized)) {
+            Node node = root;
+            for (int i = start; i < normalized.length(); i++) {
+                node = node.children.computeIfAbsent(normalized.charAt(i), c -> new Node());
+            }
+            // Remember whether the key was inserted from the beginning of its text
+            node.keys.merge(key, start == 0, Boolean::logicalOr);
+        }
+    }
+
+    /**
+     * Remove a text previously inserted for a suggestion key
+     * @param text Display text used on insert
+     * @param key Suggestion key
+     */
+    public void remove(String text, String key) {
+        String normalized = normalize(text);
+        for (int start : wordStarts(normalized)) {
+            remove(root, normalized, start, key);
+        }
+    }
+
+    /**
+     * Find suggestion keys whose text has a word starting with the prefix
+     * Shorter completions are visited first (breadth-first)
+     * @param prefix Typed prefix
+     * @param maxKeys Maximum number of keys to collect
+     * @return Key -> whether the prefix matched the beginning of the whole text
+     */
+    public Map<String, Boolean> find(String prefix, int maxKeys) {
+        Map<String, Boolean> result = new LinkedHashMap<>();
+        String normalized = normalize(prefix);
+        if (normalized.isEmpty()) {
+            return result;
+        }
+
+        Node node = root;
+        for (int i = 0; i < normalized.length() && node != null; i++) {
+            node = node.children.get(normalized.charAt(i));
+        }
+        if (node == null) {
+            return result;
+        }
+
+        Deque<Node> queue = new ArrayDeque<>();
+        queue.add(node);
+        while (!queue.isEmpty() && result.size() < maxKeys) {
+            Node current = queue.poll();
+            for (Map.Entry<String, Boolean> entry : current.keys.entrySet()) {
+                result.merge(entry.getKey(), entry.getValue(), Boolean::logicalOr);
+                if (result.size() >= maxKeys) {
+                    break;
+                }
+            }
+            queue.addAll(current.children.values());
+        }
+        return result;
+    }
+
+    /**
+     * Whether the trie holds no keys
+     */
+    public boolean isEmpty() {
+        return root.children.isEmpty() && root.keys.isEmpty();
+    }
+
+    /**
+     * Lower-case and collapse whitespace so that lookups are case-insensitive
+     */
+    static String normalize(String text) {
+        if (text == null) {
+            return "";
+        }
+        return text.trim().replaceAll("\\s+", " ").toLowerCase(Locale.ROOT);
+    }
+
+    private static Set<Integer> wordStarts(String normalized) {
+        Set<Integer> starts = new HashSet<>();
+        for (int i = 0; i < normalized.length(); i++) {
+            if (Character.isLetterOrDigit(normalized.charAt(i))
+                    && (i == 0 || !Character.isLetterOrDigit(normalized.charAt(i - 1)))) {
+                starts.add(i);
+            }
+        }
+        if (!normalized.isEmpty()) {
+            // Texts starting with a symbol (".NET") are still found from their first character
+            starts.add(0);
+        }
+        return starts;
+    }
+
+    /**
+     * Remove the key below the node, pruning nodes left empty
+     * @return Whether the node itself is now empty
+     */
+    private boolean remove(Node node, String normalized, int index, String key) {
+        if (index == normalized.length()) {
+            node.keys.remove(key);
+        } else {
+            Node child = node.children.get(normalized.charAt(index));
+            if (child != null && remove(child, normalized, index + 1, key)) {
+                node.children.remove(normalized.charAt(index));
+            }
+        }
+        return node.keys.isEmpty() && node.children.isEmpty();
+    }
+
+    private static class Node {
+
+        private final TreeMap<Character, Node> children = new TreeMap<>();
+
+        // Suggestion key -> inserted from the beginning of its text
+        private final Map<String, Boolean> keys = new LinkedHashMap<>();
+    }
+}
@@ -166,31 +166,19 @@ public class ProposalListService {
     }
 
     /**
-     * Generate Proposal ID in format P-YYYY-NN
+     * Get Proposal ID in format P-YYYY-NN
      * YYYY = Year (4 digits)
-     * NN = Sequential number within that year (2 digits, zero-padded)
+     * NN = Sequential number within that year (2 digits, zero-padded), stored when the proposal is created
      */
     private String generateProposalId(Proposal proposal) {
-        if (proposal.getCreatedAt() == null || proposal.getId() == null) {
-            // Fallback format if missing data
-            if (proposal.getId() != null) {
-                return "P-0000-" + String.format("%02d", proposal.getId());
-            }
-            return "P-0000-00";
+        if (proposal.getDisplayId() != null) {
+            return proposal.getDisplayId();
         }
-
-        int year = proposal.getCreatedAt().getYear();
-        
-        // Count proposals in the same year with ID less than or equal to current
-        // For simplicity, we'll use a sequential number based on ID
-        // In production, you might want to use a more sophisticated approach
-        long countInYear = proposalRepository.findAll().stream()
-            .filter(p -> p.getCreatedAt() != null && p.getCreatedAt().getYear() == year)
-            .filter(p -> p.getId() != null && p.getId() <= proposal.getId())
-            .count();
-        
-        // Format: P-YYYY-NN
-        return String.format("P-%d-%02d", year, countInYear);
+        // Fallback format if missing data
+        if (proposal.getId() != null) {
+            return "P-0000-" + String.format("%02d", proposal.getId());
+        }
+        return "P-0000-00";
     }
 
     /**
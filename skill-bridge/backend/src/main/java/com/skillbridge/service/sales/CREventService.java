@@ -12,6 +12,7 @@ import org.springframework.transaction.annotation.Transactional;
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.stream.Collectors;
 
@@ -247,6 +248,92 @@ public class CREventService {
         return baselineAmount.add(eventTotal);
     }
     
+    /**
+     * Calculate the billing timeline of a SOW contract: every month that has a baseline billing
+     * or an approved billing event, oldest first
+     * Current = Baseline + Sum of all approved events, per month. Baseline and events are loaded once
+     * and combined in a single merge of the two month-ordered lists.
+     * @param sowContractId SOW contract ID
+     * @return Billing per month (amount and description)
+     */
+    public List<BillingMonth> calculateBillingTimeline(Integer sowContractId) {
+        // Baseline has at most one row per month (uk_base_sow_month)
+        List<RetainerBillingBase> baseline = retainerBillingBaseRepository
+            .findBySowContractIdOrderByBillingMonthDesc(sowContractId).stream()
+            .filter(b -> b.getBillingMonth() != null)
+            .sorted(Comparator.comparing(RetainerBillingBase::getBillingMonth))
+            .collect(Collectors.toList());
+        // Ordered by billing month, then creation
+        List<CRBillingEvent> events = crBillingEventRepository.findApprovedEventsBySowContractId(sowContractId).stream()
+            .filter(e -> e.getBillingMonth() != null)
+            .collect(Collectors.toList());
+
+        List<BillingMonth> timeline = new ArrayList<>();
+        int b = 0;
+        int e = 0;
+        while (b < baseline.size() || e < events.size()) {
+            LocalDate month;
+            if (e >= events.size()) {
+                month = baseline.get(b).getBillingMonth();
+            } else if (b >= baseline.size()) {
+                month = events.get(e).getBillingMonth();
+            } else {
+                LocalDate baselineMonth = baseline.get(b).getBillingMonth();
+                LocalDate eventMonth = events.get(e).getBillingMonth();
+                month = baselineMonth.isBefore(eventMonth) ? baselineMonth : eventMonth;
+            }
+
+            BigDecimal amount = BigDecimal.ZERO;
+            StringBuilder description = new StringBuilder();
+            if (b < baseline.size() && baseline.get(b).getBillingMonth().equals(month)) {
+                RetainerBillingBase base = baseline.get(b++);
+                if (base.getAmount() != null) {
+                    amount = amount.add(base.getAmount());
+                }
+                if (base.getDescription() != null) {
+                    description.append(base.getDescription());
+                }
+            }
+            boolean firstEvent = true;
+            while (e < events.size() && events.get(e).getBillingMonth().equals(month)) {
+                CRBillingEvent event = events.get(e++);
+                if (event.getDeltaAmount() != null) {
+                    amount = amount.add(event.getDeltaAmount());
+                }
+                // Baseline description first, then event descriptions, separated by "; "
+                if (!firstEvent || description.length() > 0) {
+                    description.append("; ");
+                }
+                description.append(event.getDescription() != null ? event.getDescription() : "");
+                firstEvent = false;
+            }
+
+            BillingMonth billingMonth = new BillingMonth();
+            billingMonth.setMonth(month);
+            billingMonth.setAmount(amount);
+            billingMonth.setDescription(description.toString());
+            timeline.add(billingMonth);
+        }
+        return timeline;
+    }
+
+    /**
+     * Inner class to represent the billing of one month
+     */
+    public static class BillingMonth {
+        private LocalDate month;
+        private BigDecimal amount;
+        private String description;
+
+        // Getters and Setters
+        public LocalDate getMonth() { return month; }
+        public void setMonth(LocalDate month) { this.month = month; }
+        public BigDecimal getAmount() { return amount; }
+        public void setAmount(BigDecimal amount) { this.amount = amount; }
+        public String getDescription() { return description; }
+        public void setDescription(String description) { this.description = description; }
+    }
+
     /**
      * Inner class to represent current engineer state
      */
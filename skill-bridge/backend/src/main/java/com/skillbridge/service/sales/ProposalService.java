@@ -21,6 +21,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.skillbridge.service.common.S3Service;
 import com.skillbridge.service.common.DocumentPermissionService;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.entity.document.DocumentMetadata;
 import com.skillbridge.repository.document.DocumentMetadataRepository;
 import java.io.IOException;
@@ -62,6 +63,9 @@ public class ProposalService {
     @Autowired
     private DocumentPermissionService documentPermissionService;
 
+    @Autowired
+    private DisplayIdSequence displayIdSequence;
+
     @Value("${app.upload.dir:uploads/proposals}")
     private String uploadDir;
 
@@ -123,6 +127,7 @@ public class ProposalService {
         proposal.setTitle(title);
         proposal.setStatus("draft");
         proposal.setCreatedBy(currentUser.getId());
+        proposal.setDisplayId(displayIdSequence.next(DisplayIdSequence.PROPOSAL, LocalDateTime.now().getYear()));
         
         // Set reviewer if provided
         if (reviewerId != null) {
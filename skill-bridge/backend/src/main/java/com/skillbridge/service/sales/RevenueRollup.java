@@ -0,0 +1,216 @@
+package com.skillbridge.service.sales;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Revenue Rollup
+ * Monthly revenue of Active MSA and SOW contracts, pre-aggregated per month, assignee and
+ * engagement type in table revenue_monthly_rollup, with amounts in long minor units
+ * (1/100 of the currency unit, the scale of the contract value columns).
+ * A contract contributes its full value to every month its period overlaps, as the sales
+ * dashboard has always counted it. Kept current by {@link RevenueRollupUpdater};
+ * {@link #rebuild()} recomputes it from the contracts; Sales Managers trigger it through
+ * POST /api/sales/dashboard/counters/rebuild to repair drift.
+ */
+@Service
+public class RevenueRollup {
+
+    private static final Logger logger = LoggerFactory.getLogger(RevenueRollup.class);
+
+    /**
+     * Minor units per currency unit (contract values have two decimals)
+     */
+    public static final int MINOR_UNITS_SCALE = 2;
+
+    public static final String ENGAGEMENT_MSA = "MSA";
+    public static final String ENGAGEMENT_SOW = "SOW";
+
+    private static final String ACTIVE = "Active";
+
+    private static final String UPSERT = "INSERT INTO revenue_monthly_rollup " +
+            "(month, assignee_user_id, engagement_type, amount_minor, contract_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE amount_minor = amount_minor + VALUES(amount_minor), " +
+            "contract_count = contract_count + VALUES(contract_count)";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Convert an amount to minor units
+     */
+    public static long toMinorUnits(BigDecimal amount) {
+        return amount.setScale(MINOR_UNITS_SCALE, RoundingMode.HALF_UP).unscaledValue().longValueExact();
+    }
+
+    /**
+     * Convert minor units to whole currency units, dropping the fraction
+     */
+    public static long toMajorUnits(long amountMinor) {
+        return amountMinor / BigDecimal.TEN.pow(MINOR_UNITS_SCALE).longValue();
+    }
+
+    /**
+     * Add (sign 1) or retract (sign -1) a contract's contribution
+     * Runs on the caller's transaction (JDBC connection)
+     */
+    public void apply(Contribution contribution, int sign) {
+        if (contribution == null) {
+            return;
+        }
+        List<Object[]> rows = new ArrayList<>();
+        for (YearMonth month = contribution.firstMonth; !month.isAfter(contribution.lastMonth); month = month.plusMonths(1)) {
+            rows.add(new Object[] {Date.valueOf(month.atDay(1)), contribution.assigneeScope(), contribution.engagementType,
+                    sign * contribution.amountMinor, sign});
+        }
+        jdbcTemplate.batchUpdate(UPSERT, rows);
+    }
+
+    /**
+     * Get the revenue of the given months over all assignees and engagement types
+     * @return Month -> amount in minor units (months without revenue are zero)
+     */
+    @Transactional(readOnly = true)
+    public Map<YearMonth, Long> getMonthlyRevenue(Collection<YearMonth> months) {
+        Map<YearMonth, Long> revenue = new HashMap<>();
+        for (YearMonth month : months) {
+            revenue.put(month, 0L);
+        }
+        if (months.isEmpty()) {
+            return revenue;
+        }
+        YearMonth first = months.stream().min(YearMonth::compareTo).get();
+        YearMonth last = months.stream().max(YearMonth::compareTo).get();
+        jdbcTemplate.query("SELECT month, SUM(amount_minor) FROM revenue_monthly_rollup " +
+                        "WHERE month BETWEEN ? AND ? GROUP BY month",
+                rs -> {
+                    YearMonth month = YearMonth.from(rs.getDate(1).toLocalDate());
+                    if (revenue.containsKey(month)) {
+                        revenue.put(month, rs.getLong(2));
+                    }
+                },
+                Date.valueOf(first.atDay(1)), Date.valueOf(last.atDay(1)));
+        return revenue;
+    }
+
+    /**
+     * Recompute the whole rollup from the Active contracts, replacing the stored rows
+     */
+    @Transactional
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        List<Contribution> contributions = new ArrayList<>();
+        jdbcTemplate.query("SELECT status, value, period_start, period_end, assignee_user_id, 'MSA' " +
+                        "FROM contracts WHERE status = 'Active' " +
+                        "UNION ALL SELECT status, value, period_start, period_end, assignee_user_id, engagement_type " +
+                        "FROM sow_contracts WHERE status = 'Active'",
+                rs -> {
+                    Contribution contribution = Contribution.of(rs.getString(1), rs.getBigDecimal(2),
+                            toLocalDate(rs.getDate(3)), toLocalDate(rs.getDate(4)),
+                            rs.getObject(5, Integer.class), rs.getString(6));
+                    if (contribution != null) {
+                        contributions.add(contribution);
+                    }
+                });
+
+        jdbcTemplate.update("DELETE FROM revenue_monthly_rollup");
+        for (Contribution contribution : contributions) {
+            apply(contribution, 1);
+        }
+        logger.info("Revenue rollup rebuilt from {} active contracts in {} ms",
+                contributions.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Fill the rollup on first startup (the table is created empty)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM revenue_monthly_rollup", Integer.class);
+        if (existing == null || existing == 0) {
+            rebuild();
+        }
+    }
+
+    private static LocalDate toLocalDate(Date date) {
+        return date != null ? date.toLocalDate() : null;
+    }
+
+    /**
+     * What one contract adds to the rollup: its value in each month from its first to its last period month
+     */
+    public static class Contribution {
+
+        private final YearMonth firstMonth;
+        private final YearMonth lastMonth;
+        private final long amountMinor;
+        private final Integer assigneeUserId;
+        private final String engagementType;
+
+        private Contribution(YearMonth firstMonth, YearMonth lastMonth, long amountMinor,
+                             Integer assigneeUserId, String engagementType) {
+            this.firstMonth = firstMonth;
+            this.lastMonth = lastMonth;
+            this.amountMinor = amountMinor;
+            this.assigneeUserId = assigneeUserId;
+            this.engagementType = engagementType;
+        }
+
+        /**
+         * Build the contribution of a contract
+         * @param engagementType MSA, or the SOW engagement type
+         * @return Contribution, or null when the contract is not Active or lacks value or period
+         */
+        public static Contribution of(String status, BigDecimal value, LocalDate periodStart, LocalDate periodEnd,
+                                      Integer assigneeUserId, String engagementType) {
+            if (!ACTIVE.equals(status) || value == null || periodStart == null || periodEnd == null
+                    || periodEnd.isBefore(periodStart)) {
+                return null;
+            }
+            String type = engagementType != null && !engagementType.isBlank() ? engagementType : ENGAGEMENT_SOW;
+            return new Contribution(YearMonth.from(periodStart), YearMonth.from(periodEnd), toMinorUnits(value),
+                    assigneeUserId, type);
+        }
+
+        private int assigneeScope() {
+            return assigneeUserId != null ? assigneeUserId : 0;
+        }
+
+        @Override
+        public boolean equals(Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Contribution other)) {
+                return false;
+            }
+            return amountMinor == other.amountMinor && firstMonth.equals(other.firstMonth)
+                    && lastMonth.equals(other.lastMonth) && Objects.equals(assigneeUserId, other.assigneeUserId)
+                    && engagementType.equals(other.engagementType);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(firstMonth, lastMonth, amountMinor, assigneeUserId, engagementType);
+        }
+    }
+}
@@ -0,0 +1,63 @@
+package com.skillbridge.service.sales;
+
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.service.dashboard.DashboardEntityListener;
+import com.skillbridge.service.dashboard.StoredEntityRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.stereotype.Component;
+
+/**
+ * Revenue Rollup Updater
+ * Keeps {@link RevenueRollup} in step with MSA and SOW contracts as reported by {@link DashboardEntityListener}:
+ * a contract's contribution is added when it is inserted Active, and on update the stored contribution (read
+ * from the row before the update executes) is retracted and the new one added whenever status, value, period,
+ * assignee or engagement type changed. A failure is left for {@link RevenueRollup#rebuild()}.
+ */
+@Component
+public class RevenueRollupUpdater {
+
+    @Autowired
+    private RevenueRollup revenueRollup;
+
+    public void onCreated(Object entity) {
+        revenueRollup.apply(currentContribution(entity), 1);
+    }
+
+    public void onUpdating(Object entity, StoredEntityRow stored) {
+        RevenueRollup.Contribution current = currentContribution(entity);
+        RevenueRollup.Contribution previous = storedContribution(entity, stored);
+        if (current == null ? previous == null : current.equals(previous)) {
+            return;
+        }
+        revenueRollup.apply(previous, -1);
+        revenueRollup.apply(current, 1);
+    }
+
+    public void onRemoving(Object entity, StoredEntityRow stored) {
+        revenueRollup.apply(storedContribution(entity, stored), -1);
+    }
+
+    private RevenueRollup.Contribution currentContribution(Object entity) {
+        if (entity instanceof Contract contract) {
+            return RevenueRollup.Contribution.of(
+                    contract.getStatus() != null ? contract.getStatus().name() : null, contract.getValue(),
+                    contract.getPeriodStart(), contract.getPeriodEnd(), contract.getAssigneeUserId(),
+                    RevenueRollup.ENGAGEMENT_MSA);
+        } else if (entity instanceof SOWContract contract) {
+            return RevenueRollup.Contribution.of(
+                    contract.getStatus() != null ? contract.getStatus().name() : null, contract.getValue(),
+                    contract.getPeriodStart(), contract.getPeriodEnd(), contract.getAssigneeUserId(),
+                    contract.getEngagementType());
+        }
+        return null;
+    }
+
+    private RevenueRollup.Contribution storedContribution(Object entity, StoredEntityRow stored) {
+        if (!(entity instanceof Contract) && !(entity instanceof SOWContract)) {
+            return null;
+        }
+        return RevenueRollup.Contribution.of(stored.getStatus(), stored.getValue(), stored.getPeriodStart(),
+                stored.getPeriodEnd(), stored.getAssigneeUserId(), stored.getEngagementType());
+    }
+}
@@ -4,8 +4,8 @@ import com.skillbridge.dto.sales.response.SalesContactListItemDTO;
 import com.skillbridge.dto.sales.response.SalesContactListResponse;
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contact.Contact;
-import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contact.ContactRepository;
+import com.skillbridge.service.common.UserBatchLoader;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -18,6 +18,7 @@ import org.springframework.stereotype.Service;
 import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -31,7 +32,7 @@ public class SalesContactService {
     private ContactRepository contactRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserBatchLoader userBatchLoader;
 
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM/dd");
 
@@ -58,9 +59,13 @@ public class SalesContactService {
         // Execute query
         Page<Contact> contactPage = contactRepository.findAll(spec, pageable);
 
+        // Client users and assignees of the page in one query
+        Map<Integer, User> users = userBatchLoader.loadUsers(contactPage.getContent(),
+                Contact::getClientUserId, Contact::getAssigneeUserId);
+
         // Convert to DTOs
         List<SalesContactListItemDTO> contacts = contactPage.getContent().stream()
-                .map(contact -> convertToDTO(contact, (page * size) + 1))
+                .map(contact -> convertToDTO(contact, (page * size) + 1, users))
                 .collect(Collectors.toList());
 
         // Update sequential numbers
@@ -147,8 +152,9 @@ public class SalesContactService {
 
     /**
      * Convert Contact entity to SalesContactListItemDTO
+     * @param users Users of the current page (see UserBatchLoader)
      */
-    private SalesContactListItemDTO convertToDTO(Contact contact, int baseNo) {
+    private SalesContactListItemDTO convertToDTO(Contact contact, int baseNo, Map<Integer, User> users) {
         SalesContactListItemDTO dto = new SalesContactListItemDTO();
         
         // Generate contact ID format: CT-YYYY-NN
@@ -156,14 +162,8 @@ public class SalesContactService {
         dto.setContactId(contactId);
         dto.setInternalId(contact.getId());
         
-        // Get client user information
-        User clientUser = null;
-        if (contact.getClientUser() != null) {
-            clientUser = contact.getClientUser();
-        } else if (contact.getClientUserId() != null) {
-            // Load client user if not already loaded
-            clientUser = userRepository.findById(contact.getClientUserId()).orElse(null);
-        }
+        // Get client user information (not through the lazy clientUser association, one query per row)
+        User clientUser = contact.getClientUserId() != null ? users.get(contact.getClientUserId()) : null;
         
         if (clientUser != null) {
             dto.setClientName(clientUser.getFullName() != null ? clientUser.getFullName() : "-");
@@ -193,7 +193,7 @@ public class SalesContactService {
         // Get assignee information
         dto.setAssigneeUserId(contact.getAssigneeUserId());
         if (contact.getAssigneeUserId() != null) {
-            User assignee = userRepository.findById(contact.getAssigneeUserId()).orElse(null);
+            User assignee = users.get(contact.getAssigneeUserId());
             if (assignee != null) {
                 dto.setAssigneeName(assignee.getFullName());
             }
@@ -10,18 +10,19 @@ import com.skillbridge.entity.contract.ChangeRequest;
 import com.skillbridge.entity.contract.SOWContract;
 import com.skillbridge.entity.contract.ProjectCloseRequest;
 import com.skillbridge.entity.contract.ContractInternalReview;
-import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.ContractRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
 import com.skillbridge.repository.contract.ProjectCloseRequestRepository;
 import com.skillbridge.repository.contract.ContractInternalReviewRepository;
 import com.skillbridge.repository.contract.ChangeRequestRepository;
+import com.skillbridge.service.common.UserBatchLoader;
+import com.skillbridge.service.contract.ContractListPage;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.Expression;
 import jakarta.persistence.criteria.Predicate;
+import jakarta.persistence.criteria.Root;
+import jakarta.persistence.criteria.Subquery;
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.data.domain.Page;
-import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
@@ -31,8 +32,8 @@ import java.text.DecimalFormat;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 /**
@@ -41,6 +42,9 @@ import java.util.Optional;
  */
 @Service
 public class SalesContractService {
+
+    private static final String TYPE_MSA = "MSA";
+    private static final String TYPE_SOW = "SOW";
     
     @Autowired
     private ContractRepository contractRepository;
@@ -48,9 +52,6 @@ public class SalesContractService {
     @Autowired
     private SOWContractRepository sowContractRepository;
     
-    @Autowired
-    private UserRepository userRepository;
-
     @Autowired
     private ProjectCloseRequestRepository projectCloseRequestRepository;
 
@@ -59,11 +60,16 @@ public class SalesContractService {
 
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
+
+    @Autowired
+    private UserBatchLoader userBatchLoader;
     
     /**
      * Get contracts list with role-based filtering
      * - Sales Manager: sees all contracts
      * - Sales Man: sees only contracts assigned to themselves
+     * MSA and SOW contracts are filtered, ordered (newest first) and limited per table in the database,
+     * then merged into the requested page (see ContractListPage).
      */
     public ContractListResponse getContracts(
         String search,
@@ -81,77 +87,53 @@ public class SalesContractService {
         }
         // Sales Manager: assigneeUserId remains null (sees all contracts)
         
-        // Build specifications for both MSA and SOW contracts
         boolean includeMSA = (type == null || type.trim().isEmpty() || "All".equalsIgnoreCase(type) || "MSA".equalsIgnoreCase(type));
         boolean includeSOW = (type == null || type.trim().isEmpty() || "All".equalsIgnoreCase(type) || "SOW".equalsIgnoreCase(type));
 
-        Specification<Contract> msaSpec = includeMSA ? buildMSASpecification(search, status, assigneeUserId) : null;
-        Specification<SOWContract> sowSpec = includeSOW ? buildSOWSpecification(search, status, assigneeUserId) : null;
-        
-        // Query both MSA and SOW contracts (fetch all matching, then combine and paginate)
-        // Note: We fetch all matching contracts because we need to combine and sort them
-        Pageable pageable = PageRequest.of(0, 10000, Sort.by("createdAt").descending());
-        
-        Page<Contract> msaPage = includeMSA ? contractRepository.findAll(msaSpec, pageable) : Page.empty();
-        Page<SOWContract> sowPage = includeSOW ? sowContractRepository.findAll(sowSpec, pageable) : Page.empty();
-        
-        // Convert to DTOs
-        List<ContractListItemDTO> contracts = new ArrayList<>();
-        
-        // Convert MSA contracts
-        for (Contract contract : msaPage.getContent()) {
-            ContractListItemDTO dto = convertMSAToDTO(contract);
-            contracts.add(dto);
-        }
-        
-        // Convert SOW contracts
-        for (SOWContract sowContract : sowPage.getContent()) {
-            ContractListItemDTO dto = convertSOWToDTO(sowContract);
-            contracts.add(dto);
+        // Convert status string to enum name (MSA and SOW contracts share the same status names)
+        String statusName = null;
+        if (status != null && !status.trim().isEmpty() && !status.equals("All")) {
+            try {
+                statusName = Contract.ContractStatus.valueOf(status.replace(" ", "_")).name();
+            } catch (IllegalArgumentException e) {
+                // Invalid status, ignore
+            }
         }
-        
-        // Apply search filter on client name/email and contract ID (if search is provided)
-        if (search != null && !search.trim().isEmpty()) {
-            String searchLower = search.toLowerCase();
-            contracts = contracts.stream()
-                .filter(dto -> {
-                    // Check contract ID (generated format)
-                    if (dto.getId() != null && dto.getId().toLowerCase().contains(searchLower)) {
-                        return true;
-                    }
-                    // Check contract name
-                    if (dto.getContractName() != null && dto.getContractName().toLowerCase().contains(searchLower)) {
-                        return true;
-                    }
-                    // Check client name
-                    if (dto.getClientName() != null && dto.getClientName().toLowerCase().contains(searchLower)) {
-                        return true;
-                    }
-                    // Check client email
-                    if (dto.getClientEmail() != null && dto.getClientEmail().toLowerCase().contains(searchLower)) {
-                        return true;
-                    }
-                    return false;
-                })
-                .collect(java.util.stream.Collectors.toList());
+
+        Specification<Contract> msaSpec = includeMSA
+            ? buildListSpecification(TYPE_MSA, search,
+                statusName != null ? Contract.ContractStatus.valueOf(statusName) : null, assigneeUserId)
+            : null;
+        Specification<SOWContract> sowSpec = includeSOW
+            ? this.<SOWContract>buildListSpecification(TYPE_SOW, search,
+                    statusName != null ? SOWContract.SOWContractStatus.valueOf(statusName) : null, assigneeUserId)
+                // Only show V1 SOW contracts (version = 1 or parent_version_id = null)
+                // This ensures we only show the original version, not subsequent versions
+                .and((root, query, cb) -> cb.or(cb.equal(root.get("version"), 1), cb.isNull(root.get("parentVersionId"))))
+            : null;
+        ContractListPage listPage = ContractListPage.fetch(
+            contractRepository, msaSpec, sowContractRepository, sowSpec, page, size);
+
+        // Clients and assignees of the whole page in one query
+        List<Integer> userIds = new ArrayList<>();
+        for (Object contract : listPage.getContracts()) {
+            if (contract instanceof Contract msa) {
+                userIds.add(msa.getClientId());
+                userIds.add(msa.getAssigneeUserId());
+            } else {
+                SOWContract sowContract = (SOWContract) contract;
+                userIds.add(sowContract.getClientId());
+                userIds.add(sowContract.getAssigneeUserId());
+            }
         }
-        
-        // Sort combined list by creation date (newest first)
-        contracts.sort(Comparator.comparing((ContractListItemDTO dto) -> {
-            if (dto.getCreatedAt() == null) return "";
-            return dto.getCreatedAt();
-        }).reversed());
-        
-        // Apply pagination to combined list
-        int totalElements = contracts.size();
-        int totalPages = (int) Math.ceil((double) totalElements / size);
-        int start = page * size;
-        int end = Math.min(start + size, contracts.size());
-        
+        Map<Integer, User> users = userBatchLoader.loadUsersById(userIds);
+
         List<ContractListItemDTO> paginatedContracts = new ArrayList<>();
         int no = 1; // Sequential number starting from 1 for current page
-        for (int i = start; i < end; i++) {
-            ContractListItemDTO dto = contracts.get(i);
+        for (Object contract : listPage.getContracts()) {
+            ContractListItemDTO dto = contract instanceof Contract msa
+                ? convertMSAToDTO(msa, users)
+                : convertSOWToDTO((SOWContract) contract, users);
             dto.setNo(no++);
             paginatedContracts.add(dto);
         }
@@ -160,85 +142,87 @@ public class SalesContractService {
         ContractListResponse response = new ContractListResponse();
         response.setContracts(paginatedContracts);
         response.setCurrentPage(page);
-        response.setTotalPages(totalPages);
-        response.setTotalElements(totalElements);
+        response.setTotalPages(listPage.getTotalPages());
+        response.setTotalElements(listPage.getTotalElements());
         
         return response;
     }
     
     /**
-     * Build JPA Specification for MSA contracts
+     * Build JPA Specification over MSA (contracts) or SOW (sow_contracts) contracts; both entities
+     * have the filtered attributes and share the status names
+     * @param type TYPE_MSA or TYPE_SOW, the prefix of the displayed contract ID
+     * @param status status enum value of the entity, or null for all statuses
      */
-    private Specification<Contract> buildMSASpecification(String search, String status, Integer assigneeUserId) {
+    private <T> Specification<T> buildListSpecification(
+        String type,
+        String search,
+        Enum<?> status,
+        Integer assigneeUserId
+    ) {
         return (root, query, cb) -> {
             List<Predicate> predicates = new ArrayList<>();
-            
+
             // Role-based filtering: assignee_user_id
             if (assigneeUserId != null) {
                 predicates.add(cb.equal(root.get("assigneeUserId"), assigneeUserId));
             }
             
-            // Note: Search filter is applied in service layer after converting to DTO
-            // to support searching by contract ID, contract name, client name, and client email
+            // Search filter: contract ID (display format), contract name, client name and client email
+            if (search != null && !search.trim().isEmpty()) {
+                String searchPattern = "%" + search.toLowerCase() + "%";
+                // Clients are matched through a subquery, so a contract whose client user is missing
+                // still matches on ID or name
+                Subquery<Integer> clientMatch = query.subquery(Integer.class);
+                Root<User> client = clientMatch.from(User.class);
+                clientMatch.select(client.get("id")).where(
+                    cb.equal(client.get("id"), root.get("clientId")),
+                    cb.or(
+                        cb.like(cb.lower(client.get("fullName")), searchPattern),
+                        cb.like(cb.lower(client.get("email")), searchPattern)
+                    ));
+                predicates.add(cb.or(
+                    cb.like(cb.lower(displayIdExpression(type, root, cb)), searchPattern),
+                    cb.like(cb.lower(root.get("contractName")), searchPattern),
+                    cb.exists(clientMatch)
+                ));
+            }
             
             // Status filter
-            if (status != null && !status.trim().isEmpty() && !status.equals("All")) {
-                try {
-                    String statusStr = status.replace(" ", "_");
-                    Contract.ContractStatus statusEnum = Contract.ContractStatus.valueOf(statusStr);
-                    predicates.add(cb.equal(root.get("status"), statusEnum));
-                } catch (IllegalArgumentException e) {
-                    // Invalid status, ignore
-                }
+            if (status != null) {
+                predicates.add(cb.equal(root.get("status"), status));
             }
             
             return cb.and(predicates.toArray(new Predicate[0]));
         };
     }
-    
+
     /**
-     * Build JPA Specification for SOW contracts
+     * The displayed contract ID computed in SQL, the same way as formatDisplayId: {type}-YYYY-NN
      */
-    private Specification<SOWContract> buildSOWSpecification(String search, String status, Integer assigneeUserId) {
-        return (root, query, cb) -> {
-            List<Predicate> predicates = new ArrayList<>();
-            
-            // Only show V1 contracts (version = 1 or parent_version_id = null)
-            // This ensures we only show the original version, not subsequent versions
-            Predicate versionIsOne = cb.equal(root.get("version"), 1);
-            Predicate parentVersionIsNull = cb.isNull(root.get("parentVersionId"));
-            predicates.add(cb.or(versionIsOne, parentVersionIsNull));
-            
-            // Role-based filtering: assignee_user_id
-            if (assigneeUserId != null) {
-                predicates.add(cb.equal(root.get("assigneeUserId"), assigneeUserId));
-            }
-            
-            // Note: Search filter is applied in service layer after converting to DTO
-            // to support searching by contract ID, contract name, client name, and client email
-            
-            // Status filter
-            if (status != null && !status.trim().isEmpty() && !status.equals("All")) {
-                try {
-                    String statusStr = status.replace(" ", "_");
-                    SOWContract.SOWContractStatus statusEnum = SOWContract.SOWContractStatus.valueOf(statusStr);
-                    predicates.add(cb.equal(root.get("status"), statusEnum));
-                } catch (IllegalArgumentException e) {
-                    // Invalid status, ignore
-                }
-            }
-            
-            return cb.and(predicates.toArray(new Predicate[0]));
-        };
+    private static <T> Expression<String> displayIdExpression(String type, Root<T> root, CriteriaBuilder cb) {
+        Expression<String> year = cb.function("year", Integer.class, root.get("createdAt")).as(String.class);
+        Expression<String> number = cb.function("lpad", String.class,
+            cb.mod(root.<Integer>get("id"), 100).as(String.class), cb.literal(2), cb.literal("0"));
+        return cb.concat(cb.concat(cb.concat(type + "-", year), "-"), number);
+    }
+
+    /**
+     * Format the displayed contract ID: {type}-YYYY-NN (NN = last 2 digits of the contract ID)
+     */
+    static String formatDisplayId(String type, Integer id, LocalDateTime createdAt) {
+        int year = createdAt != null ? createdAt.getYear() : 2025;
+        return String.format("%s-%d-%02d", type, year, id % 100);
     }
     
     /**
      * Convert MSA Contract to DTO
+     * @param users Users of the current page (see UserBatchLoader)
      */
-    private ContractListItemDTO convertMSAToDTO(Contract contract) {
+    private ContractListItemDTO convertMSAToDTO(Contract contract, Map<Integer, User> users) {
         ContractListItemDTO dto = new ContractListItemDTO();
         dto.setInternalId(contract.getId());
-        dto.setId(generateContractId(contract.getId(), "MSA", contract.getCreatedAt()));
+        dto.setId(formatDisplayId(TYPE_MSA, contract.getId(), contract.getCreatedAt()));
         dto.setContractName(contract.getContractName());
         dto.setType("MSA");
         dto.setPeriodStart(formatDateStart(contract.getPeriodStart()));
@@ -250,19 +234,15 @@ public class SalesContractService {
         dto.setAssignee(contract.getAssigneeId());
         dto.setCloseRequestPending(false); // MSAs never have close requests
         
-        // Load client name and email from users table
-        if (contract.getClientId() != null) {
-            userRepository.findById(contract.getClientId()).ifPresent(user -> {
-                dto.setClientName(user.getFullName());
-                dto.setClientEmail(user.getEmail());
-            });
+        // Client name and email, assignee name from the page's users
+        User client = contract.getClientId() != null ? users.get(contract.getClientId()) : null;
+        if (client != null) {
+            dto.setClientName(client.getFullName());
+            dto.setClientEmail(client.getEmail());
         }
-        
-        // Load assignee name from users table
-        if (contract.getAssigneeUserId() != null) {
-            userRepository.findById(contract.getAssigneeUserId()).ifPresent(user -> {
-                dto.setAssigneeName(user.getFullName());
-            });
+        User assignee = contract.getAssigneeUserId() != null ? users.get(contract.getAssigneeUserId()) : null;
+        if (assignee != null) {
+            dto.setAssigneeName(assignee.getFullName());
         }
         
         // Parse attachments_manifest JSON (similar to Proposal)
@@ -295,11 +275,12 @@ public class SalesContractService {
     
     /**
      * Convert SOW Contract to DTO
+     * @param users Users of the current page (see UserBatchLoader)
      */
-    private ContractListItemDTO convertSOWToDTO(SOWContract sowContract) {
+    private ContractListItemDTO convertSOWToDTO(SOWContract sowContract, Map<Integer, User> users) {
         ContractListItemDTO dto = new ContractListItemDTO();
         dto.setInternalId(sowContract.getId());
-        dto.setId(generateContractId(sowContract.getId(), "SOW", sowContract.getCreatedAt()));
+        dto.setId(formatDisplayId(TYPE_SOW, sowContract.getId(), sowContract.getCreatedAt()));
         dto.setContractName(sowContract.getContractName());
         dto.setType("SOW");
         dto.setPeriodStart(formatDateStart(sowContract.getPeriodStart()));
@@ -312,19 +293,15 @@ public class SalesContractService {
         dto.setAssignee(sowContract.getAssigneeId());
         dto.setCloseRequestPending(false);
         
-        // Load client name and email from users table
-        if (sowContract.getClientId() != null) {
-            userRepository.findById(sowContract.getClientId()).ifPresent(user -> {
-                dto.setClientName(user.getFullName());
-                dto.setClientEmail(user.getEmail());
-            });
+        // Client name and email, assignee name from the page's users
+        User client = sowContract.getClientId() != null ? users.get(sowContract.getClientId()) : null;
+        if (client != null) {
+            dto.setClientName(client.getFullName());
+            dto.setClientEmail(client.getEmail());
         }
-        
-        // Load assignee name from users table
-        if (sowContract.getAssigneeUserId() != null) {
-            userRepository.findById(sowContract.getAssigneeUserId()).ifPresent(user -> {
-                dto.setAssigneeName(user.getFullName());
-            });
+        User assignee = sowContract.getAssigneeUserId() != null ? users.get(sowContract.getAssigneeUserId()) : null;
+        if (assignee != null) {
+            dto.setAssigneeName(assignee.getFullName());
         }
         
         // Attach latest Project Close Request info (if any)
@@ -337,18 +314,6 @@ public class SalesContractService {
         return dto;
     }
     
-    /**
-     * Generate contract ID in format: MSA-YYYY-NN or SOW-YYYY-NN
-     * Note: This is a simplified version. In production, you might want to calculate sequence number
-     * based on creation order in the year.
-     */
-    private String generateContractId(Integer id, String type, LocalDateTime createdAt) {
-        int year = createdAt != null ? createdAt.getYear() : 2025;
-        // Use last 2 digits of ID as sequence number (simplified)
-        int sequenceNumber = id % 100;
-        return String.format("%s-%d-%02d", type, year, sequenceNumber);
-    }
-
     /**
      * Map status enum/string to display value.
      * - Internal Review must remain "Internal Review"
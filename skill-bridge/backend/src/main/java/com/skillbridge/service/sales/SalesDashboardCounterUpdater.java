@@ -0,0 +1,167 @@
+package com.skillbridge.service.sales;
+
+import com.skillbridge.entity.contact.Contact;
+import com.skillbridge.entity.contract.ChangeRequest;
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.entity.opportunity.Opportunity;
+import com.skillbridge.entity.proposal.Proposal;
+import com.skillbridge.service.dashboard.DashboardEntityListener;
+import com.skillbridge.service.dashboard.StoredEntityRow;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.Objects;
+
+/**
+ * Sales Dashboard Counter Updater
+ * Keeps {@link SalesDashboardCounters} in step with contacts, opportunities, proposals, contracts and
+ * change requests as reported by {@link DashboardEntityListener}: +1 on insert, -1 on delete, and a move
+ * between status buckets or assignees on update (compared with the row as still stored, before the update
+ * executes). Reassigning an opportunity or contract also moves its proposals or change requests.
+ * Counters are written on the transaction's own connection; a failure is left for
+ * {@link SalesDashboardCounters#rebuild()} rather than failing the business write.
+ */
+@Component
+public class SalesDashboardCounterUpdater {
+
+    @Autowired
+    private SalesDashboardCounters counters;
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    public void onCreated(Object entity) {
+        State state = currentState(entity);
+        if (state != null) {
+            counters.add(state.kind, state.status, state.assigneeUserId, 1);
+        }
+    }
+
+    public void onUpdating(Object entity, StoredEntityRow storedRow) {
+        State state = currentState(entity);
+        if (state == null) {
+            return;
+        }
+        State stored = new State(state.kind, storedRow.getStatus(), storedRow.getAssigneeUserId());
+        if (stored.sameAs(state)) {
+            return;
+        }
+        counters.add(stored.kind, stored.status, stored.assigneeUserId, -1);
+        counters.add(state.kind, state.status, state.assigneeUserId, 1);
+        if (!Objects.equals(stored.assigneeUserId, state.assigneeUserId)) {
+            reassignChildren(entity, stored.assigneeUserId, state.assigneeUserId);
+        }
+    }
+
+    public void onRemoving(Object entity, StoredEntityRow storedRow) {
+        String kind = kindOf(entity);
+        if (kind != null) {
+            counters.add(kind, storedRow.getStatus(), storedRow.getAssigneeUserId(), -1);
+        }
+    }
+
+    private static String kindOf(Object entity) {
+        if (entity instanceof Contact) {
+            return SalesDashboardCounters.KIND_CONTACT;
+        } else if (entity instanceof Opportunity) {
+            return SalesDashboardCounters.KIND_OPPORTUNITY;
+        } else if (entity instanceof Proposal) {
+            return SalesDashboardCounters.KIND_PROPOSAL;
+        } else if (entity instanceof Contract || entity instanceof SOWContract) {
+            return SalesDashboardCounters.KIND_CONTRACT;
+        } else if (entity instanceof ChangeRequest) {
+            return SalesDashboardCounters.KIND_CHANGE_REQUEST;
+        }
+        return null;
+    }
+
+    /**
+     * Kind, status and assignee of the entity as it is about to be written
+     */
+    private State currentState(Object entity) {
+        if (entity instanceof Contact contact) {
+            return new State(SalesDashboardCounters.KIND_CONTACT, contact.getStatus(), contact.getAssigneeUserId());
+        } else if (entity instanceof Opportunity opportunity) {
+            return new State(SalesDashboardCounters.KIND_OPPORTUNITY, opportunity.getStatus(),
+                    opportunity.getAssigneeUserId());
+        } else if (entity instanceof Proposal proposal) {
+            Integer assigneeUserId = proposal.getOpportunityId() == null ? null : queryAssignee(
+                    "SELECT assignee_user_id FROM opportunities WHERE id = ?", proposal.getOpportunityId());
+            return new State(SalesDashboardCounters.KIND_PROPOSAL, proposal.getStatus(), assigneeUserId);
+        } else if (entity instanceof Contract contract) {
+            return new State(SalesDashboardCounters.KIND_CONTRACT,
+                    contract.getStatus() != null ? contract.getStatus().name() : null, contract.getAssigneeUserId());
+        } else if (entity instanceof SOWContract contract) {
+            return new State(SalesDashboardCounters.KIND_CONTRACT,
+                    contract.getStatus() != null ? contract.getStatus().name() : null, contract.getAssigneeUserId());
+        } else if (entity instanceof ChangeRequest cr) {
+            Integer assigneeUserId = null;
+            if (cr.getSowContractId() != null) {
+                assigneeUserId = queryAssignee("SELECT assignee_user_id FROM sow_contracts WHERE id = ?",
+                        cr.getSowContractId());
+            } else if (cr.getContractId() != null) {
+                assigneeUserId = queryAssignee("SELECT assignee_user_id FROM contracts WHERE id = ?",
+                        cr.getContractId());
+            }
+            return new State(SalesDashboardCounters.KIND_CHANGE_REQUEST, cr.getStatus(), assigneeUserId);
+        }
+        return null;
+    }
+
+    /**
+     * Proposals follow their opportunity's assignee and change requests their contract's
+     */
+    private void reassignChildren(Object entity, Integer fromAssigneeUserId, Integer toAssigneeUserId) {
+        String kind;
+        String sql;
+        Integer parentId;
+        if (entity instanceof Opportunity opportunity) {
+            kind = SalesDashboardCounters.KIND_PROPOSAL;
+            sql = "SELECT status, COUNT(*) FROM proposals WHERE opportunity_id = ? GROUP BY status";
+            parentId = opportunity.getId();
+        } else if (entity instanceof SOWContract contract) {
+            kind = SalesDashboardCounters.KIND_CHANGE_REQUEST;
+            sql = "SELECT status, COUNT(*) FROM change_requests WHERE sow_contract_id = ? GROUP BY status";
+            parentId = contract.getId();
+        } else if (entity instanceof Contract contract) {
+            kind = SalesDashboardCounters.KIND_CHANGE_REQUEST;
+            sql = "SELECT status, COUNT(*) FROM change_requests " +
+                  "WHERE contract_id = ? AND sow_contract_id IS NULL GROUP BY status";
+            parentId = contract.getId();
+        } else {
+            return;
+        }
+        jdbcTemplate.query(sql, rs -> {
+            counters.reassign(kind, rs.getString(1), fromAssigneeUserId, toAssigneeUserId, rs.getLong(2));
+        }, parentId);
+    }
+
+    private Integer queryAssignee(String sql, Integer id) {
+        List<Integer> rows = jdbcTemplate.queryForList(sql, Integer.class, id);
+        return rows.isEmpty() ? null : rows.get(0);
+    }
+
+    private static class State {
+
+        private final String kind;
+        private final String status;
+        private final Integer assigneeUserId;
+
+        private State(String kind, String status, Integer assigneeUserId) {
+            this.kind = kind;
+            this.status = status;
+            this.assigneeUserId = assigneeUserId;
+        }
+
+        /**
+         * Whether both states count towards the same counters (status compared case-insensitively, like the columns)
+         */
+        private boolean sameAs(State other) {
+            boolean sameStatus = status == null ? other.status == null : status.equalsIgnoreCase(other.status);
+            return sameStatus && Objects.equals(assigneeUserId, other.assigneeUserId);
+        }
+    }
+}
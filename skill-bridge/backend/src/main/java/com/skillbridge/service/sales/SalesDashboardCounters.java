@@ -0,0 +1,233 @@
+package com.skillbridge.service.sales;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Sales Dashboard Counters
+ * Materialized status counts behind the sales dashboard summary (table sales_dashboard_counters),
+ * kept per assignee (unassigned entities under scope 0) so that a Sales Rep summary is a single
+ * primary-key range read. The Sales Manager totals are summed over all scopes on read rather than
+ * stored in a shared row: a global row would be updated by every counted write, serializing them on
+ * its row lock and inviting deadlocks between transactions that touch several entities.
+ * Counters are adjusted by {@link SalesDashboardCounterUpdater} in the transaction that changes
+ * the counted entity; {@link #rebuild()} recomputes them from the source tables to repair drift.
+ */
+@Service
+public class SalesDashboardCounters {
+
+    private static final Logger logger = LoggerFactory.getLogger(SalesDashboardCounters.class);
+
+    /**
+     * Scope of the counters of entities without an assignee
+     */
+    public static final int UNASSIGNED_SCOPE = 0;
+
+    public static final String KIND_CONTACT = "contacts";
+    public static final String KIND_OPPORTUNITY = "opportunities";
+    public static final String KIND_PROPOSAL = "proposals";
+    public static final String KIND_CONTRACT = "contracts";
+    public static final String KIND_CHANGE_REQUEST = "changeRequests";
+
+    public static final String CONTACTS_ALL = "contacts.all";
+    public static final String CONTACTS_NEW = "contacts.new";
+    public static final String OPPORTUNITIES_ALL = "opportunities.all";
+    public static final String OPPORTUNITIES_UNDER_REVIEW = "opportunities.underReview";
+    public static final String PROPOSALS_ALL = "proposals.all";
+    public static final String PROPOSALS_UNDER_REVIEW = "proposals.underReview";
+    public static final String CONTRACTS_ALL = "contracts.all";
+    public static final String CONTRACTS_UNDER_REVIEW = "contracts.underReview";
+    public static final String CHANGE_REQUESTS_ALL = "changeRequests.all";
+    public static final String CHANGE_REQUESTS_UNDER_REVIEW = "changeRequests.underReview";
+
+    private static final String UPSERT = "INSERT INTO sales_dashboard_counters (scope_user_id, metric, value) " +
+            "VALUES (?, ?, ?) ON DUPLICATE KEY UPDATE value = value + VALUES(value)";
+
+    /**
+     * Status count per assignee of every counted kind; proposals belong to their opportunity's assignee
+     * and change requests to their SOW (or else MSA) contract's assignee, as on the dashboard
+     */
+    private static final Map<String, String> REBUILD_QUERIES = Map.of(
+            KIND_CONTACT,
+            "SELECT assignee_user_id, status, COUNT(*) FROM contacts GROUP BY assignee_user_id, status",
+            KIND_OPPORTUNITY,
+            "SELECT assignee_user_id, status, COUNT(*) FROM opportunities GROUP BY assignee_user_id, status",
+            KIND_PROPOSAL,
+            "SELECT o.assignee_user_id, p.status, COUNT(*) FROM proposals p " +
+            "LEFT JOIN opportunities o ON o.id = p.opportunity_id GROUP BY o.assignee_user_id, p.status",
+            KIND_CONTRACT,
+            "SELECT assignee_user_id, status, COUNT(*) FROM contracts GROUP BY assignee_user_id, status " +
+            "UNION ALL SELECT assignee_user_id, status, COUNT(*) FROM sow_contracts GROUP BY assignee_user_id, status",
+            KIND_CHANGE_REQUEST,
+            "SELECT CASE WHEN cr.sow_contract_id IS NOT NULL THEN s.assignee_user_id ELSE m.assignee_user_id END AS assignee, " +
+            "cr.status, COUNT(*) FROM change_requests cr " +
+            "LEFT JOIN sow_contracts s ON s.id = cr.sow_contract_id " +
+            "LEFT JOIN contracts m ON m.id = cr.contract_id " +
+            "GROUP BY assignee, cr.status"
+    );
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    /**
+     * Get the metrics an entity of the given kind and status counts towards
+     * @param kind Entity kind (KIND_*)
+     * @param status Entity status (as stored)
+     * @return Metric names ("all" plus the status bucket, if any)
+     */
+    public static List<String> metricsOf(String kind, String status) {
+        List<String> metrics = new ArrayList<>(2);
+        switch (kind) {
+            case KIND_CONTACT:
+                metrics.add(CONTACTS_ALL);
+                if ("New".equalsIgnoreCase(status)) {
+                    metrics.add(CONTACTS_NEW);
+                }
+                break;
+            case KIND_OPPORTUNITY:
+                metrics.add(OPPORTUNITIES_ALL);
+                if (equalsAnyIgnoreCase(status, "PROPOSAL_DRAFTING", "PROPOSAL_SENT", "REVISION")) {
+                    metrics.add(OPPORTUNITIES_UNDER_REVIEW);
+                }
+                break;
+            case KIND_PROPOSAL:
+                metrics.add(PROPOSALS_ALL);
+                if (equalsAnyIgnoreCase(status, "under review", "revision_requested")) {
+                    metrics.add(PROPOSALS_UNDER_REVIEW);
+                }
+                break;
+            case KIND_CONTRACT:
+                metrics.add(CONTRACTS_ALL);
+                if (equalsAnyIgnoreCase(status, "Under_Review", "Request_for_Change")) {
+                    metrics.add(CONTRACTS_UNDER_REVIEW);
+                }
+                break;
+            case KIND_CHANGE_REQUEST:
+                metrics.add(CHANGE_REQUESTS_ALL);
+                if (equalsAnyIgnoreCase(status, "Under Review", "Client Under Review", "Pending")) {
+                    metrics.add(CHANGE_REQUESTS_UNDER_REVIEW);
+                }
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown counter kind: " + kind);
+        }
+        return metrics;
+    }
+
+    /**
+     * Add delta to the counters of one entity's assignee
+     * Runs on the caller's transaction (JDBC connection)
+     */
+    public void add(String kind, String status, Integer assigneeUserId, long delta) {
+        if (delta == 0) {
+            return;
+        }
+        for (String metric : metricsOf(kind, status)) {
+            jdbcTemplate.update(UPSERT, scopeOf(assigneeUserId), metric, delta);
+        }
+    }
+
+    /**
+     * Move the counters of entities from one assignee to another (null: unassigned)
+     */
+    public void reassign(String kind, String status, Integer fromAssigneeUserId, Integer toAssigneeUserId, long count) {
+        if (count == 0 || Objects.equals(fromAssigneeUserId, toAssigneeUserId)) {
+            return;
+        }
+        for (String metric : metricsOf(kind, status)) {
+            jdbcTemplate.update(UPSERT, scopeOf(fromAssigneeUserId), metric, -count);
+            jdbcTemplate.update(UPSERT, scopeOf(toAssigneeUserId), metric, count);
+        }
+    }
+
+    /**
+     * Get the counters of an assignee, or the totals over all assignees
+     * @param assigneeUserId Assignee user ID, or null for the totals (one row per assignee and metric is summed)
+     * @return Metric -> value (missing metrics are zero)
+     */
+    @Transactional(readOnly = true)
+    public Map<String, Long> getCounts(Integer assigneeUserId) {
+        Map<String, Long> counts = new HashMap<>();
+        if (assigneeUserId == null) {
+            jdbcTemplate.query("SELECT metric, SUM(value) FROM sales_dashboard_counters GROUP BY metric",
+                    rs -> {
+                        counts.put(rs.getString(1), rs.getLong(2));
+                    });
+        } else {
+            jdbcTemplate.query("SELECT metric, value FROM sales_dashboard_counters WHERE scope_user_id = ?",
+                    rs -> {
+                        counts.put(rs.getString(1), rs.getLong(2));
+                    },
+                    assigneeUserId);
+        }
+        return counts;
+    }
+
+    /**
+     * Recompute every counter from the source tables, replacing the stored values
+     * Counter updates of concurrent transactions wait for the rows deleted here until the rebuild commits
+     */
+    @Transactional
+    public void rebuild() {
+        long start = System.currentTimeMillis();
+        Map<Integer, Map<String, Long>> counters = new HashMap<>();
+        REBUILD_QUERIES.forEach((kind, sql) -> jdbcTemplate.query(sql, rs -> {
+            Integer assigneeUserId = rs.getObject(1, Integer.class);
+            String status = rs.getString(2);
+            long count = rs.getLong(3);
+            for (String metric : metricsOf(kind, status)) {
+                counters.computeIfAbsent(scopeOf(assigneeUserId), k -> new HashMap<>()).merge(metric, count, Long::sum);
+            }
+        }));
+
+        jdbcTemplate.update("DELETE FROM sales_dashboard_counters");
+        List<Object[]> rows = new ArrayList<>();
+        counters.forEach((scope, metrics) ->
+                metrics.forEach((metric, value) -> rows.add(new Object[] {scope, metric, value})));
+        jdbcTemplate.batchUpdate("INSERT INTO sales_dashboard_counters (scope_user_id, metric, value) VALUES (?, ?, ?)",
+                rows);
+
+        logger.info("Sales dashboard counters rebuilt: {} counters in {} ms",
+                rows.size(), System.currentTimeMillis() - start);
+    }
+
+    /**
+     * Fill the counters on first startup (the table is created empty)
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void initialize() {
+        Integer existing = jdbcTemplate.queryForObject("SELECT COUNT(*) FROM sales_dashboard_counters", Integer.class);
+        if (existing == null || existing == 0) {
+            rebuild();
+        }
+    }
+
+    private static int scopeOf(Integer assigneeUserId) {
+        return assigneeUserId != null ? assigneeUserId : UNASSIGNED_SCOPE;
+    }
+
+    private static boolean equalsAnyIgnoreCase(String value, String... candidates) {
+        if (value == null) {
+            return false;
+        }
+        for (String candidate : candidates) {
+            if (candidate.equalsIgnoreCase(value)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -3,30 +3,40 @@ package com.skillbridge.service.sales;
 import com.skillbridge.dto.sales.response.*;
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contact.Contact;
-import com.skillbridge.entity.contract.ChangeRequest;
 import com.skillbridge.entity.contract.Contract;
 import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.entity.dashboard.ActivityEvent;
 import com.skillbridge.entity.opportunity.Opportunity;
 import com.skillbridge.entity.proposal.Proposal;
 import com.skillbridge.repository.contact.ContactRepository;
-import com.skillbridge.repository.contract.ChangeRequestRepository;
 import com.skillbridge.repository.contract.ContractRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
 import com.skillbridge.repository.auth.UserRepository;
+import com.skillbridge.service.common.SingleFlight;
+import com.skillbridge.service.dashboard.ActivityFeedService;
+import com.skillbridge.service.dashboard.DashboardResponseCache;
+import com.skillbridge.service.dashboard.DashboardSectionTimer;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
-import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.time.YearMonth;
 import java.time.format.DateTimeFormatter;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 /**
@@ -37,9 +47,6 @@ import java.util.stream.Collectors;
 @Transactional
 public class SalesDashboardService {
 
-    @Autowired
-    private ContactRepository contactRepository;
-
     @Autowired
     private OpportunityRepository opportunityRepository;
 
@@ -53,13 +60,34 @@ public class SalesDashboardService {
     private SOWContractRepository sowContractRepository;
 
     @Autowired
-    private ChangeRequestRepository changeRequestRepository;
+    private UserRepository userRepository;
+
+    @Autowired
+    private ContactRepository contactRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private ActivityFeedService activityFeedService;
+
+    @Autowired
+    private SalesDashboardCounters salesDashboardCounters;
+
+    @Autowired
+    private RevenueRollup revenueRollup;
+
+    @Autowired
+    private DashboardSectionTimer dashboardSectionTimer;
+
+    @Autowired
+    private SingleFlight singleFlight;
+
+    @Autowired
+    private DashboardResponseCache dashboardResponseCache;
 
     private static final DateTimeFormatter MONTH_FORMATTER = DateTimeFormatter.ofPattern("yyyy/MM");
     private static final DateTimeFormatter DATE_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd");
+    private static final int DEFAULT_ACTIVITY_LIMIT = 10;
+    private static final String DASHBOARD_NAME = "sales";
+    private static final List<String> APPROVAL_PROPOSAL_STATUSES = List.of("sent_to_client", "revision_requested");
 
     /**
      * Check if user is Sales Manager
@@ -72,95 +100,42 @@ public class SalesDashboardService {
      * Get dashboard summary statistics
      * For Sales Manager: Returns all data
      * For Sales Rep: Returns only assigned data
+     * Both sections are cheap reads (maintained counters and the monthly revenue rollup) and run
+     * inline on the request thread.
+     * Every Sales Manager sees the same summary, so concurrent requests (e.g. the whole team opening
+     * the dashboard in the morning) share one computation, as do concurrent requests of one Sales Rep.
      */
+    @Transactional(readOnly = true)
     public SalesDashboardSummaryDTO getSummary(User currentUser) {
-        SalesDashboardSummaryDTO summary = new SalesDashboardSummaryDTO();
         boolean isManager = isSalesManager(currentUser);
         Integer assigneeUserId = isManager ? null : currentUser.getId();
+        // The data version is part of the key: callers arriving after a committed change start a fresh computation
+        String scope = isManager
+            ? DashboardResponseCache.SCOPE_ALL : DashboardResponseCache.assigneeScope(assigneeUserId);
+        return singleFlight.execute("sales-summary", scope + ":" + dashboardResponseCache.getVersion(scope),
+            () -> computeSummary(isManager, assigneeUserId));
+    }
 
-        // Get contacts summary
-        List<Contact> contacts = getContacts(assigneeUserId);
-        summary.getContacts().setAll(contacts.size());
-        long newCount = contacts.stream()
-            .filter(c -> "New".equalsIgnoreCase(c.getStatus()))
-            .count();
-        summary.getContacts().setNewCount((int) newCount);
-
-        // Get opportunities summary
-        List<Opportunity> opportunities = getOpportunities(assigneeUserId);
-        summary.getOpportunities().setAll(opportunities.size());
-        long underReviewOppCount = opportunities.stream()
-            .filter(o -> {
-                String status = o.getStatus();
-                return status != null && (
-                    status.equalsIgnoreCase("PROPOSAL_DRAFTING") ||
-                    status.equalsIgnoreCase("PROPOSAL_SENT") ||
-                    status.equalsIgnoreCase("REVISION")
-                );
-            })
-            .count();
-        summary.getOpportunities().setUnderReview((int) underReviewOppCount);
-
-        // Get proposals summary
-        List<Proposal> proposals = getProposals(assigneeUserId);
-        summary.getProposals().setAll(proposals.size());
-        long underReviewPropCount = proposals.stream()
-            .filter(p -> {
-                String status = p.getStatus();
-                return status != null && (
-                    status.equalsIgnoreCase("under review") ||
-                    status.equalsIgnoreCase("Under Review") ||
-                    status.equalsIgnoreCase("revision_requested")
-                );
-            })
-            .count();
-        summary.getProposals().setUnderReview((int) underReviewPropCount);
-
-        // Get contracts summary
-        List<Contract> msaContracts = getMSAContracts(assigneeUserId);
-        List<SOWContract> sowContracts = getSOWContracts(assigneeUserId);
-        int totalContracts = msaContracts.size() + sowContracts.size();
-        summary.getContracts().setAll(totalContracts);
-        
-        long underReviewContractCount = msaContracts.stream()
-            .filter(c -> {
-                Contract.ContractStatus status = c.getStatus();
-                return status != null && (
-                    status == Contract.ContractStatus.Under_Review ||
-                    status == Contract.ContractStatus.Request_for_Change
-                );
-            })
-            .count();
-        underReviewContractCount += sowContracts.stream()
-            .filter(c -> {
-                SOWContract.SOWContractStatus status = c.getStatus();
-                return status != null && (
-                    status == SOWContract.SOWContractStatus.Under_Review ||
-                    status == SOWContract.SOWContractStatus.Request_for_Change
-                );
-            })
-            .count();
-        summary.getContracts().setUnderReview((int) underReviewContractCount);
-
-        // Get change requests summary
-        List<ChangeRequest> changeRequests = getChangeRequests(assigneeUserId);
-        summary.getChangeRequests().setAll(changeRequests.size());
-        long underReviewCRCount = changeRequests.stream()
-            .filter(cr -> {
-                String status = cr.getStatus();
-                return status != null && (
-                    status.equalsIgnoreCase("Under Review") ||
-                    status.equalsIgnoreCase("Client Under Review") ||
-                    status.equalsIgnoreCase("Pending")
-                );
-            })
-            .count();
-        summary.getChangeRequests().setUnderReview((int) underReviewCRCount);
+    private SalesDashboardSummaryDTO computeSummary(boolean isManager, Integer assigneeUserId) {
+        SalesDashboardSummaryDTO summary = new SalesDashboardSummaryDTO();
 
-        // Get revenue (Sales Manager only)
+        // Counts are maintained incrementally (per assignee; summed over all assignees for Sales Manager)
+        Map<String, Long> counts = dashboardSectionTimer.timed(
+            DASHBOARD_NAME, "counts", () -> salesDashboardCounters.getCounts(assigneeUserId));
+        summary.getContacts().setAll(count(counts, SalesDashboardCounters.CONTACTS_ALL));
+        summary.getContacts().setNewCount(count(counts, SalesDashboardCounters.CONTACTS_NEW));
+        summary.getOpportunities().setAll(count(counts, SalesDashboardCounters.OPPORTUNITIES_ALL));
+        summary.getOpportunities().setUnderReview(count(counts, SalesDashboardCounters.OPPORTUNITIES_UNDER_REVIEW));
+        summary.getProposals().setAll(count(counts, SalesDashboardCounters.PROPOSALS_ALL));
+        summary.getProposals().setUnderReview(count(counts, SalesDashboardCounters.PROPOSALS_UNDER_REVIEW));
+        summary.getContracts().setAll(count(counts, SalesDashboardCounters.CONTRACTS_ALL));
+        summary.getContracts().setUnderReview(count(counts, SalesDashboardCounters.CONTRACTS_UNDER_REVIEW));
+        summary.getChangeRequests().setAll(count(counts, SalesDashboardCounters.CHANGE_REQUESTS_ALL));
+        summary.getChangeRequests().setUnderReview(count(counts, SalesDashboardCounters.CHANGE_REQUESTS_UNDER_REVIEW));
+
+        // Revenue is shown to Sales Manager only
         if (isManager) {
-            List<SalesDashboardSummaryDTO.RevenueItem> revenue = calculateRevenue();
-            summary.setRevenue(revenue);
+            summary.setRevenue(dashboardSectionTimer.timed(DASHBOARD_NAME, "revenue", this::calculateRevenue));
         }
 
         return summary;
@@ -176,126 +151,92 @@ public class SalesDashboardService {
 
         List<SalesDashboardApprovalsDTO.ApprovalItem> approvals = new ArrayList<>();
 
+        // Load the waiting items, then their opportunities, contacts and clients with one query each
+        List<Proposal> proposalCandidates = proposalRepository.findByStatusIn(APPROVAL_PROPOSAL_STATUSES);
+        Map<Integer, Opportunity> opportunities = opportunityRepository.findAllById(
+                idsOf(proposalCandidates, Proposal::getOpportunityId)).stream()
+            .collect(Collectors.toMap(Opportunity::getId, o -> o));
+        List<Proposal> proposals = getProposals(proposalCandidates, opportunities, assigneeUserId);
+        Map<Integer, Contact> contacts = contactRepository.findAllById(
+                idsOf(proposals, Proposal::getContactId)).stream()
+            .collect(Collectors.toMap(Contact::getId, c -> c));
+        List<Contract> msaContracts = getMSAContracts(assigneeUserId);
+        List<SOWContract> sowContracts = getSOWContracts(assigneeUserId);
+
+        Set<Integer> clientIds = new HashSet<>();
+        clientIds.addAll(idsOf(contacts.values(), Contact::getClientUserId));
+        clientIds.addAll(idsOf(msaContracts, Contract::getClientId));
+        clientIds.addAll(idsOf(sowContracts, SOWContract::getClientId));
+        Map<Integer, String> clientNames = resolveClientNames(clientIds);
+
         // Get proposals waiting for client approval
-        List<Proposal> proposals = getProposals(assigneeUserId);
         for (Proposal proposal : proposals) {
-            String status = proposal.getStatus();
-            if (status != null && (
-                status.equalsIgnoreCase("sent_to_client") ||
-                status.equalsIgnoreCase("revision_requested")
-            )) {
-                SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
-                item.setId(proposal.getId());
-                item.setEntityType("PROPOSAL");
-                // Proposal doesn't have proposalId field, use ID or title
-                item.setEntityNumber("P-" + proposal.getId());
-                item.setEntityId(proposal.getId());
-                
-                // Get client name from contact or opportunity
-                String clientName = "Unknown";
-                if (proposal.getContact() != null && proposal.getContact().getClientUser() != null) {
-                    clientName = proposal.getContact().getClientUser().getFullName() != null 
-                        ? proposal.getContact().getClientUser().getFullName() 
-                        : (proposal.getContact().getClientUser().getEmail() != null 
-                            ? proposal.getContact().getClientUser().getEmail() 
-                            : "Unknown");
-                } else if (proposal.getOpportunity() != null) {
-                    clientName = proposal.getOpportunity().getClientName() != null 
-                        ? proposal.getOpportunity().getClientName() 
-                        : "Unknown";
-                }
-                item.setClientName(clientName);
-                
-                item.setStatus("Sent");
-                if (proposal.getCreatedAt() != null) {
-                    item.setSentDate(proposal.getCreatedAt().format(DATE_FORMATTER));
-                }
-                
-                String description = String.format("Proposal #%s - %s (Sent %s)",
-                    item.getEntityNumber(),
-                    item.getClientName(),
-                    proposal.getCreatedAt() != null 
-                        ? proposal.getCreatedAt().format(DateTimeFormatter.ofPattern("dd MMM"))
-                        : "");
-                item.setDescription(description);
-                
-                approvals.add(item);
+            SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
+            item.setId(proposal.getId());
+            item.setEntityType("PROPOSAL");
+            // Proposal doesn't have proposalId field, use ID or title
+            item.setEntityNumber("P-" + proposal.getId());
+            item.setEntityId(proposal.getId());
+
+            // Get client name from contact or opportunity
+            String clientName = "Unknown";
+            Contact contact = proposal.getContactId() != null ? contacts.get(proposal.getContactId()) : null;
+            Opportunity opportunity = proposal.getOpportunityId() != null
+                ? opportunities.get(proposal.getOpportunityId()) : null;
+            if (contact != null && contact.getClientUserId() != null && clientNames.containsKey(contact.getClientUserId())) {
+                clientName = clientNames.get(contact.getClientUserId());
+            } else if (opportunity != null && opportunity.getClientName() != null) {
+                clientName = opportunity.getClientName();
+            }
+            item.setClientName(clientName);
+
+            item.setStatus("Sent");
+            if (proposal.getCreatedAt() != null) {
+                item.setSentDate(proposal.getCreatedAt().format(DATE_FORMATTER));
             }
+
+            String description = String.format("Proposal #%s - %s (Sent %s)",
+                item.getEntityNumber(),
+                item.getClientName(),
+                proposal.getCreatedAt() != null
+                    ? proposal.getCreatedAt().format(DateTimeFormatter.ofPattern("dd MMM"))
+                    : "");
+            item.setDescription(description);
+
+            approvals.add(item);
         }
 
         // Get contracts waiting for client review
-        List<Contract> msaContracts = getMSAContracts(assigneeUserId);
         for (Contract contract : msaContracts) {
-            Contract.ContractStatus status = contract.getStatus();
-            if (status == Contract.ContractStatus.Under_Review) {
-                SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
-                item.setId(contract.getId());
-                item.setEntityType("MSA");
-                // Generate contract ID: MSA-YYYY-NN
-                String contractId = generateMSAContractId(contract.getId(), contract.getCreatedAt());
-                item.setEntityNumber(contractId);
-                item.setEntityId(contract.getId());
-                
-                // Get client name from clientId
-                String clientName = "Unknown";
-                if (contract.getClientId() != null) {
-                    userRepository.findById(contract.getClientId())
-                        .ifPresent(client -> {
-                            if (client.getFullName() != null) {
-                                item.setClientName(client.getFullName());
-                            } else if (client.getEmail() != null) {
-                                item.setClientName(client.getEmail());
-                            } else {
-                                item.setClientName("Unknown");
-                            }
-                        });
-                } else {
-                    item.setClientName("Unknown");
-                }
-                
-                item.setStatus("Client Review");
-                item.setDescription(String.format("MSA #%s - %s (Client Review)",
-                    contractId,
-                    item.getClientName()));
-                approvals.add(item);
-            }
+            SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
+            item.setId(contract.getId());
+            item.setEntityType("MSA");
+            // Generate contract ID: MSA-YYYY-NN
+            String contractId = generateMSAContractId(contract.getId(), contract.getCreatedAt());
+            item.setEntityNumber(contractId);
+            item.setEntityId(contract.getId());
+            item.setClientName(clientNames.getOrDefault(contract.getClientId(), "Unknown"));
+            item.setStatus("Client Review");
+            item.setDescription(String.format("MSA #%s - %s (Client Review)",
+                contractId,
+                item.getClientName()));
+            approvals.add(item);
         }
 
-        List<SOWContract> sowContracts = getSOWContracts(assigneeUserId);
         for (SOWContract contract : sowContracts) {
-            SOWContract.SOWContractStatus status = contract.getStatus();
-            if (status == SOWContract.SOWContractStatus.Under_Review) {
-                SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
-                item.setId(contract.getId());
-                item.setEntityType("SOW");
-                // Generate contract ID: SOW-YYYY-MM-DD-NN
-                String contractId = generateSOWContractId(contract.getId(), contract.getCreatedAt());
-                item.setEntityNumber(contractId);
-                item.setEntityId(contract.getId());
-                
-                // Get client name from clientId
-                String clientName = "Unknown";
-                if (contract.getClientId() != null) {
-                    userRepository.findById(contract.getClientId())
-                        .ifPresent(client -> {
-                            if (client.getFullName() != null) {
-                                item.setClientName(client.getFullName());
-                            } else if (client.getEmail() != null) {
-                                item.setClientName(client.getEmail());
-                            } else {
-                                item.setClientName("Unknown");
-                            }
-                        });
-                } else {
-                    item.setClientName("Unknown");
-                }
-                
-                item.setStatus("Client Review");
-                item.setDescription(String.format("SOW #%s - %s (Client Review)",
-                    contractId,
-                    item.getClientName()));
-                approvals.add(item);
-            }
+            SalesDashboardApprovalsDTO.ApprovalItem item = new SalesDashboardApprovalsDTO.ApprovalItem();
+            item.setId(contract.getId());
+            item.setEntityType("SOW");
+            // Generate contract ID: SOW-YYYY-MM-DD-NN
+            String contractId = generateSOWContractId(contract.getId(), contract.getCreatedAt());
+            item.setEntityNumber(contractId);
+            item.setEntityId(contract.getId());
+            item.setClientName(clientNames.getOrDefault(contract.getClientId(), "Unknown"));
+            item.setStatus("Client Review");
+            item.setDescription(String.format("SOW #%s - %s (Client Review)",
+                contractId,
+                item.getClientName()));
+            approvals.add(item);
         }
 
         // Sort by date (newest first)
@@ -323,172 +264,106 @@ public class SalesDashboardService {
      * Get recent client activities
      */
     public SalesDashboardActivitiesDTO getRecentActivities(User currentUser) {
+        return getRecentActivities(currentUser, null, DEFAULT_ACTIVITY_LIMIT);
+    }
+
+    /**
+     * Get a page of recent client activities (change requests submitted by clients), newest first
+     * Read from the activity stream: all of it for Sales Manager, the assigned contracts' for Sales Rep
+     * @param before Cursor returned with the previous page (null for the first page)
+     * @param limit Page size
+     */
+    public SalesDashboardActivitiesDTO getRecentActivities(User currentUser, Long before, int limit) {
         SalesDashboardActivitiesDTO response = new SalesDashboardActivitiesDTO();
         boolean isManager = isSalesManager(currentUser);
         Integer assigneeUserId = isManager ? null : currentUser.getId();
 
-        List<SalesDashboardActivitiesDTO.ActivityItem> activities = new ArrayList<>();
-
-        // Get recent change requests submitted by clients
-        List<ChangeRequest> changeRequests = getChangeRequests(assigneeUserId);
-        for (ChangeRequest cr : changeRequests) {
-            if (cr.getCreatedAt() != null) {
-                SalesDashboardActivitiesDTO.ActivityItem item = new SalesDashboardActivitiesDTO.ActivityItem();
-                item.setId(cr.getId());
-                item.setEntityType("CHANGE_REQUEST");
-                item.setEntityId(cr.getId());
-                
-                // Get client name from contract
-                String clientName = "Unknown";
-                if (cr.getSowContractId() != null) {
-                    sowContractRepository.findById(cr.getSowContractId())
-                        .ifPresent(contract -> {
-                            if (contract.getClientId() != null) {
-                                userRepository.findById(contract.getClientId())
-                                    .ifPresent(client -> {
-                                        if (client.getFullName() != null) {
-                                            item.setClientName(client.getFullName());
-                                        } else if (client.getEmail() != null) {
-                                            item.setClientName(client.getEmail());
-                                        } else {
-                                            item.setClientName("Unknown");
-                                        }
-                                    });
-                            } else {
-                                item.setClientName("Unknown");
-                            }
-                        });
-                } else if (cr.getContractId() != null) {
-                    contractRepository.findById(cr.getContractId())
-                        .ifPresent(contract -> {
-                            if (contract.getClientId() != null) {
-                                userRepository.findById(contract.getClientId())
-                                    .ifPresent(client -> {
-                                        if (client.getFullName() != null) {
-                                            item.setClientName(client.getFullName());
-                                        } else if (client.getEmail() != null) {
-                                            item.setClientName(client.getEmail());
-                                        } else {
-                                            item.setClientName("Unknown");
-                                        }
-                                    });
-                            } else {
-                                item.setClientName("Unknown");
-                            }
-                        });
-                }
-                if (item.getClientName() == null || item.getClientName().isEmpty()) {
-                    item.setClientName("Unknown");
-                }
-                
-                item.setDescription(String.format("CR-%s submitted by %s",
-                    cr.getChangeRequestId() != null ? cr.getChangeRequestId() : cr.getId(),
-                    item.getClientName()));
-                
-                item.setTimestamp(cr.getCreatedAt().toString());
-                item.setTimeAgo(calculateTimeAgo(cr.getCreatedAt()));
-                
-                activities.add(item);
-            }
-        }
-
-        // Sort by timestamp (newest first)
-        activities.sort(Comparator.comparing((SalesDashboardActivitiesDTO.ActivityItem a) -> {
-            if (a.getTimestamp() != null) {
-                try {
-                    return LocalDateTime.parse(a.getTimestamp().replace("Z", ""));
-                } catch (Exception e) {
-                    return LocalDateTime.MIN;
-                }
-            }
-            return LocalDateTime.MIN;
-        }).reversed());
-
-        // Limit to 10 most recent
-        if (activities.size() > 10) {
-            activities = activities.subList(0, 10);
+        List<ActivityEvent> events = activityFeedService.getFeed(assigneeUserId,
+            ActivityEvent.TYPE_CHANGE_REQUEST, ActivityEvent.ACTION_CREATED, before, limit);
+
+        // Resolve the client names of the whole page at once
+        Map<Integer, String> clientNames = resolveClientNames(idsOf(events, ActivityEvent::getClientUserId));
+
+        List<SalesDashboardActivitiesDTO.ActivityItem> activities = new ArrayList<>(events.size());
+        for (ActivityEvent event : events) {
+            SalesDashboardActivitiesDTO.ActivityItem item = new SalesDashboardActivitiesDTO.ActivityItem();
+            item.setId(event.getEntityId());
+            item.setEntityType("CHANGE_REQUEST");
+            item.setEntityId(event.getEntityId());
+            item.setClientName(clientNames.getOrDefault(event.getClientUserId(), "Unknown"));
+            item.setDescription(String.format("CR-%s submitted by %s",
+                event.getReference() != null ? event.getReference() : event.getEntityId(),
+                item.getClientName()));
+            item.setTimestamp(event.getOccurredAt().toString());
+            item.setTimeAgo(calculateTimeAgo(event.getOccurredAt()));
+            activities.add(item);
         }
 
         response.setActivities(activities);
+        response.setNextCursor(ActivityFeedService.nextCursor(events, limit));
         return response;
     }
 
     // Helper methods for data retrieval with role-based filtering
 
-    private List<Contact> getContacts(Integer assigneeUserId) {
-        if (assigneeUserId == null) {
-            return contactRepository.findAll();
-        }
-        return contactRepository.findAll().stream()
-            .filter(c -> assigneeUserId.equals(c.getAssigneeUserId()))
-            .collect(Collectors.toList());
-    }
-
-    private List<Opportunity> getOpportunities(Integer assigneeUserId) {
-        if (assigneeUserId == null) {
-            return opportunityRepository.findAll();
-        }
-        return opportunityRepository.findAll().stream()
-            .filter(o -> assigneeUserId.equals(o.getAssigneeUserId()))
-            .collect(Collectors.toList());
-    }
-
-    private List<Proposal> getProposals(Integer assigneeUserId) {
-        List<Proposal> allProposals = proposalRepository.findAll();
-        if (assigneeUserId == null) {
-            return allProposals;
-        }
-        // Proposals are linked to opportunities, so filter through opportunities
-        return allProposals.stream()
+    /**
+     * Keep the proposals visible to the user (Sales Rep: through the assigned opportunity)
+     * Status values are matched case-insensitively, like the database collation used to load them
+     */
+    private List<Proposal> getProposals(List<Proposal> candidates, Map<Integer, Opportunity> opportunities,
+                                        Integer assigneeUserId) {
+        return candidates.stream()
+            .filter(p -> p.getStatus() != null && APPROVAL_PROPOSAL_STATUSES.stream()
+                .anyMatch(status -> status.equalsIgnoreCase(p.getStatus())))
             .filter(p -> {
-                if (p.getOpportunityId() != null) {
-                    return opportunityRepository.findById(p.getOpportunityId())
-                        .map(o -> assigneeUserId.equals(o.getAssigneeUserId()))
-                        .orElse(false);
+                if (assigneeUserId == null) {
+                    return true;
                 }
-                return false;
+                // Proposals are linked to opportunities, so filter through opportunities
+                Opportunity opportunity = p.getOpportunityId() != null ? opportunities.get(p.getOpportunityId()) : null;
+                return opportunity != null && assigneeUserId.equals(opportunity.getAssigneeUserId());
             })
             .collect(Collectors.toList());
     }
 
     private List<Contract> getMSAContracts(Integer assigneeUserId) {
         if (assigneeUserId == null) {
-            return contractRepository.findAll();
+            return contractRepository.findByStatus(Contract.ContractStatus.Under_Review);
         }
-        return contractRepository.findAll().stream()
-            .filter(c -> assigneeUserId.equals(c.getAssigneeUserId()))
-            .collect(Collectors.toList());
+        return contractRepository.findByStatusAndAssigneeUserId(Contract.ContractStatus.Under_Review, assigneeUserId);
     }
 
     private List<SOWContract> getSOWContracts(Integer assigneeUserId) {
         if (assigneeUserId == null) {
-            return sowContractRepository.findAll();
+            return sowContractRepository.findByStatus(SOWContract.SOWContractStatus.Under_Review);
         }
-        return sowContractRepository.findAll().stream()
-            .filter(c -> assigneeUserId.equals(c.getAssigneeUserId()))
-            .collect(Collectors.toList());
+        return sowContractRepository.findByStatusAndAssigneeUserId(
+            SOWContract.SOWContractStatus.Under_Review, assigneeUserId);
     }
 
-    private List<ChangeRequest> getChangeRequests(Integer assigneeUserId) {
-        List<ChangeRequest> allCRs = changeRequestRepository.findAll();
-        if (assigneeUserId == null) {
-            return allCRs;
+    /**
+     * Resolve client display names (full name, else email) with a single query
+     * @return Client user ID -> name; clients without a name are left out
+     */
+    private Map<Integer, String> resolveClientNames(Set<Integer> clientIds) {
+        Map<Integer, String> clientNames = new HashMap<>();
+        if (clientIds.isEmpty()) {
+            return clientNames;
         }
-        // Change requests are linked to contracts, so filter through contracts
-        return allCRs.stream()
-            .filter(cr -> {
-                if (cr.getSowContractId() != null) {
-                    return sowContractRepository.findById(cr.getSowContractId())
-                        .map(c -> assigneeUserId.equals(c.getAssigneeUserId()))
-                        .orElse(false);
-                } else if (cr.getContractId() != null) {
-                    return contractRepository.findById(cr.getContractId())
-                        .map(c -> assigneeUserId.equals(c.getAssigneeUserId()))
-                        .orElse(false);
-                }
-                return false;
-            })
-            .collect(Collectors.toList());
+        for (User client : userRepository.findAllById(clientIds)) {
+            String name = client.getFullName() != null ? client.getFullName() : client.getEmail();
+            if (name != null && !name.isEmpty()) {
+                clientNames.put(client.getId(), name);
+            }
+        }
+        return clientNames;
+    }
+
+    private static <T> Set<Integer> idsOf(Collection<T> items, Function<T, Integer> id) {
+        return items.stream()
+            .map(id)
+            .filter(Objects::nonNull)
+            .collect(Collectors.toSet());
     }
 
     /**
@@ -496,74 +371,29 @@ public class SalesDashboardService {
      */
     private List<SalesDashboardSummaryDTO.RevenueItem> calculateRevenue() {
         List<SalesDashboardSummaryDTO.RevenueItem> revenue = new ArrayList<>();
-        
-        // Get all active contracts
-        List<Contract> msaContracts = contractRepository.findAll().stream()
-            .filter(c -> c.getStatus() == Contract.ContractStatus.Active)
-            .collect(Collectors.toList());
-        
-        List<SOWContract> sowContracts = sowContractRepository.findAll().stream()
-            .filter(c -> c.getStatus() == SOWContract.SOWContractStatus.Active)
-            .collect(Collectors.toList());
 
-        // Calculate revenue for current month and next month
-        LocalDate now = LocalDate.now();
-        LocalDate currentMonth = now.withDayOfMonth(1);
-        LocalDate nextMonth = currentMonth.plusMonths(1);
+        // Current month and next month, read from the pre-aggregated monthly rollup
+        YearMonth currentMonth = YearMonth.now();
+        YearMonth nextMonth = currentMonth.plusMonths(1);
+        Map<YearMonth, Long> monthlyRevenue = revenueRollup.getMonthlyRevenue(List.of(currentMonth, nextMonth));
 
-        // Current month revenue
-        BigDecimal currentMonthRevenue = BigDecimal.ZERO;
-        for (Contract contract : msaContracts) {
-            if (contract.getValue() != null && contract.getPeriodStart() != null && contract.getPeriodEnd() != null) {
-                if (!contract.getPeriodStart().isAfter(currentMonth.plusMonths(1).minusDays(1)) &&
-                    !contract.getPeriodEnd().isBefore(currentMonth)) {
-                    // Contract is active in current month
-                    currentMonthRevenue = currentMonthRevenue.add(contract.getValue());
-                }
-            }
+        for (YearMonth month : List.of(currentMonth, nextMonth)) {
+            revenue.add(new SalesDashboardSummaryDTO.RevenueItem(
+                month.atDay(1).format(MONTH_FORMATTER),
+                RevenueRollup.toMajorUnits(monthlyRevenue.getOrDefault(month, 0L))
+            ));
         }
-        for (SOWContract contract : sowContracts) {
-            if (contract.getValue() != null && contract.getPeriodStart() != null && contract.getPeriodEnd() != null) {
-                if (!contract.getPeriodStart().isAfter(currentMonth.plusMonths(1).minusDays(1)) &&
-                    !contract.getPeriodEnd().isBefore(currentMonth)) {
-                    // Contract is active in current month
-                    currentMonthRevenue = currentMonthRevenue.add(contract.getValue());
-                }
-            }
-        }
-
-        revenue.add(new SalesDashboardSummaryDTO.RevenueItem(
-            currentMonth.format(MONTH_FORMATTER),
-            currentMonthRevenue.longValue()
-        ));
-
-        // Next month revenue
-        BigDecimal nextMonthRevenue = BigDecimal.ZERO;
-        for (Contract contract : msaContracts) {
-            if (contract.getValue() != null && contract.getPeriodStart() != null && contract.getPeriodEnd() != null) {
-                if (!contract.getPeriodStart().isAfter(nextMonth.plusMonths(1).minusDays(1)) &&
-                    !contract.getPeriodEnd().isBefore(nextMonth)) {
-                    nextMonthRevenue = nextMonthRevenue.add(contract.getValue());
-                }
-            }
-        }
-        for (SOWContract contract : sowContracts) {
-            if (contract.getValue() != null && contract.getPeriodStart() != null && contract.getPeriodEnd() != null) {
-                if (!contract.getPeriodStart().isAfter(nextMonth.plusMonths(1).minusDays(1)) &&
-                    !contract.getPeriodEnd().isBefore(nextMonth)) {
-                    nextMonthRevenue = nextMonthRevenue.add(contract.getValue());
-                }
-            }
-        }
-
-        revenue.add(new SalesDashboardSummaryDTO.RevenueItem(
-            nextMonth.format(MONTH_FORMATTER),
-            nextMonthRevenue.longValue()
-        ));
 
         return revenue;
     }
 
+    /**
+     * Read a counter as a summary value (drifted negative counters read as zero until rebuilt)
+     */
+    private Integer count(Map<String, Long> counts, String metric) {
+        return (int) Math.max(0L, counts.getOrDefault(metric, 0L));
+    }
+
     /**
      * Calculate time ago string (e.g., "2 min ago", "1 hour ago")
      */
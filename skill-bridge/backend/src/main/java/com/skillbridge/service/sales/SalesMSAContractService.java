@@ -32,7 +32,9 @@ import com.skillbridge.entity.contract.ChangeRequestHistory;
 import com.skillbridge.repository.document.DocumentMetadataRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.service.common.S3Service;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -88,6 +90,9 @@ public class SalesMSAContractService {
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
     
+    @Autowired
+    private DashboardChangePublisher dashboardChangePublisher;
+    
     @Autowired
     private ChangeRequestEngagedEngineerRepository changeRequestEngagedEngineerRepository;
     
@@ -100,6 +105,9 @@ public class SalesMSAContractService {
     @Autowired
     private ChangeRequestHistoryRepository changeRequestHistoryRepository;
     
+    @Autowired
+    private DisplayIdSequence displayIdSequence;
+    
     private final Gson gson = new Gson();
     
     private static final java.time.format.DateTimeFormatter DATE_FORMATTER = java.time.format.DateTimeFormatter.ofPattern("yyyy-MM-dd");
@@ -1069,6 +1077,7 @@ public class SalesMSAContractService {
         
         // Save change request
         changeRequest = changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Save engaged engineers
         if (request.getEngagedEngineers() != null && !request.getEngagedEngineers().isEmpty()) {
@@ -1133,15 +1142,8 @@ public class SalesMSAContractService {
      * Generate change request display ID in format CR-YYYY-NN
      */
     private String generateChangeRequestId() {
-        int year = LocalDateTime.now().getYear();
-        
-        // Count change requests in the same year
-        long countInYear = changeRequestRepository.findAll().stream()
-            .filter(cr -> cr.getCreatedAt() != null && cr.getCreatedAt().getYear() == year)
-            .count();
-        
-        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded)
-        return String.format("CR-%d-%02d", year, countInYear + 1);
+        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded), allocated atomically per year
+        return displayIdSequence.next(DisplayIdSequence.CHANGE_REQUEST, LocalDateTime.now().getYear());
     }
     
     /**
@@ -1563,6 +1565,7 @@ public class SalesMSAContractService {
         // Update status
         changeRequest.setStatus("Under Internal Review");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Create history entry
         createChangeRequestHistoryEntry(changeRequestId, 
@@ -1619,6 +1622,7 @@ public class SalesMSAContractService {
         }
         
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Create history entry
         String actionDescription = "APPROVE".equals(reviewAction) ? "approved" : "requested revision for";
@@ -4,8 +4,8 @@ import com.skillbridge.dto.sales.response.OpportunitiesListResponse;
 import com.skillbridge.dto.sales.response.OpportunityListItemDTO;
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.opportunity.Opportunity;
-import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
+import com.skillbridge.service.common.UserBatchLoader;
 import jakarta.persistence.criteria.Predicate;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
@@ -17,6 +17,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 /**
@@ -30,7 +31,7 @@ public class SalesOpportunitiesService {
     private OpportunityRepository opportunityRepository;
 
     @Autowired
-    private UserRepository userRepository;
+    private UserBatchLoader userBatchLoader;
 
     /**
      * Get opportunities for sales users with role-based filtering
@@ -61,17 +62,15 @@ public class SalesOpportunitiesService {
                 .map(opportunity -> convertToDTO(opportunity))
                 .collect(Collectors.toList());
 
-        // Load assignee and creator names
+        // Load assignee and creator names (one query for the whole page)
+        Map<Integer, User> users = userBatchLoader.loadUsers(opportunities,
+                OpportunityListItemDTO::getAssigneeUserId, OpportunityListItemDTO::getCreatedBy);
         for (OpportunityListItemDTO dto : opportunities) {
-            if (dto.getAssigneeUserId() != null) {
-                userRepository.findById(dto.getAssigneeUserId()).ifPresent(user -> {
-                    dto.setAssigneeName(user.getFullName());
-                });
+            if (dto.getAssigneeUserId() != null && users.containsKey(dto.getAssigneeUserId())) {
+                dto.setAssigneeName(users.get(dto.getAssigneeUserId()).getFullName());
             }
-            if (dto.getCreatedBy() != null) {
-                userRepository.findById(dto.getCreatedBy()).ifPresent(user -> {
-                    dto.setCreatedByName(user.getFullName());
-                });
+            if (dto.getCreatedBy() != null && users.containsKey(dto.getCreatedBy())) {
+                dto.setCreatedByName(users.get(dto.getCreatedBy()).getFullName());
             }
         }
 
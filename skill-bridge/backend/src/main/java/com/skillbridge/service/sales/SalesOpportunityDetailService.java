@@ -18,6 +18,7 @@ import com.skillbridge.repository.contact.ContactRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalHistoryRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -53,6 +54,9 @@ public class SalesOpportunityDetailService {
     @Autowired
     private ProposalHistoryRepository proposalHistoryRepository;
 
+    @Autowired
+    private DisplayIdSequence displayIdSequence;
+
     private final Gson gson = new Gson();
 
     /**
@@ -238,15 +242,8 @@ public class SalesOpportunityDetailService {
      * Generate opportunity ID in format OP-YYYY-NN
      */
     private String generateOpportunityId() {
-        int year = LocalDate.now().getYear();
-
-        // Count opportunities in the same year
-        long countInYear = opportunityRepository.findAll().stream()
-            .filter(o -> o.getCreatedAt() != null && o.getCreatedAt().getYear() == year)
-            .count();
-
-        // Format: OP-YYYY-NN (NN is 2 digits, zero-padded)
-        return String.format("OP-%d-%02d", year, countInYear + 1);
+        // Format: OP-YYYY-NN (NN is 2 digits, zero-padded), allocated atomically per year
+        return displayIdSequence.next(DisplayIdSequence.OPPORTUNITY, LocalDate.now().getYear());
     }
 
     /**
@@ -26,7 +26,9 @@ import com.skillbridge.entity.document.DocumentMetadata;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.service.common.S3Service;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.transaction.Transactional;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
@@ -95,6 +97,9 @@ public class SalesSOWContractService {
     @Autowired
     private ChangeRequestRepository changeRequestRepository;
     
+    @Autowired
+    private DashboardChangePublisher dashboardChangePublisher;
+    
     @Autowired
     private ChangeRequestEngagedEngineerRepository changeRequestEngagedEngineerRepository;
     
@@ -120,7 +125,7 @@ public class SalesSOWContractService {
     private ContractAppendixService contractAppendixService;
     
     @Autowired
-    private CRBillingEventRepository crBillingEventRepository;
+    private DisplayIdSequence displayIdSequence;
     
     private final Gson gson = new Gson();
     
@@ -968,56 +973,14 @@ public class SalesSOWContractService {
                     engagedEngineers.add(dto);
                 }
                 
-                // Calculate current billing from baseline + events
-                List<RetainerBillingBase> baselineBillingList = sowBaselineService.getBaselineBilling(contractId);
-                
-                // Get all unique billing months
-                java.util.Set<LocalDate> billingMonths = new java.util.HashSet<>();
-                for (RetainerBillingBase base : baselineBillingList) {
-                    if (base.getBillingMonth() != null) {
-                        billingMonths.add(base.getBillingMonth());
-                    }
-                }
-                
-                // Get all billing events to find additional months
-                List<CRBillingEvent> allBillingEvents = crBillingEventRepository.findApprovedEventsBySowContractId(contractId);
-                for (CRBillingEvent event : allBillingEvents) {
-                    if (event.getBillingMonth() != null) {
-                        billingMonths.add(event.getBillingMonth());
-                    }
-                }
-                
-                // Calculate billing for each month (baseline + events)
-                for (LocalDate month : billingMonths.stream().sorted().collect(java.util.stream.Collectors.toList())) {
-                    BigDecimal totalAmount = crEventService.calculateCurrentBilling(contractId, month);
-                    
+                // Calculate current billing from baseline + events (all months in one pass)
+                for (CREventService.BillingMonth billing : crEventService.calculateBillingTimeline(contractId)) {
                     SOWContractDetailDTO.BillingDetailDTO dto = new SOWContractDetailDTO.BillingDetailDTO();
                     dto.setId(null); // No specific ID for calculated billing
-                    dto.setAmount(totalAmount != null ? totalAmount.doubleValue() : null);
+                    dto.setAmount(billing.getAmount() != null ? billing.getAmount().doubleValue() : null);
                     dto.setPercentage(null);
-                    dto.setInvoiceDate(month != null ? month.toString() : null);
-                    
-                    // Get description from baseline or events
-                    String description = "";
-                    var baselineOpt = baselineBillingList.stream()
-                        .filter(b -> b.getBillingMonth() != null && b.getBillingMonth().equals(month))
-                        .findFirst();
-                    if (baselineOpt.isPresent() && baselineOpt.get().getDescription() != null) {
-                        description = baselineOpt.get().getDescription();
-                    }
-                    
-                    // Add event descriptions
-                    List<CRBillingEvent> monthEvents = allBillingEvents.stream()
-                        .filter(e -> e.getBillingMonth() != null && e.getBillingMonth().equals(month))
-                        .collect(java.util.stream.Collectors.toList());
-                    if (!monthEvents.isEmpty()) {
-                        if (!description.isEmpty()) description += "; ";
-                        description += monthEvents.stream()
-                            .map(e -> e.getDescription() != null ? e.getDescription() : "")
-                            .collect(java.util.stream.Collectors.joining("; "));
-                    }
-                    
-                    dto.setDeliveryNote(description);
+                    dto.setInvoiceDate(billing.getMonth().toString());
+                    dto.setDeliveryNote(billing.getDescription()); // Baseline and event descriptions
                     dto.setIsPaid(false); // Event-based billing details don't have payment status
                     billingDetails.add(dto);
                 }
@@ -1688,6 +1651,7 @@ public class SalesSOWContractService {
         
         // Save change request
         changeRequest = changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Prepare baseline/current engineers for comparison (skip saving unchanged auto-fill)
         List<SOWEngagedEngineerBase> baselineEngs = sowBaselineService.getBaselineResources(sowContractIdForCR);
@@ -1790,15 +1754,8 @@ public class SalesSOWContractService {
      * Generate change request display ID in format CR-YYYY-NN
      */
     private String generateChangeRequestId() {
-        int year = LocalDateTime.now().getYear();
-        
-        // Count change requests in the same year
-        long countInYear = changeRequestRepository.findAll().stream()
-            .filter(cr -> cr.getCreatedAt() != null && cr.getCreatedAt().getYear() == year)
-            .count();
-        
-        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded)
-        return String.format("CR-%d-%02d", year, countInYear + 1);
+        // Format: CR-YYYY-NN (NN is 2 digits, zero-padded), allocated atomically per year
+        return displayIdSequence.next(DisplayIdSequence.CHANGE_REQUEST, LocalDateTime.now().getYear());
     }
     
     /**
@@ -2290,6 +2247,7 @@ public class SalesSOWContractService {
         
         changeRequest.setStatus("Under Internal Review");
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         createChangeRequestHistoryEntry(changeRequestId, "SUBMITTED", 
             "Change request submitted for internal review by " + currentUser.getFullName(), currentUser.getId());
@@ -2336,6 +2294,7 @@ public class SalesSOWContractService {
         }
         
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         String actionDescription = "APPROVE".equals(reviewAction) ? "approved" : "requested revision for";
         createChangeRequestHistoryEntry(changeRequestId, "REVIEWED", 
@@ -2414,6 +2373,7 @@ public class SalesSOWContractService {
             changeRequest.setSalesInternalNote(reviewNotes);
         }
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Create history entry
         createChangeRequestHistoryEntry(changeRequestId, "APPROVED",
@@ -2501,6 +2461,7 @@ public class SalesSOWContractService {
                 "Rejection reason: " + reason);
         }
         changeRequestRepository.save(changeRequest);
+        dashboardChangePublisher.changeRequestChanged(changeRequest);
         
         // Create history entry
         createChangeRequestHistoryEntry(changeRequestId, "REJECTED", 
@@ -0,0 +1,167 @@
+package db.migration;
+
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Flyway Migration V49: Structured language proficiencies parsed from engineers.language_summary
+ * so that engineer search can filter by language and minimum level.
+ * Existing summaries are parsed with a copy of LanguageProficiency.parse as it was when this migration
+ * was written, so the rows match what saving the engineer writes and the migration does not change
+ * when the application's parser does. Do not replace the copy with a call to the application class.
+ */
+public class V49__Create_engineer_languages extends BaseJavaMigration {
+
+    private static final int BATCH_SIZE = 500;
+
+    // engineer_languages.language column length
+    private static final int MAX_LANGUAGE_LENGTH = 32;
+
+    private static final int UNKNOWN_LEVEL = 0;
+
+    private static final Pattern ENTRY_SEPARATOR = Pattern.compile("[,;/\\n]+");
+    private static final Pattern WORD_SEPARATOR = Pattern.compile("[^\\p{L}\\p{N}]+");
+    private static final Pattern PARENTHESIZED = Pattern.compile("^(.*?)[(（](.*?)[)）]?\\s*$");
+
+    private static final Map<String, Integer> LEVELS = new LinkedHashMap<>();
+    private static final Map<String, String> LANGUAGE_ALIASES = new LinkedHashMap<>();
+
+    static {
+        LEVELS.put("basic", 1);
+        LEVELS.put("beginner", 1);
+        LEVELS.put("elementary", 1);
+        LEVELS.put("n5", 1);
+        LEVELS.put("n4", 1);
+        LEVELS.put("intermediate", 2);
+        LEVELS.put("conversational", 2);
+        LEVELS.put("n3", 2);
+        LEVELS.put("business", 3);
+        LEVELS.put("advanced", 3);
+        LEVELS.put("n2", 3);
+        LEVELS.put("fluent", 4);
+        LEVELS.put("n1", 4);
+        LEVELS.put("native", 5);
+
+        LANGUAGE_ALIASES.put("jlpt", "japanese");
+        LANGUAGE_ALIASES.put("ja", "japanese");
+        LANGUAGE_ALIASES.put("jp", "japanese");
+        LANGUAGE_ALIASES.put("日本語", "japanese");
+        LANGUAGE_ALIASES.put("en", "english");
+        LANGUAGE_ALIASES.put("英語", "english");
+        LANGUAGE_ALIASES.put("vi", "vietnamese");
+        LANGUAGE_ALIASES.put("ベトナム語", "vietnamese");
+    }
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        Connection connection = context.getConnection();
+
+        try (Statement create = connection.createStatement()) {
+            create.execute("CREATE TABLE IF NOT EXISTS engineer_languages (" +
+                    "id INT PRIMARY KEY AUTO_INCREMENT, " +
+                    "engineer_id INT NOT NULL, " +
+                    "language VARCHAR(32) NOT NULL, " +
+                    "level_rank INT NOT NULL DEFAULT 0, " +
+                    "FOREIGN KEY (engineer_id) REFERENCES engineers(id) ON DELETE CASCADE, " +
+                    "UNIQUE KEY uk_engineer_languages_engineer_language (engineer_id, language), " +
+                    "INDEX idx_engineer_languages_language_level (language, level_rank, engineer_id))");
+        }
+
+        try (Statement select = connection.createStatement();
+             ResultSet engineers = select.executeQuery(
+                     "SELECT id, language_summary FROM engineers WHERE language_summary IS NOT NULL");
+             PreparedStatement insert = connection.prepareStatement(
+                     "INSERT INTO engineer_languages (engineer_id, language, level_rank) VALUES (?, ?, ?)")) {
+            int pending = 0;
+            while (engineers.next()) {
+                int engineerId = engineers.getInt(1);
+                for (Map.Entry<String, Integer> language : parse(engineers.getString(2)).entrySet()) {
+                    if (language.getKey().length() > MAX_LANGUAGE_LENGTH) {
+                        continue;
+                    }
+                    insert.setInt(1, engineerId);
+                    insert.setString(2, language.getKey());
+                    insert.setInt(3, language.getValue());
+                    insert.addBatch();
+                    if (++pending == BATCH_SIZE) {
+                        insert.executeBatch();
+                        pending = 0;
+                    }
+                }
+            }
+            if (pending > 0) {
+                insert.executeBatch();
+            }
+        }
+    }
+
+    /**
+     * Parse a language summary into language -> level rank (highest level wins for a repeated language)
+     */
+    private static Map<String, Integer> parse(String summary) {
+        Map<String, Integer> languages = new LinkedHashMap<>();
+        if (summary == null || summary.isBlank()) {
+            return languages;
+        }
+        for (String entry : ENTRY_SEPARATOR.split(summary)) {
+            parseEntry(entry.trim(), languages);
+        }
+        return languages;
+    }
+
+    private static void parseEntry(String text, Map<String, Integer> languages) {
+        if (text.isEmpty()) {
+            return;
+        }
+
+        String name = text;
+        String level = null;
+        Matcher matcher = PARENTHESIZED.matcher(text);
+        if (matcher.matches()) {
+            name = matcher.group(1);
+            level = matcher.group(2);
+        }
+
+        // Without parentheses, trailing (or, for "JLPT N2", all) level words are split off the name
+        StringBuilder languageName = new StringBuilder();
+        StringBuilder levelWords = new StringBuilder(level != null ? level : "");
+        for (String word : WORD_SEPARATOR.split(name.toLowerCase(Locale.ROOT))) {
+            if (word.isEmpty()) {
+                continue;
+            }
+            if (LEVELS.containsKey(word)) {
+                levelWords.append(' ').append(word);
+            } else if (languageName.length() == 0) {
+                languageName.append(word);
+            } else if (!LANGUAGE_ALIASES.containsKey(word)
+                    && !LANGUAGE_ALIASES.containsKey(languageName.toString())) {
+                // Multi-word names such as "Brazilian Portuguese"; "Japanese JLPT N2" stays "japanese"
+                languageName.append(' ').append(word);
+            }
+        }
+        if (languageName.length() == 0) {
+            return;
+        }
+
+        String language = languageName.toString();
+        languages.merge(LANGUAGE_ALIASES.getOrDefault(language, language), levelRank(levelWords.toString()), Math::max);
+    }
+
+    private static int levelRank(String level) {
+        int rank = UNKNOWN_LEVEL;
+        for (String word : WORD_SEPARATOR.split(level.toLowerCase(Locale.ROOT))) {
+            rank = Math.max(rank, LEVELS.getOrDefault(word, UNKNOWN_LEVEL));
+        }
+        return rank;
+    }
+}
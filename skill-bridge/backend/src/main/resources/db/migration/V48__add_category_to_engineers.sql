@@ -0,0 +1,27 @@
+-- SkillBridge Database - Add Category to Engineers
+-- Flyway Migration V48: Store the homepage category (web, game, ai-ml) classified from primary_skill
+-- so homepage sections no longer run LIKE scans over every available engineer
+
+ALTER TABLE engineers ADD COLUMN category VARCHAR(16) NULL;
+
+-- Backfill existing engineers with the same rules as Engineer.classifyCategory: first match wins,
+-- AI/ML keywords match whole words only (not the "ml" of HTML)
+UPDATE engineers
+SET category = CASE
+    WHEN LOWER(primary_skill) LIKE '%web%'
+        OR LOWER(primary_skill) LIKE '%frontend%'
+        OR LOWER(primary_skill) LIKE '%backend%'
+        OR LOWER(primary_skill) LIKE '%react%'
+        OR LOWER(primary_skill) LIKE '%angular%'
+        OR LOWER(primary_skill) LIKE '%vue%' THEN 'web'
+    WHEN LOWER(primary_skill) LIKE '%game%'
+        OR LOWER(primary_skill) LIKE '%unity%'
+        OR LOWER(primary_skill) LIKE '%unreal%'
+        OR LOWER(primary_skill) LIKE '%godot%' THEN 'game'
+    WHEN CONCAT(' ', TRIM(REGEXP_REPLACE(LOWER(primary_skill), '[^a-z0-9]+', ' ')), ' ')
+        REGEXP ' (ai|ml|machine learning|artificial intelligence|deep learning|data science) ' THEN 'ai-ml'
+    ELSE NULL
+END;
+
+-- Homepage sections read the newest available engineers of a category
+CREATE INDEX idx_engineers_status_category_created ON engineers(status, category, created_at);
@@ -0,0 +1,66 @@
+-- SkillBridge Database - Activity Events
+-- Flyway Migration V50: Append-only activity stream read by the client and sales dashboards
+-- with keyset pagination (occurred_at, id), instead of rebuilding the feed from every entity on each call
+
+CREATE TABLE IF NOT EXISTS activity_events (
+    id BIGINT PRIMARY KEY AUTO_INCREMENT,
+    activity_type VARCHAR(32) NOT NULL, -- CONTACT, PROPOSAL, CONTRACT, CHANGE_REQUEST
+    action VARCHAR(32) NOT NULL, -- CREATED, STATUS_CHANGED
+    entity_type VARCHAR(32) NOT NULL, -- contact, proposal, contract, changeRequest
+    entity_id INT NOT NULL,
+    reference VARCHAR(255), -- Display reference (CR code, contract name, title)
+    status VARCHAR(50), -- Status of the entity after the event
+    description VARCHAR(500) NOT NULL,
+    client_user_id INT,
+    assignee_user_id INT,
+    occurred_at DATETIME NOT NULL,
+    INDEX idx_activity_events_client (client_user_id, occurred_at, id),
+    INDEX idx_activity_events_assignee (assignee_user_id, activity_type, action, occurred_at, id),
+    INDEX idx_activity_events_type (activity_type, action, occurred_at, id)
+);
+
+-- Backfill creation events for existing data (status changes are only recorded from now on)
+INSERT INTO activity_events (activity_type, action, entity_type, entity_id, reference, status, description,
+                             client_user_id, assignee_user_id, occurred_at)
+SELECT 'CONTACT', 'CREATED', 'contact', c.id, c.title, c.status,
+       CONCAT('Contact ', COALESCE(c.title, 'request'), ' created'),
+       c.client_user_id, c.assignee_user_id, c.created_at
+FROM contacts c
+WHERE c.created_at IS NOT NULL;
+
+INSERT INTO activity_events (activity_type, action, entity_type, entity_id, reference, status, description,
+                             client_user_id, assignee_user_id, occurred_at)
+SELECT 'PROPOSAL', 'CREATED', 'proposal', p.id, p.title, p.status,
+       CONCAT('Proposal ', COALESCE(p.title, CONCAT('v', p.id)), ' sent for ', COALESCE(c.title, 'project'), '.'),
+       c.client_user_id, o.assignee_user_id, p.created_at
+FROM proposals p
+LEFT JOIN opportunities o ON o.id = p.opportunity_id
+LEFT JOIN contacts c ON c.id = COALESCE(p.contact_id, o.contact_id)
+WHERE p.created_at IS NOT NULL;
+
+INSERT INTO activity_events (activity_type, action, entity_type, entity_id, reference, status, description,
+                             client_user_id, assignee_user_id, occurred_at)
+SELECT 'CONTRACT', 'CREATED', 'contract', m.id, m.contract_name, m.status,
+       CONCAT('Contract ', COALESCE(m.contract_name, CONCAT('MSA-', m.id)), ' signed by client.'),
+       m.client_id, m.assignee_user_id, m.created_at
+FROM contracts m
+WHERE m.created_at IS NOT NULL;
+
+INSERT INTO activity_events (activity_type, action, entity_type, entity_id, reference, status, description,
+                             client_user_id, assignee_user_id, occurred_at)
+SELECT 'CONTRACT', 'CREATED', 'contract', s.id, s.contract_name, s.status,
+       CONCAT('Contract ', COALESCE(s.contract_name, CONCAT('SOW-', s.id)), ' signed by client.'),
+       s.client_id, s.assignee_user_id, s.created_at
+FROM sow_contracts s
+WHERE s.created_at IS NOT NULL;
+
+INSERT INTO activity_events (activity_type, action, entity_type, entity_id, reference, status, description,
+                             client_user_id, assignee_user_id, occurred_at)
+SELECT 'CHANGE_REQUEST', 'CREATED', 'changeRequest', cr.id, COALESCE(cr.change_request_id, CAST(cr.id AS CHAR)), cr.status,
+       CONCAT('CR-', COALESCE(cr.change_request_id, cr.id), ' created (', COALESCE(cr.title, 'Change Request'), ')',
+              IF(cr.status IS NULL, '', CONCAT(' - ', cr.status)), '.'),
+       COALESCE(s.client_id, m.client_id), COALESCE(s.assignee_user_id, m.assignee_user_id), cr.created_at
+FROM change_requests cr
+LEFT JOIN sow_contracts s ON s.id = cr.sow_contract_id
+LEFT JOIN contracts m ON m.id = cr.contract_id AND cr.sow_contract_id IS NULL
+WHERE cr.created_at IS NOT NULL;
@@ -0,0 +1,14 @@
+-- SkillBridge Database - Sales Dashboard Counters
+-- Flyway Migration V51: Materialized sales dashboard status counts per assignee (scope_user_id = 0 holds
+-- the counts of unassigned entities), maintained in the transactions that create or change contacts,
+-- opportunities, proposals, contracts and change requests. There is no global row that every counted write
+-- would have to update: Sales Manager totals are summed over the scopes on read.
+-- Filled by a rebuild on startup while the table is empty.
+
+CREATE TABLE IF NOT EXISTS sales_dashboard_counters (
+    scope_user_id INT NOT NULL, -- Assignee user ID, or 0 for unassigned entities
+    metric VARCHAR(64) NOT NULL, -- e.g. contacts.all, contracts.underReview
+    value BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (scope_user_id, metric)
+);
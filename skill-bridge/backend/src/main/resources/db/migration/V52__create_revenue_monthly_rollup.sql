@@ -0,0 +1,15 @@
+-- SkillBridge Database - Monthly Revenue Rollup
+-- Flyway Migration V52: Pre-aggregated revenue of Active MSA/SOW contracts per month, assignee and
+-- engagement type, in minor units (1/100 of the currency unit). A contract contributes its value to
+-- every month its period overlaps. Maintained when a contract becomes (in)active or its value, period,
+-- assignee or engagement type changes; filled by a rebuild on startup while the table is empty.
+
+CREATE TABLE IF NOT EXISTS revenue_monthly_rollup (
+    month DATE NOT NULL, -- First day of the month
+    assignee_user_id INT NOT NULL DEFAULT 0, -- 0 when the contract has no assignee
+    engagement_type VARCHAR(50) NOT NULL, -- MSA, or the SOW engagement type (Fixed Price, Retainer)
+    amount_minor BIGINT NOT NULL DEFAULT 0,
+    contract_count INT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (month, assignee_user_id, engagement_type)
+);
@@ -0,0 +1,14 @@
+-- SkillBridge Database - Contract List Indexes
+-- Flyway Migration V53: The sales and client contract lists read MSA (contracts) and SOW (sow_contracts)
+-- contracts newest first, each table filtered, ordered and limited on its own before both are merged.
+-- InnoDB secondary indexes end with the primary key, so they also serve the id tiebreak of the order.
+
+-- Newest first per client (client portal) or per assignee (Sales Rep)
+CREATE INDEX idx_contracts_client_created ON contracts(client_id, created_at);
+CREATE INDEX idx_contracts_assignee_created ON contracts(assignee_user_id, created_at);
+CREATE INDEX idx_sow_contracts_client_created ON sow_contracts(client_id, created_at);
+CREATE INDEX idx_sow_contracts_assignee_created ON sow_contracts(assignee_user_id, created_at);
+
+-- Newest first over all contracts (Sales Manager)
+CREATE INDEX idx_contracts_created ON contracts(created_at);
+CREATE INDEX idx_sow_contracts_created ON sow_contracts(created_at);
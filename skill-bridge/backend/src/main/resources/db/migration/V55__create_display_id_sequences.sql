@@ -0,0 +1,47 @@
+-- SkillBridge Database - Display ID Sequences
+-- Flyway Migration V55: Next sequence number of display IDs (CR-YYYY-NN, OP-YYYY-NN, P-YYYY-NN) per
+-- prefix and year, allocated atomically in blocks instead of counting the year's rows on every create.
+-- Proposals now store their display ID (previously recomputed from all proposals on every list read).
+
+CREATE TABLE IF NOT EXISTS display_id_sequences (
+    prefix VARCHAR(10) NOT NULL, -- CR, OP, P
+    seq_year INT NOT NULL,
+    next_value BIGINT NOT NULL DEFAULT 1, -- First number not yet reserved
+    updated_at TIMESTAMP DEFAULT CURRENT_TIMESTAMP ON UPDATE CURRENT_TIMESTAMP,
+    PRIMARY KEY (prefix, seq_year)
+);
+
+ALTER TABLE proposals ADD COLUMN display_id VARCHAR(20) NULL AFTER attachments_manifest;
+
+-- Same numbering the proposal list computed: order of creation within the year
+UPDATE proposals p
+JOIN (
+    SELECT id, ROW_NUMBER() OVER (PARTITION BY YEAR(created_at) ORDER BY id) AS seq
+    FROM proposals
+    WHERE created_at IS NOT NULL
+) numbered ON numbered.id = p.id
+SET p.display_id = CONCAT('P-', YEAR(p.created_at), '-', IF(numbered.seq < 10, CONCAT('0', numbered.seq), numbered.seq));
+
+CREATE INDEX idx_proposals_display_id ON proposals(display_id);
+
+-- Continue after the highest number already issued in each year
+INSERT INTO display_id_sequences (prefix, seq_year, next_value)
+SELECT 'CR', CAST(SUBSTRING(change_request_id, 4, 4) AS UNSIGNED),
+       MAX(CAST(SUBSTRING_INDEX(change_request_id, '-', -1) AS UNSIGNED)) + 1
+FROM change_requests
+WHERE change_request_id REGEXP '^CR-[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(change_request_id, 4, 4);
+
+INSERT INTO display_id_sequences (prefix, seq_year, next_value)
+SELECT 'OP', CAST(SUBSTRING(opportunity_id, 4, 4) AS UNSIGNED),
+       MAX(CAST(SUBSTRING_INDEX(opportunity_id, '-', -1) AS UNSIGNED)) + 1
+FROM opportunities
+WHERE opportunity_id REGEXP '^OP-[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(opportunity_id, 4, 4);
+
+INSERT INTO display_id_sequences (prefix, seq_year, next_value)
+SELECT 'P', CAST(SUBSTRING(display_id, 3, 4) AS UNSIGNED),
+       MAX(CAST(SUBSTRING_INDEX(display_id, '-', -1) AS UNSIGNED)) + 1
+FROM proposals
+WHERE display_id REGEXP '^P-[0-9]{4}-[0-9]+$'
+GROUP BY SUBSTRING(display_id, 3, 4);
@@ -49,7 +49,8 @@ class EngineerSearchControllerTest {
                 true,
                 1,
                 50,
-                "experience"
+                "experience",
+                "cursor-token"
         );
 
         assertSame(responseBody, response.getBody());
@@ -70,6 +71,34 @@ class EngineerSearchControllerTest {
         assertEquals(1, criteria.getPage());
         assertEquals(50, criteria.getSize());
         assertEquals("experience", criteria.getSortBy());
+        assertEquals("cursor-token", criteria.getCursor());
+    }
+
+    @Test
+    @DisplayName("searchEngineers - returns 400 when the cursor is rejected")
+    void testSearchEngineers_InvalidCursor() {
+        when(engineerSearchService.searchEngineers(org.mockito.ArgumentMatchers.any(SearchCriteria.class)))
+                .thenThrow(new IllegalArgumentException("Invalid search cursor"));
+
+        ResponseEntity<EngineerSearchResponse> response = controller.searchEngineers(
+                null, null, null, null, null, null, null, null, null, null,
+                0, 20, "relevance", "not-a-cursor");
+
+        assertEquals(400, response.getStatusCode().value());
+    }
+
+    @Test
+    @DisplayName("searchEngineers - returns 503 for a cursor while the search index is building")
+    void testSearchEngineers_CursorBeforeIndexReady() {
+        when(engineerSearchService.searchEngineers(org.mockito.ArgumentMatchers.any(SearchCriteria.class)))
+                .thenThrow(new IllegalStateException("Search index is not ready"));
+
+        ResponseEntity<EngineerSearchResponse> response = controller.searchEngineers(
+                null, null, null, null, null, null, null, null, null, null,
+                0, 20, "relevance", "cursor-token");
+
+        assertEquals(503, response.getStatusCode().value());
+        assertEquals("5", response.getHeaders().getFirst("Retry-After"));
     }
 
     @Test
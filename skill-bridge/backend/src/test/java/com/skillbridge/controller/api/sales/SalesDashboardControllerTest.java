@@ -0,0 +1,179 @@
+package com.skillbridge.controller.api.sales;
+
+import com.skillbridge.dto.sales.response.SalesDashboardSummaryDTO;
+import com.skillbridge.entity.auth.User;
+import com.skillbridge.repository.auth.UserRepository;
+import com.skillbridge.service.dashboard.DashboardResponseCache;
+import com.skillbridge.service.dashboard.DashboardStreamService;
+import com.skillbridge.service.sales.RevenueRollup;
+import com.skillbridge.service.sales.SalesDashboardCounters;
+import com.skillbridge.service.sales.SalesDashboardService;
+import com.skillbridge.util.JwtTokenProvider;
+import jakarta.servlet.http.HttpServletRequest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class SalesDashboardControllerTest {
+
+    @Mock
+    private SalesDashboardService salesDashboardService;
+
+    @Mock
+    private SalesDashboardCounters salesDashboardCounters;
+
+    @Mock
+    private RevenueRollup revenueRollup;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private JwtTokenProvider jwtTokenProvider;
+
+    @Mock
+    private DashboardResponseCache dashboardResponseCache;
+
+    @Mock
+    private DashboardStreamService dashboardStreamService;
+
+    @Mock
+    private Authentication authentication;
+
+    @Mock
+    private HttpServletRequest httpServletRequest;
+
+    @InjectMocks
+    private SalesDashboardController controller;
+
+    private User authenticateAs(String role) {
+        User user = new User();
+        user.setId(1);
+        user.setEmail("sales@example.com");
+        user.setRole(role);
+        when(authentication.isAuthenticated()).thenReturn(true);
+        when(authentication.getName()).thenReturn("sales@example.com");
+        doReturn(List.of(new SimpleGrantedAuthority("ROLE_" + role))).when(authentication).getAuthorities();
+        return user;
+    }
+
+    private DashboardResponseCache useRealCache() {
+        DashboardResponseCache cache = new DashboardResponseCache();
+        ReflectionTestUtils.setField(cache, "maxSize", 100);
+        ReflectionTestUtils.setField(cache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(controller, "dashboardResponseCache", cache);
+        return cache;
+    }
+
+    @Test
+    @DisplayName("getSummary - If-None-Match khớp ETag → 304, không đọc User từ DB")
+    void testGetSummary_NotModifiedWithoutUserLookup() {
+        // Arrange
+        User user = authenticateAs("SALES_REP");
+        DashboardResponseCache cache = useRealCache();
+        when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer token");
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1);
+        when(userRepository.findByEmail("sales@example.com")).thenReturn(Optional.of(user));
+        when(salesDashboardService.getSummary(user)).thenReturn(new SalesDashboardSummaryDTO());
+
+        String eTag = controller.getSummary(authentication, httpServletRequest, null).getHeaders().getETag();
+        // A change of another Sales Rep's items does not touch this dashboard
+        cache.markChanged(20, List.of(2));
+
+        // Act
+        ResponseEntity<?> response = controller.getSummary(authentication, httpServletRequest, eTag);
+
+        // Assert
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(userRepository, times(1)).findByEmail("sales@example.com");
+        verify(salesDashboardService, times(1)).getSummary(user);
+    }
+
+    @Test
+    @DisplayName("getSummary - mục được giao cho Sales Rep thay đổi → 200 với ETag mới")
+    void testGetSummary_AssignedChangeInvalidates() {
+        // Arrange
+        User user = authenticateAs("SALES_REP");
+        DashboardResponseCache cache = useRealCache();
+        when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer token");
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1);
+        when(userRepository.findByEmail("sales@example.com")).thenReturn(Optional.of(user));
+        when(salesDashboardService.getSummary(user)).thenReturn(new SalesDashboardSummaryDTO());
+
+        String eTag = controller.getSummary(authentication, httpServletRequest, null).getHeaders().getETag();
+        cache.markChanged(20, List.of(2, 1));
+
+        // Act
+        ResponseEntity<?> response = controller.getSummary(authentication, httpServletRequest, eTag);
+
+        // Assert
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(eTag, response.getHeaders().getETag());
+        verify(salesDashboardService, times(2)).getSummary(user);
+    }
+
+    @Test
+    @DisplayName("stream - user lấy từ JWT, không truy vấn DB (không giữ connection suốt stream)")
+    void testStream_SubscribesWithoutUserLookup() {
+        authenticateAs("SALES_REP");
+        when(httpServletRequest.getHeader("Authorization")).thenReturn("Bearer token");
+        when(jwtTokenProvider.getUserIdFromToken("token")).thenReturn(1);
+
+        ResponseEntity<?> response = controller.stream(authentication, httpServletRequest);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(dashboardStreamService).subscribe(1, "SALES_REP");
+        verifyNoInteractions(userRepository);
+    }
+
+    @Test
+    @DisplayName("rebuildCounters - Sales Manager → rebuild counters và revenue rollup, 204")
+    void testRebuildCounters_SalesManager() {
+        authenticateAs("SALES_MANAGER");
+
+        ResponseEntity<?> response = controller.rebuildCounters(authentication, httpServletRequest);
+
+        assertEquals(HttpStatus.NO_CONTENT, response.getStatusCode());
+        verify(salesDashboardCounters).rebuild();
+        verify(revenueRollup).rebuild();
+        verify(dashboardResponseCache).markChanged();
+    }
+
+    @Test
+    @DisplayName("rebuildCounters - Sales Rep → 403, không rebuild")
+    void testRebuildCounters_SalesRep() {
+        authenticateAs("SALES_REP");
+
+        ResponseEntity<?> response = controller.rebuildCounters(authentication, httpServletRequest);
+
+        assertEquals(HttpStatus.FORBIDDEN, response.getStatusCode());
+        verifyNoInteractions(salesDashboardCounters, revenueRollup);
+    }
+
+    @Test
+    @DisplayName("rebuildCounters - revenue rebuild lỗi → 500")
+    void testRebuildCounters_Failure() {
+        authenticateAs("SALES_MANAGER");
+        doThrow(new RuntimeException("boom")).when(revenueRollup).rebuild();
+
+        ResponseEntity<?> response = controller.rebuildCounters(authentication, httpServletRequest);
+
+        assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
+        verify(dashboardResponseCache, never()).markChanged();
+    }
+}
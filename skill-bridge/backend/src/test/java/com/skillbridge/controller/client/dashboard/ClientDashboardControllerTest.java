@@ -3,7 +3,9 @@ package com.skillbridge.controller.client.dashboard;
 import com.skillbridge.dto.dashboard.response.ActivitiesResponseDTO;
 import com.skillbridge.dto.dashboard.response.AlertsResponseDTO;
 import com.skillbridge.dto.dashboard.response.DashboardSummaryDTO;
+import com.skillbridge.service.dashboard.DashboardResponseCache;
 import com.skillbridge.service.dashboard.DashboardService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -12,6 +14,9 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.Mockito.*;
@@ -25,10 +30,21 @@ class ClientDashboardControllerTest {
     @InjectMocks
     private ClientDashboardController controller;
 
+    private DashboardResponseCache dashboardResponseCache;
+
+    @BeforeEach
+    void setUp() {
+        // Real cache, so that ETags and 304 responses are exercised end to end
+        dashboardResponseCache = new DashboardResponseCache();
+        ReflectionTestUtils.setField(dashboardResponseCache, "maxSize", 100);
+        ReflectionTestUtils.setField(dashboardResponseCache, "ttlSeconds", 60L);
+        ReflectionTestUtils.setField(controller, "dashboardResponseCache", dashboardResponseCache);
+    }
+
     @Test
     @DisplayName("getSummary - missing X-User-Id → 401")
     void testGetSummary_MissingUserId() {
-        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(null);
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(null, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertNull(response.getBody());
@@ -41,19 +57,75 @@ class ClientDashboardControllerTest {
         DashboardSummaryDTO dto = new DashboardSummaryDTO();
         when(dashboardService.getSummary(10)).thenReturn(dto);
 
-        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10);
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertSame(dto, response.getBody());
         verify(dashboardService).getSummary(10);
     }
 
+    @Test
+    @DisplayName("getSummary - If-None-Match khớp ETag → 304, không tính lại")
+    void testGetSummary_NotModified() {
+        DashboardSummaryDTO dto = new DashboardSummaryDTO();
+        when(dashboardService.getSummary(10)).thenReturn(dto);
+
+        ResponseEntity<DashboardSummaryDTO> first = controller.getSummary(10, null);
+        String eTag = first.getHeaders().getETag();
+        ResponseEntity<DashboardSummaryDTO> second = controller.getSummary(10, eTag);
+
+        assertNotNull(eTag);
+        assertEquals(HttpStatus.NOT_MODIFIED, second.getStatusCode());
+        assertNull(second.getBody());
+        verify(dashboardService, times(1)).getSummary(10);
+    }
+
+    @Test
+    @DisplayName("getSummary - dữ liệu thay đổi → 200 với ETag mới")
+    void testGetSummary_ChangedAfterMarkChanged() {
+        when(dashboardService.getSummary(10)).thenReturn(new DashboardSummaryDTO());
+
+        String eTag = controller.getSummary(10, null).getHeaders().getETag();
+        dashboardResponseCache.markChanged();
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10, eTag);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        assertNotEquals(eTag, response.getHeaders().getETag());
+        verify(dashboardService, times(2)).getSummary(10);
+    }
+
+    @Test
+    @DisplayName("getSummary - thay đổi của client khác → vẫn 304")
+    void testGetSummary_OtherClientChangeKeepsETag() {
+        when(dashboardService.getSummary(10)).thenReturn(new DashboardSummaryDTO());
+
+        String eTag = controller.getSummary(10, null).getHeaders().getETag();
+        dashboardResponseCache.markChanged(11, List.of(7));
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10, eTag);
+
+        assertEquals(HttpStatus.NOT_MODIFIED, response.getStatusCode());
+        verify(dashboardService, times(1)).getSummary(10);
+    }
+
+    @Test
+    @DisplayName("getSummary - thay đổi của chính client → 200 với ETag mới")
+    void testGetSummary_OwnChangeInvalidates() {
+        when(dashboardService.getSummary(10)).thenReturn(new DashboardSummaryDTO());
+
+        String eTag = controller.getSummary(10, null).getHeaders().getETag();
+        dashboardResponseCache.markChanged(10, List.of(7));
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10, eTag);
+
+        assertEquals(HttpStatus.OK, response.getStatusCode());
+        verify(dashboardService, times(2)).getSummary(10);
+    }
+
     @Test
     @DisplayName("getSummary - exception → 500")
     void testGetSummary_Exception() {
         when(dashboardService.getSummary(10)).thenThrow(new RuntimeException("err"));
 
-        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10);
+        ResponseEntity<DashboardSummaryDTO> response = controller.getSummary(10, null);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
@@ -62,7 +134,7 @@ class ClientDashboardControllerTest {
     @Test
     @DisplayName("getActivities - missing X-User-Id → 401")
     void testGetActivities_MissingUserId() {
-        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(null, 10);
+        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(null, 10, null, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertNull(response.getBody());
@@ -73,23 +145,23 @@ class ClientDashboardControllerTest {
     @DisplayName("getActivities - limit được clamp 1..50 và success")
     void testGetActivities_LimitClampAndSuccess() {
         ActivitiesResponseDTO dto = new ActivitiesResponseDTO();
-        when(dashboardService.getRecentActivities(5, 50)).thenReturn(dto);
+        when(dashboardService.getRecentActivities(5, null, 50)).thenReturn(dto);
 
         // limit > 50 sẽ bị clamp xuống 50
-        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(5, 100);
+        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(5, 100, null, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertSame(dto, response.getBody());
-        verify(dashboardService).getRecentActivities(5, 50);
+        verify(dashboardService).getRecentActivities(5, null, 50);
     }
 
     @Test
     @DisplayName("getActivities - exception → 500")
     void testGetActivities_Exception() {
-        when(dashboardService.getRecentActivities(5, 10))
+        when(dashboardService.getRecentActivities(5, null, 10))
                 .thenThrow(new RuntimeException("err"));
 
-        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(5, 10);
+        ResponseEntity<ActivitiesResponseDTO> response = controller.getActivities(5, 10, null, null);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
@@ -98,7 +170,7 @@ class ClientDashboardControllerTest {
     @Test
     @DisplayName("getAlerts - missing X-User-Id → 401")
     void testGetAlerts_MissingUserId() {
-        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(null, 10);
+        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(null, 10, null);
 
         assertEquals(HttpStatus.UNAUTHORIZED, response.getStatusCode());
         assertNull(response.getBody());
@@ -112,7 +184,7 @@ class ClientDashboardControllerTest {
         when(dashboardService.getAlerts(3, 1)).thenReturn(dto);
 
         // limit < 1 sẽ bị nâng lên 1
-        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(3, 0);
+        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(3, 0, null);
 
         assertEquals(HttpStatus.OK, response.getStatusCode());
         assertSame(dto, response.getBody());
@@ -124,7 +196,7 @@ class ClientDashboardControllerTest {
     void testGetAlerts_Exception() {
         when(dashboardService.getAlerts(3, 10)).thenThrow(new RuntimeException("err"));
 
-        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(3, 10);
+        ResponseEntity<AlertsResponseDTO> response = controller.getAlerts(3, 10, null);
 
         assertEquals(HttpStatus.INTERNAL_SERVER_ERROR, response.getStatusCode());
         assertNull(response.getBody());
@@ -1,10 +1,9 @@
 package com.skillbridge.service.admin;
 
+import com.skillbridge.dto.admin.response.AdminDashboardCounts;
 import com.skillbridge.dto.admin.response.AdminDashboardSummaryDTO;
-import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.engineer.EngineerRepository;
-import com.skillbridge.repository.engineer.ProjectTypeRepository;
-import com.skillbridge.repository.engineer.SkillRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -12,8 +11,11 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -26,33 +28,19 @@ class AdminDashboardServiceTest {
     @Mock
     private EngineerRepository engineerRepository;
 
-    @Mock
-    private UserRepository userRepository;
-
-    @Mock
-    private SkillRepository skillRepository;
-
-    @Mock
-    private ProjectTypeRepository projectTypeRepository;
-
     @InjectMocks
     private AdminDashboardService adminDashboardService;
 
     @BeforeEach
     void setUp() {
-        // MockitoExtension handles setup
+        ReflectionTestUtils.setField(adminDashboardService, "cacheTtlSeconds", 60L);
     }
 
     @Test
-    @DisplayName("getDashboardSummary - aggregates counts from repositories")
+    @DisplayName("getDashboardSummary - maps the aggregate query row")
     void testGetDashboardSummary_AggregatesCounts() {
         // Arrange
-        when(engineerRepository.countByStatus("AVAILABLE")).thenReturn(6L);
-        when(engineerRepository.count()).thenReturn(10L);
-        when(userRepository.countByIsActive(true)).thenReturn(8L);
-        when(userRepository.countByIsActive(false)).thenReturn(2L);
-        when(skillRepository.count()).thenReturn(15L);
-        when(projectTypeRepository.count()).thenReturn(5L);
+        when(engineerRepository.summarizeAdminDashboard()).thenReturn(counts(6L, 10L, 8L, 2L, 15L, 5L));
 
         // Act
         AdminDashboardSummaryDTO result = adminDashboardService.getDashboardSummary();
@@ -65,24 +53,14 @@ class AdminDashboardServiceTest {
         assertEquals(15, result.getSkills().getTotal());
         assertEquals(5, result.getProjectTypes().getTotal());
 
-        verify(engineerRepository).countByStatus("AVAILABLE");
-        verify(engineerRepository).count();
-        verify(userRepository).countByIsActive(true);
-        verify(userRepository).countByIsActive(false);
-        verify(skillRepository).count();
-        verify(projectTypeRepository).count();
+        verify(engineerRepository).summarizeAdminDashboard();
     }
 
     @Test
     @DisplayName("getDashboardSummary - handles zero counts gracefully")
     void testGetDashboardSummary_ZeroCounts() {
         // Arrange
-        when(engineerRepository.countByStatus("AVAILABLE")).thenReturn(0L);
-        when(engineerRepository.count()).thenReturn(0L);
-        when(userRepository.countByIsActive(true)).thenReturn(0L);
-        when(userRepository.countByIsActive(false)).thenReturn(0L);
-        when(skillRepository.count()).thenReturn(0L);
-        when(projectTypeRepository.count()).thenReturn(0L);
+        when(engineerRepository.summarizeAdminDashboard()).thenReturn(counts(0L, 0L, 0L, 0L, 0L, null));
 
         // Act
         AdminDashboardSummaryDTO result = adminDashboardService.getDashboardSummary();
@@ -95,5 +73,59 @@ class AdminDashboardServiceTest {
         assertEquals(0, result.getSkills().getTotal());
         assertEquals(0, result.getProjectTypes().getTotal());
     }
-}
 
+    @Test
+    @DisplayName("getDashboardSummary - repeated calls are served from the snapshot until data changes")
+    void testGetDashboardSummary_ServedFromSnapshot() {
+        // Arrange
+        when(engineerRepository.summarizeAdminDashboard())
+                .thenReturn(counts(6L, 10L, 8L, 2L, 15L, 5L))
+                .thenReturn(counts(7L, 11L, 8L, 2L, 15L, 5L));
+
+        // Act
+        AdminDashboardSummaryDTO first = adminDashboardService.getDashboardSummary();
+        AdminDashboardSummaryDTO second = adminDashboardService.getDashboardSummary();
+        adminDashboardService.onEngineerChanged(new EngineerChangedEvent(11, EngineerChangedEvent.ChangeType.CREATED));
+        AdminDashboardSummaryDTO afterChange = adminDashboardService.getDashboardSummary();
+
+        // Assert
+        assertSame(first, second);
+        assertEquals(7, afterChange.getEngineers().getActive());
+        verify(engineerRepository, times(2)).summarizeAdminDashboard();
+    }
+
+    private static AdminDashboardCounts counts(Long activeEngineers, Long totalEngineers, Long activeUsers,
+                                               Long inactiveUsers, Long totalSkills, Long totalProjectTypes) {
+        return new AdminDashboardCounts() {
+            @Override
+            public Long getActiveEngineers() {
+                return activeEngineers;
+            }
+
+            @Override
+            public Long getTotalEngineers() {
+                return totalEngineers;
+            }
+
+            @Override
+            public Long getActiveUsers() {
+                return activeUsers;
+            }
+
+            @Override
+            public Long getInactiveUsers() {
+                return inactiveUsers;
+            }
+
+            @Override
+            public Long getTotalSkills() {
+                return totalSkills;
+            }
+
+            @Override
+            public Long getTotalProjectTypes() {
+                return totalProjectTypes;
+            }
+        };
+    }
+}
@@ -11,8 +11,10 @@ import com.skillbridge.repository.contract.ChangeRequestEngagedEngineerRepositor
 import com.skillbridge.repository.contract.SOWEngagedEngineerBaseRepository;
 import com.skillbridge.repository.contract.SOWEngagedEngineerRepository;
 import com.skillbridge.repository.engineer.CertificateRepository;
+import com.skillbridge.repository.engineer.EngineerLanguageRepository;
 import com.skillbridge.repository.engineer.EngineerRepository;
 import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +22,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -59,6 +62,12 @@ class AdminEngineerServiceTest {
     @Mock
     private EngineerSkillRepository engineerSkillRepository;
 
+    @Mock
+    private EngineerLanguageRepository engineerLanguageRepository;
+
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminEngineerService adminEngineerService;
 
@@ -177,6 +186,8 @@ class AdminEngineerServiceTest {
         verify(engineerRepository, times(1)).save(any(Engineer.class));
         verify(certificateRepository, times(1)).save(any(Certificate.class));
         verify(engineerSkillRepository, times(2)).save(any(EngineerSkill.class));
+        verify(engineerLanguageRepository).saveAll(anyList());
+        verify(eventPublisher).publishEvent(any(EngineerChangedEvent.class));
     }
 
     @Test
@@ -202,6 +213,7 @@ class AdminEngineerServiceTest {
 
         assertThrows(RuntimeException.class, () -> adminEngineerService.deleteEngineer(1));
         verify(engineerRepository, never()).deleteById(anyInt());
+        verify(eventPublisher, never()).publishEvent(any(EngineerChangedEvent.class));
     }
 
     private Engineer createEngineer(Integer id, String fullName, String email) {
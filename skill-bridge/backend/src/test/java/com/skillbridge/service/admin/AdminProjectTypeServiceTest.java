@@ -13,6 +13,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -33,6 +34,9 @@ class AdminProjectTypeServiceTest {
     @Mock
     private ProjectTypeRepository projectTypeRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminProjectTypeService adminProjectTypeService;
 
@@ -144,6 +148,7 @@ class AdminProjectTypeServiceTest {
         when(projectTypeRepository.findById(1)).thenReturn(Optional.of(projectType));
         adminProjectTypeService.deleteProjectType(1);
         verify(projectTypeRepository).deleteById(1);
+        verify(eventPublisher).publishEvent(any(AdminDataChangedEvent.class));
     }
 }
 
@@ -7,6 +7,7 @@ import com.skillbridge.dto.admin.response.SkillResponseDTO;
 import com.skillbridge.entity.engineer.Skill;
 import com.skillbridge.repository.engineer.EngineerSkillRepository;
 import com.skillbridge.repository.engineer.SkillRepository;
+import com.skillbridge.service.engineer.SkillChangedEvent;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -14,6 +15,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -38,6 +40,9 @@ class AdminSkillServiceTest {
     @Mock
     private EngineerSkillRepository engineerSkillRepository;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminSkillService adminSkillService;
 
@@ -130,6 +135,7 @@ class AdminSkillServiceTest {
 
         assertEquals("Programming", response.getName());
         verify(skillRepository, times(2)).save(any(Skill.class));
+        verify(eventPublisher, times(2)).publishEvent(any(SkillChangedEvent.class));
     }
 
     @Test
@@ -16,6 +16,7 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
@@ -43,6 +44,9 @@ class AdminUserServiceTest {
     @Mock
     private EmailService emailService;
 
+    @Mock
+    private ApplicationEventPublisher eventPublisher;
+
     @InjectMocks
     private AdminUserService adminUserService;
 
@@ -153,6 +157,7 @@ class AdminUserServiceTest {
 
         assertFalse(salesManager.getIsActive());
         verify(userRepository).save(salesManager);
+        verify(eventPublisher).publishEvent(any(AdminDataChangedEvent.class));
     }
 
     private User createUser(Integer id, String name, String email, String role, boolean active) {
@@ -0,0 +1,113 @@
+package com.skillbridge.service.common;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DisplayIdSequence
+ * Tests ID formatting, block reservation and uniqueness under concurrent allocation
+ */
+@ExtendWith(MockitoExtension.class)
+class DisplayIdSequenceTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    @InjectMocks
+    private DisplayIdSequence displayIdSequence;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(displayIdSequence, "blockSize", 3);
+        displayIdSequence.init();
+    }
+
+    @Test
+    @DisplayName("next - IDs được cấp từ block đã reserve, hết block → reserve block mới")
+    void testNext_ReservesBlocks() {
+        // Arrange: first block starts at 1, second at 4
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("CR"), eq(2025)))
+                .thenReturn(1L, 4L);
+
+        // Act
+        List<String> ids = new ArrayList<>();
+        for (int i = 0; i < 4; i++) {
+            ids.add(displayIdSequence.next(DisplayIdSequence.CHANGE_REQUEST, 2025));
+        }
+
+        // Assert
+        assertEquals(List.of("CR-2025-01", "CR-2025-02", "CR-2025-03", "CR-2025-04"), ids);
+        verify(jdbcTemplate, times(2)).queryForObject(anyString(), eq(Long.class), eq("CR"), eq(2025));
+        verify(jdbcTemplate, times(2)).update(startsWith("UPDATE display_id_sequences"), eq(3), eq("CR"), eq(2025));
+    }
+
+    @Test
+    @DisplayName("next - mỗi prefix và năm có sequence riêng")
+    void testNext_SeparateSequencePerPrefixAndYear() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), anyString(), anyInt()))
+                .thenReturn(1L);
+
+        // Act & Assert
+        assertEquals("OP-2025-01", displayIdSequence.next(DisplayIdSequence.OPPORTUNITY, 2025));
+        assertEquals("OP-2026-01", displayIdSequence.next(DisplayIdSequence.OPPORTUNITY, 2026));
+        assertEquals("P-2025-01", displayIdSequence.next(DisplayIdSequence.PROPOSAL, 2025));
+        assertEquals("OP-2025-02", displayIdSequence.next(DisplayIdSequence.OPPORTUNITY, 2025));
+    }
+
+    @Test
+    @DisplayName("nextValue - cấp đồng thời → không có số trùng")
+    void testNextValue_ConcurrentCallsGetUniqueNumbers() throws Exception {
+        // Arrange: the table row hands out consecutive blocks of 3
+        AtomicLong nextInTable = new AtomicLong(1);
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), eq("CR"), eq(2025)))
+                .thenAnswer(invocation -> nextInTable.getAndAdd(3));
+
+        ExecutorService callers = Executors.newFixedThreadPool(4);
+        Set<Long> numbers = ConcurrentHashMap.newKeySet();
+        try {
+            // Act
+            List<Future<?>> futures = new ArrayList<>();
+            for (int i = 0; i < 4; i++) {
+                futures.add(callers.submit(() -> {
+                    for (int j = 0; j < 25; j++) {
+                        numbers.add(displayIdSequence.nextValue(DisplayIdSequence.CHANGE_REQUEST, 2025));
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            callers.shutdownNow();
+        }
+
+        // Assert: 100 distinct numbers, 1..100 plus at most the rest of the last block unused
+        assertEquals(100, numbers.size());
+        assertTrue(numbers.stream().allMatch(number -> number >= 1 && number <= 102));
+    }
+}
@@ -0,0 +1,149 @@
+package com.skillbridge.service.common;
+
+import com.skillbridge.dto.engineer.response.EngineerProfile;
+import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.service.engineer.EngineerChangedEvent;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for HomepageService
+ * Tests category classification precedence and caching/invalidation of homepage sections
+ */
+@ExtendWith(MockitoExtension.class)
+class HomepageServiceTest {
+
+    @Mock
+    private EngineerRepository engineerRepository;
+
+    @InjectMocks
+    private HomepageService homepageService;
+
+    @BeforeEach
+    void setUp() {
+        SingleFlight singleFlight = new SingleFlight();
+        ReflectionTestUtils.setField(singleFlight, "environment", new MockEnvironment());
+        ReflectionTestUtils.setField(homepageService, "singleFlight", singleFlight);
+        ReflectionTestUtils.setField(homepageService, "cacheTtlSeconds", 300L);
+    }
+
+    private Engineer engineer(int id, String primarySkill) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setFullName("Engineer " + id);
+        engineer.setPrimarySkill(primarySkill);
+        engineer.setCategory(Engineer.classifyCategory(primarySkill));
+        engineer.setStatus("AVAILABLE");
+        return engineer;
+    }
+
+    @Test
+    @DisplayName("classifyCategory - từ khóa web được ưu tiên hơn game và ai-ml")
+    void testClassifyCategory_WebTakesPrecedence() {
+        assertEquals(Engineer.CATEGORY_WEB, Engineer.classifyCategory("React Game UI"));
+        assertEquals(Engineer.CATEGORY_WEB, Engineer.classifyCategory("Backend for ML platforms"));
+    }
+
+    @Test
+    @DisplayName("classifyCategory - từ khóa game được ưu tiên hơn ai-ml")
+    void testClassifyCategory_GameTakesPrecedenceOverAiMl() {
+        assertEquals(Engineer.CATEGORY_GAME, Engineer.classifyCategory("Unity ML-Agents"));
+        assertEquals(Engineer.CATEGORY_GAME, Engineer.classifyCategory("Game AI"));
+    }
+
+    @Test
+    @DisplayName("classifyCategory - ai/ml khớp theo từ nguyên vẹn, không phân biệt hoa thường")
+    void testClassifyCategory_AiMlWholeWordMatch() {
+        assertEquals(Engineer.CATEGORY_AI_ML, Engineer.classifyCategory("AI"));
+        assertEquals(Engineer.CATEGORY_AI_ML, Engineer.classifyCategory("ML/Python"));
+        assertEquals(Engineer.CATEGORY_AI_ML, Engineer.classifyCategory("Machine  Learning"));
+        assertEquals(Engineer.CATEGORY_AI_ML, Engineer.classifyCategory("Data Science"));
+    }
+
+    @Test
+    @DisplayName("classifyCategory - \"ai\"/\"ml\" nằm trong từ khác → không phải ai-ml")
+    void testClassifyCategory_AiMlInsideOtherWords() {
+        assertNull(Engineer.classifyCategory("HTML Email"));
+        assertNull(Engineer.classifyCategory("System Maintenance"));
+        assertNull(Engineer.classifyCategory("XML"));
+    }
+
+    @Test
+    @DisplayName("classifyCategory - null hoặc không khớp từ khóa → null")
+    void testClassifyCategory_NoMatch() {
+        assertNull(Engineer.classifyCategory(null));
+        assertNull(Engineer.classifyCategory("Java"));
+        assertNull(Engineer.classifyCategory("DevOps"));
+    }
+
+    @Test
+    @DisplayName("getEngineersByCategory - section được cache, gọi lại không query DB")
+    void testGetEngineersByCategory_ServedFromCache() {
+        // Arrange
+        when(engineerRepository.findTop3ByStatusAndCategoryOrderByCreatedAtDesc("AVAILABLE", Engineer.CATEGORY_WEB))
+                .thenReturn(List.of(engineer(1, "React")));
+
+        // Act
+        List<EngineerProfile> first = homepageService.getEngineersByCategory("web");
+        List<EngineerProfile> second = homepageService.getEngineersByCategory("WEB");
+
+        // Assert
+        assertEquals(1, first.size());
+        assertEquals(Engineer.CATEGORY_WEB, first.get(0).getCategory());
+        assertSame(first, second);
+        verify(engineerRepository, times(1))
+                .findTop3ByStatusAndCategoryOrderByCreatedAtDesc("AVAILABLE", Engineer.CATEGORY_WEB);
+    }
+
+    @Test
+    @DisplayName("onEngineerChanged - xóa cache, lần gọi sau đọc lại dữ liệu mới")
+    void testOnEngineerChanged_InvalidatesSections() {
+        // Arrange
+        when(engineerRepository.findTop3ByStatusAndCategoryOrderByCreatedAtDesc("AVAILABLE", Engineer.CATEGORY_GAME))
+                .thenReturn(List.of(engineer(1, "Unity")))
+                .thenReturn(List.of(engineer(2, "Unreal"), engineer(1, "Unity")));
+        when(engineerRepository.countByStatus("AVAILABLE")).thenReturn(1L, 2L);
+
+        homepageService.getEngineersByCategory("game");
+        homepageService.getHomepageStatistics();
+
+        // Act
+        homepageService.onEngineerChanged(new EngineerChangedEvent(2, EngineerChangedEvent.ChangeType.CREATED));
+        List<EngineerProfile> game = homepageService.getEngineersByCategory("game");
+
+        // Assert
+        assertEquals(List.of(2, 1), game.stream().map(EngineerProfile::getId).toList());
+        assertEquals(2L, homepageService.getHomepageStatistics().getTotalEngineers());
+        verify(engineerRepository, times(2))
+                .findTop3ByStatusAndCategoryOrderByCreatedAtDesc("AVAILABLE", Engineer.CATEGORY_GAME);
+        verify(engineerRepository, times(2)).countByStatus("AVAILABLE");
+    }
+
+    @Test
+    @DisplayName("getEngineersByCategory - category tự do không được cache")
+    void testGetEngineersByCategory_FreeFormNotCached() {
+        // Arrange
+        when(engineerRepository.findByCategory("java")).thenReturn(List.of(engineer(3, "Java")));
+
+        // Act
+        List<EngineerProfile> result = homepageService.getEngineersByCategory("java");
+        homepageService.getEngineersByCategory("java");
+
+        // Assert: unclassified engineers are still shown under the web label
+        assertEquals(Engineer.CATEGORY_WEB, result.get(0).getCategory());
+        verify(engineerRepository, times(2)).findByCategory("java");
+    }
+}
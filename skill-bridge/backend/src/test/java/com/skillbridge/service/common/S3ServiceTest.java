@@ -0,0 +1,177 @@
+package com.skillbridge.service.common;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.GeneratePresignedUrlRequest;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.net.URL;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for S3Service
+ * Tests reuse, regeneration and eviction of cached presigned URLs
+ */
+@ExtendWith(MockitoExtension.class)
+class S3ServiceTest {
+
+    @Mock
+    private AmazonS3 amazonS3;
+
+    @InjectMocks
+    private S3Service s3Service;
+
+    private final AtomicInteger signed = new AtomicInteger();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(s3Service, "bucketName", "test-bucket");
+        ReflectionTestUtils.setField(s3Service, "s3Enabled", true);
+        ReflectionTestUtils.setField(s3Service, "presignedUrlCacheMaxSize", 100);
+    }
+
+    private void stubSigning() {
+        // Every signing returns a distinct URL so reuse is observable
+        when(amazonS3.generatePresignedUrl(any(GeneratePresignedUrlRequest.class))).thenAnswer(invocation -> {
+            GeneratePresignedUrlRequest request = invocation.getArgument(0);
+            return new URL("https://test-bucket.s3.amazonaws.com/" + request.getKey() + "?sig=" + signed.incrementAndGet());
+        });
+    }
+
+    /**
+     * Move the expiration of a cached URL so that only remainingMillis of its lifetime is left
+     */
+    @SuppressWarnings("unchecked")
+    private void setRemainingLifetime(String s3Key, int expirationMinutes, long remainingMillis) {
+        Map<String, Object> cache = (Map<String, Object>) ReflectionTestUtils.getField(s3Service, "presignedUrlCache");
+        Object cached = cache.get(s3Key + "|" + expirationMinutes);
+        ReflectionTestUtils.setField(cached, "expiresAtMillis", System.currentTimeMillis() + remainingMillis);
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - cùng key và thời hạn → dùng lại URL đã cache")
+    void testGetPresignedUrl_ReusesCachedUrl() {
+        // Arrange
+        stubSigning();
+
+        // Act
+        String first = s3Service.getPresignedUrl("engineers/a.png", 10);
+        String second = s3Service.getPresignedUrl("engineers/a.png", 10);
+
+        // Assert
+        assertEquals(first, second);
+        verify(amazonS3, times(1)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+        assertEquals(1, s3Service.getPresignedUrlCacheHits());
+        assertEquals(1, s3Service.getPresignedUrlCacheMisses());
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - còn hơn 1/4 thời hạn → vẫn dùng lại URL")
+    void testGetPresignedUrl_ReusedWithinThreeQuartersOfLifetime() {
+        // Arrange: 10 minutes URL with 3 minutes left (margin is 2.5 minutes)
+        stubSigning();
+        String first = s3Service.getPresignedUrl("engineers/a.png", 10);
+        setRemainingLifetime("engineers/a.png", 10, 3 * 60 * 1000L);
+
+        // Act
+        String second = s3Service.getPresignedUrl("engineers/a.png", 10);
+
+        // Assert
+        assertEquals(first, second);
+        verify(amazonS3, times(1)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - sắp hết hạn (còn dưới 1/4) → ký lại URL mới")
+    void testGetPresignedUrl_RegeneratedNearExpiry() {
+        // Arrange: 10 minutes URL with 2 minutes left
+        stubSigning();
+        String first = s3Service.getPresignedUrl("engineers/a.png", 10);
+        setRemainingLifetime("engineers/a.png", 10, 2 * 60 * 1000L);
+
+        // Act
+        String second = s3Service.getPresignedUrl("engineers/a.png", 10);
+        String third = s3Service.getPresignedUrl("engineers/a.png", 10);
+
+        // Assert: the new URL replaces the old one in the cache
+        assertNotEquals(first, second);
+        assertEquals(second, third);
+        verify(amazonS3, times(2)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - thời hạn khác nhau → cache riêng từng URL")
+    void testGetPresignedUrl_SeparateEntriesPerExpiration() {
+        // Arrange
+        stubSigning();
+
+        // Act
+        String shortLived = s3Service.getPresignedUrl("engineers/a.png", 10);
+        String longLived = s3Service.getPresignedUrl("engineers/a.png", 24 * 60);
+
+        // Assert
+        assertNotEquals(shortLived, longLived);
+        assertEquals(shortLived, s3Service.getPresignedUrl("engineers/a.png"));
+        assertEquals(longLived, s3Service.getPresignedUrl("engineers/a.png", 24 * 60));
+        verify(amazonS3, times(2)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+    }
+
+    @Test
+    @DisplayName("deleteFile - xóa mọi URL đã cache của key, các key khác giữ nguyên")
+    void testDeleteFile_EvictsCachedUrls() {
+        // Arrange
+        stubSigning();
+        String otherKey = s3Service.getPresignedUrl("engineers/b.png", 10);
+        s3Service.getPresignedUrl("engineers/a.png", 10);
+        s3Service.getPresignedUrl("engineers/a.png", 60);
+
+        // Act
+        s3Service.deleteFile("engineers/a.png");
+        s3Service.getPresignedUrl("engineers/a.png", 10);
+        s3Service.getPresignedUrl("engineers/a.png", 60);
+
+        // Assert: both expirations of the deleted key are signed again
+        verify(amazonS3).deleteObject("test-bucket", "engineers/a.png");
+        verify(amazonS3, times(5)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+        assertEquals(otherKey, s3Service.getPresignedUrl("engineers/b.png", 10));
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - vượt max-size → entry ít dùng nhất bị loại")
+    void testGetPresignedUrl_EvictsLeastRecentlyUsed() {
+        // Arrange
+        ReflectionTestUtils.setField(s3Service, "presignedUrlCacheMaxSize", 2);
+        stubSigning();
+        String a = s3Service.getPresignedUrl("engineers/a.png", 10);
+        s3Service.getPresignedUrl("engineers/b.png", 10);
+        s3Service.getPresignedUrl("engineers/a.png", 10); // a is now more recent than b
+
+        // Act
+        s3Service.getPresignedUrl("engineers/c.png", 10);
+
+        // Assert: b was evicted, a is still cached
+        assertEquals(a, s3Service.getPresignedUrl("engineers/a.png", 10));
+        s3Service.getPresignedUrl("engineers/b.png", 10);
+        verify(amazonS3, times(4)).generatePresignedUrl(any(GeneratePresignedUrlRequest.class));
+    }
+
+    @Test
+    @DisplayName("getPresignedUrl - S3 chưa bật → ném RuntimeException")
+    void testGetPresignedUrl_S3Disabled() {
+        ReflectionTestUtils.setField(s3Service, "s3Enabled", false);
+
+        assertThrows(RuntimeException.class, () -> s3Service.getPresignedUrl("engineers/a.png", 10));
+        verifyNoInteractions(amazonS3);
+    }
+}
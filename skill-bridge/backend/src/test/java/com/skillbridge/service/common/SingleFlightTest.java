@@ -0,0 +1,138 @@
+package com.skillbridge.service.common;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for SingleFlight
+ * Tests coalescing of concurrent identical calls, error sharing, wait timeouts and call metrics
+ */
+class SingleFlightTest {
+
+    private SingleFlight singleFlight;
+    private SimpleMeterRegistry meterRegistry;
+    private ExecutorService callers;
+
+    @BeforeEach
+    void setUp() {
+        MockEnvironment environment = new MockEnvironment();
+        environment.setProperty("single-flight.timeout-seconds.default", "5");
+        environment.setProperty("single-flight.timeout-seconds.slow", "0");
+        meterRegistry = new SimpleMeterRegistry();
+
+        singleFlight = new SingleFlight();
+        ReflectionTestUtils.setField(singleFlight, "environment", environment);
+        ReflectionTestUtils.setField(singleFlight, "meterRegistry", meterRegistry);
+        singleFlight.registerMetrics();
+        callers = Executors.newFixedThreadPool(2);
+    }
+
+    @AfterEach
+    void tearDown() {
+        callers.shutdownNow();
+    }
+
+    @Test
+    @DisplayName("execute - concurrent identical calls share one computation")
+    void testExecute_CoalescesConcurrentCalls() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        AtomicInteger computations = new AtomicInteger();
+
+        Future<String> leader = callers.submit(() -> singleFlight.execute("summary", "manager", () -> {
+            computations.incrementAndGet();
+            leaderStarted.countDown();
+            await(release);
+            return "result";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        // Joins the running computation; released from another thread once it waits
+        callers.submit(() -> {
+            Thread.sleep(100);
+            release.countDown();
+            return null;
+        });
+        String coalesced = singleFlight.execute("summary", "manager", () -> {
+            computations.incrementAndGet();
+            return "recomputed";
+        });
+
+        assertEquals("result", coalesced);
+        assertEquals("result", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1, computations.get());
+        assertEquals(1.0, meterRegistry.get("single.flight.calls")
+            .tag("name", "summary").tag("outcome", "coalesced").counter().count());
+        assertEquals(0, singleFlight.getInFlightCount());
+    }
+
+    @Test
+    @DisplayName("execute - sequential calls each compute (nothing is cached)")
+    void testExecute_SequentialCallsCompute() {
+        AtomicInteger computations = new AtomicInteger();
+
+        singleFlight.execute("summary", "manager", computations::incrementAndGet);
+        singleFlight.execute("summary", "manager", computations::incrementAndGet);
+
+        assertEquals(2, computations.get());
+        assertEquals(2.0, meterRegistry.get("single.flight.calls")
+            .tag("outcome", "leader").counter().count());
+    }
+
+    @Test
+    @DisplayName("execute - failure of the computation is rethrown and the key released")
+    void testExecute_FailureReleasesKey() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+            () -> singleFlight.execute("summary", "manager", () -> {
+                throw new IllegalStateException("boom");
+            }));
+
+        assertEquals("boom", exception.getMessage());
+        assertEquals(0, singleFlight.getInFlightCount());
+        assertEquals("ok", singleFlight.execute("summary", "manager", () -> "ok"));
+    }
+
+    @Test
+    @DisplayName("execute - caller computes itself when the shared computation exceeds the timeout")
+    void testExecute_TimeoutComputesItself() throws Exception {
+        CountDownLatch leaderStarted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+
+        Future<String> leader = callers.submit(() -> singleFlight.execute("slow", "key", () -> {
+            leaderStarted.countDown();
+            await(release);
+            return "leader";
+        }));
+        assertTrue(leaderStarted.await(5, TimeUnit.SECONDS));
+
+        String result = singleFlight.execute("slow", "key", () -> "own");
+        release.countDown();
+
+        assertEquals("own", result);
+        assertEquals("leader", leader.get(5, TimeUnit.SECONDS));
+        assertEquals(1.0, meterRegistry.get("single.flight.calls")
+            .tag("name", "slow").tag("outcome", "timeout").counter().count());
+    }
+
+    private static void await(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS));
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -10,6 +10,7 @@ import com.skillbridge.entity.contract.Contract;
 import com.skillbridge.entity.contract.SOWContract;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.*;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -68,6 +69,9 @@ class ChangeRequestDetailServiceTest {
     @Mock
     private com.skillbridge.service.sales.SalesSOWContractService salesSOWContractService;
 
+    @Mock
+    private DashboardChangePublisher dashboardChangePublisher;
+
     @InjectMocks
     private ChangeRequestDetailService changeRequestDetailService;
 
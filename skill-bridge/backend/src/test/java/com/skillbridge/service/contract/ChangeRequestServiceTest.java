@@ -9,6 +9,8 @@ import com.skillbridge.repository.contract.ChangeRequestAttachmentRepository;
 import com.skillbridge.repository.contract.ChangeRequestRepository;
 import com.skillbridge.repository.contract.ContractRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import jakarta.persistence.EntityNotFoundException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -50,6 +52,12 @@ class ChangeRequestServiceTest {
     @Mock
     private SOWContractRepository sowContractRepository;
 
+    @Mock
+    private DashboardChangePublisher dashboardChangePublisher;
+
+    @Mock
+    private DisplayIdSequence displayIdSequence;
+
     @InjectMocks
     private ChangeRequestService changeRequestService;
 
@@ -94,8 +102,8 @@ class ChangeRequestServiceTest {
 
         when(contractRepository.findByIdAndClientId(contractId, clientUserId))
                 .thenReturn(Optional.of(contract));
-        when(changeRequestRepository.findAll())
-                .thenReturn(new ArrayList<>());
+        when(displayIdSequence.next(eq(DisplayIdSequence.CHANGE_REQUEST), anyInt()))
+                .thenReturn("CR-2025-01");
         when(changeRequestRepository.save(any(ChangeRequest.class)))
                 .thenAnswer(invocation -> {
                     ChangeRequest cr = invocation.getArgument(0);
@@ -143,8 +151,8 @@ class ChangeRequestServiceTest {
                 .thenReturn(Optional.empty());
         when(sowContractRepository.findByIdAndClientId(contractId, clientUserId))
                 .thenReturn(Optional.of(sow));
-        when(changeRequestRepository.findAll())
-                .thenReturn(new ArrayList<>());
+        when(displayIdSequence.next(eq(DisplayIdSequence.CHANGE_REQUEST), anyInt()))
+                .thenReturn("CR-2025-01");
         when(changeRequestRepository.save(any(ChangeRequest.class)))
                 .thenAnswer(invocation -> {
                     ChangeRequest cr = invocation.getArgument(0);
@@ -209,8 +217,8 @@ class ChangeRequestServiceTest {
 
         when(contractRepository.findByIdAndClientId(contractId, clientUserId))
                 .thenReturn(Optional.of(contract));
-        when(changeRequestRepository.findAll())
-                .thenReturn(new ArrayList<>());
+        when(displayIdSequence.next(eq(DisplayIdSequence.CHANGE_REQUEST), anyInt()))
+                .thenReturn("CR-2025-01");
         when(changeRequestRepository.save(any(ChangeRequest.class)))
                 .thenAnswer(invocation -> {
                     ChangeRequest cr = invocation.getArgument(0);
@@ -252,8 +260,8 @@ class ChangeRequestServiceTest {
                 .thenReturn(Optional.empty());
         when(sowContractRepository.findByIdAndClientId(contractId, clientUserId))
                 .thenReturn(Optional.of(sow));
-        when(changeRequestRepository.findAll())
-                .thenReturn(new ArrayList<>());
+        when(displayIdSequence.next(eq(DisplayIdSequence.CHANGE_REQUEST), anyInt()))
+                .thenReturn("CR-2025-01");
         when(changeRequestRepository.save(any(ChangeRequest.class)))
                 .thenAnswer(invocation -> {
                     ChangeRequest cr = invocation.getArgument(0);
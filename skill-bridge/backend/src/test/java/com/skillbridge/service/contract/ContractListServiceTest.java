@@ -3,12 +3,15 @@ package com.skillbridge.service.contract;
 import com.skillbridge.dto.contract.response.ContractListResponse;
 import com.skillbridge.entity.contract.Contract;
 import com.skillbridge.entity.contract.SOWContract;
+import com.skillbridge.repository.contract.ChangeRequestRepository;
 import com.skillbridge.repository.contract.ContractRepository;
+import com.skillbridge.repository.contract.ProjectCloseRequestRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -16,11 +19,11 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.domain.Specification;
 
 import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -40,6 +43,12 @@ class ContractListServiceTest {
     @Mock
     private SOWContractRepository sowContractRepository;
 
+    @Mock
+    private ProjectCloseRequestRepository projectCloseRequestRepository;
+
+    @Mock
+    private ChangeRequestRepository changeRequestRepository;
+
     @InjectMocks
     private ContractListService contractListService;
 
@@ -52,24 +61,13 @@ class ContractListServiceTest {
     @DisplayName("getContracts - không có contract → trả về empty list")
     void testGetContracts_NoContracts() {
         // Arrange
-        Integer clientUserId = 5;
-        String search = null;
-        String status = "All";
-        String type = "All";
-        int page = 0;
-        int size = 10;
-
-        Page<Contract> emptyMSAPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(Pageable.class)))
-                .thenReturn(emptyMSAPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
+        when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(Page.empty(PageRequest.of(0, 10)));
+        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(Page.empty(PageRequest.of(0, 10)));
 
         // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
+        ContractListResponse response = contractListService.getContracts(5, null, "All", "All", 0, 10);
 
         // Assert
         assertNotNull(response);
@@ -77,190 +75,81 @@ class ContractListServiceTest {
         assertEquals(0, response.getCurrentPage());
         assertEquals(0, response.getTotalPages());
         assertEquals(0, response.getTotalElements());
-
-        verify(contractRepository).findByClientIdWithFilters(eq(clientUserId), isNull(), isNull(), any(Pageable.class));
-        verify(sowContractRepository).findByClientIdWithFilters(eq(clientUserId), isNull(), isNull(), isNull(), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("getContracts - có MSA contracts → trả về danh sách MSA")
-    void testGetContracts_WithMSAContracts() {
+    @DisplayName("getContracts - có MSA và SOW contracts → gộp theo thứ tự mới nhất trước")
+    void testGetContracts_WithMSAAndSOWContracts() {
         // Arrange
-        Integer clientUserId = 5;
-        String search = null;
-        String status = "All";
-        String type = "MSA";
-        int page = 0;
-        int size = 10;
-
-        Contract contract1 = createMSAContract(1, "Contract 1", Contract.ContractStatus.Active);
-        Contract contract2 = createMSAContract(2, "Contract 2", Contract.ContractStatus.Pending);
-        List<Contract> contracts = List.of(contract1, contract2);
-
-        Page<Contract> msaPage = new PageImpl<>(contracts, PageRequest.of(0, 1000), 2);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
+        SOWContract sow = createSOWContract(2, "SOW Contract 2", SOWContract.SOWContractStatus.Pending);
+        sow.setCreatedAt(LocalDateTime.of(2024, 12, 1, 10, 0));
+        when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createMSAContract(1, "Contract 1", Contract.ContractStatus.Active))));
+        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(sow)));
 
         // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
+        ContractListResponse response = contractListService.getContracts(5, null, "All", "All", 0, 10);
 
         // Assert
-        assertNotNull(response);
         assertEquals(2, response.getContracts().size());
-        assertEquals(0, response.getCurrentPage());
         assertEquals(1, response.getTotalPages());
         assertEquals(2, response.getTotalElements());
 
         assertEquals("MSA", response.getContracts().get(0).getType());
         assertEquals("Contract 1", response.getContracts().get(0).getContractName());
         assertEquals("Active", response.getContracts().get(0).getStatus());
-
-        verify(contractRepository).findByClientIdWithFilters(eq(clientUserId), isNull(), isNull(), any(Pageable.class));
-        verify(sowContractRepository, never()).findByClientIdWithFilters(anyInt(), any(), any(), any(), any(Pageable.class));
+        assertEquals("SOW", response.getContracts().get(1).getType());
+        assertEquals("SOW Contract 2", response.getContracts().get(1).getContractName());
+        assertEquals("Pending", response.getContracts().get(1).getStatus());
+        assertEquals(new BigDecimal("500000"), response.getContracts().get(1).getValue());
     }
 
     @Test
-    @DisplayName("getContracts - có SOW contracts → trả về danh sách SOW")
-    void testGetContracts_WithSOWContracts() {
-        // Arrange
-        Integer clientUserId = 5;
-        String search = null;
-        String status = "All";
-        String type = "SOW";
-        int page = 0;
-        int size = 10;
-
-        SOWContract sow1 = createSOWContract(1, "SOW Contract 1", SOWContract.SOWContractStatus.Active);
-        SOWContract sow2 = createSOWContract(2, "SOW Contract 2", SOWContract.SOWContractStatus.Pending);
-        List<SOWContract> sows = List.of(sow1, sow2);
-
-        Page<Contract> emptyMSAPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-        Page<SOWContract> sowPage = new PageImpl<>(sows, PageRequest.of(0, 1000), 2);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(Pageable.class)))
-                .thenReturn(emptyMSAPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(sowPage);
+    @DisplayName("getContracts - pagination → mỗi bảng đọc offset + size dòng, No. tiếp nối các trang trước")
+    void testGetContracts_WithPagination() {
+        // Arrange: page 1 of 5 MSA contracts, 2 per page; the first 4 rows are read
+        when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(
+                        createMSAContract(5, "Contract 5", Contract.ContractStatus.Active),
+                        createMSAContract(4, "Contract 4", Contract.ContractStatus.Active),
+                        createMSAContract(3, "Contract 3", Contract.ContractStatus.Active),
+                        createMSAContract(2, "Contract 2", Contract.ContractStatus.Active)),
+                        PageRequest.of(0, 4), 5));
 
         // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
+        ContractListResponse response = contractListService.getContracts(5, null, "All", "MSA", 1, 2);
 
         // Assert
-        assertNotNull(response);
+        assertEquals(1, response.getCurrentPage());
+        assertEquals(3, response.getTotalPages()); // 5 items / 2 per page = 3 pages
+        assertEquals(5, response.getTotalElements());
         assertEquals(2, response.getContracts().size());
-        assertEquals(0, response.getCurrentPage());
-        assertEquals(1, response.getTotalPages());
-        assertEquals(2, response.getTotalElements());
-
-        assertEquals("SOW", response.getContracts().get(0).getType());
-        assertEquals("SOW Contract 1", response.getContracts().get(0).getContractName());
-        assertEquals("Active", response.getContracts().get(0).getStatus());
-
-        verify(contractRepository, never()).findByClientIdWithFilters(anyInt(), any(), any(), any(Pageable.class));
-        verify(sowContractRepository).findByClientIdWithFilters(eq(clientUserId), isNull(), isNull(), isNull(), any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("getContracts - có search query → filter theo search")
-    void testGetContracts_WithSearchQuery() {
-        // Arrange
-        Integer clientUserId = 5;
-        String search = "Project";
-        String status = "All";
-        String type = "All";
-        int page = 0;
-        int size = 10;
-
-        Contract contract = createMSAContract(1, "Project Contract", Contract.ContractStatus.Active);
-        Page<Contract> msaPage = new PageImpl<>(List.of(contract), PageRequest.of(0, 1000), 1);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), eq("Project"), any(), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), eq("Project"), any(), any(), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
-
-        // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
-
-        // Assert
-        assertNotNull(response);
-        assertEquals(1, response.getContracts().size());
-        verify(contractRepository).findByClientIdWithFilters(eq(clientUserId), eq("Project"), isNull(), any(Pageable.class));
+        assertEquals("Contract 3", response.getContracts().get(0).getContractName());
+        assertEquals(3, response.getContracts().get(0).getNo());
+        assertEquals(4, response.getContracts().get(1).getNo());
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contractRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertEquals(0, pageableCaptor.getValue().getPageNumber());
+        assertEquals(4, pageableCaptor.getValue().getPageSize());
+        verifyNoInteractions(sowContractRepository);
     }
 
     @Test
-    @DisplayName("getContracts - có status filter → filter theo status")
-    void testGetContracts_WithStatusFilter() {
+    @DisplayName("getContracts - filter engagement type → chỉ đọc bảng SOW")
+    void testGetContracts_EngagementTypeReadsSOWOnly() {
         // Arrange
-        Integer clientUserId = 5;
-        String search = null;
-        String status = "Active";
-        String type = "All";
-        int page = 0;
-        int size = 10;
-
-        Contract contract = createMSAContract(1, "Active Contract", Contract.ContractStatus.Active);
-        Page<Contract> msaPage = new PageImpl<>(List.of(contract), PageRequest.of(0, 1000), 1);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), any(), eq(Contract.ContractStatus.Active), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), any(), eq(SOWContract.SOWContractStatus.Active), any(), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
+        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
+                .thenReturn(new PageImpl<>(List.of(createSOWContract(2, "SOW Contract 2", SOWContract.SOWContractStatus.Active))));
 
         // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
+        ContractListResponse response = contractListService.getContracts(5, null, "All", "Retainer", 0, 10);
 
         // Assert
-        assertNotNull(response);
         assertEquals(1, response.getContracts().size());
-        verify(contractRepository).findByClientIdWithFilters(eq(clientUserId), isNull(), eq(Contract.ContractStatus.Active), any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("getContracts - pagination → trả về đúng page")
-    void testGetContracts_WithPagination() {
-        // Arrange
-        Integer clientUserId = 5;
-        String search = null;
-        String status = "All";
-        String type = "All";
-        int page = 1; // Page 1 (second page)
-        int size = 2; // 2 items per page
-
-        // Create 5 contracts
-        List<Contract> allContracts = new ArrayList<>();
-        for (int i = 1; i <= 5; i++) {
-            allContracts.add(createMSAContract(i, "Contract " + i, Contract.ContractStatus.Active));
-        }
-
-        Page<Contract> msaPage = new PageImpl<>(allContracts, PageRequest.of(0, 1000), 5);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 1000), 0);
-
-        when(contractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findByClientIdWithFilters(anyInt(), any(), any(), any(), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
-
-        // Act
-        ContractListResponse response = contractListService.getContracts(
-                clientUserId, search, status, type, page, size);
-
-        // Assert
-        assertNotNull(response);
-        assertEquals(1, response.getCurrentPage());
-        assertEquals(3, response.getTotalPages()); // 5 items / 2 per page = 3 pages
-        assertEquals(5, response.getTotalElements());
-        assertEquals(2, response.getContracts().size()); // Page 1 should have 2 items (index 2, 3)
+        assertEquals("SOW", response.getContracts().get(0).getType());
+        verify(contractRepository, never()).findAll(any(Specification.class), any(Pageable.class));
     }
 
     // Helper methods
@@ -290,4 +179,3 @@ class ContractListServiceTest {
         return sow;
     }
 }
-
@@ -7,6 +7,7 @@ import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contract.*;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.*;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -42,6 +43,9 @@ class ProjectCloseRequestServiceTest {
     @Mock
     private ContractHistoryRepository contractHistoryRepository;
 
+    @Mock
+    private DashboardChangePublisher dashboardChangePublisher;
+
     @InjectMocks
     private ProjectCloseRequestService projectCloseRequestService;
 
@@ -261,6 +265,7 @@ class ProjectCloseRequestServiceTest {
         assertEquals(SOWContract.SOWContractStatus.Completed, sowCaptor.getValue().getStatus());
 
         verify(contractHistoryRepository).save(any(ContractHistory.class));
+        verify(dashboardChangePublisher).closeRequestChanged(closeRequest, activeSOW);
     }
 
     @Test
@@ -0,0 +1,91 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.dashboard.ActivityEvent;
+import com.skillbridge.repository.dashboard.ActivityEventRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for ActivityFeedService
+ * Tests keyset pagination of the activity stream
+ */
+@ExtendWith(MockitoExtension.class)
+class ActivityFeedServiceTest {
+
+    @Mock
+    private ActivityEventRepository activityEventRepository;
+
+    @InjectMocks
+    private ActivityFeedService activityFeedService;
+
+    @Test
+    @DisplayName("getClientFeed - first page uses the feed query")
+    void testGetClientFeed_FirstPage() {
+        List<ActivityEvent> events = List.of(event(9L), event(8L));
+        when(activityEventRepository.findClientFeed(3, PageRequest.of(0, 2))).thenReturn(events);
+
+        List<ActivityEvent> result = activityFeedService.getClientFeed(3, null, 2);
+
+        assertEquals(events, result);
+        assertEquals(8L, ActivityFeedService.nextCursor(result, 2));
+    }
+
+    @Test
+    @DisplayName("getClientFeed - next page continues after the cursor's (occurredAt, id)")
+    void testGetClientFeed_AfterCursor() {
+        ActivityEvent cursor = event(8L);
+        when(activityEventRepository.findById(8L)).thenReturn(Optional.of(cursor));
+        when(activityEventRepository.findClientFeedBefore(3, cursor.getOccurredAt(), 8L, PageRequest.of(0, 2)))
+                .thenReturn(List.of(event(5L)));
+
+        List<ActivityEvent> result = activityFeedService.getClientFeed(3, 8L, 2);
+
+        assertEquals(1, result.size());
+        assertNull(ActivityFeedService.nextCursor(result, 2));
+    }
+
+    @Test
+    @DisplayName("getFeed - unknown cursor → empty page")
+    void testGetFeed_UnknownCursor() {
+        when(activityEventRepository.findById(42L)).thenReturn(Optional.empty());
+
+        List<ActivityEvent> result = activityFeedService.getFeed(null,
+                ActivityEvent.TYPE_CHANGE_REQUEST, ActivityEvent.ACTION_CREATED, 42L, 10);
+
+        assertTrue(result.isEmpty());
+        verify(activityEventRepository, never()).findFeedBefore(any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("getFeed - Sales Rep reads the assignee feed")
+    void testGetFeed_Assignee() {
+        when(activityEventRepository.findAssigneeFeed(5, ActivityEvent.TYPE_CHANGE_REQUEST,
+                ActivityEvent.ACTION_CREATED, PageRequest.of(0, 10))).thenReturn(List.of(event(1L)));
+
+        List<ActivityEvent> result = activityFeedService.getFeed(5,
+                ActivityEvent.TYPE_CHANGE_REQUEST, ActivityEvent.ACTION_CREATED, null, 10);
+
+        assertEquals(1, result.size());
+        verify(activityEventRepository, never()).findFeed(any(), any(), any());
+    }
+
+    private ActivityEvent event(Long id) {
+        ActivityEvent event = new ActivityEvent();
+        event.setId(id);
+        event.setOccurredAt(LocalDateTime.of(2025, 1, 1, 10, 0).plusMinutes(id));
+        return event;
+    }
+}
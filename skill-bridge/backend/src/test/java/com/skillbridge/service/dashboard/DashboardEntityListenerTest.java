@@ -0,0 +1,158 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.entity.contact.Contact;
+import com.skillbridge.entity.contract.Contract;
+import com.skillbridge.service.sales.RevenueRollupUpdater;
+import com.skillbridge.service.sales.SalesDashboardCounterUpdater;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.QueryTimeoutException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardEntityListener
+ * Tests that the stored row is read once and handed to every dashboard read model
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardEntityListenerTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ActivityFeedRecorder activityFeedRecorder;
+
+    @Mock
+    private SalesDashboardCounterUpdater salesDashboardCounterUpdater;
+
+    @Mock
+    private RevenueRollupUpdater revenueRollupUpdater;
+
+    @Mock
+    private DashboardResponseCache dashboardResponseCache;
+
+    @InjectMocks
+    private DashboardEntityListener dashboardEntityListener;
+
+    private Contract contract(int id) {
+        Contract contract = new Contract();
+        contract.setId(id);
+        contract.setStatus(Contract.ContractStatus.Active);
+        return contract;
+    }
+
+    @Test
+    @DisplayName("onUpdating - đọc dòng đã lưu một lần, chuyển cho feed, counters và revenue")
+    @SuppressWarnings("unchecked")
+    void testOnUpdating_ReadsStoredRowOnce() {
+        // Arrange
+        Contract contract = contract(5);
+        StoredEntityRow stored = new StoredEntityRow("Draft", 7, new BigDecimal("100.00"), null, null, "MSA");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(5))).thenReturn(List.of(stored));
+
+        // Act
+        dashboardEntityListener.onUpdating(contract);
+
+        // Assert
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(1)).query(sql.capture(), any(RowMapper.class), eq(5));
+        assertTrue(sql.getValue().contains("FROM contracts"));
+        verify(activityFeedRecorder).recordStatusChange(contract, stored);
+        verify(salesDashboardCounterUpdater).onUpdating(contract, stored);
+        verify(revenueRollupUpdater).onUpdating(contract, stored);
+    }
+
+    @Test
+    @DisplayName("onUpdating - hợp đồng được giao lại → dashboard của client, assignee cũ và mới bị đánh dấu")
+    @SuppressWarnings("unchecked")
+    void testOnUpdating_MarksPreviousAndNewAssignee() {
+        // Arrange
+        Contract contract = contract(5);
+        contract.setClientId(11);
+        contract.setAssigneeUserId(9);
+        StoredEntityRow stored = new StoredEntityRow("Active", 7, null, null, null, "MSA");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(5))).thenReturn(List.of(stored));
+
+        // Act
+        dashboardEntityListener.onUpdating(contract);
+
+        // Assert
+        verify(dashboardResponseCache).markChanged(11, Arrays.asList(9, 7));
+    }
+
+    @Test
+    @DisplayName("onUpdating - một read model lỗi không chặn các read model còn lại, lỗi được đếm")
+    @SuppressWarnings("unchecked")
+    void testOnUpdating_FailureIsolated() {
+        // Arrange
+        SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+        ReflectionTestUtils.setField(dashboardEntityListener, "meterRegistry", meterRegistry);
+        Contract contract = contract(5);
+        StoredEntityRow stored = new StoredEntityRow("Draft", 7, null, null, null, "MSA");
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(5))).thenReturn(List.of(stored));
+        doThrow(new QueryTimeoutException("lock wait timeout"))
+                .when(salesDashboardCounterUpdater).onUpdating(contract, stored);
+
+        // Act
+        assertDoesNotThrow(() -> dashboardEntityListener.onUpdating(contract));
+
+        // Assert
+        verify(activityFeedRecorder).recordStatusChange(contract, stored);
+        verify(revenueRollupUpdater).onUpdating(contract, stored);
+        assertEquals(1.0, meterRegistry.get("dashboard.listener.failures").tag("target", "counters").counter().count());
+    }
+
+    @Test
+    @DisplayName("onUpdating - không đọc được dòng đã lưu → bỏ qua, không ném lỗi")
+    @SuppressWarnings("unchecked")
+    void testOnUpdating_StoredRowUnreadable() {
+        // Arrange
+        Contact contact = new Contact();
+        contact.setId(3);
+        when(jdbcTemplate.query(anyString(), any(RowMapper.class), eq(3)))
+                .thenThrow(new QueryTimeoutException("lock wait timeout"));
+
+        // Act
+        assertDoesNotThrow(() -> dashboardEntityListener.onUpdating(contact));
+
+        // Assert: previous client and assignee unknown, so every dashboard is marked stale
+        verifyNoInteractions(activityFeedRecorder, salesDashboardCounterUpdater, revenueRollupUpdater);
+        verify(dashboardResponseCache).markChanged();
+    }
+
+    @Test
+    @DisplayName("onCreated - ghi feed, counters, revenue và đánh dấu dashboard đã thay đổi")
+    void testOnCreated_FansOut() {
+        // Arrange
+        Contact contact = new Contact();
+        contact.setId(3);
+        contact.setClientUserId(11);
+        contact.setAssigneeUserId(7);
+
+        // Act
+        dashboardEntityListener.onCreated(contact);
+
+        // Assert
+        verify(activityFeedRecorder).recordCreated(contact);
+        verify(salesDashboardCounterUpdater).onCreated(contact);
+        verify(revenueRollupUpdater).onCreated(contact);
+        verify(dashboardResponseCache).markChanged(11, Arrays.asList(7, null));
+        verifyNoInteractions(jdbcTemplate);
+    }
+}
@@ -0,0 +1,59 @@
+package com.skillbridge.service.dashboard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DashboardSectionTimer
+ * Tests that sections run on the calling thread, error propagation and section timers
+ */
+class DashboardSectionTimerTest {
+
+    private DashboardSectionTimer sectionTimer;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+
+        sectionTimer = new DashboardSectionTimer();
+        ReflectionTestUtils.setField(sectionTimer, "meterRegistry", meterRegistry);
+    }
+
+    @Test
+    @DisplayName("timed - runs on the calling thread and records the section")
+    void testTimed_RecordsSection() {
+        Thread caller = Thread.currentThread();
+
+        boolean sameThread = sectionTimer.timed("client", "statusCounts", () -> Thread.currentThread() == caller);
+
+        assertTrue(sameThread);
+        assertEquals(1, meterRegistry.get("dashboard.section")
+                .tag("dashboard", "client").tag("section", "statusCounts").timer().count());
+    }
+
+    @Test
+    @DisplayName("timed - section failure is rethrown and still recorded")
+    void testTimed_RethrowsFailure() {
+        IllegalStateException exception = assertThrows(IllegalStateException.class,
+                () -> sectionTimer.timed("sales", "counts", () -> {
+                    throw new IllegalStateException("boom");
+                }));
+
+        assertEquals("boom", exception.getMessage());
+        assertEquals(1, meterRegistry.get("dashboard.section").tag("section", "counts").timer().count());
+    }
+
+    @Test
+    @DisplayName("timed - no meter registry → section still runs")
+    void testTimed_WithoutMeterRegistry() {
+        ReflectionTestUtils.setField(sectionTimer, "meterRegistry", null);
+
+        assertEquals("ok", sectionTimer.timed("sales", "revenue", () -> "ok"));
+    }
+}
@@ -0,0 +1,129 @@
+package com.skillbridge.service.dashboard;
+
+import com.skillbridge.dto.dashboard.response.DashboardStatusCount;
+import com.skillbridge.dto.dashboard.response.DashboardSummaryDTO;
+import com.skillbridge.repository.contract.ChangeRequestRepository;
+import com.skillbridge.repository.contract.ContractHistoryRepository;
+import com.skillbridge.repository.contract.ContractRepository;
+import com.skillbridge.repository.contract.SOWContractRepository;
+import com.skillbridge.repository.dashboard.ClientDashboardRepository;
+import com.skillbridge.repository.proposal.ProposalRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.function.Supplier;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for DashboardService
+ * Tests the client dashboard summary built from aggregate status counts
+ */
+@ExtendWith(MockitoExtension.class)
+class DashboardServiceTest {
+
+    @Mock
+    private ClientDashboardRepository clientDashboardRepository;
+
+    @Mock
+    private ProposalRepository proposalRepository;
+
+    @Mock
+    private ContractRepository contractRepository;
+
+    @Mock
+    private SOWContractRepository sowContractRepository;
+
+    @Mock
+    private ChangeRequestRepository changeRequestRepository;
+
+    @Mock
+    private ContractHistoryRepository contractHistoryRepository;
+
+    @Mock
+    private DashboardSectionTimer dashboardSectionTimer;
+
+    @InjectMocks
+    private DashboardService dashboardService;
+
+    @BeforeEach
+    void setUp() {
+        when(dashboardSectionTimer.timed(eq("client"), eq("statusCounts"), any()))
+                .thenAnswer(invocation -> ((Supplier<?>) invocation.getArgument(2)).get());
+    }
+
+    @Test
+    @DisplayName("getSummary - folds status counts into the summary")
+    void testGetSummary_FoldsStatusCounts() {
+        when(clientDashboardRepository.countDashboardStatusesForClient(7)).thenReturn(List.of(
+                row(DashboardStatusCount.CATEGORY_CONTACT, "InProgress", 2L),
+                row(DashboardStatusCount.CATEGORY_CONTACT, "New", 3L),
+                row(DashboardStatusCount.CATEGORY_CONTACT, "Closed", 9L),
+                row(DashboardStatusCount.CATEGORY_PROPOSAL, "under review", 1L),
+                row(DashboardStatusCount.CATEGORY_PROPOSAL, "Reviewed", 2L),
+                row(DashboardStatusCount.CATEGORY_PROPOSAL, "Sent to client", 4L),
+                // MSA and SOW rows of the same status are added up
+                row(DashboardStatusCount.CATEGORY_CONTRACT, "Active", 1L),
+                row(DashboardStatusCount.CATEGORY_CONTRACT, "Active", 5L),
+                row(DashboardStatusCount.CATEGORY_CONTRACT, "Draft", 2L),
+                row(DashboardStatusCount.CATEGORY_CHANGE_REQUEST, "Under Review", 3L),
+                row(DashboardStatusCount.CATEGORY_CHANGE_REQUEST, "Approved", 1L),
+                row(DashboardStatusCount.CATEGORY_CHANGE_REQUEST, null, 8L)
+        ));
+
+        DashboardSummaryDTO summary = dashboardService.getSummary(7);
+
+        assertEquals(2, summary.getContacts().getInprogress());
+        assertEquals(3, summary.getContacts().getNewCount());
+        assertEquals(1, summary.getProposals().getUnderReview());
+        assertEquals(6, summary.getProposals().getReviewed());
+        assertEquals(6, summary.getContracts().getActive());
+        assertEquals(2, summary.getContracts().getDraft());
+        assertEquals(3, summary.getChangeRequests().getUnderReview());
+        assertEquals(1, summary.getChangeRequests().getApproved());
+
+        // No full-table reads or per-contact / per-contract lookups
+        verify(contractRepository, never()).findAll();
+        verify(sowContractRepository, never()).findAll();
+        verifyNoInteractions(proposalRepository, changeRequestRepository);
+    }
+
+    @Test
+    @DisplayName("getSummary - client without data → all counts are zero")
+    void testGetSummary_NoData() {
+        when(clientDashboardRepository.countDashboardStatusesForClient(7)).thenReturn(List.of());
+
+        DashboardSummaryDTO summary = dashboardService.getSummary(7);
+
+        assertEquals(0, summary.getContacts().getInprogress());
+        assertEquals(0, summary.getContracts().getActive());
+        assertEquals(0, summary.getChangeRequests().getApproved());
+    }
+
+    private DashboardStatusCount row(String category, String status, Long total) {
+        return new DashboardStatusCount() {
+            @Override
+            public String getCategory() {
+                return category;
+            }
+
+            @Override
+            public String getStatus() {
+                return status;
+            }
+
+            @Override
+            public Long getTotal() {
+                return total;
+            }
+        };
+    }
+}
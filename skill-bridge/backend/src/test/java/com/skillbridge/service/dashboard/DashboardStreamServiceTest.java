@@ -0,0 +1,180 @@
+package com.skillbridge.service.dashboard;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for DashboardStreamService
+ * Tests subscriptions, the subscriber gauge, which dashboards a change is pushed to and that a
+ * stalled client does not hold up the others
+ */
+class DashboardStreamServiceTest {
+
+    private DashboardStreamService dashboardStreamService;
+    private SimpleMeterRegistry meterRegistry;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        dashboardStreamService = new DashboardStreamService();
+        ReflectionTestUtils.setField(dashboardStreamService, "timeoutMinutes", 30L);
+        ReflectionTestUtils.setField(dashboardStreamService, "queueCapacity", 10);
+        ReflectionTestUtils.setField(dashboardStreamService, "meterRegistry", meterRegistry);
+        dashboardStreamService.registerMetrics();
+    }
+
+    @AfterEach
+    void tearDown() {
+        dashboardStreamService.stop();
+    }
+
+    @Test
+    @DisplayName("subscribe - opens a stream with the configured timeout")
+    void testSubscribe_RegistersSubscriber() {
+        SseEmitter emitter = dashboardStreamService.subscribe(10, "SALES_REP");
+
+        assertNotNull(emitter);
+        assertEquals(30L * 60 * 1000, emitter.getTimeout());
+        assertEquals(1, dashboardStreamService.getSubscriberCount());
+        assertEquals(1.0, meterRegistry.get("dashboard.stream.subscribers").gauge().value());
+    }
+
+    @Test
+    @DisplayName("isVisibleTo - Sales Manager receives every change")
+    void testIsVisibleTo_SalesManager() {
+        DashboardChangedEvent event = new DashboardChangedEvent(
+            DashboardChangedEvent.TYPE_CONTRACT, 1, "Active", 20, 30);
+
+        assertTrue(DashboardStreamService.isVisibleTo(event, 99, "SALES_MANAGER"));
+    }
+
+    @Test
+    @DisplayName("isVisibleTo - Sales Rep only receives changes of assigned items")
+    void testIsVisibleTo_SalesRep() {
+        DashboardChangedEvent event = new DashboardChangedEvent(
+            DashboardChangedEvent.TYPE_CHANGE_REQUEST, 1, "Under Review", 20, 30);
+
+        assertTrue(DashboardStreamService.isVisibleTo(event, 30, "SALES_REP"));
+        assertFalse(DashboardStreamService.isVisibleTo(event, 31, "SALES_REP"));
+        assertFalse(DashboardStreamService.isVisibleTo(event, 20, "SALES_REP"));
+    }
+
+    @Test
+    @DisplayName("isVisibleTo - client only receives changes of their own items")
+    void testIsVisibleTo_Client() {
+        DashboardChangedEvent event = new DashboardChangedEvent(
+            DashboardChangedEvent.TYPE_PROPOSAL, 1, "sent_to_client", 20, null);
+
+        assertTrue(DashboardStreamService.isVisibleTo(event, 20, "CLIENT"));
+        assertFalse(DashboardStreamService.isVisibleTo(event, 21, "CLIENT"));
+    }
+
+    @Test
+    @DisplayName("onDashboardChanged - no open streams is a no-op")
+    void testOnDashboardChanged_NoSubscribers() {
+        assertDoesNotThrow(() -> dashboardStreamService.onDashboardChanged(
+            new DashboardChangedEvent(DashboardChangedEvent.TYPE_CONTACT, 1, "new", 20, 30)));
+        assertEquals(0, dashboardStreamService.getSubscriberCount());
+    }
+
+    @Test
+    @DisplayName("onDashboardChanged - a stalled client does not delay the other streams")
+    void testOnDashboardChanged_StalledClientDoesNotBlockOthers() throws Exception {
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        RecordingEmitter healthy = new RecordingEmitter(3); // "connected" and both changes
+        dashboardStreamService.subscribe(1, "SALES_MANAGER", stalled);
+        dashboardStreamService.subscribe(2, "SALES_MANAGER", healthy);
+        stalled.stall = true;
+
+        try {
+            dashboardStreamService.onDashboardChanged(
+                new DashboardChangedEvent(DashboardChangedEvent.TYPE_CONTRACT, 1, "Active", 20, 30));
+            dashboardStreamService.onDashboardChanged(
+                new DashboardChangedEvent(DashboardChangedEvent.TYPE_CONTRACT, 2, "Active", 20, 30));
+
+            assertTrue(healthy.received.await(5, TimeUnit.SECONDS));
+            assertTrue(stalled.blocked.await(5, TimeUnit.SECONDS));
+        } finally {
+            release.countDown();
+        }
+    }
+
+    @Test
+    @DisplayName("onDashboardChanged - a client that falls behind its queue capacity is disconnected")
+    void testOnDashboardChanged_DropsClientWithFullQueue() throws Exception {
+        ReflectionTestUtils.setField(dashboardStreamService, "queueCapacity", 1);
+        CountDownLatch release = new CountDownLatch(1);
+        StalledEmitter stalled = new StalledEmitter(release);
+        dashboardStreamService.subscribe(1, "SALES_MANAGER", stalled);
+        dashboardStreamService.subscribe(2, "SALES_REP", new RecordingEmitter(0));
+        stalled.stall = true;
+
+        try {
+            // One change in flight, one queued, the next one does not fit
+            for (int id = 1; id <= 3; id++) {
+                dashboardStreamService.onDashboardChanged(
+                    new DashboardChangedEvent(DashboardChangedEvent.TYPE_CONTRACT, id, "Active", 20, 30));
+            }
+
+            assertEquals(1, dashboardStreamService.getSubscriberCount());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    /**
+     * Emitter of a client that stops reading: sends block until released
+     */
+    private static class StalledEmitter extends SseEmitter {
+
+        private final CountDownLatch release;
+        private final CountDownLatch blocked = new CountDownLatch(1);
+        private volatile boolean stall;
+
+        private StalledEmitter(CountDownLatch release) {
+            this.release = release;
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) throws IOException {
+            if (!stall) {
+                return;
+            }
+            blocked.countDown();
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+    }
+
+    /**
+     * Emitter of a healthy client: counts the changes it receives
+     */
+    private static class RecordingEmitter extends SseEmitter {
+
+        private final CountDownLatch received;
+
+        private RecordingEmitter(int expected) {
+            this.received = new CountDownLatch(expected);
+        }
+
+        @Override
+        public void send(SseEventBuilder builder) {
+            received.countDown();
+        }
+    }
+}
@@ -0,0 +1,83 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.response.EngineerSearchFacets;
+import com.skillbridge.dto.engineer.response.FacetValue;
+import com.skillbridge.entity.engineer.Engineer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EngineerFacetCounter}
+ */
+class EngineerFacetCounterTest {
+
+    @Test
+    @DisplayName("toFacets - counts values ordered by count")
+    void testToFacets_ValueFacets() {
+        EngineerFacetCounter counter = new EngineerFacetCounter();
+        counter.add(createEngineer(1, "Java", "Vietnam", "Senior", 3, "350000"));
+        counter.add(createEngineer(2, "React", "Vietnam", "Mid", 5, "450000"));
+        counter.add(createEngineer(3, "React", "Japan", "Senior", 8, "520000"));
+
+        EngineerSearchFacets facets = counter.toFacets();
+
+        assertEquals(List.of("React:2", "Java:1"), describe(facets.getSkills()));
+        assertEquals(List.of("Vietnam:2", "Japan:1"), describe(facets.getLocations()));
+        assertEquals(List.of("Senior:2", "Mid:1"), describe(facets.getSeniorities()));
+    }
+
+    @Test
+    @DisplayName("toFacets - lists every range bucket with its bounds")
+    void testToFacets_RangeFacets() {
+        EngineerFacetCounter counter = new EngineerFacetCounter();
+        counter.add(createEngineer(1, "Java", "Vietnam", "Senior", 2, "300000"));
+        counter.add(createEngineer(2, "Java", "Vietnam", "Senior", 12, "500000"));
+        counter.add(createEngineer(3, "Java", "Vietnam", "Senior", null, null));
+
+        EngineerSearchFacets facets = counter.toFacets();
+
+        assertEquals(List.of("0-200000:0", "200000-300000:0", "300000-400000:1", "400000-500000:0", "500000+:1"),
+                describe(facets.getSalaryRanges()));
+        assertEquals(List.of("0-2:1", "3-5:0", "6-9:0", "10+:1"), describe(facets.getExperienceRanges()));
+
+        FacetValue last = facets.getSalaryRanges().get(4);
+        assertEquals(new BigDecimal("500000"), last.getFrom());
+        assertNull(last.getTo());
+    }
+
+    @Test
+    @DisplayName("toFacets - blank values are not counted")
+    void testToFacets_BlankValues() {
+        EngineerFacetCounter counter = new EngineerFacetCounter();
+        counter.add(createEngineer(1, " ", null, "Senior", 1, "100000"));
+
+        EngineerSearchFacets facets = counter.toFacets();
+
+        assertTrue(facets.getSkills().isEmpty());
+        assertTrue(facets.getLocations().isEmpty());
+        assertEquals(Set.of("Senior"), facets.getSeniorities().stream().map(FacetValue::getValue).collect(Collectors.toSet()));
+    }
+
+    private List<String> describe(List<FacetValue> values) {
+        return values.stream().map(value -> value.getValue() + ":" + value.getCount()).collect(Collectors.toList());
+    }
+
+    private IndexedEngineer createEngineer(Integer id, String primarySkill, String location, String seniority,
+                                           Integer years, String salary) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setPrimarySkill(primarySkill);
+        engineer.setLocation(location);
+        engineer.setSeniority(seniority);
+        engineer.setYearsExperience(years);
+        engineer.setSalaryExpectation(salary != null ? new BigDecimal(salary) : null);
+        return new IndexedEngineer(engineer, Set.of(), List.of());
+    }
+}
@@ -0,0 +1,83 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.BitSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EngineerFilterBitmaps}
+ */
+class EngineerFilterBitmapsTest {
+
+    private EngineerFilterBitmaps bitmaps;
+
+    @BeforeEach
+    void setUp() {
+        bitmaps = new EngineerFilterBitmaps();
+        bitmaps.add(createEngineer(1, "Senior", "Vietnam", "AVAILABLE", 8, "520000"));
+        bitmaps.add(createEngineer(2, "Mid", "Vietnam", "AVAILABLE", 4, "380000"));
+        bitmaps.add(createEngineer(3, "Senior", "Japan", "BUSY", 45, "410000"));
+        bitmaps.add(createEngineer(4, "Junior", null, "AVAILABLE", null, null));
+    }
+
+    @Test
+    @DisplayName("filter - ORs values of one attribute and ANDs across attributes")
+    void testFilter_ValueBitmaps() {
+        assertEquals(bits(1, 2, 3, 4), bitmaps.filter(null));
+        assertEquals(bits(1, 2), bitmaps.filter(filter(List.of("Senior", "Mid"), List.of("Vietnam"), null)));
+        assertEquals(bits(1, 2, 4), bitmaps.filter(filter(null, null, EngineerFilter.STATUS_AVAILABLE)));
+        assertEquals(bits(), bitmaps.filter(filter(List.of(), null, null)));
+        assertEquals(bits(1, 3), bitmaps.filter(filter(List.of("senior "), null, null)));
+    }
+
+    @Test
+    @DisplayName("filter - ranges are exact inside partially covered buckets")
+    void testFilter_Ranges() {
+        assertEquals(bits(2), bitmaps.filter(new EngineerFilter(null, null, null, null, null,
+                new BigDecimal("370000"), new BigDecimal("400000"))));
+        assertEquals(bits(1, 3), bitmaps.filter(new EngineerFilter(null, null, null, 5, null, null, null)));
+        assertEquals(bits(3), bitmaps.filter(new EngineerFilter(null, null, null, 42, 50, null, null)));
+        assertEquals(bits(), bitmaps.filter(new EngineerFilter(null, null, null, 9, 5, null, null)));
+    }
+
+    @Test
+    @DisplayName("remove - clears the engineer from every bitmap")
+    void testRemove() {
+        bitmaps.remove(createEngineer(1, "Senior", "Vietnam", "AVAILABLE", 8, "520000"));
+
+        assertEquals(bits(3), bitmaps.filter(filter(List.of("Senior"), null, null)));
+        assertEquals(bits(), bitmaps.filter(new EngineerFilter(null, null, null, null, null, new BigDecimal("500000"), null)));
+    }
+
+    private EngineerFilter filter(List<String> seniorities, List<String> locations, String status) {
+        return new EngineerFilter(seniorities, locations, status, null, null, null, null);
+    }
+
+    private BitSet bits(int... ids) {
+        BitSet bits = new BitSet();
+        for (int id : ids) {
+            bits.set(id);
+        }
+        return bits;
+    }
+
+    private IndexedEngineer createEngineer(Integer id, String seniority, String location, String status,
+                                           Integer years, String salary) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setSeniority(seniority);
+        engineer.setLocation(location);
+        engineer.setStatus(status);
+        engineer.setYearsExperience(years);
+        engineer.setSalaryExpectation(salary != null ? new BigDecimal(salary) : null);
+        return new IndexedEngineer(engineer, Set.of(), List.of());
+    }
+}
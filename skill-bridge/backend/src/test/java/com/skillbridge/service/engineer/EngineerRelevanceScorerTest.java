@@ -0,0 +1,100 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EngineerRelevanceScorer}
+ */
+@ExtendWith(MockitoExtension.class)
+class EngineerRelevanceScorerTest {
+
+    private static final int JAVA = 8;
+    private static final int SPRING_BOOT = 10;
+    private static final int BACKEND = 3;
+
+    @Mock
+    private EngineerSearchIndex engineerSearchIndex;
+
+    @Test
+    @DisplayName("score - every requested skill must be matched")
+    void testScore_AllSkillsRequired() {
+        when(engineerSearchIndex.expandSkill("Java")).thenReturn(Map.of(JAVA, 1.0));
+        when(engineerSearchIndex.expandSkill("React")).thenReturn(Map.of());
+
+        EngineerRelevanceScorer scorer = new EngineerRelevanceScorer(engineerSearchIndex, List.of("Java", "React"), null);
+        IndexedEngineer javaOnly = createEngineer(1, "Java", new IndexedEngineer.SkillEntry(JAVA, "Expert", 5));
+
+        assertTrue(scorer.score(javaOnly) < 0);
+    }
+
+    @Test
+    @DisplayName("score - direct skill match outranks hierarchy and primary skill matches")
+    void testScore_HierarchyWeights() {
+        when(engineerSearchIndex.expandSkill("Java")).thenReturn(Map.of(JAVA, 1.0, SPRING_BOOT, 0.8, BACKEND, 0.5));
+
+        EngineerRelevanceScorer scorer = new EngineerRelevanceScorer(engineerSearchIndex, List.of("Java"), null);
+        double direct = scorer.score(createEngineer(1, "Backend", new IndexedEngineer.SkillEntry(JAVA, "Advanced", 0)));
+        double subSkill = scorer.score(createEngineer(2, "Backend", new IndexedEngineer.SkillEntry(SPRING_BOOT, "Advanced", 0)));
+        double parentSkill = scorer.score(createEngineer(3, "Backend", new IndexedEngineer.SkillEntry(BACKEND, "Advanced", 0)));
+        double primaryOnly = scorer.score(createEngineer(4, "Java Developer"));
+
+        assertTrue(direct > subSkill);
+        assertTrue(subSkill > primaryOnly);
+        assertTrue(primaryOnly > parentSkill);
+        assertTrue(parentSkill > 0);
+    }
+
+    @Test
+    @DisplayName("score - higher level and more years rank higher")
+    void testScore_LevelAndYears() {
+        when(engineerSearchIndex.expandSkill("Java")).thenReturn(Map.of(JAVA, 1.0));
+
+        EngineerRelevanceScorer scorer = new EngineerRelevanceScorer(engineerSearchIndex, List.of("Java"), null);
+
+        assertTrue(scorer.score(createEngineer(1, null, new IndexedEngineer.SkillEntry(JAVA, "Expert", 2)))
+                > scorer.score(createEngineer(2, null, new IndexedEngineer.SkillEntry(JAVA, "Beginner", 2))));
+        assertTrue(scorer.score(createEngineer(3, null, new IndexedEngineer.SkillEntry(JAVA, "Advanced", 8)))
+                > scorer.score(createEngineer(4, null, new IndexedEngineer.SkillEntry(JAVA, "Advanced", 1))));
+    }
+
+    @Test
+    @DisplayName("score - whole-word query matches rank above prefix matches")
+    void testScore_QueryTerms() {
+        EngineerRelevanceScorer scorer = new EngineerRelevanceScorer(engineerSearchIndex, null, "java");
+
+        assertTrue(scorer.hasCriteria());
+        assertTrue(scorer.score(createEngineer(1, Set.of("java")))
+                > scorer.score(createEngineer(2, Set.of("javascript"))));
+    }
+
+    @Test
+    @DisplayName("hasCriteria - false without skills and query")
+    void testHasCriteria_Empty() {
+        assertFalse(new EngineerRelevanceScorer(engineerSearchIndex, List.of(), " ").hasCriteria());
+    }
+
+    private IndexedEngineer createEngineer(Integer id, String primarySkill, IndexedEngineer.SkillEntry... skills) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setPrimarySkill(primarySkill);
+        return new IndexedEngineer(engineer, Set.of(), List.of(skills));
+    }
+
+    private IndexedEngineer createEngineer(Integer id, Set<String> terms) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        return new IndexedEngineer(engineer, terms, List.of());
+    }
+}
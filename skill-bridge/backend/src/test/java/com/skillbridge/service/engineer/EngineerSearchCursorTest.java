@@ -0,0 +1,50 @@
+package com.skillbridge.service.engineer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link EngineerSearchCursor}
+ */
+class EngineerSearchCursorTest {
+
+    @Test
+    @DisplayName("encode/decode - round trips every sort key")
+    void testRoundTrip() {
+        EngineerSearchCursor cursor = new EngineerSearchCursor(
+                "salary", 42, 3.75, 6, new BigDecimal("2500.50"), "Senior", 40);
+
+        EngineerSearchCursor decoded = EngineerSearchCursor.decode(cursor.encode());
+
+        assertEquals("salary", decoded.getSortBy());
+        assertEquals(42, decoded.getId());
+        assertEquals(3.75, decoded.getScore());
+        assertEquals(6, decoded.getYearsExperience());
+        assertEquals(new BigDecimal("2500.50"), decoded.getSalaryExpectation());
+        assertEquals("Senior", decoded.getSeniority());
+        assertEquals(40, decoded.getOffset());
+    }
+
+    @Test
+    @DisplayName("encode/decode - keeps null sort keys")
+    void testRoundTrip_NullKeys() {
+        EngineerSearchCursor cursor = new EngineerSearchCursor("experience", 7, 0, null, null, null, 20);
+
+        EngineerSearchCursor decoded = EngineerSearchCursor.decode(cursor.encode());
+
+        assertNull(decoded.getYearsExperience());
+        assertNull(decoded.getSalaryExpectation());
+        assertNull(decoded.getSeniority());
+    }
+
+    @Test
+    @DisplayName("decode - rejects malformed cursors")
+    void testDecode_Malformed() {
+        assertThrows(IllegalArgumentException.class, () -> EngineerSearchCursor.decode("not a cursor!"));
+        assertThrows(IllegalArgumentException.class, () -> EngineerSearchCursor.decode("djE"));
+    }
+}
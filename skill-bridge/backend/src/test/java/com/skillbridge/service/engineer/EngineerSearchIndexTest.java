@@ -0,0 +1,212 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.entity.engineer.EngineerSkill;
+import com.skillbridge.entity.engineer.Skill;
+import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.repository.engineer.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EngineerSearchIndex}
+ */
+@ExtendWith(MockitoExtension.class)
+class EngineerSearchIndexTest {
+
+    @Mock
+    private EngineerRepository engineerRepository;
+
+    @Mock
+    private EngineerSkillRepository engineerSkillRepository;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private EngineerSearchIndex engineerSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        Skill docker = new Skill("Docker");
+        docker.setId(10);
+
+        when(skillRepository.findAll()).thenReturn(List.of(docker));
+        when(engineerSkillRepository.findAll()).thenReturn(List.of(new EngineerSkill(2, 10, "Advanced", 3)));
+        when(engineerRepository.findAll()).thenReturn(List.of(
+                createEngineer(1, "Nguyen Van A", "Java Spring", "Backend developer building REST APIs"),
+                createEngineer(2, "Tran Thi B", "React", "Frontend developer")
+        ));
+
+        engineerSearchIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("rebuild - indexes every engineer and marks the index ready")
+    void testRebuild() {
+        assertTrue(engineerSearchIndex.isReady());
+        assertEquals(2, engineerSearchIndex.size());
+    }
+
+    @Test
+    @DisplayName("match - blank query returns every engineer")
+    void testMatch_BlankQuery() {
+        assertEquals(2, engineerSearchIndex.match(null).size());
+        assertEquals(2, engineerSearchIndex.match("  ").size());
+    }
+
+    @Test
+    @DisplayName("match - tokens match by prefix across name, summary, primary skill and skill names")
+    void testMatch_PrefixAcrossFields() {
+        assertEquals(Set.of(1), ids(engineerSearchIndex.match("spr")));
+        assertEquals(Set.of(1), ids(engineerSearchIndex.match("REST")));
+        assertEquals(Set.of(2), ids(engineerSearchIndex.match("dock")));
+        assertEquals(Set.of(1, 2), ids(engineerSearchIndex.match("developer")));
+    }
+
+    @Test
+    @DisplayName("match - every token must match")
+    void testMatch_AllTokensRequired() {
+        assertEquals(Set.of(2), ids(engineerSearchIndex.match("frontend developer")));
+        assertTrue(engineerSearchIndex.match("frontend java").isEmpty());
+    }
+
+    @Test
+    @DisplayName("match - combines query tokens with bitmap attribute filters")
+    void testMatch_WithFilter() {
+        EngineerFilter hanoiSeniors = new EngineerFilter(List.of("Senior"), List.of("Hanoi"), null, 5, null, null, null);
+        EngineerFilter juniors = new EngineerFilter(List.of("Junior"), null, null, null, null, null, null);
+
+        assertEquals(Set.of(1, 2), ids(engineerSearchIndex.match(null, hanoiSeniors)));
+        assertEquals(Set.of(2), ids(engineerSearchIndex.match("frontend", hanoiSeniors)));
+        assertTrue(engineerSearchIndex.match("developer", juniors).isEmpty());
+    }
+
+    @Test
+    @DisplayName("onEngineerChanged - updates postings of the changed engineer")
+    void testOnEngineerChanged_Updated() {
+        Engineer updated = createEngineer(1, "Nguyen Van A", "Python", "Data engineer");
+        when(engineerRepository.findById(1)).thenReturn(Optional.of(updated));
+        when(engineerSkillRepository.findByEngineerId(1)).thenReturn(List.of());
+        when(skillRepository.findAllById(List.of())).thenReturn(List.of());
+
+        engineerSearchIndex.onEngineerChanged(new EngineerChangedEvent(1, EngineerChangedEvent.ChangeType.UPDATED));
+
+        assertEquals(Set.of(1), ids(engineerSearchIndex.match("python")));
+        assertTrue(engineerSearchIndex.match("spring").isEmpty());
+    }
+
+    @Test
+    @DisplayName("rebuild - changes applied while the database is read survive the swap")
+    void testRebuild_KeepsChangesMadeDuringRebuild() {
+        Engineer updated = createEngineer(1, "Nguyen Van A", "Python", "Data engineer");
+        when(engineerRepository.findById(1)).thenReturn(Optional.of(updated));
+        when(engineerSkillRepository.findByEngineerId(1)).thenReturn(List.of());
+        when(skillRepository.findAllById(List.of())).thenReturn(List.of());
+        // The rebuild reads the old profile; the update commits and is applied in the meantime
+        when(engineerRepository.findAll()).thenAnswer(invocation -> {
+            List<Engineer> stale = List.of(
+                    createEngineer(1, "Nguyen Van A", "Java Spring", "Backend developer building REST APIs"),
+                    createEngineer(2, "Tran Thi B", "React", "Frontend developer"));
+            engineerSearchIndex.onEngineerChanged(new EngineerChangedEvent(1, EngineerChangedEvent.ChangeType.UPDATED));
+            return stale;
+        });
+
+        engineerSearchIndex.rebuild();
+
+        assertEquals(Set.of(1), ids(engineerSearchIndex.match("python")));
+        assertTrue(engineerSearchIndex.match("spring").isEmpty());
+        assertEquals(2, engineerSearchIndex.size());
+    }
+
+    @Test
+    @DisplayName("onEngineerChanged - removes deleted engineers")
+    void testOnEngineerChanged_Deleted() {
+        long version = engineerSearchIndex.getVersion();
+
+        engineerSearchIndex.onEngineerChanged(new EngineerChangedEvent(2, EngineerChangedEvent.ChangeType.DELETED));
+
+        assertTrue(engineerSearchIndex.getVersion() > version);
+        assertEquals(1, engineerSearchIndex.size());
+        assertTrue(engineerSearchIndex.match("react").isEmpty());
+    }
+
+    @Test
+    @DisplayName("onSkillChanged - renamed skill re-indexes its engineers and bumps the version")
+    void testOnSkillChanged_Renamed() {
+        long version = engineerSearchIndex.getVersion();
+        Skill renamed = new Skill("Kubernetes");
+        renamed.setId(10);
+        EngineerSkill engineerSkill = new EngineerSkill(2, 10, "Advanced", 3);
+        when(skillRepository.findById(10)).thenReturn(Optional.of(renamed));
+        when(engineerSkillRepository.findBySkillId(10)).thenReturn(List.of(engineerSkill));
+        when(engineerRepository.findAllById(Set.of(2)))
+                .thenReturn(List.of(createEngineer(2, "Tran Thi B", "React", "Frontend developer")));
+        when(engineerSkillRepository.findByEngineerId(2)).thenReturn(List.of(engineerSkill));
+        when(skillRepository.findAllById(List.of(10))).thenReturn(List.of(renamed));
+
+        engineerSearchIndex.onSkillChanged(new SkillChangedEvent(10, SkillChangedEvent.ChangeType.UPDATED));
+
+        assertTrue(engineerSearchIndex.getVersion() > version);
+        assertEquals(Set.of(2), ids(engineerSearchIndex.match("kube")));
+        assertTrue(engineerSearchIndex.match("dock").isEmpty());
+        assertEquals(Map.of(10, 1.0), engineerSearchIndex.expandSkill("Kubernetes"));
+    }
+
+    @Test
+    @DisplayName("onSkillChanged - deleted skill is removed from the engineers that had it")
+    void testOnSkillChanged_Deleted() {
+        long version = engineerSearchIndex.getVersion();
+        when(engineerSkillRepository.findBySkillId(10)).thenReturn(List.of());
+        when(engineerRepository.findAllById(Set.of(2)))
+                .thenReturn(List.of(createEngineer(2, "Tran Thi B", "React", "Frontend developer")));
+        when(engineerSkillRepository.findByEngineerId(2)).thenReturn(List.of());
+        when(skillRepository.findAllById(List.of())).thenReturn(List.of());
+
+        engineerSearchIndex.onSkillChanged(new SkillChangedEvent(10, SkillChangedEvent.ChangeType.DELETED));
+
+        assertTrue(engineerSearchIndex.getVersion() > version);
+        assertEquals(2, engineerSearchIndex.size());
+        assertTrue(engineerSearchIndex.match("dock").isEmpty());
+        assertTrue(engineerSearchIndex.expandSkill("Docker").isEmpty());
+    }
+
+    @Test
+    @DisplayName("tokenize - lower-cases and keeps + and # in skill names")
+    void testTokenize() {
+        assertEquals(List.of("c++", "c#", "node", "js"),
+                List.copyOf(EngineerSearchIndex.tokenize("C++, C# / Node.js")));
+    }
+
+    private Set<Integer> ids(List<IndexedEngineer> engineers) {
+        return engineers.stream().map(IndexedEngineer::getId).collect(Collectors.toSet());
+    }
+
+    private Engineer createEngineer(Integer id, String fullName, String primarySkill, String summary) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setFullName(fullName);
+        engineer.setPrimarySkill(primarySkill);
+        engineer.setSummary(summary);
+        engineer.setYearsExperience(5);
+        engineer.setSeniority("Senior");
+        engineer.setLocation("Hanoi");
+        engineer.setStatus("AVAILABLE");
+        return engineer;
+    }
+}
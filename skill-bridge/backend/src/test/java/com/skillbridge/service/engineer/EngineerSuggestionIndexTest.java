@@ -0,0 +1,127 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.response.EngineerSuggestion;
+import com.skillbridge.entity.engineer.Engineer;
+import com.skillbridge.entity.engineer.EngineerSkill;
+import com.skillbridge.entity.engineer.Skill;
+import com.skillbridge.repository.engineer.EngineerRepository;
+import com.skillbridge.repository.engineer.EngineerSkillRepository;
+import com.skillbridge.repository.engineer.SkillRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit tests for {@link EngineerSuggestionIndex}
+ */
+@ExtendWith(MockitoExtension.class)
+class EngineerSuggestionIndexTest {
+
+    @Mock
+    private EngineerRepository engineerRepository;
+
+    @Mock
+    private EngineerSkillRepository engineerSkillRepository;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @InjectMocks
+    private EngineerSuggestionIndex engineerSuggestionIndex;
+
+    @BeforeEach
+    void setUp() {
+        Skill java = new Skill("Java");
+        java.setId(1);
+        Skill springBoot = new Skill("Spring Boot", 1);
+        springBoot.setId(2);
+
+        when(skillRepository.findAll()).thenReturn(List.of(java, springBoot));
+        when(engineerSkillRepository.findAll()).thenReturn(List.of(
+                new EngineerSkill(1, 1, "Advanced", 3),
+                new EngineerSkill(2, 1, "Expert", 5),
+                new EngineerSkill(2, 2, "Advanced", 2)));
+        when(engineerRepository.findAll()).thenReturn(List.of(
+                createEngineer(1, "Nguyen Van A", "Hanoi"),
+                createEngineer(2, "Tran Thi B", "Ho Chi Minh")));
+
+        engineerSuggestionIndex.rebuild();
+    }
+
+    @Test
+    @DisplayName("suggest - returns names, skills including sub-skills and locations")
+    void testSuggest_AllTypes() {
+        assertEquals(List.of("skill:Java"), describe(engineerSuggestionIndex.suggest("jav", 10)));
+        assertEquals(List.of("skill:Spring Boot"), describe(engineerSuggestionIndex.suggest("boot", 10)));
+        assertEquals(List.of("engineer:Tran Thi B"), describe(engineerSuggestionIndex.suggest("tran", 10)));
+        assertEquals(List.of("location:Hanoi", "location:Ho Chi Minh"),
+                describe(engineerSuggestionIndex.suggest("h", 10)));
+    }
+
+    @Test
+    @DisplayName("suggest - leading matches rank first, then engineer counts")
+    void testSuggest_Ranking() {
+        EngineerSuggestion java = engineerSuggestionIndex.suggest("java", 1).get(0);
+
+        assertEquals(2, java.getCount());
+        assertEquals(1, java.getId());
+        assertTrue(engineerSuggestionIndex.suggest("  ", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("onEngineerChanged - replaces the previous name, location and skill counts")
+    void testOnEngineerChanged() {
+        when(engineerRepository.findById(1)).thenReturn(Optional.of(createEngineer(1, "Le Van C", "Da Nang")));
+        when(engineerSkillRepository.findByEngineerId(1)).thenReturn(List.of());
+
+        engineerSuggestionIndex.onEngineerChanged(new EngineerChangedEvent(1, EngineerChangedEvent.ChangeType.UPDATED));
+
+        assertTrue(engineerSuggestionIndex.suggest("nguyen", 10).isEmpty());
+        assertTrue(engineerSuggestionIndex.suggest("hanoi", 10).isEmpty());
+        assertEquals(List.of("engineer:Le Van C"), describe(engineerSuggestionIndex.suggest("le", 10)));
+        assertEquals(1, engineerSuggestionIndex.suggest("java", 1).get(0).getCount());
+    }
+
+    @Test
+    @DisplayName("onSkillChanged - renames and removes skills")
+    void testOnSkillChanged() {
+        Skill renamed = new Skill("Spring Framework", 1);
+        renamed.setId(2);
+        when(skillRepository.findById(2)).thenReturn(Optional.of(renamed));
+
+        engineerSuggestionIndex.onSkillChanged(new SkillChangedEvent(2, SkillChangedEvent.ChangeType.UPDATED));
+
+        assertTrue(engineerSuggestionIndex.suggest("boot", 10).isEmpty());
+        EngineerSuggestion framework = engineerSuggestionIndex.suggest("framew", 10).get(0);
+        assertEquals("Spring Framework", framework.getValue());
+        assertEquals(1, framework.getCount());
+
+        engineerSuggestionIndex.onSkillChanged(new SkillChangedEvent(2, SkillChangedEvent.ChangeType.DELETED));
+        assertTrue(engineerSuggestionIndex.suggest("spring", 10).isEmpty());
+    }
+
+    private List<String> describe(List<EngineerSuggestion> suggestions) {
+        return suggestions.stream()
+                .map(suggestion -> suggestion.getType() + ":" + suggestion.getValue())
+                .collect(Collectors.toList());
+    }
+
+    private Engineer createEngineer(Integer id, String fullName, String location) {
+        Engineer engineer = new Engineer();
+        engineer.setId(id);
+        engineer.setFullName(fullName);
+        engineer.setLocation(location);
+        return engineer;
+    }
+}
@@ -0,0 +1,44 @@
+package com.skillbridge.service.engineer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link LanguageProficiency}
+ */
+class LanguageProficiencyTest {
+
+    @Test
+    @DisplayName("parse - reads languages with parenthesized levels")
+    void testParse_Summary() {
+        Map<String, Integer> languages = LanguageProficiency.parse("English (Fluent), Japanese (Basic)");
+
+        assertEquals(Map.of("english", 4, "japanese", 1), languages);
+    }
+
+    @Test
+    @DisplayName("parse - understands JLPT levels, aliases and missing levels")
+    void testParse_JlptAndAliases() {
+        Map<String, Integer> languages = LanguageProficiency.parse("JLPT N2; 日本語 (N3) / Vietnamese");
+
+        assertEquals(3, languages.get("japanese"));
+        assertEquals(LanguageProficiency.UNKNOWN_LEVEL, languages.get("vietnamese"));
+        assertTrue(LanguageProficiency.parse(null).isEmpty());
+    }
+
+    @Test
+    @DisplayName("parseRequirement - matches engineers at or above the requested level")
+    void testParseRequirement() {
+        Map<String, Integer> languages = LanguageProficiency.parse("Japanese (Business)");
+
+        assertTrue(LanguageProficiency.parseRequirement("Japanese").isSatisfiedBy(languages));
+        assertTrue(LanguageProficiency.parseRequirement("japanese:N2").isSatisfiedBy(languages));
+        assertFalse(LanguageProficiency.parseRequirement("Japanese:Fluent").isSatisfiedBy(languages));
+        assertFalse(LanguageProficiency.parseRequirement("English").isSatisfiedBy(languages));
+        assertNull(LanguageProficiency.parseRequirement(" "));
+    }
+}
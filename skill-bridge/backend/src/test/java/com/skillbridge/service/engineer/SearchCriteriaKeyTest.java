@@ -0,0 +1,52 @@
+package com.skillbridge.service.engineer;
+
+import com.skillbridge.dto.engineer.request.SearchCriteria;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SearchCriteriaKey}
+ */
+class SearchCriteriaKeyTest {
+
+    @Test
+    @DisplayName("of - equivalent criteria share a key")
+    void testOf_Canonical() {
+        SearchCriteria first = new SearchCriteria();
+        first.setQuery("  Java   Developer ");
+        first.setSkills(List.of("React", "java"));
+        first.setSeniority(List.of("Senior", "Mid"));
+        first.setLanguages(List.of("Japanese:Business"));
+        first.setSalaryMin(new BigDecimal("300000.00"));
+
+        SearchCriteria second = new SearchCriteria();
+        second.setQuery("java developer");
+        second.setSkills(List.of("JAVA", "react", "Java"));
+        second.setSeniority(List.of("mid", "senior"));
+        second.setLanguages(List.of("japanese (N2)"));
+        second.setSalaryMin(new BigDecimal("300000"));
+
+        assertEquals(SearchCriteriaKey.of(first, "relevance"), SearchCriteriaKey.of(second, "relevance"));
+    }
+
+    @Test
+    @DisplayName("of - different results get different keys")
+    void testOf_Distinct() {
+        SearchCriteria criteria = new SearchCriteria();
+        String defaultKey = SearchCriteriaKey.of(criteria, "relevance");
+
+        assertNotEquals(defaultKey, SearchCriteriaKey.of(criteria, "salary"));
+
+        criteria.setLocation(List.of());
+        assertNotEquals(defaultKey, SearchCriteriaKey.of(criteria, "relevance"));
+
+        SearchCriteria nextPage = new SearchCriteria();
+        nextPage.setPage(1);
+        assertNotEquals(defaultKey, SearchCriteriaKey.of(nextPage, "relevance"));
+    }
+}
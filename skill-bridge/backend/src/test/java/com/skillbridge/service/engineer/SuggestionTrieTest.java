@@ -0,0 +1,55 @@
+package com.skillbridge.service.engineer;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SuggestionTrie}
+ */
+class SuggestionTrieTest {
+
+    @Test
+    @DisplayName("find - matches the start of the text and of every inner word")
+    void testFind_WordStarts() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.insert("Spring Boot", "skill:1");
+
+        assertEquals(Map.of("skill:1", true), trie.find("SPR", 10));
+        assertEquals(Map.of("skill:1", false), trie.find("boo", 10));
+        assertTrue(trie.find("ring", 10).isEmpty());
+    }
+
+    @Test
+    @DisplayName("find - stops after maxKeys keys")
+    void testFind_MaxKeys() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.insert("Java", "skill:1");
+        trie.insert("JavaScript", "skill:2");
+        trie.insert("Jakarta EE", "skill:3");
+
+        assertEquals(3, trie.find("ja", 10).size());
+        assertEquals(2, trie.find("ja", 2).size());
+        // Breadth-first: the shortest completion comes first
+        assertEquals("skill:1", trie.find("jav", 10).keySet().iterator().next());
+    }
+
+    @Test
+    @DisplayName("remove - removes the key and prunes empty nodes")
+    void testRemove() {
+        SuggestionTrie trie = new SuggestionTrie();
+        trie.insert("Ho Chi Minh", "location:hcm");
+        trie.insert("Hanoi", "location:hanoi");
+
+        trie.remove("Ho Chi Minh", "location:hcm");
+
+        assertTrue(trie.find("chi", 10).isEmpty());
+        assertEquals(Map.of("location:hanoi", true), trie.find("h", 10));
+
+        trie.remove("Hanoi", "location:hanoi");
+        assertTrue(trie.isEmpty());
+    }
+}
@@ -101,7 +101,6 @@ class ProposalListServiceTest {
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact1));
         when(contactRepository.findById(2)).thenReturn(Optional.of(contact2));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -119,7 +118,7 @@ class ProposalListServiceTest {
         assertEquals(1, dto1.getInternalId());
         assertEquals("Proposal 1", dto1.getTitle());
         assertEquals("Under review", dto1.getStatus());
-        assertNotNull(dto1.getId());
+        assertEquals("P-2025-01", dto1.getId()); // Stored display ID
         assertNotNull(dto1.getContactId());
         assertNotNull(dto1.getCreatedOn());
 
@@ -154,7 +153,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), eq("Project"), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -186,7 +184,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), eq("Project"), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -219,7 +216,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -251,7 +247,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), eq("sent_to_client"), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -284,7 +279,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), eq("revision_requested"), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -317,7 +311,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), eq("approved"), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -360,7 +353,6 @@ class ProposalListServiceTest {
                 .thenReturn(proposalPage);
         when(contactRepository.findById(3)).thenReturn(Optional.of(allContacts.get(2)));
         when(contactRepository.findById(4)).thenReturn(Optional.of(allContacts.get(3)));
-        when(proposalRepository.findAll()).thenReturn(allProposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -394,7 +386,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.empty());
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -454,7 +445,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -485,7 +475,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -516,7 +505,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -548,7 +536,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        when(proposalRepository.findAll()).thenReturn(proposals);
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -580,7 +567,6 @@ class ProposalListServiceTest {
                 eq(clientUserId), isNull(), isNull(), any(Pageable.class)))
                 .thenReturn(proposalPage);
         when(contactRepository.findById(1)).thenReturn(Optional.of(contact));
-        // Note: When createdAt is null, generateProposalId uses fallback and doesn't call findAll()
 
         // Act
         ProposalListResponse response = proposalListService.getProposalsForClient(
@@ -612,6 +598,7 @@ class ProposalListServiceTest {
         proposal.setStatus(status);
         proposal.setLink("http://example.com/proposal");
         proposal.setIsCurrent(true);
+        proposal.setDisplayId(String.format("P-2025-%02d", id));
         proposal.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
         proposal.setUpdatedAt(LocalDateTime.of(2025, 1, 2, 10, 0));
         return proposal;
@@ -266,6 +266,62 @@ class CREventServiceTest {
         assertEquals(BigDecimal.valueOf(1000), result);
     }
 
+    @Test
+    @DisplayName("calculateBillingTimeline - baseline và events → mỗi tháng = baseline + events, theo thứ tự tháng")
+    void testCalculateBillingTimeline_MergesBaselineAndEvents() {
+        // Arrange
+        Integer sowContractId = 1;
+        LocalDate jan = LocalDate.of(2025, 1, 1);
+        LocalDate feb = LocalDate.of(2025, 2, 1);
+        LocalDate mar = LocalDate.of(2025, 3, 1);
+        // Baseline is returned newest first
+        List<RetainerBillingBase> baseline = List.of(
+                createBaselineBilling(feb, BigDecimal.valueOf(10000), "Feb baseline"),
+                createBaselineBilling(jan, BigDecimal.valueOf(10000), "Jan baseline"));
+        CRBillingEvent febEvent1 = createBillingEvent(1, 1, feb, BigDecimal.valueOf(1000));
+        febEvent1.setDescription("Add engineer");
+        CRBillingEvent febEvent2 = createBillingEvent(2, 2, feb, BigDecimal.valueOf(-500));
+        febEvent2.setDescription("Rate change");
+        CRBillingEvent marEvent = createBillingEvent(3, 2, mar, BigDecimal.valueOf(2000));
+
+        when(retainerBillingBaseRepository.findBySowContractIdOrderByBillingMonthDesc(sowContractId))
+                .thenReturn(baseline);
+        when(crBillingEventRepository.findApprovedEventsBySowContractId(sowContractId))
+                .thenReturn(List.of(febEvent1, febEvent2, marEvent));
+
+        // Act
+        List<CREventService.BillingMonth> timeline = crEventService.calculateBillingTimeline(sowContractId);
+
+        // Assert
+        assertEquals(3, timeline.size());
+        assertEquals(jan, timeline.get(0).getMonth());
+        assertEquals(BigDecimal.valueOf(10000), timeline.get(0).getAmount());
+        assertEquals("Jan baseline", timeline.get(0).getDescription());
+        assertEquals(feb, timeline.get(1).getMonth());
+        assertEquals(BigDecimal.valueOf(10500), timeline.get(1).getAmount());
+        assertEquals("Feb baseline; Add engineer; Rate change", timeline.get(1).getDescription());
+        assertEquals(mar, timeline.get(2).getMonth()); // Event-only month
+        assertEquals(BigDecimal.valueOf(2000), timeline.get(2).getAmount());
+        assertEquals("Test billing event", timeline.get(2).getDescription());
+
+        // Loaded once, not per month
+        verify(retainerBillingBaseRepository, never()).findBySowContractIdAndBillingMonth(anyInt(), any());
+        verify(crBillingEventRepository, never()).findApprovedEventsByMonth(anyInt(), any());
+    }
+
+    @Test
+    @DisplayName("calculateBillingTimeline - không có baseline và events → empty list")
+    void testCalculateBillingTimeline_Empty() {
+        // Arrange
+        when(retainerBillingBaseRepository.findBySowContractIdOrderByBillingMonthDesc(1))
+                .thenReturn(new ArrayList<>());
+        when(crBillingEventRepository.findApprovedEventsBySowContractId(1))
+                .thenReturn(new ArrayList<>());
+
+        // Act & Assert
+        assertTrue(crEventService.calculateBillingTimeline(1).isEmpty());
+    }
+
     // Helper methods
     private ChangeRequest createChangeRequest(Integer id, Integer sowContractId) {
         ChangeRequest cr = new ChangeRequest();
@@ -291,6 +347,15 @@ class CREventServiceTest {
         return event;
     }
 
+    private RetainerBillingBase createBaselineBilling(LocalDate billingMonth, BigDecimal amount, String description) {
+        RetainerBillingBase base = new RetainerBillingBase();
+        base.setSowContractId(1);
+        base.setBillingMonth(billingMonth);
+        base.setAmount(amount);
+        base.setDescription(description);
+        return base;
+    }
+
     private CRBillingEvent createBillingEvent(Integer id, Integer changeRequestId, LocalDate billingMonth, BigDecimal deltaAmount) {
         CRBillingEvent event = new CRBillingEvent();
         event.setId(id);
@@ -11,6 +11,7 @@ import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalHistoryRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.service.common.S3Service;
 import com.skillbridge.service.common.DocumentPermissionService;
 import com.skillbridge.repository.document.DocumentMetadataRepository;
@@ -61,6 +62,9 @@ class ProposalServiceTest {
     @Mock
     private DocumentPermissionService documentPermissionService;
 
+    @Mock
+    private DisplayIdSequence displayIdSequence;
+
     @InjectMocks
     private ProposalService proposalService;
 
@@ -131,6 +135,8 @@ class ProposalServiceTest {
                 .thenReturn(Optional.empty());
         when(proposalRepository.findMaxVersionByOpportunityId(1))
                 .thenReturn(0);
+        when(displayIdSequence.next(eq(DisplayIdSequence.PROPOSAL), anyInt()))
+                .thenReturn("P-2025-03");
         when(proposalRepository.save(any(Proposal.class)))
                 .thenAnswer(invocation -> {
                     Proposal proposal = invocation.getArgument(0);
@@ -156,6 +162,7 @@ class ProposalServiceTest {
         assertEquals(1, saved.getVersion());
         assertTrue(saved.getIsCurrent());
         assertEquals(1, saved.getCreatedBy());
+        assertEquals("P-2025-03", saved.getDisplayId());
     }
 
     @Test
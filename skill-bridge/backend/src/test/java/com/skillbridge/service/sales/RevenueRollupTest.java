@@ -0,0 +1,76 @@
+package com.skillbridge.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for RevenueRollup
+ * Tests minor unit conversion and monthly contributions of contracts
+ */
+@ExtendWith(MockitoExtension.class)
+class RevenueRollupTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private RevenueRollup revenueRollup;
+
+    @Test
+    @DisplayName("toMinorUnits / toMajorUnits - exact long arithmetic")
+    void testMinorUnits() {
+        assertEquals(150000050L, RevenueRollup.toMinorUnits(new BigDecimal("1500000.50")));
+        assertEquals(100L, RevenueRollup.toMinorUnits(BigDecimal.ONE));
+        assertEquals(1500000L, RevenueRollup.toMajorUnits(150000050L));
+    }
+
+    @Test
+    @DisplayName("Contribution.of - only Active contracts with value and period contribute")
+    void testContribution_Of() {
+        LocalDate start = LocalDate.of(2025, 1, 15);
+        LocalDate end = LocalDate.of(2025, 3, 10);
+
+        assertNotNull(RevenueRollup.Contribution.of("Active", BigDecimal.TEN, start, end, 1, "MSA"));
+        assertNull(RevenueRollup.Contribution.of("Draft", BigDecimal.TEN, start, end, 1, "MSA"));
+        assertNull(RevenueRollup.Contribution.of("Active", null, start, end, 1, "MSA"));
+        assertNull(RevenueRollup.Contribution.of("Active", BigDecimal.TEN, null, end, 1, "MSA"));
+        assertNull(RevenueRollup.Contribution.of("Active", BigDecimal.TEN, end, start, 1, "MSA"));
+        assertEquals(RevenueRollup.Contribution.of("Active", new BigDecimal("10.00"), start, end, 1, "MSA"),
+                RevenueRollup.Contribution.of("Active", BigDecimal.TEN, start, end, 1, "MSA"));
+    }
+
+    @Test
+    @DisplayName("apply - one row per month overlapped by the period")
+    @SuppressWarnings("unchecked")
+    void testApply_EveryMonthOfPeriod() {
+        RevenueRollup.Contribution contribution = RevenueRollup.Contribution.of("Active", new BigDecimal("1000"),
+                LocalDate.of(2025, 11, 20), LocalDate.of(2026, 1, 5), null, "Retainer");
+
+        revenueRollup.apply(contribution, -1);
+
+        ArgumentCaptor<List<Object[]>> rows = ArgumentCaptor.forClass(List.class);
+        verify(jdbcTemplate).batchUpdate(anyString(), rows.capture());
+        assertEquals(3, rows.getValue().size());
+        Object[] first = rows.getValue().get(0);
+        assertEquals(Date.valueOf(LocalDate.of(2025, 11, 1)), first[0]);
+        assertEquals(0, first[1]); // No assignee
+        assertEquals("Retainer", first[2]);
+        assertEquals(-100000L, first[3]);
+        assertEquals(-1, first[4]);
+    }
+}
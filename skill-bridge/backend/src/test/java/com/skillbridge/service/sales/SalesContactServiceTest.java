@@ -6,6 +6,7 @@ import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contact.Contact;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contact.ContactRepository;
+import com.skillbridge.service.common.UserBatchLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,11 +19,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,7 +47,10 @@ class SalesContactServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Setup is handled by MockitoExtension
+        // Real batch loader over the mocked user repository
+        UserBatchLoader userBatchLoader = new UserBatchLoader();
+        ReflectionTestUtils.setField(userBatchLoader, "userRepository", userRepository);
+        ReflectionTestUtils.setField(salesContactService, "userBatchLoader", userBatchLoader);
     }
 
     @Test
@@ -68,10 +72,11 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 2);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(11)).thenReturn(Optional.of(createUser(11, "Client 2", "client2@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(3)).thenReturn(Optional.of(createUser(3, "Assignee 2", "assignee2@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(11, "Client 2", "client2@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(3, "Assignee 2", "assignee2@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -106,8 +111,9 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -139,8 +145,9 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -172,8 +179,9 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -205,8 +213,9 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -239,10 +248,11 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 5);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(11)).thenReturn(Optional.of(createUser(11, "Client 2", "client2@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(3)).thenReturn(Optional.of(createUser(3, "Assignee 2", "assignee2@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(11, "Client 2", "client2@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(3, "Assignee 2", "assignee2@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -301,8 +311,9 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.of(createUser(10, "Client 1", "client1@example.com")));
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(10, "Client 1", "client1@example.com"),
+                createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
@@ -332,8 +343,7 @@ class SalesContactServiceTest {
         Page<Contact> contactPage = new PageImpl<>(contacts, PageRequest.of(page, size), 1);
         when(contactRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(contactPage);
-        when(userRepository.findById(10)).thenReturn(Optional.empty());
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(2, "Assignee 1", "assignee1@example.com")));
 
         // Act
         SalesContactListResponse response = salesContactService.getContacts(
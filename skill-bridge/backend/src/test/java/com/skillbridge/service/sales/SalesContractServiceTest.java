@@ -1,17 +1,21 @@
 package com.skillbridge.service.sales;
 
 import com.skillbridge.dto.contract.response.ContractListResponse;
-import com.skillbridge.dto.contract.response.ContractListItemDTO;
 import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.contract.Contract;
 import com.skillbridge.entity.contract.SOWContract;
 import com.skillbridge.repository.auth.UserRepository;
+import com.skillbridge.repository.contract.ChangeRequestRepository;
+import com.skillbridge.repository.contract.ContractInternalReviewRepository;
 import com.skillbridge.repository.contract.ContractRepository;
+import com.skillbridge.repository.contract.ProjectCloseRequestRepository;
 import com.skillbridge.repository.contract.SOWContractRepository;
+import com.skillbridge.service.common.UserBatchLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
@@ -19,12 +23,12 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,225 +50,122 @@ class SalesContractServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private ProjectCloseRequestRepository projectCloseRequestRepository;
+
+    @Mock
+    private ContractInternalReviewRepository contractInternalReviewRepository;
+
+    @Mock
+    private ChangeRequestRepository changeRequestRepository;
+
     @InjectMocks
     private SalesContractService salesContractService;
 
     @BeforeEach
     void setUp() {
-        // Setup is handled by MockitoExtension
+        // Real batch loader over the mocked user repository
+        UserBatchLoader userBatchLoader = new UserBatchLoader();
+        ReflectionTestUtils.setField(userBatchLoader, "userRepository", userRepository);
+        ReflectionTestUtils.setField(salesContractService, "userBatchLoader", userBatchLoader);
     }
 
     @Test
     @DisplayName("getContracts - Sales Manager không có filter → trả về tất cả contracts")
     void testGetContracts_SalesManager_NoFilter() {
         // Arrange
-        String search = null;
-        String status = null;
-        String type = null;
-        int page = 0;
-        int size = 20;
         User currentUser = createUser(1, "Sales Manager", "manager@example.com", "SALES_MANAGER");
-
-        Contract msaContract = createMSAContract(1, Contract.ContractStatus.Active);
-        SOWContract sowContract = createSOWContract(1, SOWContract.SOWContractStatus.Active);
-        List<Contract> msaContracts = List.of(msaContract);
-        List<SOWContract> sowContracts = List.of(sowContract);
-
-        Page<Contract> msaPage = new PageImpl<>(msaContracts, PageRequest.of(0, 10000), 1);
-        Page<SOWContract> sowPage = new PageImpl<>(sowContracts, PageRequest.of(0, 10000), 1);
-
         when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(msaPage);
+                .thenReturn(new PageImpl<>(List.of(createMSAContract(1, Contract.ContractStatus.Active))));
         when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(sowPage);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(createUser(10, "Client", "client@example.com", "CLIENT")));
+                .thenReturn(new PageImpl<>(List.of(createSOWContract(1, SOWContract.SOWContractStatus.Active))));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(10, "Client", "client@example.com", "CLIENT")));
 
         // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
+        ContractListResponse response = salesContractService.getContracts(null, null, null, 0, 20, currentUser);
 
         // Assert
         assertNotNull(response);
-        assertEquals(2, response.getContracts().size()); // MSA + SOW
+        assertEquals(2, response.getContracts().size()); // SOW + MSA
+        assertEquals("SOW", response.getContracts().get(0).getType()); // Same creation time: SOW first
+        assertEquals("MSA", response.getContracts().get(1).getType());
+        assertEquals(1, response.getContracts().get(0).getNo());
+        assertEquals(2, response.getContracts().get(1).getNo());
+        assertEquals("SOW-2025-01", response.getContracts().get(0).getId());
+        assertEquals("MSA-2025-01", response.getContracts().get(1).getId());
         assertEquals(0, response.getCurrentPage());
         assertEquals(1, response.getTotalPages());
         assertEquals(2, response.getTotalElements());
-
-        verify(contractRepository).findAll(any(Specification.class), any(Pageable.class));
-        verify(sowContractRepository).findAll(any(Specification.class), any(Pageable.class));
     }
 
     @Test
-    @DisplayName("getContracts - Sales Rep → chỉ trả về contracts được assign")
-    void testGetContracts_SalesRep_OnlyAssigned() {
-        // Arrange
-        String search = null;
-        String status = null;
-        String type = null;
-        int page = 0;
-        int size = 20;
+    @DisplayName("getContracts - pagination → mỗi bảng đọc offset + size dòng mới nhất, trang được cắt sau khi gộp")
+    void testGetContracts_WithPagination() {
+        // Arrange: MSA 5, 3, 1 and SOW 4, 2 created on the day of their ID
         User currentUser = createUser(1, "Sales Rep", "salesrep@example.com", "SALES_REP");
-
-        Contract msaContract = createMSAContract(1, Contract.ContractStatus.Active, 1); // Assigned to user 1
-        Contract msaContract2 = createMSAContract(2, Contract.ContractStatus.Active, 2); // Assigned to user 2
-        SOWContract sowContract = createSOWContract(1, SOWContract.SOWContractStatus.Active, 1); // Assigned to user 1
-        List<Contract> allMSAContracts = List.of(msaContract, msaContract2);
-        List<SOWContract> allSOWContracts = List.of(sowContract);
-
-        Page<Contract> msaPage = new PageImpl<>(allMSAContracts, PageRequest.of(0, 10000), 2);
-        Page<SOWContract> sowPage = new PageImpl<>(allSOWContracts, PageRequest.of(0, 10000), 1);
-
-        when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(sowPage);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(createUser(10, "Client", "client@example.com", "CLIENT")));
-
-        // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
-
-        // Assert
-        assertNotNull(response);
-        // Should filter to only contracts assigned to user 1
-        assertEquals(2, response.getContracts().size()); // msaContract + sowContract (both assigned to user 1)
-
-        verify(contractRepository).findAll(any(Specification.class), any(Pageable.class));
-        verify(sowContractRepository).findAll(any(Specification.class), any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("getContracts - có search query → filter theo search")
-    void testGetContracts_WithSearchQuery() {
-        // Arrange
-        String search = "Client";
-        String status = null;
-        String type = null;
-        int page = 0;
-        int size = 20;
-        User currentUser = createUser(1, "Sales Manager", "manager@example.com", "SALES_MANAGER");
-
-        Contract msaContract = createMSAContract(1, Contract.ContractStatus.Active);
-        SOWContract sowContract = createSOWContract(1, SOWContract.SOWContractStatus.Active);
-        List<Contract> msaContracts = List.of(msaContract);
-        List<SOWContract> sowContracts = List.of(sowContract);
-
-        Page<Contract> msaPage = new PageImpl<>(msaContracts, PageRequest.of(0, 10000), 1);
-        Page<SOWContract> sowPage = new PageImpl<>(sowContracts, PageRequest.of(0, 10000), 1);
-
         when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(msaPage);
+                .thenReturn(new PageImpl<>(List.of(createMSAContract(5, 5), createMSAContract(3, 3), createMSAContract(1, 1))));
         when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(sowPage);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(createUser(10, "Client Name", "client@example.com", "CLIENT")));
+                .thenReturn(new PageImpl<>(List.of(createSOWContract(4, 4), createSOWContract(2, 2))));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(createUser(10, "Client", "client@example.com", "CLIENT")));
 
-        // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
+        // Act: page 1 of 2 per page
+        ContractListResponse response = salesContractService.getContracts(null, null, null, 1, 2, currentUser);
 
         // Assert
-        assertNotNull(response);
-        // Search should filter by client name/email
-        verify(contractRepository).findAll(any(Specification.class), any(Pageable.class));
-        verify(sowContractRepository).findAll(any(Specification.class), any(Pageable.class));
-    }
-
-    @Test
-    @DisplayName("getContracts - có status filter → filter theo status")
-    void testGetContracts_WithStatusFilter() {
-        // Arrange
-        String search = null;
-        String status = "Active";
-        String type = null;
-        int page = 0;
-        int size = 20;
-        User currentUser = createUser(1, "Sales Manager", "manager@example.com", "SALES_MANAGER");
-
-        Contract msaContract = createMSAContract(1, Contract.ContractStatus.Active);
-        SOWContract sowContract = createSOWContract(1, SOWContract.SOWContractStatus.Active);
-        List<Contract> msaContracts = List.of(msaContract);
-        List<SOWContract> sowContracts = List.of(sowContract);
-
-        Page<Contract> msaPage = new PageImpl<>(msaContracts, PageRequest.of(0, 10000), 1);
-        Page<SOWContract> sowPage = new PageImpl<>(sowContracts, PageRequest.of(0, 10000), 1);
-
-        when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(sowPage);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(createUser(10, "Client", "client@example.com", "CLIENT")));
-
-        // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
-
-        // Assert
-        assertNotNull(response);
-        verify(contractRepository).findAll(any(Specification.class), any(Pageable.class));
-        verify(sowContractRepository).findAll(any(Specification.class), any(Pageable.class));
+        assertEquals(1, response.getCurrentPage());
+        assertEquals(3, response.getTotalPages());
+        assertEquals(5, response.getTotalElements());
+        assertEquals(2, response.getContracts().size());
+        assertEquals("MSA", response.getContracts().get(0).getType());
+        assertEquals(3, response.getContracts().get(0).getInternalId());
+        assertEquals("SOW", response.getContracts().get(1).getType());
+        assertEquals(2, response.getContracts().get(1).getInternalId());
+
+        ArgumentCaptor<Pageable> pageableCaptor = ArgumentCaptor.forClass(Pageable.class);
+        verify(contractRepository).findAll(any(Specification.class), pageableCaptor.capture());
+        assertEquals(0, pageableCaptor.getValue().getPageNumber());
+        assertEquals(4, pageableCaptor.getValue().getPageSize());
+        assertEquals(Sort.Direction.DESC, pageableCaptor.getValue().getSort().getOrderFor("createdAt").getDirection());
+        assertEquals(Sort.Direction.DESC, pageableCaptor.getValue().getSort().getOrderFor("id").getDirection());
     }
 
     @Test
-    @DisplayName("getContracts - pagination → trả về đúng page")
-    void testGetContracts_WithPagination() {
+    @DisplayName("getContracts - filter type MSA → không đọc bảng SOW")
+    void testGetContracts_TypeMSA() {
         // Arrange
-        String search = null;
-        String status = null;
-        String type = null;
-        int page = 1; // Page 1
-        int size = 2; // 2 items per page
         User currentUser = createUser(1, "Sales Manager", "manager@example.com", "SALES_MANAGER");
-
-        Contract msaContract1 = createMSAContract(1, Contract.ContractStatus.Active);
-        Contract msaContract2 = createMSAContract(2, Contract.ContractStatus.Active);
-        Contract msaContract3 = createMSAContract(3, Contract.ContractStatus.Active);
-        SOWContract sowContract1 = createSOWContract(1, SOWContract.SOWContractStatus.Active);
-        List<Contract> msaContracts = List.of(msaContract1, msaContract2, msaContract3);
-        List<SOWContract> sowContracts = List.of(sowContract1);
-
-        Page<Contract> msaPage = new PageImpl<>(msaContracts, PageRequest.of(0, 10000), 3);
-        Page<SOWContract> sowPage = new PageImpl<>(sowContracts, PageRequest.of(0, 10000), 1);
-
         when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(msaPage);
-        when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(sowPage);
-        when(userRepository.findById(anyInt())).thenReturn(Optional.of(createUser(10, "Client", "client@example.com", "CLIENT")));
+                .thenReturn(new PageImpl<>(List.of(createMSAContract(1, Contract.ContractStatus.Active))));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of());
 
         // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
+        ContractListResponse response = salesContractService.getContracts(null, null, "MSA", 0, 20, currentUser);
 
         // Assert
-        assertNotNull(response);
-        assertEquals(1, response.getCurrentPage());
-        // Total 4 contracts (3 MSA + 1 SOW), 2 per page = 2 pages
-        assertEquals(2, response.getTotalPages());
-        assertEquals(4, response.getTotalElements());
-        assertEquals(2, response.getContracts().size()); // Page 1 should have 2 items
+        assertEquals(1, response.getContracts().size());
+        assertEquals("MSA", response.getContracts().get(0).getType());
+        verifyNoInteractions(sowContractRepository);
     }
 
     @Test
     @DisplayName("getContracts - không có contracts → trả về empty list")
     void testGetContracts_NoContracts() {
         // Arrange
-        String search = null;
-        String status = null;
-        String type = null;
-        int page = 0;
-        int size = 20;
         User currentUser = createUser(1, "Sales Manager", "manager@example.com", "SALES_MANAGER");
-
-        Page<Contract> emptyMSAPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 10000), 0);
-        Page<SOWContract> emptySOWPage = new PageImpl<>(new ArrayList<>(), PageRequest.of(0, 10000), 0);
-
         when(contractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(emptyMSAPage);
+                .thenReturn(Page.empty(PageRequest.of(0, 20)));
         when(sowContractRepository.findAll(any(Specification.class), any(Pageable.class)))
-                .thenReturn(emptySOWPage);
+                .thenReturn(Page.empty(PageRequest.of(0, 20)));
 
         // Act
-        ContractListResponse response = salesContractService.getContracts(search, status, type, page, size, currentUser);
+        ContractListResponse response = salesContractService.getContracts("Client", "Active", null, 0, 20, currentUser);
 
         // Assert
         assertNotNull(response);
         assertTrue(response.getContracts().isEmpty());
         assertEquals(0, response.getTotalElements());
+        verifyNoInteractions(userRepository);
     }
 
     // Helper methods
@@ -278,33 +179,34 @@ class SalesContractServiceTest {
     }
 
     private Contract createMSAContract(Integer id, Contract.ContractStatus status) {
-        return createMSAContract(id, status, null);
-    }
-
-    private Contract createMSAContract(Integer id, Contract.ContractStatus status, Integer assigneeUserId) {
         Contract contract = new Contract();
         contract.setId(id);
         contract.setStatus(status);
-        contract.setAssigneeUserId(assigneeUserId);
         contract.setClientId(10);
         contract.setContractName("Test MSA Contract");
         contract.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
         return contract;
     }
 
-    private SOWContract createSOWContract(Integer id, SOWContract.SOWContractStatus status) {
-        return createSOWContract(id, status, null);
+    private Contract createMSAContract(Integer id, int createdDay) {
+        Contract contract = createMSAContract(id, Contract.ContractStatus.Active);
+        contract.setCreatedAt(LocalDateTime.of(2025, 1, createdDay, 10, 0));
+        return contract;
     }
 
-    private SOWContract createSOWContract(Integer id, SOWContract.SOWContractStatus status, Integer assigneeUserId) {
+    private SOWContract createSOWContract(Integer id, SOWContract.SOWContractStatus status) {
         SOWContract contract = new SOWContract();
         contract.setId(id);
         contract.setStatus(status);
-        contract.setAssigneeUserId(assigneeUserId);
         contract.setClientId(10);
         contract.setContractName("Test SOW Contract");
         contract.setCreatedAt(LocalDateTime.of(2025, 1, 1, 10, 0));
         return contract;
     }
-}
 
+    private SOWContract createSOWContract(Integer id, int createdDay) {
+        SOWContract contract = createSOWContract(id, SOWContract.SOWContractStatus.Active);
+        contract.setCreatedAt(LocalDateTime.of(2025, 1, createdDay, 10, 0));
+        return contract;
+    }
+}
@@ -0,0 +1,101 @@
+package com.skillbridge.service.sales;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+/**
+ * Unit tests for SalesDashboardCounters
+ * Tests status bucketing and counter updates
+ */
+@ExtendWith(MockitoExtension.class)
+class SalesDashboardCountersTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private SalesDashboardCounters salesDashboardCounters;
+
+    @Test
+    @DisplayName("metricsOf - status buckets match the dashboard definitions")
+    void testMetricsOf() {
+        assertEquals(List.of(SalesDashboardCounters.CONTACTS_ALL, SalesDashboardCounters.CONTACTS_NEW),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_CONTACT, "new"));
+        assertEquals(List.of(SalesDashboardCounters.OPPORTUNITIES_ALL, SalesDashboardCounters.OPPORTUNITIES_UNDER_REVIEW),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_OPPORTUNITY, "PROPOSAL_SENT"));
+        assertEquals(List.of(SalesDashboardCounters.PROPOSALS_ALL),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_PROPOSAL, "draft"));
+        assertEquals(List.of(SalesDashboardCounters.CONTRACTS_ALL, SalesDashboardCounters.CONTRACTS_UNDER_REVIEW),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_CONTRACT, "Request_for_Change"));
+        assertEquals(List.of(SalesDashboardCounters.CHANGE_REQUESTS_ALL, SalesDashboardCounters.CHANGE_REQUESTS_UNDER_REVIEW),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_CHANGE_REQUEST, "Pending"));
+        assertEquals(List.of(SalesDashboardCounters.CHANGE_REQUESTS_ALL),
+                SalesDashboardCounters.metricsOf(SalesDashboardCounters.KIND_CHANGE_REQUEST, null));
+    }
+
+    @Test
+    @DisplayName("metricsOf - unknown kind → IllegalArgumentException")
+    void testMetricsOf_UnknownKind() {
+        assertThrows(IllegalArgumentException.class, () -> SalesDashboardCounters.metricsOf("engineers", "New"));
+    }
+
+    @Test
+    @DisplayName("add - updates only the assignee counters of every matching metric")
+    void testAdd() {
+        salesDashboardCounters.add(SalesDashboardCounters.KIND_CONTACT, "New", 7, 1);
+
+        verify(jdbcTemplate).update(anyString(), eq(7), eq(SalesDashboardCounters.CONTACTS_ALL), eq(1L));
+        verify(jdbcTemplate).update(anyString(), eq(7), eq(SalesDashboardCounters.CONTACTS_NEW), eq(1L));
+        verify(jdbcTemplate, never()).update(anyString(), eq(SalesDashboardCounters.UNASSIGNED_SCOPE), any(), any());
+    }
+
+    @Test
+    @DisplayName("add - entity without assignee → unassigned scope")
+    void testAdd_Unassigned() {
+        salesDashboardCounters.add(SalesDashboardCounters.KIND_PROPOSAL, "draft", null, -1);
+
+        verify(jdbcTemplate).update(anyString(), eq(SalesDashboardCounters.UNASSIGNED_SCOPE),
+                eq(SalesDashboardCounters.PROPOSALS_ALL), eq(-1L));
+        verifyNoMoreInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("reassign - moves counters between assignees")
+    void testReassign() {
+        salesDashboardCounters.reassign(SalesDashboardCounters.KIND_PROPOSAL, "draft", 3, 4, 2);
+
+        verify(jdbcTemplate).update(anyString(), eq(3), eq(SalesDashboardCounters.PROPOSALS_ALL), eq(-2L));
+        verify(jdbcTemplate).update(anyString(), eq(4), eq(SalesDashboardCounters.PROPOSALS_ALL), eq(2L));
+        verify(jdbcTemplate, never()).update(anyString(), eq(SalesDashboardCounters.UNASSIGNED_SCOPE), any(), any());
+    }
+
+    @Test
+    @DisplayName("reassign - assigning an unassigned entity moves it out of the unassigned scope")
+    void testReassign_FromUnassigned() {
+        salesDashboardCounters.reassign(SalesDashboardCounters.KIND_CONTACT, "Active", null, 4, 1);
+
+        verify(jdbcTemplate).update(anyString(), eq(SalesDashboardCounters.UNASSIGNED_SCOPE),
+                eq(SalesDashboardCounters.CONTACTS_ALL), eq(-1L));
+        verify(jdbcTemplate).update(anyString(), eq(4), eq(SalesDashboardCounters.CONTACTS_ALL), eq(1L));
+    }
+
+    @Test
+    @DisplayName("getCounts - no assignee → totals summed over all scopes")
+    void testGetCounts_Totals() {
+        salesDashboardCounters.getCounts(null);
+
+        verify(jdbcTemplate).query(contains("SUM(value)"), any(RowCallbackHandler.class));
+    }
+}
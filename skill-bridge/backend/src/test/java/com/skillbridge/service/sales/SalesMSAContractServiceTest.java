@@ -12,7 +12,9 @@ import com.skillbridge.repository.contract.*;
 import com.skillbridge.repository.document.DocumentMetadataRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.service.common.S3Service;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -80,6 +82,12 @@ class SalesMSAContractServiceTest {
     @Mock
     private ChangeRequestHistoryRepository changeRequestHistoryRepository;
 
+    @Mock
+    private DashboardChangePublisher dashboardChangePublisher;
+
+    @Mock
+    private DisplayIdSequence displayIdSequence;
+
     @InjectMocks
     private SalesMSAContractService salesMSAContractService;
 
@@ -6,6 +6,7 @@ import com.skillbridge.entity.auth.User;
 import com.skillbridge.entity.opportunity.Opportunity;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
+import com.skillbridge.service.common.UserBatchLoader;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -18,11 +19,11 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
+import org.springframework.test.util.ReflectionTestUtils;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
-import java.util.Optional;
 
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.*;
@@ -46,7 +47,10 @@ class SalesOpportunitiesServiceTest {
 
     @BeforeEach
     void setUp() {
-        // Setup is handled by MockitoExtension
+        // Real batch loader over the mocked user repository
+        UserBatchLoader userBatchLoader = new UserBatchLoader();
+        ReflectionTestUtils.setField(userBatchLoader, "userRepository", userRepository);
+        ReflectionTestUtils.setField(salesOpportunitiesService, "userBatchLoader", userBatchLoader);
     }
 
     @Test
@@ -69,9 +73,10 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 2);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(3)).thenReturn(Optional.of(createUser(3, "Assignee 2", "assignee2@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(3, "Assignee 2", "assignee2@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
@@ -107,8 +112,9 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 1);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
@@ -141,8 +147,9 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 1);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
@@ -175,8 +182,9 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 1);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
@@ -209,8 +217,9 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 1);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
@@ -244,9 +253,10 @@ class SalesOpportunitiesServiceTest {
         Page<Opportunity> opportunityPage = new PageImpl<>(opportunities, PageRequest.of(page, size), 5);
         when(opportunityRepository.findAll(any(Specification.class), any(Pageable.class)))
                 .thenReturn(opportunityPage);
-        when(userRepository.findById(2)).thenReturn(Optional.of(createUser(2, "Assignee 1", "assignee1@example.com")));
-        when(userRepository.findById(3)).thenReturn(Optional.of(createUser(3, "Assignee 2", "assignee2@example.com")));
-        when(userRepository.findById(1)).thenReturn(Optional.of(createUser(1, "Creator", "creator@example.com")));
+        when(userRepository.findAllById(anyIterable())).thenReturn(List.of(
+                createUser(2, "Assignee 1", "assignee1@example.com"),
+                createUser(3, "Assignee 2", "assignee2@example.com"),
+                createUser(1, "Creator", "creator@example.com")));
 
         // Act
         OpportunitiesListResponse response = salesOpportunitiesService.getOpportunities(
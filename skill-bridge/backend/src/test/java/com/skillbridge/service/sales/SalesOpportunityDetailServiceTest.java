@@ -12,6 +12,7 @@ import com.skillbridge.repository.contact.ContactRepository;
 import com.skillbridge.repository.opportunity.OpportunityRepository;
 import com.skillbridge.repository.proposal.ProposalHistoryRepository;
 import com.skillbridge.repository.proposal.ProposalRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -53,6 +54,9 @@ class SalesOpportunityDetailServiceTest {
     @Mock
     private ProposalHistoryRepository proposalHistoryRepository;
 
+    @Mock
+    private DisplayIdSequence displayIdSequence;
+
     @InjectMocks
     private SalesOpportunityDetailService salesOpportunityDetailService;
 
@@ -118,6 +122,8 @@ class SalesOpportunityDetailServiceTest {
 
         when(contactRepository.findById(contactId))
                 .thenReturn(Optional.of(contact));
+        when(displayIdSequence.next(eq(DisplayIdSequence.OPPORTUNITY), anyInt()))
+                .thenReturn("OP-2025-07");
         when(opportunityRepository.save(any(Opportunity.class)))
                 .thenAnswer(invocation -> {
                     Opportunity opp = invocation.getArgument(0);
@@ -141,6 +147,7 @@ class SalesOpportunityDetailServiceTest {
         ArgumentCaptor<Opportunity> oppCaptor = ArgumentCaptor.forClass(Opportunity.class);
         verify(opportunityRepository).save(oppCaptor.capture());
         Opportunity saved = oppCaptor.getValue();
+        assertEquals("OP-2025-07", saved.getOpportunityId());
         assertEquals(contactId, saved.getContactId());
         assertEquals("Client Name", saved.getClientName());
         assertEquals(50, saved.getProbability());
@@ -9,7 +9,9 @@ import com.skillbridge.entity.contract.SOWContract;
 import com.skillbridge.repository.auth.UserRepository;
 import com.skillbridge.repository.contract.*;
 import com.skillbridge.repository.document.DocumentMetadataRepository;
+import com.skillbridge.service.common.DisplayIdSequence;
 import com.skillbridge.service.common.S3Service;
+import com.skillbridge.service.dashboard.DashboardChangePublisher;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -100,6 +102,12 @@ class SalesSOWContractServiceTest {
     @Mock
     private CRBillingEventRepository crBillingEventRepository;
 
+    @Mock
+    private DashboardChangePublisher dashboardChangePublisher;
+
+    @Mock
+    private DisplayIdSequence displayIdSequence;
+
     @InjectMocks
     private SalesSOWContractService salesSOWContractService;
 